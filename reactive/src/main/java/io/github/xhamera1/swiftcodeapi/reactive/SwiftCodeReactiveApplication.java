@@ -0,0 +1,18 @@
+package io.github.xhamera1.swiftcodeapi.reactive;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+/**
+ * Entry point of the reactive (WebFlux + R2DBC) variant of the SWIFT code API.
+ * Exposes the same {@code /v1/swift-codes} contract as the servlet application and is intended for
+ * side-by-side comparison under high concurrency.
+ */
+@SpringBootApplication
+public class SwiftCodeReactiveApplication {
+
+	public static void main(String[] args) {
+		SpringApplication.run(SwiftCodeReactiveApplication.class, args);
+	}
+
+}
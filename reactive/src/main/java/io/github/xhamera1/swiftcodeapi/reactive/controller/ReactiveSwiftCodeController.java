@@ -0,0 +1,106 @@
+package io.github.xhamera1.swiftcodeapi.reactive.controller;
+
+import io.github.xhamera1.swiftcodeapi.dto.CountrySummaryResponse;
+import io.github.xhamera1.swiftcodeapi.dto.CountrySwiftCodesResponse;
+import io.github.xhamera1.swiftcodeapi.dto.MessageResponse;
+import io.github.xhamera1.swiftcodeapi.dto.SwiftCodePrefixResponse;
+import io.github.xhamera1.swiftcodeapi.dto.SwiftCodeRequest;
+import io.github.xhamera1.swiftcodeapi.dto.SwiftCodeResponse;
+import io.github.xhamera1.swiftcodeapi.reactive.service.ReactiveSwiftCodeService;
+import io.github.xhamera1.swiftcodeapi.service.SwiftCodeRules;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * WebFlux handlers for the {@code /v1/swift-codes} API; the same paths, bodies and status codes as the servlet
+ * {@code SwiftCodeController}. In addition, the country listing can be streamed as newline-delimited JSON.
+ * Exceptions are rendered by {@link io.github.xhamera1.swiftcodeapi.reactive.exceptions.ReactiveExceptionHandler}.
+ */
+@RestController
+@RequestMapping("/v1/swift-codes")
+public class ReactiveSwiftCodeController {
+
+    private final ReactiveSwiftCodeService swiftCodeService;
+
+    /**
+     * @param swiftCodeService The reactive service responsible for SWIFT code business logic.
+     */
+    @Autowired
+    public ReactiveSwiftCodeController(ReactiveSwiftCodeService swiftCodeService) {
+        this.swiftCodeService = swiftCodeService;
+    }
+
+    /**
+     * Path: GET /v1/swift-codes/{swift-code}
+     */
+    @GetMapping("{swift-code}")
+    public Mono<SwiftCodeResponse> getDetailsFromSwiftCode(@PathVariable(name = "swift-code") String swiftCode) {
+        return swiftCodeService.getSwiftCodeDetails(swiftCode);
+    }
+
+    /**
+     * Path: GET /v1/swift-codes/country/{countryISO2code}
+     * Returns the country with all its codes as a single JSON document (Endpoint 2).
+     */
+    @GetMapping(value = "/country/{countryISO2code}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<CountrySwiftCodesResponse> getDetailsForCountry(@PathVariable(name = "countryISO2code") String countryISO2code) {
+        return swiftCodeService.getSwiftCodesByCountry(countryISO2code);
+    }
+
+    /**
+     * Path: GET /v1/swift-codes/country/{countryISO2code} with {@code Accept: application/x-ndjson}
+     * Streams the country's codes one JSON object per line. Rows are fetched from the database with backpressure,
+     * so a slow client never causes the whole country to be buffered in memory.
+     */
+    @GetMapping(value = "/country/{countryISO2code}", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<SwiftCodeResponse> streamDetailsForCountry(@PathVariable(name = "countryISO2code") String countryISO2code) {
+        return swiftCodeService.streamSwiftCodesByCountry(countryISO2code);
+    }
+
+    /**
+     * Path: GET /v1/swift-codes/countries
+     */
+    @GetMapping("/countries")
+    public Flux<CountrySummaryResponse> getCountrySummaries() {
+        return swiftCodeService.getCountrySummaries();
+    }
+
+    /**
+     * Path: GET /v1/swift-codes/prefix/{prefix}?limit=
+     */
+    @GetMapping("/prefix/{prefix}")
+    public Mono<SwiftCodePrefixResponse> getCodesByPrefix(@PathVariable(name = "prefix") String prefix,
+                                                          @RequestParam(name = "limit", defaultValue = "" + SwiftCodeRules.DEFAULT_PREFIX_LIMIT) int limit) {
+        return swiftCodeService.getSwiftCodesByPrefix(prefix, limit);
+    }
+
+    /**
+     * Path: POST /v1/swift-codes
+     */
+    @PostMapping
+    @ResponseStatus(HttpStatus.CREATED)
+    public Mono<MessageResponse> addSwiftCode(@Valid @RequestBody SwiftCodeRequest requestDto) {
+        return swiftCodeService.addSwiftCode(requestDto);
+    }
+
+    /**
+     * Path: DELETE /v1/swift-codes/{swift-code}
+     */
+    @DeleteMapping("/{swift-code}")
+    public Mono<MessageResponse> deleteSwiftCode(@PathVariable(name = "swift-code") String swiftCode) {
+        return swiftCodeService.deleteSwiftCode(swiftCode);
+    }
+}
@@ -0,0 +1,94 @@
+package io.github.xhamera1.swiftcodeapi.reactive.exceptions;
+
+import io.github.xhamera1.swiftcodeapi.exceptions.ErrorResponse;
+import io.github.xhamera1.swiftcodeapi.exceptions.InconsistentSwiftDataException;
+import io.github.xhamera1.swiftcodeapi.exceptions.ResourceAlreadyExistsException;
+import io.github.xhamera1.swiftcodeapi.exceptions.ResourceNotFoundException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.TypeMismatchException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.server.NotAcceptableStatusException;
+import org.springframework.web.server.ServerWebInputException;
+import org.springframework.web.server.UnsupportedMediaTypeStatusException;
+
+import java.util.stream.Collectors;
+
+/**
+ * Renders errors of the reactive API with the same status codes and {@link ErrorResponse} bodies as the
+ * servlet application's {@code GlobalExceptionHandler}.
+ */
+@RestControllerAdvice
+public class ReactiveExceptionHandler {
+
+    private static final Logger log = LoggerFactory.getLogger(ReactiveExceptionHandler.class);
+
+    @ExceptionHandler(ResourceNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleResourceNotFoundException(ResourceNotFoundException ex) {
+        log.info("Handling ResourceNotFoundException: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(new ErrorResponse(ex.getMessage())); // 404
+    }
+
+    @ExceptionHandler(ResourceAlreadyExistsException.class)
+    public ResponseEntity<ErrorResponse> handleResourceAlreadyExistsException(ResourceAlreadyExistsException ex) {
+        log.warn("Handling ResourceAlreadyExistsException: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(new ErrorResponse(ex.getMessage())); // 409
+    }
+
+    @ExceptionHandler(InconsistentSwiftDataException.class)
+    public ResponseEntity<ErrorResponse> handleInconsistentSwiftDataException(InconsistentSwiftDataException ex) {
+        log.warn("Handling InconsistentSwiftDataException: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(new ErrorResponse(ex.getMessage())); // 400
+    }
+
+    /**
+     * Handles bean validation failures of {@code @Valid @RequestBody} arguments.
+     */
+    @ExceptionHandler(WebExchangeBindException.class)
+    public ResponseEntity<ErrorResponse> handleValidationExceptions(WebExchangeBindException ex) {
+        String errors = ex.getBindingResult().getFieldErrors().stream()
+                .map(error -> String.format("'%s': %s", error.getField(), error.getDefaultMessage()))
+                .collect(Collectors.joining("; "));
+        log.warn("Handling WebExchangeBindException: {}", errors);
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(new ErrorResponse("Validation failed: " + errors)); // 400
+    }
+
+    /**
+     * Handles unreadable request bodies and request parameters that cannot be converted to the expected type.
+     */
+    @ExceptionHandler(ServerWebInputException.class)
+    public ResponseEntity<ErrorResponse> handleServerWebInputException(ServerWebInputException ex) {
+        log.warn("Handling ServerWebInputException: {}", ex.getMessage());
+        ErrorResponse error;
+        if (ex.getCause() instanceof TypeMismatchException mismatch && ex.getMethodParameter() != null) {
+            error = new ErrorResponse("Invalid value '" + mismatch.getValue() + "' for parameter '"
+                    + ex.getMethodParameter().getParameterName() + "'.");
+        } else {
+            error = new ErrorResponse("Request body is missing or malformed.");
+        }
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error); // 400
+    }
+
+    @ExceptionHandler(UnsupportedMediaTypeStatusException.class)
+    public ResponseEntity<ErrorResponse> handleMediaTypeNotSupported(UnsupportedMediaTypeStatusException ex) {
+        log.warn("Handling UnsupportedMediaTypeStatusException: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.UNSUPPORTED_MEDIA_TYPE).body(new ErrorResponse("Unsupported Media Type.")); // 415
+    }
+
+    @ExceptionHandler(NotAcceptableStatusException.class)
+    public ResponseEntity<Void> handleMediaTypeNotAcceptable(NotAcceptableStatusException ex) {
+        log.warn("Handling NotAcceptableStatusException: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.NOT_ACCEPTABLE).build(); // 406
+    }
+
+    @ExceptionHandler(Exception.class)
+    public ResponseEntity<ErrorResponse> handleGenericException(Exception ex) {
+        log.error("An unexpected error occurred processing the request", ex);
+        ErrorResponse error = new ErrorResponse("An internal server error occurred. Please try again later.");
+        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(error); // 500
+    }
+}
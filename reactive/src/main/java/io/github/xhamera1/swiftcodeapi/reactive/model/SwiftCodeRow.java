@@ -0,0 +1,68 @@
+package io.github.xhamera1.swiftcodeapi.reactive.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Transient;
+import org.springframework.data.domain.Persistable;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+/**
+ * R2DBC mapping of a row of the {@code swift_codes} table; the reactive counterpart of the
+ * JPA entity {@code SwiftCodeInfo} of the servlet application.
+ * <p>
+ * The primary key is assigned by the client, so the row implements {@link Persistable} to tell
+ * Spring Data whether {@code save} has to issue an INSERT ({@link #isNew()}) or an UPDATE.
+ * </p>
+ */
+@Table("swift_codes")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SwiftCodeRow implements Persistable<String> {
+
+    /** Unique 8 or 11 character SWIFT/BIC code (Primary Key). */
+    @Id
+    @Column("swift_code")
+    private String swiftCode;
+
+    /** Name of the bank or institution (Not Null). */
+    @Column("bank_name")
+    private String bankName;
+
+    /** Physical address of the bank/branch (Nullable). */
+    @Column("address")
+    private String address;
+
+    /** Town name of the bank/branch (Nullable). */
+    @Column("town_name")
+    private String townName;
+
+    /** ISO 3166-1 alpha-2 country code (e.g., "PL") (Not Null, Uppercase). */
+    @Column("country_iso2")
+    private String countryISO2;
+
+    /** Full country name (Not Null, Uppercase). */
+    @Column("country_name")
+    private String countryName;
+
+    /** {@code true} if this code represents a headquarters, {@code false} if a branch (Not Null). */
+    @Column("is_headquarter")
+    private boolean isHeadquarter;
+
+    /** {@code true} for rows created by the application that have not been inserted yet. */
+    @Transient
+    private boolean newRow;
+
+    @Override
+    public String getId() {
+        return swiftCode;
+    }
+
+    @Override
+    public boolean isNew() {
+        return newRow;
+    }
+}
@@ -0,0 +1,126 @@
+package io.github.xhamera1.swiftcodeapi.reactive.repository;
+
+import io.github.xhamera1.swiftcodeapi.reactive.model.SwiftCodeRow;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Manages database operations for {@link SwiftCodeRow} rows using Spring Data R2DBC.
+ * Reactive equivalent of {@code SwiftCodeInfoRepository}: every query is non-blocking and
+ * multi-row results are streamed as a {@link Flux} honouring the subscriber's demand.
+ * <p>
+ * Like the servlet application, every query reads and writes only the active dataset version (the rows whose
+ * {@code dataset_version} is the one in the {@code active_dataset} pointer), so both applications can share a
+ * database in which the servlet application keeps previous versions for rollback. The inherited CRUD methods
+ * would address the rows of all versions and are not used.
+ * </p>
+ */
+@Repository
+public interface SwiftCodeRowRepository extends ReactiveCrudRepository<SwiftCodeRow, String> {
+
+    /** Subquery selecting the number of the active dataset version. */
+    String ACTIVE_VERSION = "(SELECT a.version FROM active_dataset a WHERE a.id = 1)";
+    /** Restriction of a query to the rows of the active dataset version. */
+    String IN_ACTIVE_VERSION = "dataset_version = " + ACTIVE_VERSION;
+
+    /**
+     * Finds a SWIFT code entry by its code, ignoring case differences.
+     *
+     * @param swiftCode the SWIFT code to search for
+     * @return Mono emitting the found row, or empty if none match
+     */
+    @Query("SELECT * FROM swift_codes WHERE swift_code = UPPER(:swiftCode) AND " + IN_ACTIVE_VERSION)
+    Mono<SwiftCodeRow> findBySwiftCodeIgnoreCase(String swiftCode);
+
+    /**
+     * Streams all SWIFT code entries for a specific country, ordered by SWIFT code.
+     * The country code comparison ignores case.
+     *
+     * @param countryISO2 the 2-letter country ISO code (case is ignored)
+     * @return Flux of matching rows; empty if none are found
+     */
+    @Query("SELECT * FROM swift_codes WHERE country_iso2 = UPPER(:countryISO2) AND " + IN_ACTIVE_VERSION
+            + " ORDER BY swift_code")
+    Flux<SwiftCodeRow> findByCountryISO2IgnoreCaseOrderBySwiftCode(String countryISO2);
+
+    /**
+     * Finds the branch codes of a headquarter: codes of the institution {@code prefix} (the first 8 characters
+     * of the HQ code) except the HQ code itself, ordered by SWIFT code. Comparisons ignore case.
+     *
+     * @param prefix the 8-character SWIFT code prefix (institution code)
+     * @param swiftCodeToExclude the exact SWIFT code to exclude from the results
+     * @return Flux of rows considered branches for the given prefix
+     */
+    @Query("SELECT * FROM swift_codes WHERE institution_code = UPPER(:prefix) AND swift_code <> UPPER(:swiftCodeToExclude) AND "
+            + IN_ACTIVE_VERSION + " ORDER BY swift_code")
+    Flux<SwiftCodeRow> findBySwiftCodeStartingWithIgnoreCaseAndSwiftCodeNotIgnoreCaseOrderBySwiftCode(String prefix, String swiftCodeToExclude);
+
+    /**
+     * Streams the codes starting with the given (upper-case) prefix in ascending order.
+     * Callers limit the stream with {@code take(n)}, which cancels the query once enough rows were read.
+     *
+     * @param prefix the upper-case beginning of a SWIFT code
+     * @return Flux of matching rows ordered by SWIFT code
+     */
+    @Query("SELECT * FROM swift_codes WHERE swift_code LIKE CONCAT(:prefix, '%') AND " + IN_ACTIVE_VERSION
+            + " ORDER BY swift_code")
+    Flux<SwiftCodeRow> findBySwiftCodeStartingWithOrderBySwiftCode(String prefix);
+
+    /**
+     * Checks if a SWIFT code entry with the given code already exists, ignoring case.
+     *
+     * @param swiftCode the SWIFT code to check
+     * @return Mono emitting true if an entry with this code exists (case-insensitive), false otherwise
+     */
+    @Query("SELECT COUNT(*) > 0 FROM swift_codes WHERE swift_code = UPPER(:swiftCode) AND " + IN_ACTIVE_VERSION)
+    Mono<Boolean> existsBySwiftCodeIgnoreCase(String swiftCode);
+
+    /**
+     * @return Mono emitting the number of entries of the active version
+     */
+    @Query("SELECT COUNT(*) FROM swift_codes WHERE " + IN_ACTIVE_VERSION)
+    Mono<Long> countActive();
+
+    /**
+     * Inserts a new entry into the active dataset version; an existing code fails with a duplicate key violation.
+     *
+     * @param row the entry to insert
+     * @return Mono emitting the number of inserted rows (1)
+     */
+    @Modifying
+    @Query("INSERT INTO swift_codes (dataset_version, swift_code, bank_name, address, town_name, country_iso2, country_name, is_headquarter) "
+            + "VALUES (" + ACTIVE_VERSION + ", :#{#row.swiftCode}, :#{#row.bankName}, :#{#row.address}, :#{#row.townName}, "
+            + ":#{#row.countryISO2}, :#{#row.countryName}, :#{#row.headquarter})")
+    Mono<Integer> insert(SwiftCodeRow row);
+
+    /**
+     * Deletes the entry with the given (upper-case) code from the active dataset version.
+     *
+     * @param swiftCode the upper-case SWIFT code
+     * @return Mono emitting the number of deleted rows
+     */
+    @Modifying
+    @Query("DELETE FROM swift_codes WHERE swift_code = :swiftCode AND " + IN_ACTIVE_VERSION)
+    Mono<Integer> deleteBySwiftCode(String swiftCode);
+
+    /**
+     * Aggregates the number of codes and headquarters per country, ordered by country ISO2 code.
+     *
+     * @return Flux of per-country aggregates
+     */
+    @Query("SELECT country_iso2, MAX(country_name) AS country_name, COUNT(*) AS total_codes, "
+            + "SUM(CASE WHEN is_headquarter THEN 1 ELSE 0 END) AS headquarter_count "
+            + "FROM swift_codes WHERE " + IN_ACTIVE_VERSION + " "
+            + "GROUP BY country_iso2 ORDER BY country_iso2")
+    Flux<CountrySummaryRow> summarizeByCountry();
+
+    /**
+     * Result row of {@link #summarizeByCountry()}.
+     */
+    record CountrySummaryRow(String countryIso2, String countryName, long totalCodes, long headquarterCount) {
+    }
+}
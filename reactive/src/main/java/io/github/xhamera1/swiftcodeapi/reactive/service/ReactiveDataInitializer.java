@@ -0,0 +1,102 @@
+package io.github.xhamera1.swiftcodeapi.reactive.service;
+
+import io.github.xhamera1.swiftcodeapi.model.SwiftCode;
+import io.github.xhamera1.swiftcodeapi.reactive.model.SwiftCodeRow;
+import io.github.xhamera1.swiftcodeapi.reactive.repository.SwiftCodeRowRepository;
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVParser;
+import org.apache.commons.csv.CSVRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Loads the shared SWIFT code CSV into an empty database on startup, so the reactive variant can be run
+ * against a local in-memory H2 database. Applies the same record filters as the servlet application's
+ * {@code DataInitializer}; when pointed at a database already populated by the servlet application it does nothing.
+ * The rows are inserted into the active dataset version.
+ */
+@Component
+public class ReactiveDataInitializer implements CommandLineRunner {
+
+    Logger log = LoggerFactory.getLogger(ReactiveDataInitializer.class);
+    private final SwiftCodeRowRepository repository;
+
+    private final String csvFilePath = "data/swift_code_data.csv";
+
+    /**
+     * @param repository The repository used for saving SWIFT code data.
+     */
+    @Autowired
+    public ReactiveDataInitializer(SwiftCodeRowRepository repository) {
+        this.repository = repository;
+    }
+
+    /**
+     * Imports the CSV if the {@code swift_codes} table is empty. Blocks the startup thread until the import
+     * has finished, so the API never serves a partially loaded dataset.
+     */
+    @Override
+    public void run(String... args) throws Exception {
+        Long count = repository.countActive().block();
+        if (count != null && count > 0) {
+            log.info("Database already contains data. Skipping initialization.");
+            return;
+        }
+        log.info("Database is empty. Initializing data from CSV: {}", csvFilePath);
+        List<SwiftCodeRow> rows = readRows();
+        Long saved = Flux.fromIterable(rows)
+                .concatMap(repository::insert)
+                .count()
+                .block();
+        log.info("Finished processing CSV file. Records successfully loaded: {}", saved);
+    }
+
+    private List<SwiftCodeRow> readRows() throws IOException {
+        Resource resource = new ClassPathResource(csvFilePath);
+        CSVFormat csvFormat = CSVFormat.DEFAULT.builder()
+                .setHeader("COUNTRY ISO2 CODE", "SWIFT CODE", "CODE TYPE", "NAME", "ADDRESS", "TOWN NAME", "COUNTRY NAME", "TIME ZONE")
+                .setSkipHeaderRecord(true)
+                .setIgnoreEmptyLines(true)
+                .setTrim(true)
+                .build();
+
+        List<SwiftCodeRow> rows = new ArrayList<>();
+        try (Reader reader = new InputStreamReader(resource.getInputStream());
+             CSVParser csvParser = new CSVParser(reader, csvFormat)) {
+            for (CSVRecord record : csvParser) {
+                String swiftCode = record.get("SWIFT CODE");
+                String countryIso2 = record.get("COUNTRY ISO2 CODE");
+                String countryName = record.get("COUNTRY NAME");
+                String bankName = record.get("NAME");
+                String address = record.get("ADDRESS");
+                String townName = record.get("TOWN NAME");
+
+                long packed = SwiftCode.packBic(swiftCode, false);
+                if (packed == SwiftCode.INVALID || countryIso2.isEmpty() || bankName.isEmpty() || countryName.isEmpty()
+                        || !SwiftCode.countryMatches(packed, countryIso2)) {
+                    log.warn("Record {}: Skipping invalid record.", record.getRecordNumber());
+                    continue;
+                }
+
+                rows.add(new SwiftCodeRow(swiftCode, bankName,
+                        address.isEmpty() ? null : address,
+                        townName.isEmpty() ? null : townName,
+                        countryIso2.toUpperCase(), countryName.toUpperCase(),
+                        SwiftCode.isHeadquarter(packed), true));
+            }
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,238 @@
+package io.github.xhamera1.swiftcodeapi.reactive.service;
+
+import io.github.xhamera1.swiftcodeapi.dto.CountrySummaryResponse;
+import io.github.xhamera1.swiftcodeapi.dto.CountrySwiftCodesResponse;
+import io.github.xhamera1.swiftcodeapi.dto.MessageResponse;
+import io.github.xhamera1.swiftcodeapi.dto.SwiftCodePrefixResponse;
+import io.github.xhamera1.swiftcodeapi.dto.SwiftCodeRequest;
+import io.github.xhamera1.swiftcodeapi.dto.SwiftCodeResponse;
+import io.github.xhamera1.swiftcodeapi.exceptions.InconsistentSwiftDataException;
+import io.github.xhamera1.swiftcodeapi.exceptions.ResourceAlreadyExistsException;
+import io.github.xhamera1.swiftcodeapi.exceptions.ResourceNotFoundException;
+import io.github.xhamera1.swiftcodeapi.reactive.model.SwiftCodeRow;
+import io.github.xhamera1.swiftcodeapi.reactive.repository.SwiftCodeRowRepository;
+import io.github.xhamera1.swiftcodeapi.service.SwiftCodeRules;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Reactive counterpart of {@code SwiftCodeApiService}: the same operations and error semantics,
+ * implemented on top of {@link SwiftCodeRowRepository} without blocking a thread per request.
+ * Consistency checks for new entries are delegated to the shared {@link SwiftCodeRules}.
+ */
+@Service
+public class ReactiveSwiftCodeService {
+
+    Logger log = LoggerFactory.getLogger(ReactiveSwiftCodeService.class);
+    private final SwiftCodeRowRepository repository;
+
+    /**
+     * Constructs the service and injects the required dependencies.
+     * @param repository The reactive repository for SWIFT code data access.
+     */
+    @Autowired
+    public ReactiveSwiftCodeService(SwiftCodeRowRepository repository) {
+        this.repository = repository;
+    }
+
+
+    /**
+     * Retrieves detailed information for a single SWIFT code; headquarters include their branches.
+     *
+     * @param swiftCode The 8 or 11 character SWIFT/BIC code (case is ignored).
+     * @return A Mono emitting the {@link SwiftCodeResponse}, or failing with {@link ResourceNotFoundException}.
+     */
+    public Mono<SwiftCodeResponse> getSwiftCodeDetails(String swiftCode) {
+        return repository.findBySwiftCodeIgnoreCase(swiftCode)
+                .switchIfEmpty(Mono.error(() -> {
+                    log.warn("ResourceNotFoundException: SWIFT code '{}' not found.", swiftCode);
+                    return new ResourceNotFoundException("SWIFT code '" + swiftCode + "' not found.");
+                }))
+                .flatMap(row -> {
+                    if (!row.isHeadquarter()) {
+                        return Mono.just(mapRowToDto(row, true));
+                    }
+                    String prefix = row.getSwiftCode().substring(0, 8);
+                    return repository.findBySwiftCodeStartingWithIgnoreCaseAndSwiftCodeNotIgnoreCaseOrderBySwiftCode(prefix, row.getSwiftCode())
+                            .map(branch -> mapRowToDto(branch, false))
+                            .collectList()
+                            .map(branches -> {
+                                SwiftCodeResponse response = mapRowToDto(row, true);
+                                response.setBranches(branches.isEmpty() ? null : branches);
+                                return response;
+                            });
+                });
+    }
+
+
+    /**
+     * Streams the SWIFT codes of a country, ordered by SWIFT code. Rows are read from the database only as fast
+     * as the subscriber (ultimately the HTTP connection) consumes them.
+     *
+     * @param countryISO2 The 2-letter ISO country code (case is ignored). Cannot be null.
+     * @return A Flux of {@link SwiftCodeResponse} without country names; empty if the country has no codes.
+     */
+    public Flux<SwiftCodeResponse> streamSwiftCodesByCountry(String countryISO2) {
+        return Mono.justOrEmpty(countryISO2)
+                .switchIfEmpty(Mono.error(() -> new IllegalArgumentException("Country ISO2 code cannot be null")))
+                .flatMapMany(code -> repository.findByCountryISO2IgnoreCaseOrderBySwiftCode(code.toUpperCase()))
+                .map(row -> mapRowToDto(row, false));
+    }
+
+
+    /**
+     * Retrieves all SWIFT codes of a country as a single response, matching Endpoint 2 of the servlet API.
+     *
+     * @param countryISO2 The 2-letter ISO country code (case is ignored). Cannot be null.
+     * @return A Mono emitting the {@link CountrySwiftCodesResponse}; the list is empty if no codes are found.
+     */
+    public Mono<CountrySwiftCodesResponse> getSwiftCodesByCountry(String countryISO2) {
+        return Mono.justOrEmpty(countryISO2)
+                .switchIfEmpty(Mono.error(() -> new IllegalArgumentException("Country ISO2 code cannot be null")))
+                .map(String::toUpperCase)
+                .flatMap(code -> repository.findByCountryISO2IgnoreCaseOrderBySwiftCode(code)
+                        .collectList()
+                        .map(rows -> buildCountryResponse(code, rows)));
+    }
+
+
+    /**
+     * Retrieves SWIFT codes starting with the given prefix, in ascending order.
+     *
+     * @param prefix The (case-insensitive) beginning of a SWIFT code.
+     * @param limit The maximum number of codes to return; clamped by {@link SwiftCodeRules#clampPrefixLimit(int)}.
+     * @return A Mono emitting the {@link SwiftCodePrefixResponse} with the normalized prefix and matching codes.
+     */
+    public Mono<SwiftCodePrefixResponse> getSwiftCodesByPrefix(String prefix, int limit) {
+        return Mono.justOrEmpty(prefix)
+                .switchIfEmpty(Mono.error(() -> new IllegalArgumentException("SWIFT code prefix cannot be null")))
+                .map(p -> p.trim().toUpperCase())
+                .flatMap(processedPrefix -> repository.findBySwiftCodeStartingWithOrderBySwiftCode(processedPrefix)
+                        .take(SwiftCodeRules.clampPrefixLimit(limit))
+                        .map(SwiftCodeRow::getSwiftCode)
+                        .collectList()
+                        .map(codes -> SwiftCodePrefixResponse.builder()
+                                .prefix(processedPrefix)
+                                .swiftCodes(codes)
+                                .build()));
+    }
+
+
+    /**
+     * Retrieves per-country aggregates computed by the database.
+     *
+     * @return A Flux of {@link CountrySummaryResponse} ordered by country ISO2 code.
+     */
+    public Flux<CountrySummaryResponse> getCountrySummaries() {
+        return repository.summarizeByCountry()
+                .map(summary -> CountrySummaryResponse.builder()
+                        .countryISO2(summary.countryIso2())
+                        .countryName(summary.countryName())
+                        .totalCodes(summary.totalCodes())
+                        .headquarterCount(summary.headquarterCount())
+                        .branchCount(summary.totalCodes() - summary.headquarterCount())
+                        .build());
+    }
+
+
+    /**
+     * Adds a new SWIFT code entry. Applies the same checks, in the same order, as the servlet API:
+     * duplicate detection, then the consistency rules of {@link SwiftCodeRules}.
+     * A concurrent insert of the same code that wins the race is reported as a duplicate as well.
+     *
+     * @param requestDto The validated request body.
+     * @return A Mono emitting a {@link MessageResponse}, or failing with {@link ResourceAlreadyExistsException}
+     * or {@link InconsistentSwiftDataException}.
+     */
+    public Mono<MessageResponse> addSwiftCode(SwiftCodeRequest requestDto) {
+        String swiftCode = SwiftCodeRules.normalizeSwiftCode(requestDto.getSwiftCode());
+        String countryIso2 = requestDto.getCountryISO2().toUpperCase();
+        String countryName = requestDto.getCountryName().toUpperCase();
+        log.debug("Attempting to add SWIFT code: {}", swiftCode);
+
+        return repository.existsBySwiftCodeIgnoreCase(swiftCode)
+                .flatMap(exists -> {
+                    if (exists) {
+                        return Mono.error(duplicate(swiftCode));
+                    }
+                    SwiftCodeRules.checkConsistency(swiftCode, countryIso2, requestDto.getIsHeadquarter());
+
+                    SwiftCodeRow row = new SwiftCodeRow(swiftCode, requestDto.getBankName(), requestDto.getAddress(), null,
+                            countryIso2, countryName, SwiftCodeRules.isHeadquarterCode(swiftCode), true);
+                    return repository.insert(row);
+                })
+                .onErrorMap(DuplicateKeyException.class, e -> duplicate(swiftCode))
+                .map(saved -> {
+                    log.info("Successfully added SWIFT code: {}", swiftCode);
+                    return new MessageResponse("SWIFT code '" + swiftCode + "' added successfully.");
+                });
+    }
+
+
+    /**
+     * Deletes a SWIFT code entry identified by its code (case is ignored).
+     *
+     * @param swiftCode The 8 or 11 character SWIFT/BIC code to delete.
+     * @return A Mono emitting a {@link MessageResponse}, or failing with {@link ResourceNotFoundException}.
+     */
+    public Mono<MessageResponse> deleteSwiftCode(String swiftCode) {
+        String processedSwiftCode = SwiftCodeRules.normalizeSwiftCode(swiftCode);
+        return repository.findBySwiftCodeIgnoreCase(processedSwiftCode)
+                .switchIfEmpty(Mono.error(() -> {
+                    log.warn("Attempted to delete non-existent SWIFT code: {}", processedSwiftCode);
+                    return new ResourceNotFoundException("SWIFT code '" + processedSwiftCode + "' not found, cannot delete.");
+                }))
+                .flatMap(row -> repository.deleteBySwiftCode(row.getSwiftCode()))
+                .then(Mono.fromSupplier(() -> {
+                    log.info("Successfully deleted SWIFT code: {}", processedSwiftCode);
+                    return new MessageResponse("SWIFT code '" + processedSwiftCode + "' deleted successfully.");
+                }));
+    }
+
+
+    private ResourceAlreadyExistsException duplicate(String swiftCode) {
+        log.warn("Attempted to add duplicate SWIFT code: {}", swiftCode);
+        return new ResourceAlreadyExistsException("SWIFT code '" + swiftCode + "' already exists.");
+    }
+
+    private CountrySwiftCodesResponse buildCountryResponse(String countryISO2, List<SwiftCodeRow> rows) {
+        String countryName = rows.isEmpty() ? "" : Optional.ofNullable(rows.get(0).getCountryName())
+                .map(String::toUpperCase)
+                .orElse("");
+        log.info("Found {} SWIFT codes for country {}", rows.size(), countryISO2);
+
+        return CountrySwiftCodesResponse.builder()
+                .countryISO2(countryISO2)
+                .countryName(countryName)
+                .swiftCodes(rows.stream().map(row -> mapRowToDto(row, false)).toList())
+                .build();
+    }
+
+    /**
+     * Maps a {@link SwiftCodeRow} to a {@link SwiftCodeResponse} DTO, preferring the address over the town name
+     * exactly like the servlet API.
+     */
+    private SwiftCodeResponse mapRowToDto(SwiftCodeRow row, boolean includeCountryName) {
+        String address = row.getAddress();
+        if (address == null || address.trim().isEmpty()) {
+            address = row.getTownName() != null ? row.getTownName() : "";
+        }
+
+        return SwiftCodeResponse.builder()
+                .swiftCode(row.getSwiftCode())
+                .bankName(row.getBankName())
+                .address(address)
+                .countryISO2(row.getCountryISO2())
+                .countryName(includeCountryName ? row.getCountryName() : null)
+                .isHeadquarter(row.isHeadquarter())
+                .build();
+    }
+}
@@ -0,0 +1,24 @@
+CREATE TABLE IF NOT EXISTS swift_codes (
+    dataset_version BIGINT      NOT NULL,
+    swift_code     VARCHAR(11)  NOT NULL,
+    bank_name      VARCHAR(255) NOT NULL,
+    address        VARCHAR(512),
+    town_name      VARCHAR(255),
+    country_iso2   VARCHAR(2)   NOT NULL,
+    country_name   VARCHAR(255) NOT NULL,
+    is_headquarter BOOLEAN      NOT NULL,
+    institution_code VARCHAR(8) GENERATED ALWAYS AS (LEFT(swift_code, 8)) NOT NULL,
+    PRIMARY KEY (dataset_version, swift_code)
+);
+
+CREATE INDEX IF NOT EXISTS idx_institution_code ON swift_codes (dataset_version, institution_code);
+CREATE INDEX IF NOT EXISTS idx_country_iso2_swift_code ON swift_codes (dataset_version, country_iso2, swift_code);
+
+-- Pointer to the served dataset version, as maintained by the servlet application; a single version here.
+CREATE TABLE IF NOT EXISTS active_dataset (
+    id      INT    NOT NULL PRIMARY KEY,
+    version BIGINT NOT NULL,
+    CONSTRAINT chk_active_dataset_single_row CHECK (id = 1)
+);
+
+MERGE INTO active_dataset (id, version) KEY (id) VALUES (1, 1);
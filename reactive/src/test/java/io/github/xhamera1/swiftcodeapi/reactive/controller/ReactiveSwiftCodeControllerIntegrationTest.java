@@ -0,0 +1,171 @@
+package io.github.xhamera1.swiftcodeapi.reactive.controller;
+
+import io.github.xhamera1.swiftcodeapi.dto.SwiftCodeRequest;
+import io.github.xhamera1.swiftcodeapi.dto.SwiftCodeResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+/**
+ * End-to-end tests of the reactive API against the in-memory H2 database populated from the shared test CSV.
+ * Mirrors the contract checks of the servlet application's controller tests.
+ */
+@SpringBootTest
+@AutoConfigureWebTestClient
+class ReactiveSwiftCodeControllerIntegrationTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    private static SwiftCodeRequest request(String swiftCode, String countryISO2, boolean isHeadquarter) {
+        SwiftCodeRequest request = new SwiftCodeRequest();
+        request.setSwiftCode(swiftCode);
+        request.setBankName("REACTIVE BANK");
+        request.setAddress("Reactive Street 1");
+        request.setCountryISO2(countryISO2);
+        request.setCountryName("Poland");
+        request.setIsHeadquarter(isHeadquarter);
+        return request;
+    }
+
+    @Test
+    @DisplayName("GET /v1/swift-codes/{swift-code} - Should return details of an imported code (case-insensitive)")
+    void getDetailsFromSwiftCode_shouldReturnDetails() {
+        webTestClient.get().uri("/v1/swift-codes/aaisaltrxxx")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.swiftCode").isEqualTo("AAISALTRXXX")
+                .jsonPath("$.countryName").isEqualTo("ALBANIA")
+                .jsonPath("$.isHeadquarter").isEqualTo(true)
+                .jsonPath("$.branches").doesNotExist();
+    }
+
+    @Test
+    @DisplayName("GET /v1/swift-codes/{swift-code} - Should return 404 with the servlet API's message")
+    void getDetailsFromSwiftCode_whenMissing_shouldReturnNotFound() {
+        webTestClient.get().uri("/v1/swift-codes/NONEXISTXXX")
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("SWIFT code 'NONEXISTXXX' not found.");
+    }
+
+    @Test
+    @DisplayName("GET /v1/swift-codes/country/{code} - Should return the country as a single JSON document")
+    void getDetailsForCountry_shouldReturnCountryDocument() {
+        webTestClient.get().uri("/v1/swift-codes/country/pl")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_JSON)
+                .expectBody()
+                .jsonPath("$.countryISO2").isEqualTo("PL")
+                .jsonPath("$.countryName").isEqualTo("POLAND")
+                .jsonPath("$.swiftCodes[0].swiftCode").isEqualTo("CASEPLPX")
+                .jsonPath("$.swiftCodes[0].countryName").doesNotExist();
+    }
+
+    @Test
+    @DisplayName("GET /v1/swift-codes/country/{code} - Should stream codes as NDJSON when requested")
+    void getDetailsForCountry_asNdjson_shouldStreamCodes() {
+        Flux<SwiftCodeResponse> stream = webTestClient.get().uri("/v1/swift-codes/country/BG")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .returnResult(SwiftCodeResponse.class)
+                .getResponseBody();
+
+        StepVerifier.create(stream)
+                .expectNextMatches(code -> code.getSwiftCode().equals("ABIEBGS1XXX") && code.isHeadquarter())
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("GET /v1/swift-codes/countries and /prefix/{prefix} - Should return aggregates and ordered prefix matches")
+    void getCountrySummariesAndPrefix_shouldMatchServletContract() {
+        webTestClient.get().uri("/v1/swift-codes/countries")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$[0].countryISO2").isEqualTo("AL")
+                .jsonPath("$[0].totalCodes").isEqualTo(1)
+                .jsonPath("$[0].headquarterCount").isEqualTo(1)
+                .jsonPath("$[0].branchCount").isEqualTo(0);
+
+        webTestClient.get().uri("/v1/swift-codes/prefix/a?limit=2")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.prefix").isEqualTo("A")
+                .jsonPath("$.swiftCodes.length()").isEqualTo(2)
+                .jsonPath("$.swiftCodes[0]").isEqualTo("AAISALTRXXX")
+                .jsonPath("$.swiftCodes[1]").isEqualTo("ABIEBGS1XXX");
+
+        webTestClient.get().uri("/v1/swift-codes/prefix/a?limit=abc")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("Invalid value 'abc' for parameter 'limit'.");
+    }
+
+    @Test
+    @DisplayName("POST and DELETE /v1/swift-codes - Should add, reject duplicates and delete a code")
+    void addAndDeleteSwiftCode_shouldFollowServletContract() {
+        webTestClient.post().uri("/v1/swift-codes")
+                .bodyValue(request("REACPLPWXXX", "PL", true))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("SWIFT code 'REACPLPWXXX' added successfully.");
+
+        webTestClient.post().uri("/v1/swift-codes")
+                .bodyValue(request("REACPLPWXXX", "PL", true))
+                .exchange()
+                .expectStatus().isEqualTo(409)
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("SWIFT code 'REACPLPWXXX' already exists.");
+
+        webTestClient.delete().uri("/v1/swift-codes/reacplpwxxx")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("SWIFT code 'REACPLPWXXX' deleted successfully.");
+
+        webTestClient.delete().uri("/v1/swift-codes/REACPLPWXXX")
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    @DisplayName("POST /v1/swift-codes - Should apply the shared validation and consistency rules")
+    void addSwiftCode_withInvalidData_shouldReturnBadRequest() {
+        webTestClient.post().uri("/v1/swift-codes")
+                .bodyValue(request("REACPLPWXXX", "DE", true))
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("Data consistency error: The country code from SWIFT ('PL' in 'REACPLPWXXX') does not match the provided Country ISO2 ('DE').");
+
+        webTestClient.post().uri("/v1/swift-codes")
+                .bodyValue(request("REACPLPWXXX", "PL", false))
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("Provided 'isHeadquarter' flag (false) is inconsistent with the SWIFT code format (REACPLPWXXX).");
+
+        webTestClient.post().uri("/v1/swift-codes")
+                .bodyValue(request("bad", "PL", false))
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.message").value(message -> org.assertj.core.api.Assertions.assertThat((String) message)
+                        .startsWith("Validation failed: 'swiftCode': Invalid SWIFT/BIC format."));
+    }
+}
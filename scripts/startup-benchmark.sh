@@ -0,0 +1,66 @@
+#!/usr/bin/env bash
+#
+# Measures the time from launching the application until its first successful request.
+#
+# Usage: scripts/startup-benchmark.sh [runs] -- <command starting the application...>
+#
+# Examples:
+#   scripts/startup-benchmark.sh 5 -- java -jar target/swift-code-api-0.0.1-SNAPSHOT.jar
+#   scripts/startup-benchmark.sh 5 -- docker run --rm --network swift-code-api_swift-network -p 8080:8080 \
+#       -e SPRING_DATASOURCE_URL=... -e SPRING_DATASOURCE_USERNAME=... -e SPRING_DATASOURCE_PASSWORD=... swift-code-api-app
+#
+# Environment:
+#   BENCHMARK_URL      Request that has to succeed (default: http://localhost:8080/v1/swift-codes/countries)
+#   BENCHMARK_TIMEOUT  Seconds to wait for a successful request before giving up (default: 120)
+
+set -euo pipefail
+
+RUNS=1
+if [[ $# -gt 0 && "$1" != "--" ]]; then
+    RUNS="$1"
+    shift
+fi
+if [[ $# -lt 2 || "$1" != "--" ]]; then
+    echo "Usage: $0 [runs] -- <command starting the application...>" >&2
+    exit 2
+fi
+shift
+
+URL="${BENCHMARK_URL:-http://localhost:8080/v1/swift-codes/countries}"
+TIMEOUT_MS=$(( ${BENCHMARK_TIMEOUT:-120} * 1000 ))
+
+now_ms() {
+    echo $(( $(date +%s%N) / 1000000 ))
+}
+
+results=()
+for run in $(seq 1 "$RUNS"); do
+    start=$(now_ms)
+    "$@" > "startup-benchmark-run-${run}.log" 2>&1 &
+    pid=$!
+
+    elapsed=-1
+    while kill -0 "$pid" 2> /dev/null; do
+        if curl -sf -o /dev/null "$URL"; then
+            elapsed=$(( $(now_ms) - start ))
+            break
+        fi
+        if (( $(now_ms) - start > TIMEOUT_MS )); then
+            break
+        fi
+        sleep 0.01
+    done
+
+    kill "$pid" 2> /dev/null || true
+    wait "$pid" 2> /dev/null || true
+
+    if (( elapsed < 0 )); then
+        echo "Run ${run}: no successful request to ${URL} (see startup-benchmark-run-${run}.log)" >&2
+        exit 1
+    fi
+    echo "Run ${run}: first successful request after ${elapsed} ms"
+    results+=("$elapsed")
+done
+
+sorted=($(printf '%s\n' "${results[@]}" | sort -n))
+echo "Time to first successful request over ${RUNS} run(s): min ${sorted[0]} ms, median ${sorted[$(( RUNS / 2 ))]} ms, max ${sorted[$(( RUNS - 1 ))]} ms"
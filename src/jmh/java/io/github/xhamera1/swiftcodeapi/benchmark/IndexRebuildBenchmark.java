@@ -0,0 +1,73 @@
+package io.github.xhamera1.swiftcodeapi.benchmark;
+
+import io.github.xhamera1.swiftcodeapi.index.ColumnarSwiftCodeStore;
+import io.github.xhamera1.swiftcodeapi.index.CountrySummaryIndex;
+import io.github.xhamera1.swiftcodeapi.index.SwiftCodeLookupIndex;
+import io.github.xhamera1.swiftcodeapi.index.SwiftCodePrefixIndex;
+import io.github.xhamera1.swiftcodeapi.model.SwiftCodeInfo;
+import io.github.xhamera1.swiftcodeapi.service.SyntheticSwiftDataset;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how long the in-memory indexes take to rebuild from a {@link SyntheticSwiftDataset} of production size
+ * and beyond, i.e. the warm-up after startup and after every dataset switch. Comparing the sizes shows whether
+ * an index scales linearly.
+ * <p>
+ * Run with {@code mvn -Pbenchmarks test-compile exec:exec -Djmh.args="IndexRebuild -prof gc"};
+ * add {@code -p size=10000000} and a larger heap ({@code -jvmArgs -Xmx8g}) for the largest directories.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class IndexRebuildBenchmark {
+
+    @Param({"100000", "1000000"})
+    public int size;
+
+    private List<SwiftCodeInfo> entries;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        entries = new SyntheticSwiftDataset(size).entries().toList();
+    }
+
+    @Benchmark
+    public SwiftCodeLookupIndex lookupIndex() {
+        SwiftCodeLookupIndex index = new SwiftCodeLookupIndex(new ColumnarSwiftCodeStore());
+        index.rebuild(entries);
+        return index;
+    }
+
+    @Benchmark
+    public SwiftCodePrefixIndex prefixIndex() {
+        SwiftCodePrefixIndex index = new SwiftCodePrefixIndex();
+        index.rebuild(entries);
+        return index;
+    }
+
+    @Benchmark
+    public ColumnarSwiftCodeStore columnarStore() {
+        ColumnarSwiftCodeStore store = new ColumnarSwiftCodeStore();
+        store.rebuild(entries);
+        return store;
+    }
+
+    @Benchmark
+    public CountrySummaryIndex countrySummaryIndex() {
+        CountrySummaryIndex index = new CountrySummaryIndex();
+        index.rebuild(entries);
+        return index;
+    }
+}
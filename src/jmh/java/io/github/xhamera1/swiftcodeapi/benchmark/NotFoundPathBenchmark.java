@@ -0,0 +1,98 @@
+package io.github.xhamera1.swiftcodeapi.benchmark;
+
+import io.github.xhamera1.swiftcodeapi.controller.SwiftCodeController;
+import io.github.xhamera1.swiftcodeapi.dto.SwiftCodeResponse;
+import io.github.xhamera1.swiftcodeapi.exceptions.ErrorResponse;
+import io.github.xhamera1.swiftcodeapi.exceptions.GlobalExceptionHandler;
+import io.github.xhamera1.swiftcodeapi.exceptions.ResourceNotFoundException;
+import io.github.xhamera1.swiftcodeapi.service.SwiftCodeRules;
+import ch.qos.logback.classic.Logger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * Compares a full MVC round trip (routing, handler invocation and JSON serialization) of a found code with the
+ * two ways of answering an unknown one: the 404 returned by the controller, as {@code GET /v1/swift-codes/{code}} does,
+ * and a {@link ResourceNotFoundException} resolved by the {@link GlobalExceptionHandler}, as the delete endpoint does.
+ * Run with {@code -prof gc} to compare the allocation per request.
+ * <p>
+ * Run with {@code mvn -Pbenchmarks test-compile exec:exec -Djmh.args="NotFoundPath -prof gc"}.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class NotFoundPathBenchmark {
+
+    private MockMvc mockMvc;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // Without Spring Boot's logging setup Logback defaults to DEBUG, which would dominate the measurement.
+        ((Logger) LoggerFactory.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME)).setLevel(ch.qos.logback.classic.Level.WARN);
+        mockMvc = MockMvcBuilders.standaloneSetup(new LookupController())
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+
+    @Benchmark
+    public MvcResult found() throws Exception {
+        return mockMvc.perform(get("/found/{code}", "AAISALTRXXX")).andReturn();
+    }
+
+    @Benchmark
+    public MvcResult notFoundResult() throws Exception {
+        return mockMvc.perform(get("/result/{code}", "NONEXISTXXX")).andReturn();
+    }
+
+    @Benchmark
+    public MvcResult notFoundException() throws Exception {
+        return mockMvc.perform(get("/exception/{code}", "NONEXISTXXX")).andReturn();
+    }
+
+    @RestController
+    static class LookupController {
+
+        private final SwiftCodeResponse response = SwiftCodeResponse.builder()
+                .swiftCode("AAISALTRXXX")
+                .bankName("UNITED BANK OF ALBANIA SH.A")
+                .address("HYRJA 3 RR. DRITAN HOXHA ND. 11 TIRANA, TIRANA, 1023")
+                .countryISO2("AL")
+                .countryName("ALBANIA")
+                .isHeadquarter(true)
+                .build();
+
+        @GetMapping("/found/{code}")
+        ResponseEntity<SwiftCodeResponse> found(@PathVariable String code) {
+            return ResponseEntity.ok(response);
+        }
+
+        @GetMapping("/result/{code}")
+        ResponseEntity<ErrorResponse> result(@PathVariable String code) {
+            return SwiftCodeController.swiftCodeNotFound(code);
+        }
+
+        @GetMapping("/exception/{code}")
+        ResponseEntity<SwiftCodeResponse> exception(@PathVariable String code) {
+            throw new ResourceNotFoundException(SwiftCodeRules.notFoundMessage(code));
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package io.github.xhamera1.swiftcodeapi.benchmark;
+
+import io.github.xhamera1.swiftcodeapi.model.SwiftCode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Compares the previous regex-based format check of an added SWIFT code (pattern match, normalization,
+ * country substring and {@code XXX} suffix) with the single-pass {@link SwiftCode#packBic(CharSequence, boolean)} path.
+ * <p>
+ * Run with {@code mvn -Pbenchmarks test-compile exec:exec}.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SwiftCodeValidationBenchmark {
+
+    private static final Pattern SWIFT_CODE_PATTERN = Pattern.compile("^[A-Z]{4}[A-Z]{2}[A-Z0-9]{2}([A-Z0-9]{3})?$");
+
+    @Param({"AAISALTRXXX", "DEUTPLPX"})
+    private String swiftCode;
+
+    private final String countryIso2 = "AL";
+
+    @Benchmark
+    public boolean regex() {
+        if (!SWIFT_CODE_PATTERN.matcher(swiftCode).matches()) {
+            return false;
+        }
+        String normalized = swiftCode.trim().toUpperCase(Locale.ROOT);
+        return normalized.substring(4, 6).equals(countryIso2) && normalized.endsWith("XXX");
+    }
+
+    @Benchmark
+    public boolean packed() {
+        long packed = SwiftCode.packBic(swiftCode, true);
+        return packed != SwiftCode.INVALID && SwiftCode.countryMatches(packed, countryIso2) && SwiftCode.isHeadquarter(packed);
+    }
+}
@@ -0,0 +1,211 @@
+package io.github.xhamera1.swiftcodeapi.changefeed;
+
+import io.github.xhamera1.swiftcodeapi.dto.ChangeFeedResponse;
+import io.github.xhamera1.swiftcodeapi.dto.SwiftCodeChangeResponse;
+import io.github.xhamera1.swiftcodeapi.exceptions.ChangeLogExpiredException;
+import io.github.xhamera1.swiftcodeapi.exceptions.ConcurrencyLimitExceededException;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * Streams the change feed to subscribers as server-sent events (one {@code change} event per change, with the
+ * sequence number as event id), for live tailing.
+ * <p>
+ * A single dispatcher thread serves all subscribers. It is woken after every transaction that recorded changes,
+ * groups the subscribers by position and reads each position's next page once, so subscribers that are caught up
+ * cost one query per round, whatever their number. A subscriber resuming from an older position is served from
+ * the log page by page until it has caught up. Idle streams get a comment line every
+ * {@code swift-api.change-feed.heartbeat-interval}, so broken connections are detected and released.
+ * </p>
+ */
+@Component
+public class ChangeFeedBroadcaster {
+
+    private static final Logger log = LoggerFactory.getLogger(ChangeFeedBroadcaster.class);
+    private static final String EVENT_NAME = "change";
+
+    private final SwiftCodeChangeFeed changeFeed;
+    private final ChangeFeedProperties properties;
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+    private final AtomicBoolean dispatchPending = new AtomicBoolean();
+    private final ScheduledExecutorService dispatcher;
+
+    /**
+     * @param changeFeed The change feed read for the subscribers; notifies the broadcaster of new changes.
+     * @param properties The stream timeout, heartbeat interval and subscriber limit.
+     */
+    @Autowired
+    public ChangeFeedBroadcaster(SwiftCodeChangeFeed changeFeed, ChangeFeedProperties properties) {
+        this.changeFeed = changeFeed;
+        this.properties = properties;
+        this.dispatcher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "change-feed-dispatcher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long heartbeatMillis = properties.getHeartbeatInterval().toMillis();
+        dispatcher.scheduleWithFixedDelay(this::heartbeat, heartbeatMillis, heartbeatMillis, TimeUnit.MILLISECONDS);
+        changeFeed.addListener(this::requestDispatch);
+    }
+
+    @PreDestroy
+    void stop() {
+        dispatcher.shutdownNow();
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        subscribers.clear();
+    }
+
+    /**
+     * Opens a stream of the changes after {@code since}.
+     *
+     * @param since The sequence number of the last change already applied by the client.
+     * @return The emitter of the stream, completed after {@code swift-api.change-feed.stream-timeout}.
+     * @throws ConcurrencyLimitExceededException if {@code swift-api.change-feed.max-subscribers} streams are open.
+     * @throws ChangeLogExpiredException if changes after {@code since} have already been deleted by the retention.
+     */
+    public SseEmitter subscribe(long since) {
+        changeFeed.requireRetained(since);
+        if (subscribers.size() >= properties.getMaxSubscribers()) {
+            log.warn("Rejecting change feed subscription: {} streams open", subscribers.size());
+            long retryAfterSeconds = Math.max(1, (properties.getRetryAfter().toMillis() + 999) / 1000);
+            throw new ConcurrencyLimitExceededException("Too many open change feed streams. Please retry later.", retryAfterSeconds);
+        }
+
+        SseEmitter emitter = new SseEmitter(properties.getStreamTimeout().toMillis());
+        Subscriber subscriber = new Subscriber(emitter, since);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(e -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+        log.info("Change feed stream opened after sequence {} ({} open)", since, subscribers.size());
+
+        requestDispatch();
+        return emitter;
+    }
+
+    /**
+     * @return the number of open streams
+     */
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    /**
+     * Schedules a dispatch round unless one is already pending, so a burst of commits causes a single round.
+     */
+    private void requestDispatch() {
+        if (dispatchPending.compareAndSet(false, true)) {
+            try {
+                dispatcher.execute(this::dispatch);
+            } catch (RejectedExecutionException e) {
+                dispatchPending.set(false); // shutting down
+            }
+        }
+    }
+
+    private void dispatch() {
+        dispatchPending.set(false);
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        try {
+            long upTo = changeFeed.currentSequence();
+            Map<Long, List<Subscriber>> byPosition = subscribers.stream()
+                    .filter(subscriber -> subscriber.position < upTo)
+                    .collect(Collectors.groupingBy(subscriber -> subscriber.position, LinkedHashMap::new, Collectors.toList()));
+
+            boolean hasMore = false;
+            for (Map.Entry<Long, List<Subscriber>> group : byPosition.entrySet()) {
+                ChangeFeedResponse page = changeFeed.read(group.getKey(), SwiftCodeChangeFeed.MAX_LIMIT, upTo);
+                group.getValue().forEach(subscriber -> subscriber.send(page));
+                hasMore |= page.isHasMore();
+            }
+            if (hasMore) {
+                requestDispatch();
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to dispatch changes to {} stream(s), retrying with the next commit or heartbeat.", subscribers.size(), e);
+        }
+    }
+
+    private void heartbeat() {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.sendHeartbeat();
+        }
+        // Also catches up on a dispatch that failed.
+        requestDispatch();
+    }
+
+    /**
+     * An open stream and the sequence number of the last change sent to it.
+     */
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        private volatile long position;
+
+        private Subscriber(SseEmitter emitter, long position) {
+            this.emitter = emitter;
+            this.position = position;
+        }
+
+        /**
+         * Sends the changes of a page as one write, then advances the position.
+         */
+        private void send(ChangeFeedResponse page) {
+            if (!page.getChanges().isEmpty()) {
+                Set<DataWithMediaType> events = new LinkedHashSet<>();
+                for (SwiftCodeChangeResponse change : page.getChanges()) {
+                    events.addAll(SseEmitter.event()
+                            .id(Long.toString(change.getSeq()))
+                            .name(EVENT_NAME)
+                            .data(change, MediaType.APPLICATION_JSON)
+                            .build());
+                }
+                try {
+                    emitter.send(events);
+                } catch (IOException | IllegalStateException e) {
+                    drop(e);
+                    return;
+                }
+            }
+            position = page.getNextSince();
+        }
+
+        private void sendHeartbeat() {
+            try {
+                emitter.send(SseEmitter.event().comment("heartbeat"));
+            } catch (IOException | IllegalStateException e) {
+                drop(e);
+            }
+        }
+
+        /**
+         * Forgets a stream whose connection failed; the container completes the request with an error dispatch.
+         */
+        private void drop(Exception e) {
+            subscribers.remove(this);
+            log.debug("Change feed stream closed: {}", e.getMessage());
+        }
+    }
+}
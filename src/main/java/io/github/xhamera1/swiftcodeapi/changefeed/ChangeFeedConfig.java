@@ -0,0 +1,12 @@
+package io.github.xhamera1.swiftcodeapi.changefeed;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Enables the {@link ChangeFeedProperties} of the live change stream and the change log retention.
+ */
+@Configuration
+@EnableConfigurationProperties(ChangeFeedProperties.class)
+public class ChangeFeedConfig {
+}
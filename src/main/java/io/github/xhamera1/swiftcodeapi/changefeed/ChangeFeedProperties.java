@@ -0,0 +1,32 @@
+package io.github.xhamera1.swiftcodeapi.changefeed;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration of the live change stream and the retention of the change log ({@code swift-api.change-feed.*}).
+ */
+@Data
+@ConfigurationProperties(prefix = "swift-api.change-feed")
+public class ChangeFeedProperties {
+
+    /** How long a stream stays open; clients reconnect with {@code Last-Event-ID} to resume. */
+    private Duration streamTimeout = Duration.ofMinutes(30);
+
+    /** Interval of the comment lines sent to idle streams, so broken connections are detected. */
+    private Duration heartbeatInterval = Duration.ofSeconds(15);
+
+    /** Maximum number of open streams; further subscriptions are rejected with 503. */
+    private int maxSubscribers = 100;
+
+    /** Value of the {@code Retry-After} header sent with rejected subscriptions (rounded up to whole seconds). */
+    private Duration retryAfter = Duration.ofSeconds(5);
+
+    /** How long changes are kept in the log; clients further behind get 410 Gone and start over with an export. */
+    private Duration retention = Duration.ofDays(30);
+
+    /** Interval of the runs deleting the expired changes; the first run starts with the application. */
+    private Duration retentionInterval = Duration.ofHours(1);
+}
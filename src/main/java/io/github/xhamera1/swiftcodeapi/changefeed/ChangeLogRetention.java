@@ -0,0 +1,105 @@
+package io.github.xhamera1.swiftcodeapi.changefeed;
+
+import io.github.xhamera1.swiftcodeapi.repository.SwiftCodeChangeRepository;
+import io.github.xhamera1.swiftcodeapi.sharding.SwiftCodeShards;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Deletes the changes older than {@code swift-api.change-feed.retention} from the change log, so the log does not
+ * grow with every write and every dataset switch for the lifetime of the database.
+ * <p>
+ * A run starts with the application and then every {@code swift-api.change-feed.retention-interval}. The end of the
+ * expired part is read from the index on {@code changed_at}, and the log is deleted up to it in ranges of the primary
+ * key, each in a transaction of its own, so no run holds long locks. The newest change is always kept, so the log
+ * keeps its position. With sharded persistence, every shard's log is pruned by itself.
+ * </p>
+ */
+@Component
+public class ChangeLogRetention {
+
+    private static final Logger log = LoggerFactory.getLogger(ChangeLogRetention.class);
+    /** Number of sequence numbers deleted per transaction. */
+    private static final int DELETE_BATCH_SIZE = 10_000;
+
+    private final SwiftCodeChangeRepository changeRepository;
+    private final SwiftCodeChangeFeed changeFeed;
+    private final SwiftCodeShards shards;
+    private final ChangeFeedProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final ScheduledExecutorService scheduler;
+
+    /**
+     * @param changeRepository The repository of the change log.
+     * @param changeFeed The change feed, told up to where the log has been deleted.
+     * @param shards The shards whose logs are pruned.
+     * @param properties The retention and the interval of the runs.
+     * @param transactionManager The transaction manager for the deletes.
+     */
+    @Autowired
+    public ChangeLogRetention(SwiftCodeChangeRepository changeRepository, SwiftCodeChangeFeed changeFeed,
+                              SwiftCodeShards shards, ChangeFeedProperties properties,
+                              PlatformTransactionManager transactionManager) {
+        this.changeRepository = changeRepository;
+        this.changeFeed = changeFeed;
+        this.shards = shards;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "change-log-retention");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMillis = properties.getRetentionInterval().toMillis();
+        scheduler.scheduleWithFixedDelay(this::run, 0, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * Deletes the expired changes of every shard's log.
+     *
+     * @return the number of deleted changes
+     */
+    public int discardExpired() {
+        Instant cutoff = Instant.now().minus(properties.getRetention());
+        return shards.scatter(shard -> discardExpired(cutoff)).stream().mapToInt(Integer::intValue).sum();
+    }
+
+    private int discardExpired(Instant cutoff) {
+        long first = changeRepository.findMinSeq();
+        long upTo = Math.min(changeRepository.findMaxSeqChangedBefore(cutoff), changeRepository.findMaxSeq() - 1);
+        int deleted = 0;
+        for (long after = first - 1; after < upTo; after += DELETE_BATCH_SIZE) {
+            long from = after;
+            long to = Math.min(after + DELETE_BATCH_SIZE, upTo);
+            deleted += transactionTemplate.execute(status -> changeRepository.deleteRange(from, to));
+        }
+        changeFeed.expired(Math.max(first - 1, upTo));
+        return deleted;
+    }
+
+    private void run() {
+        try {
+            int deleted = discardExpired();
+            if (deleted > 0) {
+                log.info("Deleted {} change(s) older than {} from the change log.", deleted, properties.getRetention());
+            }
+        } catch (RuntimeException e) {
+            log.warn("Could not delete the expired changes, retrying with the next run: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package io.github.xhamera1.swiftcodeapi.changefeed;
+
+import java.util.TreeSet;
+
+/**
+ * Determines up to which sequence number the change log is final, i.e. no transaction can still commit a change
+ * with a lower or equal number.
+ * <p>
+ * The database assigns sequence numbers when a change is inserted, but transactions commit in any order: while a
+ * transaction holding number 10 is open, number 11 may already be committed. A reader that returned 11 and moved
+ * its position past it would never see 10. Therefore every transaction recording changes takes a ticket before its
+ * first insert and returns it on completion, and a committed maximum read from the database becomes the stable
+ * sequence only once all transactions that were open when it was read have completed. Numbers allocated by later
+ * transactions are necessarily higher than that maximum.
+ * </p>
+ * <p>
+ * The tickets are tracked in memory, so this relies on all changes being written by this process, as the in-memory
+ * indexes already do.
+ * </p>
+ */
+class ChangeSequenceTracker {
+
+    private final TreeSet<Long> openTickets = new TreeSet<>();
+    private long nextTicket;
+    private long stableSequence;
+    private long candidateSequence;
+    private long candidateTicket;
+
+    /**
+     * Registers a transaction about to record changes.
+     *
+     * @return the ticket to pass to {@link #end(long)} once the transaction has completed
+     */
+    synchronized long begin() {
+        long ticket = nextTicket++;
+        openTickets.add(ticket);
+        return ticket;
+    }
+
+    /**
+     * Unregisters a completed (committed or rolled back) transaction.
+     */
+    synchronized void end(long ticket) {
+        openTickets.remove(ticket);
+        promoteCandidate();
+    }
+
+    /**
+     * Returns the stable sequence number, taking a committed maximum into account.
+     *
+     * @param committedMaximum the highest committed sequence number, read from the database just before the call
+     * @return the highest sequence number up to which the log is final
+     */
+    synchronized long stableSequence(long committedMaximum) {
+        promoteCandidate();
+        if (candidateSequence <= stableSequence && committedMaximum > stableSequence) {
+            // A pending candidate is kept until it is promoted, so a steady flow of writers cannot postpone it forever.
+            candidateSequence = committedMaximum;
+            candidateTicket = nextTicket;
+            promoteCandidate();
+        }
+        return stableSequence;
+    }
+
+    private void promoteCandidate() {
+        if (candidateSequence > stableSequence && (openTickets.isEmpty() || openTickets.first() >= candidateTicket)) {
+            stableSequence = candidateSequence;
+        }
+    }
+}
@@ -0,0 +1,251 @@
+package io.github.xhamera1.swiftcodeapi.changefeed;
+
+import io.github.xhamera1.swiftcodeapi.dto.ChangeFeedResponse;
+import io.github.xhamera1.swiftcodeapi.dto.SwiftCodeChangeResponse;
+import io.github.xhamera1.swiftcodeapi.exceptions.ChangeLogExpiredException;
+import io.github.xhamera1.swiftcodeapi.model.SwiftCodeChange;
+import io.github.xhamera1.swiftcodeapi.model.SwiftCodeInfo;
+import io.github.xhamera1.swiftcodeapi.repository.SwiftCodeChangeRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+
+/**
+ * Records changes of the {@code swift_codes} table in the change log ({@link SwiftCodeChange}) and reads them back,
+ * so clients can mirror the dataset incrementally: an initial export, then only the changes since.
+ * <p>
+ * Changes are written in the transaction of the change itself, so the log contains exactly the committed changes.
+ * Reads only return changes up to the stable sequence number determined by {@link ChangeSequenceTracker}, so a
+ * client that continues from the returned {@code nextSince} never misses a change committed late.
+ * </p>
+ * <p>
+ * Changes older than the retention are deleted by {@link ChangeLogRetention}; a client asking for changes after a
+ * position whose successors are gone gets {@link ChangeLogExpiredException} instead of an incomplete page.
+ * </p>
+ */
+@Service
+public class SwiftCodeChangeFeed {
+
+    /** Response header of the export carrying the sequence number the exported data is at least as recent as. */
+    public static final String CHANGE_SEQUENCE_HEADER = "X-Change-Sequence";
+    /** Number of changes returned when the client does not specify a limit. */
+    public static final int DEFAULT_LIMIT = 100;
+    /** Upper bound for the number of changes returned by a single request. */
+    public static final int MAX_LIMIT = 1000;
+
+    private static final Logger log = LoggerFactory.getLogger(SwiftCodeChangeFeed.class);
+
+    private final SwiftCodeChangeRepository changeRepository;
+    private final Clock clock;
+    private final ChangeSequenceTracker tracker = new ChangeSequenceTracker();
+    private final Object transactionKey = new Object();
+    private final List<Runnable> listeners = new CopyOnWriteArrayList<>();
+    /** Sequence number up to which the log has been deleted by the retention. */
+    private volatile long expiredUpTo;
+
+    /**
+     * @param changeRepository The repository of the change log.
+     */
+    @Autowired
+    public SwiftCodeChangeFeed(SwiftCodeChangeRepository changeRepository) {
+        this(changeRepository, Clock.systemUTC());
+    }
+
+    SwiftCodeChangeFeed(SwiftCodeChangeRepository changeRepository, Clock clock) {
+        this.changeRepository = changeRepository;
+        this.clock = clock;
+    }
+
+    /**
+     * Records the addition of an entry. Must be called in the transaction that inserted it.
+     */
+    public void recordAdded(SwiftCodeInfo entry) {
+        beginRecording();
+        changeRepository.save(SwiftCodeChange.added(entry, clock.instant()));
+    }
+
+    /**
+     * Records the deletion of a code. Must be called in the transaction that deletes it.
+     */
+    public void recordDeleted(String swiftCode) {
+        beginRecording();
+        changeRepository.save(SwiftCodeChange.deleted(swiftCode, clock.instant()));
+    }
+
+    /**
+     * Records tombstones for the stored entries among the given codes.
+     * Must be called in the transaction that deletes them, before the DELETE.
+     *
+     * @return the number of recorded tombstones
+     */
+    public int recordDeletedBySwiftCodes(Collection<String> swiftCodes) {
+        beginRecording();
+        return changeRepository.insertTombstonesBySwiftCodes(swiftCodes, clock.instant());
+    }
+
+    /**
+     * Records tombstones for all entries of an institution.
+     * Must be called in the transaction that deletes them, before the DELETE.
+     *
+     * @return the number of recorded tombstones
+     */
+    public int recordDeletedByInstitutionCode(String institutionCode) {
+        beginRecording();
+        return changeRepository.insertTombstonesByInstitutionCode(institutionCode, clock.instant());
+    }
+
+    /**
+     * Records tombstones for all entries of a country.
+     * Must be called in the transaction that deletes them, before the DELETE.
+     *
+     * @return the number of recorded tombstones
+     */
+    public int recordDeletedByCountry(String countryISO2) {
+        beginRecording();
+        return changeRepository.insertTombstonesByCountry(countryISO2, clock.instant());
+    }
+
+    /**
+     * Records the difference between two dataset versions, with two INSERT ... SELECT statements: tombstones for the
+     * codes missing from the new version, then the new and changed entries as added. Must be called in the
+     * transaction that switches the active version.
+     *
+     * @return the number of recorded changes
+     */
+    public int recordVersionSwitch(long fromVersion, long toVersion) {
+        beginRecording();
+        Instant changedAt = clock.instant();
+        return changeRepository.insertTombstonesForVersionSwitch(fromVersion, toVersion, changedAt)
+                + changeRepository.insertAddedForVersionSwitch(fromVersion, toVersion, changedAt);
+    }
+
+    /**
+     * @return the sequence number up to which the change log is final; all changes up to it are visible to readers
+     */
+    public long currentSequence() {
+        return tracker.stableSequence(changeRepository.findMaxSeq());
+    }
+
+    /**
+     * Reads the changes after {@code since}, up to the current stable sequence number.
+     * The requested limit is clamped to the range {@code 1..}{@link #MAX_LIMIT}.
+     *
+     * @param since The sequence number of the last change already applied by the client (0 for all changes).
+     * @param limit The maximum number of changes to return.
+     * @return A {@link ChangeFeedResponse} with the changes in log order. Its {@code nextSince} is the value of
+     *         {@code since} for the next request: the last returned change, or the stable sequence number if no more
+     *         changes are available, so gaps left by rolled back transactions are skipped.
+     * @throws ChangeLogExpiredException if changes after {@code since} have already been deleted by the retention.
+     */
+    public ChangeFeedResponse read(long since, int limit) {
+        requireRetained(since);
+        return read(since, limit, currentSequence());
+    }
+
+    /**
+     * Reads the changes after {@code since}, up to the given stable sequence number.
+     */
+    ChangeFeedResponse read(long since, int limit, long upTo) {
+        int effectiveLimit = clampLimit(limit);
+        if (since >= upTo) {
+            return ChangeFeedResponse.builder().changes(List.of()).nextSince(since).hasMore(false).build();
+        }
+
+        // One extra row tells whether more changes follow, without a count query.
+        List<SwiftCodeChange> changes = changeRepository.findRange(since, upTo, Limit.of(effectiveLimit + 1));
+        boolean hasMore = changes.size() > effectiveLimit;
+        if (hasMore) {
+            changes = changes.subList(0, effectiveLimit);
+        }
+        long nextSince = hasMore ? changes.get(changes.size() - 1).getSeq() : upTo;
+        log.debug("Read {} change(s) after sequence {} (stable sequence {})", changes.size(), since, upTo);
+
+        return ChangeFeedResponse.builder()
+                .changes(changes.stream().map(SwiftCodeChangeFeed::mapChangeToDto).collect(Collectors.toList()))
+                .nextSince(nextSince)
+                .hasMore(hasMore)
+                .build();
+    }
+
+    /**
+     * @throws ChangeLogExpiredException if changes after {@code since} have already been deleted by the retention.
+     */
+    void requireRetained(long since) {
+        long expired = expiredUpTo;
+        if (since < expired) {
+            throw new ChangeLogExpiredException("The changes up to sequence " + expired
+                    + " have expired. Export the dataset and continue from its " + CHANGE_SEQUENCE_HEADER + ".");
+        }
+    }
+
+    /**
+     * Records that the log no longer contains the changes up to {@code sequence}.
+     */
+    synchronized void expired(long sequence) {
+        expiredUpTo = Math.max(expiredUpTo, sequence);
+    }
+
+    /**
+     * Registers a callback run after every transaction that recorded changes has completed,
+     * i.e. whenever the stable sequence number may have advanced. Callbacks must not block.
+     */
+    public void addListener(Runnable listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Clamps a requested number of changes to the range {@code 1..}{@link #MAX_LIMIT}.
+     */
+    public static int clampLimit(int limit) {
+        return Math.max(1, Math.min(limit, MAX_LIMIT));
+    }
+
+    /**
+     * Takes a ticket of the {@link ChangeSequenceTracker} for the current transaction, once per transaction,
+     * and returns it when the transaction completes.
+     */
+    private void beginRecording() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("Changes must be recorded within the transaction of the change");
+        }
+        if (TransactionSynchronizationManager.hasResource(transactionKey)) {
+            return;
+        }
+        long ticket = tracker.begin();
+        TransactionSynchronizationManager.bindResource(transactionKey, ticket);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(transactionKey);
+                tracker.end(ticket);
+                listeners.forEach(Runnable::run);
+            }
+        });
+    }
+
+    private static SwiftCodeChangeResponse mapChangeToDto(SwiftCodeChange change) {
+        return SwiftCodeChangeResponse.builder()
+                .seq(change.getSeq())
+                .type(change.getType().name())
+                .changedAt(change.getChangedAt())
+                .address(change.getAddress())
+                .bankName(change.getBankName())
+                .countryISO2(change.getCountryISO2())
+                .countryName(change.getCountryName())
+                .isHeadquarter(change.getHeadquarter())
+                .swiftCode(change.getSwiftCode())
+                .townName(change.getTownName())
+                .build();
+    }
+}
@@ -0,0 +1,73 @@
+package io.github.xhamera1.swiftcodeapi.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.cbor.CBORGenerator;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Registers binary representations of the API payloads next to JSON, selected through the {@code Accept}
+ * (and, for request bodies, {@code Content-Type}) header:
+ * <ul>
+ *     <li>{@code application/cbor}</li>
+ *     <li>{@code application/x-jackson-smile}</li>
+ *     <li>{@code application/x-protobuf} (schema published at {@code GET /v1/swift-codes/schema.proto})</li>
+ * </ul>
+ * JSON stays the default for clients that do not ask for a specific type.
+ * <p>
+ * The CBOR and Smile writers are tuned for the country listing, where every record repeats the same property
+ * names and mostly the same values (ISO2 code, bank and town names): both formats emit back-references for
+ * names and string values already written instead of repeating them (CBOR string references, tag 256/25;
+ * Smile shared names and shared values).
+ * </p>
+ */
+@Configuration
+public class BinaryFormatsConfig implements WebMvcConfigurer {
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * @param objectMapper The application's JSON mapper; its configuration is reused for the binary formats.
+     */
+    @Autowired
+    public BinaryFormatsConfig(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    @Bean
+    public ProtobufSchemaRegistry protobufSchemaRegistry() {
+        return new ProtobufSchemaRegistry();
+    }
+
+    /**
+     * Replaces Spring's default CBOR and Smile converters with tuned ones and adds the Protobuf converter.
+     * They are appended after the JSON converter, so JSON keeps precedence for {@code Accept: *}{@code /*}.
+     */
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.removeIf(converter -> converter instanceof MappingJackson2CborHttpMessageConverter
+                || converter instanceof MappingJackson2SmileHttpMessageConverter);
+
+        CBORFactory cborFactory = CBORFactory.builder()
+                .enable(CBORGenerator.Feature.STRINGREF)
+                .build();
+        SmileFactory smileFactory = SmileFactory.builder()
+                .enable(SmileGenerator.Feature.CHECK_SHARED_NAMES)
+                .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+                .build();
+
+        converters.add(new MappingJackson2CborHttpMessageConverter(objectMapper.copyWith(cborFactory)));
+        converters.add(new MappingJackson2SmileHttpMessageConverter(objectMapper.copyWith(smileFactory)));
+        converters.add(new JacksonProtobufHttpMessageConverter(protobufSchemaRegistry()));
+    }
+}
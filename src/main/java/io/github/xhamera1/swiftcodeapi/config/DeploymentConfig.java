@@ -0,0 +1,12 @@
+package io.github.xhamera1.swiftcodeapi.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Enables the {@link DeploymentProperties}.
+ */
+@Configuration
+@EnableConfigurationProperties(DeploymentProperties.class)
+public class DeploymentConfig {
+}
@@ -0,0 +1,19 @@
+package io.github.xhamera1.swiftcodeapi.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration of how the application is deployed ({@code swift-api.deployment.*}).
+ */
+@Data
+@ConfigurationProperties(prefix = "swift-api.deployment")
+public class DeploymentProperties {
+
+    /**
+     * Set when several instances share the database. The in-memory indexes of an instance only see the writes made
+     * through it, so single-code lookups, country listings, the duplicate check and deletes then read the database
+     * instead, and state cached per instance (such as the active dataset version) is read from the database as well.
+     */
+    private boolean multiInstance = false;
+}
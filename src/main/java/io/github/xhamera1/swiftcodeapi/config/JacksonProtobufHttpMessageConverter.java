@@ -0,0 +1,60 @@
+package io.github.xhamera1.swiftcodeapi.config;
+
+import com.fasterxml.jackson.core.JacksonException;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+
+import java.io.IOException;
+
+/**
+ * Reads and writes the API DTOs as Protobuf messages ({@code application/x-protobuf}).
+ * <p>
+ * Unlike Spring's {@code ProtobufHttpMessageConverter}, no generated message classes are needed:
+ * the DTOs are (de)serialized by Jackson against the schemas held in {@link ProtobufSchemaRegistry}.
+ * Types without a schema (e.g. top-level lists) are not handled, so requesting them as Protobuf results in
+ * {@code 406 Not Acceptable}.
+ * </p>
+ */
+public class JacksonProtobufHttpMessageConverter extends AbstractHttpMessageConverter<Object> {
+
+    public static final MediaType APPLICATION_PROTOBUF = new MediaType("application", "x-protobuf");
+
+    private final ProtobufSchemaRegistry schemas;
+
+    public JacksonProtobufHttpMessageConverter(ProtobufSchemaRegistry schemas) {
+        super(APPLICATION_PROTOBUF);
+        this.schemas = schemas;
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return schemas.supports(clazz);
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) throws IOException {
+        try {
+            return schemas.mapper()
+                    .readerFor(clazz)
+                    .with(schemas.schemaFor(clazz))
+                    .readValue(inputMessage.getBody());
+        } catch (JacksonException e) {
+            throw new HttpMessageNotReadableException("Invalid Protobuf message: " + e.getOriginalMessage(), e, inputMessage);
+        }
+    }
+
+    @Override
+    protected void writeInternal(Object body, HttpOutputMessage outputMessage) throws IOException {
+        try {
+            schemas.mapper()
+                    .writer(schemas.schemaFor(body.getClass()))
+                    .writeValue(outputMessage.getBody(), body);
+        } catch (JacksonException e) {
+            throw new HttpMessageNotWritableException("Could not write Protobuf message: " + e.getOriginalMessage(), e);
+        }
+    }
+}
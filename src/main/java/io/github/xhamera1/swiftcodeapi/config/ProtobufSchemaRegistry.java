@@ -0,0 +1,164 @@
+package io.github.xhamera1.swiftcodeapi.config;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.StreamReadFeature;
+import com.fasterxml.jackson.core.StreamWriteFeature;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import com.fasterxml.jackson.dataformat.protobuf.ProtobufMapper;
+import com.fasterxml.jackson.dataformat.protobuf.schema.ProtobufSchema;
+import io.github.xhamera1.swiftcodeapi.dto.BulkDeleteRequest;
+import io.github.xhamera1.swiftcodeapi.dto.BulkDeleteResponse;
+import io.github.xhamera1.swiftcodeapi.dto.CountrySwiftCodesResponse;
+import io.github.xhamera1.swiftcodeapi.dto.MessageResponse;
+import io.github.xhamera1.swiftcodeapi.dto.SwiftCodePrefixResponse;
+import io.github.xhamera1.swiftcodeapi.dto.SwiftCodeRequest;
+import io.github.xhamera1.swiftcodeapi.dto.SwiftCodeResponse;
+import io.github.xhamera1.swiftcodeapi.exceptions.ErrorResponse;
+
+import java.lang.reflect.Field;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Protobuf schemas of the API payloads, generated once from the DTO classes with Jackson's protobuf module.
+ * <p>
+ * Field numbers are part of the wire format, so they are pinned on the DTO fields with
+ * {@code @JsonProperty(index = n)} rather than derived from the property order: adding, removing or reordering
+ * a field never renumbers the others. A payload property without an explicit number, or a number used twice,
+ * fails the construction of the registry. The combined schema is published as a {@code .proto} file for clients
+ * (see {@link io.github.xhamera1.swiftcodeapi.controller.SchemaController}); a test compares it with the
+ * checked-in copy, so a changed field number does not go unnoticed.
+ * </p>
+ */
+public class ProtobufSchemaRegistry {
+
+    /** Payload types that can be exchanged as Protobuf messages. Top-level lists have no Protobuf representation. */
+    static final List<Class<?>> SUPPORTED_TYPES = List.of(
+            SwiftCodeResponse.class,
+            CountrySwiftCodesResponse.class,
+            SwiftCodePrefixResponse.class,
+            SwiftCodeRequest.class,
+            MessageResponse.class,
+            BulkDeleteRequest.class,
+            BulkDeleteResponse.class,
+            ErrorResponse.class
+    );
+
+    private static final String PROTO_PACKAGE = "swiftcodeapi.v1";
+
+    /** A top-level message declaration in the generated schema source (generated messages are never nested). */
+    private static final Pattern MESSAGE_DECLARATION = Pattern.compile("^message (\\w+) \\{.*?^}", Pattern.MULTILINE | Pattern.DOTALL);
+
+    private final ProtobufMapper mapper = ProtobufMapper.builder()
+            .disable(StreamWriteFeature.AUTO_CLOSE_TARGET)
+            .disable(StreamReadFeature.AUTO_CLOSE_SOURCE)
+            .build();
+    private final Map<Class<?>, ProtobufSchema> schemas;
+    private final String publishedSchema;
+
+    public ProtobufSchemaRegistry() {
+        this(SUPPORTED_TYPES);
+    }
+
+    ProtobufSchemaRegistry(List<Class<?>> types) {
+        Map<Class<?>, ProtobufSchema> generated = new LinkedHashMap<>();
+        for (Class<?> type : types) {
+            requireExplicitFieldNumbers(type);
+            try {
+                generated.put(type, mapper.generateSchemaFor(type));
+            } catch (JsonMappingException e) {
+                throw new IllegalStateException("Cannot generate Protobuf schema for " + type.getName(), e);
+            }
+        }
+        this.schemas = Collections.unmodifiableMap(generated);
+        this.publishedSchema = render(generated.values());
+    }
+
+    /**
+     * @return the mapper used to read and write Protobuf payloads
+     */
+    public ProtobufMapper mapper() {
+        return mapper;
+    }
+
+    /**
+     * @return {@code true} if the given type has a Protobuf schema
+     */
+    public boolean supports(Class<?> type) {
+        return schemas.containsKey(type);
+    }
+
+    /**
+     * @param type one of the supported payload types
+     * @return the schema of the type's message
+     * @throws IllegalArgumentException if the type is not supported
+     */
+    public ProtobufSchema schemaFor(Class<?> type) {
+        ProtobufSchema schema = schemas.get(type);
+        if (schema == null) {
+            throw new IllegalArgumentException("No Protobuf schema for " + type.getName());
+        }
+        return schema;
+    }
+
+    /**
+     * @return a single {@code .proto} file declaring every message of the supported payloads
+     */
+    public String publishedSchema() {
+        return publishedSchema;
+    }
+
+    /**
+     * Checks that every property of the payload type declares its field number with {@code @JsonProperty(index = n)}
+     * and that no number is used twice. Jackson keeps only one of several properties sharing an index, so duplicates
+     * are looked for on the declared fields rather than on the introspected properties.
+     */
+    private void requireExplicitFieldNumbers(Class<?> type) {
+        BeanDescription description = mapper.getSerializationConfig().introspect(mapper.constructType(type));
+        for (BeanPropertyDefinition property : description.findProperties()) {
+            if (!property.getMetadata().hasIndex()) {
+                throw new IllegalStateException("Property '" + property.getName() + "' of " + type.getName()
+                        + " has no Protobuf field number; declare it with @JsonProperty(index = n).");
+            }
+        }
+        Map<Integer, String> fieldsByNumber = new HashMap<>();
+        for (Class<?> declaring = type; declaring != null && declaring != Object.class; declaring = declaring.getSuperclass()) {
+            for (Field field : declaring.getDeclaredFields()) {
+                JsonProperty annotation = field.getAnnotation(JsonProperty.class);
+                if (annotation == null || annotation.index() == JsonProperty.INDEX_UNKNOWN) {
+                    continue;
+                }
+                String previous = fieldsByNumber.put(annotation.index(), field.getName());
+                if (previous != null) {
+                    throw new IllegalStateException("Fields '" + previous + "' and '" + field.getName() + "' of "
+                            + type.getName() + " share the Protobuf field number " + annotation.index() + ".");
+                }
+            }
+        }
+    }
+
+    private static String render(Iterable<ProtobufSchema> schemas) {
+        Map<String, String> messages = new LinkedHashMap<>();
+        for (ProtobufSchema schema : schemas) {
+            Matcher declaration = MESSAGE_DECLARATION.matcher(schema.getSource().toString());
+            while (declaration.find()) {
+                messages.putIfAbsent(declaration.group(1), declaration.group());
+            }
+        }
+
+        StringBuilder proto = new StringBuilder()
+                .append("syntax = \"proto2\";\n\n")
+                .append("package ").append(PROTO_PACKAGE).append(";\n");
+        for (String message : messages.values()) {
+            proto.append('\n').append(message).append('\n');
+        }
+        return proto.toString();
+    }
+}
@@ -0,0 +1,26 @@
+package io.github.xhamera1.swiftcodeapi.config;
+
+import io.github.xhamera1.swiftcodeapi.SwiftCodeApiApplication;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Startup tuning for the {@code fast-startup} profile, which enables {@code spring.main.lazy-initialization}.
+ * <p>
+ * Lazy initialization should only defer beans a request does not need (e.g. actuator endpoints and unused
+ * auto-configuration). The application's own beans are all on the request path (controllers, the service,
+ * the in-memory indexes, the concurrency limiter) or must run without being requested (the group
+ * commit worker), so they are kept eager: otherwise the first request would pay for creating them.
+ * </p>
+ */
+@Configuration
+public class StartupConfig {
+
+    private static final String APPLICATION_PACKAGE = SwiftCodeApiApplication.class.getPackageName() + ".";
+
+    @Bean
+    public static LazyInitializationExcludeFilter applicationBeansEagerFilter() {
+        return (beanName, beanDefinition, beanType) -> beanType.getName().startsWith(APPLICATION_PACKAGE);
+    }
+}
@@ -0,0 +1,82 @@
+package io.github.xhamera1.swiftcodeapi.controller;
+
+import io.github.xhamera1.swiftcodeapi.changefeed.ChangeFeedBroadcaster;
+import io.github.xhamera1.swiftcodeapi.changefeed.SwiftCodeChangeFeed;
+import io.github.xhamera1.swiftcodeapi.dto.ChangeFeedResponse;
+import jakarta.validation.constraints.Min;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Exposes the change log, so clients keeping a local copy of the dataset can apply only the changes since their
+ * last sync instead of downloading everything again.
+ * With sharded persistence every shard keeps its own change log, and both endpoints answer 400 Bad Request.
+ */
+@RestController
+@RequestMapping("/v1/swift-codes/changes")
+public class ChangeFeedController {
+
+    private static final Logger log = LoggerFactory.getLogger(ChangeFeedController.class);
+    private static final String LAST_EVENT_ID = "Last-Event-ID";
+
+    private final SwiftCodeChangeFeed changeFeed;
+    private final ChangeFeedBroadcaster broadcaster;
+
+    /**
+     * @param changeFeed The service reading the change log.
+     * @param broadcaster The service streaming new changes to subscribers.
+     */
+    @Autowired
+    public ChangeFeedController(SwiftCodeChangeFeed changeFeed, ChangeFeedBroadcaster broadcaster) {
+        this.changeFeed = changeFeed;
+        this.broadcaster = broadcaster;
+    }
+
+    /**
+     * Handles GET requests for the changes after a sequence number, in log order.
+     *
+     * Path: GET /v1/swift-codes/changes?since=&limit=
+     *
+     * @param since The sequence number of the last change already applied (defaults to 0: all changes).
+     *              400 Bad Request for a negative value is handled by the GlobalExceptionHandler.
+     * @param limit The maximum number of changes to return (defaults to 100, capped at 1000).
+     * @return A {@link ResponseEntity} containing the {@link ChangeFeedResponse} (status 200 OK).
+     */
+    @GetMapping
+    public ResponseEntity<ChangeFeedResponse> getChanges(
+            @RequestParam(name = "since", defaultValue = "0") @Min(value = 0, message = "since must not be negative") long since,
+            @RequestParam(name = "limit", defaultValue = "" + SwiftCodeChangeFeed.DEFAULT_LIMIT) int limit) {
+        log.debug("Received request for changes after sequence {} (limit {})", since, limit);
+        return ResponseEntity.ok(changeFeed.read(since, limit));
+    }
+
+    /**
+     * Handles GET requests for a live stream of changes as server-sent events.
+     * Each change is sent as a {@code change} event whose id is its sequence number.
+     *
+     * Path: GET /v1/swift-codes/changes/stream?since=
+     *
+     * @param since The sequence number of the last change already applied; without it, the stream starts with the
+     *              changes made after subscribing.
+     * @param lastEventId The {@code Last-Event-ID} header sent by reconnecting event sources; takes precedence over {@code since}.
+     * @return The event stream (status 200 OK), or 503 Service Unavailable if too many streams are open.
+     */
+    @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamChanges(
+            @RequestParam(name = "since", required = false) @Min(value = 0, message = "since must not be negative") Long since,
+            @RequestHeader(name = LAST_EVENT_ID, required = false) @Min(value = 0, message = "Last-Event-ID must not be negative") Long lastEventId) {
+        // Read even when resuming, so a change log that cannot be read (sharded persistence) fails the request up front.
+        long current = changeFeed.currentSequence();
+        long position = lastEventId != null ? lastEventId : since != null ? since : current;
+        return broadcaster.subscribe(position);
+    }
+}
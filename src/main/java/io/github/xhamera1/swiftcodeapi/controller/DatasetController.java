@@ -0,0 +1,91 @@
+package io.github.xhamera1.swiftcodeapi.controller;
+
+import io.github.xhamera1.swiftcodeapi.dataset.DatasetVersions;
+import io.github.xhamera1.swiftcodeapi.dto.DatasetVersionResponse;
+import io.github.xhamera1.swiftcodeapi.service.DataInitializer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Manages the versions of the dataset: imports a new version, which is served once it has been validated,
+ * and activates a previous version to roll back. See {@link DatasetVersions}.
+ */
+@RestController
+@RequestMapping("/v1/swift-codes/datasets")
+public class DatasetController {
+
+    private static final Logger log = LoggerFactory.getLogger(DatasetController.class);
+
+    private final DatasetVersions datasetVersions;
+    private final DataInitializer dataInitializer;
+
+    /**
+     * @param datasetVersions The service managing the dataset versions.
+     * @param dataInitializer The CSV importer.
+     */
+    @Autowired
+    public DatasetController(DatasetVersions datasetVersions, DataInitializer dataInitializer) {
+        this.datasetVersions = datasetVersions;
+        this.dataInitializer = dataInitializer;
+    }
+
+    /**
+     * Handles GET requests for all retained versions of the dataset.
+     *
+     * Path: GET /v1/swift-codes/datasets
+     *
+     * @return A {@link ResponseEntity} with the versions, newest first, the served one flagged as active (status 200 OK).
+     */
+    @GetMapping
+    public ResponseEntity<List<DatasetVersionResponse>> getVersions() {
+        return ResponseEntity.ok(datasetVersions.listVersions());
+    }
+
+    /**
+     * Handles POST requests importing a complete dataset as a new version. The version is activated as soon as it
+     * has been stored and validated; until then, and if it is rejected, the current version keeps being served.
+     *
+     * Path: POST /v1/swift-codes/datasets (body: CSV in the layout of the import file or of the CSV export)
+     *
+     * @param body The CSV content (UTF-8), read while it is being imported.
+     * @return A {@link ResponseEntity} with the activated version (status 201 Created).
+     *         422 Unprocessable Entity for a rejected dataset and 409 Conflict while another import or activation
+     *         is running are handled by the GlobalExceptionHandler.
+     */
+    @PostMapping(consumes = "text/csv")
+    public ResponseEntity<DatasetVersionResponse> importVersion(InputStream body) {
+        log.info("Received request to import a new dataset version");
+        Reader reader = new InputStreamReader(body, StandardCharsets.UTF_8);
+        return ResponseEntity.status(HttpStatus.CREATED).body(dataInitializer.importDataset(reader));
+    }
+
+    /**
+     * Handles POST requests activating a retained version, e.g. to roll back a bad import.
+     *
+     * Path: POST /v1/swift-codes/datasets/{version}/activate
+     *
+     * @param version The number of the version to serve.
+     * @return A {@link ResponseEntity} with the activated version (status 200 OK).
+     *         404 Not Found for an unknown version and 409 Conflict for a version still loading are handled by the
+     *         GlobalExceptionHandler.
+     */
+    @PostMapping("/{version}/activate")
+    public ResponseEntity<DatasetVersionResponse> activate(@PathVariable("version") long version) {
+        log.info("Received request to activate dataset version {}", version);
+        return ResponseEntity.ok(datasetVersions.activate(version));
+    }
+}
@@ -0,0 +1,102 @@
+package io.github.xhamera1.swiftcodeapi.controller;
+
+import io.github.xhamera1.swiftcodeapi.changefeed.SwiftCodeChangeFeed;
+import io.github.xhamera1.swiftcodeapi.service.SwiftCodeExporter;
+import io.github.xhamera1.swiftcodeapi.service.SwiftCodeExporter.Format;
+import io.github.xhamera1.swiftcodeapi.sharding.SwiftCodeShards;
+import jakarta.validation.constraints.Pattern;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.Locale;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Streams the complete dataset for downstream systems, so they do not need to collect it country by country.
+ */
+@RestController
+public class ExportController {
+
+    private static final Logger log = LoggerFactory.getLogger(ExportController.class);
+    private static final String GZIP = "gzip";
+    private static final int GZIP_BUFFER_SIZE = 64 * 1024;
+
+    private final SwiftCodeExporter swiftCodeExporter;
+    private final SwiftCodeChangeFeed changeFeed;
+    private final SwiftCodeShards shards;
+
+    /**
+     * @param swiftCodeExporter The service writing the dataset in the requested format.
+     * @param changeFeed The change log, whose current sequence number is reported with the export.
+     * @param shards The shard map; with sharded persistence there is no single change log position to report.
+     */
+    @Autowired
+    public ExportController(SwiftCodeExporter swiftCodeExporter, SwiftCodeChangeFeed changeFeed, SwiftCodeShards shards) {
+        this.swiftCodeExporter = swiftCodeExporter;
+        this.changeFeed = changeFeed;
+        this.shards = shards;
+    }
+
+    /**
+     * Handles GET requests for a full export of all SWIFT codes, ordered by code.
+     * The body is written from a database cursor while it is being sent (asynchronously, outside the request thread),
+     * so the export runs at constant memory whatever the size of the table. If the client accepts {@code gzip},
+     * the body is compressed on the fly.
+     * The {@code X-Change-Sequence} header carries the change feed position the export is at least as recent as:
+     * a client mirroring the dataset continues with {@code GET /v1/swift-codes/changes?since=} that value
+     * (changes already contained in the export are replayed harmlessly). With sharded persistence the header is
+     * omitted and the export is merged in code order from all shards, read in parallel.
+     *
+     * Path: GET /v1/swift-codes/export?format=csv|ndjson
+     *
+     * @param format The output format: {@code csv} (default; the layout of the import file) or {@code ndjson}
+     *               (one JSON object per line). 400 Bad Request for any other value is handled by the GlobalExceptionHandler.
+     * @param acceptEncoding The {@code Accept-Encoding} request header, if any.
+     * @return A {@link ResponseEntity} streaming the export as an attachment (status 200 OK).
+     */
+    @GetMapping("/v1/swift-codes/export")
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam(name = "format", defaultValue = "csv")
+            @Pattern(regexp = "^(?i)(csv|ndjson)$", message = "Export format must be 'csv' or 'ndjson'")
+            String format,
+            @RequestHeader(name = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        Format exportFormat = Format.valueOf(format.toUpperCase(Locale.ROOT));
+        boolean gzip = acceptEncoding != null && acceptEncoding.toLowerCase(Locale.ROOT).contains(GZIP);
+        log.info("Received request to export all SWIFT codes as {}{}", exportFormat, gzip ? " (gzip)" : "");
+        // Read before the export starts, so every change up to it is contained in the exported data.
+        Long changeSequence = shards.isSharded() ? null : changeFeed.currentSequence();
+
+        StreamingResponseBody body = outputStream -> {
+            if (gzip) {
+                GZIPOutputStream gzipStream = new GZIPOutputStream(outputStream, GZIP_BUFFER_SIZE);
+                swiftCodeExporter.export(exportFormat, gzipStream);
+                gzipStream.finish();
+            } else {
+                swiftCodeExporter.export(exportFormat, outputStream);
+            }
+        };
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getMediaType() + ";charset=UTF-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("swift-codes." + exportFormat.getFileExtension()).build().toString())
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (changeSequence != null) {
+            response.header(SwiftCodeChangeFeed.CHANGE_SEQUENCE_HEADER, Long.toString(changeSequence));
+        }
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, GZIP);
+        }
+        return response.body(body);
+    }
+}
@@ -0,0 +1,37 @@
+package io.github.xhamera1.swiftcodeapi.controller;
+
+import io.github.xhamera1.swiftcodeapi.config.ProtobufSchemaRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Publishes the schema of the binary API representations.
+ */
+@RestController
+public class SchemaController {
+
+    private final ProtobufSchemaRegistry protobufSchemaRegistry;
+
+    /**
+     * @param protobufSchemaRegistry The registry holding the Protobuf schemas generated from the DTOs.
+     */
+    @Autowired
+    public SchemaController(ProtobufSchemaRegistry protobufSchemaRegistry) {
+        this.protobufSchemaRegistry = protobufSchemaRegistry;
+    }
+
+    /**
+     * Handles GET requests for the Protobuf schema used by {@code application/x-protobuf} responses.
+     *
+     * Path: GET /v1/swift-codes/schema.proto
+     *
+     * @return A {@link ResponseEntity} containing the {@code .proto} file as plain text (status 200 OK).
+     */
+    @GetMapping(value = "/v1/swift-codes/schema.proto", produces = MediaType.TEXT_PLAIN_VALUE)
+    public ResponseEntity<String> getProtobufSchema() {
+        return ResponseEntity.ok(protobufSchemaRegistry.publishedSchema());
+    }
+}
@@ -1,22 +1,36 @@
 package io.github.xhamera1.swiftcodeapi.controller;
 
+import io.github.xhamera1.swiftcodeapi.dto.BulkDeleteRequest;
+import io.github.xhamera1.swiftcodeapi.dto.BulkDeleteResponse;
+import io.github.xhamera1.swiftcodeapi.dto.CountrySummaryResponse;
 import io.github.xhamera1.swiftcodeapi.dto.CountrySwiftCodesResponse;
 import io.github.xhamera1.swiftcodeapi.dto.MessageResponse;
+import io.github.xhamera1.swiftcodeapi.dto.SwiftCodePrefixResponse;
 import io.github.xhamera1.swiftcodeapi.dto.SwiftCodeRequest;
 import io.github.xhamera1.swiftcodeapi.dto.SwiftCodeResponse;
+import io.github.xhamera1.swiftcodeapi.dto.validation.ValidSwiftCode;
+import io.github.xhamera1.swiftcodeapi.exceptions.ErrorResponse;
+import io.github.xhamera1.swiftcodeapi.model.SwiftCode;
+import io.github.xhamera1.swiftcodeapi.service.GroupCommitWriteQueue;
 import io.github.xhamera1.swiftcodeapi.service.SwiftCodeApiService;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Pattern;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+import java.util.Optional;
+
 /**
  * REST controller handling HTTP requests related to SWIFT/BIC codes.
  * Exposes endpoints for retrieving, adding, and deleting SWIFT code information.
- * Delegates all business logic to the {@link SwiftCodeApiService}.
+ * Delegates all business logic to the {@link SwiftCodeApiService}; when group commit is enabled,
+ * adds and deletes go through the {@link GroupCommitWriteQueue} instead, which batches concurrent writes into one transaction.
  * Exceptions are handled globally by {@link io.github.xhamera1.swiftcodeapi.exceptions.GlobalExceptionHandler}.
  */
 @RestController()
@@ -24,15 +38,23 @@ import org.springframework.web.bind.annotation.*;
 public class SwiftCodeController {
 
     public static final Logger log = LoggerFactory.getLogger(SwiftCodeController.class);
+    /** Response header echoing the requested code on a 404 of {@code GET /v1/swift-codes/{swift-code}}. */
+    public static final String SWIFT_CODE_HEADER = "X-Swift-Code";
+    /** Body of every 404 of {@code GET /v1/swift-codes/{swift-code}}; the code itself is in {@link #SWIFT_CODE_HEADER}. */
+    private static final ErrorResponse SWIFT_CODE_NOT_FOUND = new ErrorResponse("SWIFT code not found.");
     public final SwiftCodeApiService swiftCodeApiService;
+    private final GroupCommitWriteQueue groupCommitWriteQueue;
 
     /**
      * Constructs the controller and injects the required service dependency.
      * @param swiftCodeApiService The service responsible for SWIFT code business logic.
+     * @param groupCommitWriteQueue The group commit queue, present only if {@code swift-api.group-commit.enabled=true}.
      */
     @Autowired
-    public SwiftCodeController(SwiftCodeApiService swiftCodeApiService) {
+    public SwiftCodeController(SwiftCodeApiService swiftCodeApiService,
+                               ObjectProvider<GroupCommitWriteQueue> groupCommitWriteQueue) {
         this.swiftCodeApiService = swiftCodeApiService;
+        this.groupCommitWriteQueue = groupCommitWriteQueue.getIfAvailable();
     }
 
     /**
@@ -43,15 +65,35 @@ public class SwiftCodeController {
      *
      * @param swiftCode The 8 or 11-character SWIFT/BIC code requested in the path.
      * @return A {@link ResponseEntity} containing the {@link SwiftCodeResponse} with code details
-     * (status 200 OK) if found. Potential error responses (e.g., 404 Not Found if the code
-     * doesn't exist) are handled by the GlobalExceptionHandler.
+     * (status 200 OK) if found, or the 404 built by {@link #swiftCodeNotFound(String)} if the code doesn't exist.
+     * Unknown codes are common, so the 404 is returned directly rather than through an exception
+     * and the GlobalExceptionHandler.
      */
     @GetMapping("{swift-code}")
-    public ResponseEntity<SwiftCodeResponse> getDetailsFromSwiftCode(@PathVariable(name = "swift-code") String swiftCode) {
+    public ResponseEntity<?> getDetailsFromSwiftCode(@PathVariable(name = "swift-code") String swiftCode) {
         log.info("Received request to get details for SWIFT code: {}", swiftCode);
-        SwiftCodeResponse swiftCodeResponse = swiftCodeApiService.getSwiftCodeDetails(swiftCode);
+        Optional<SwiftCodeResponse> swiftCodeResponse = swiftCodeApiService.findSwiftCodeDetails(swiftCode);
+        if (swiftCodeResponse.isEmpty()) {
+            return swiftCodeNotFound(swiftCode);
+        }
         log.info("Returning details for SWIFT code: {}", swiftCode);
-        return ResponseEntity.ok(swiftCodeResponse);
+        return ResponseEntity.ok(swiftCodeResponse.get());
+    }
+
+    /**
+     * Builds the 404 of a lookup of an unknown code. The body is the same for every code and built once, so a miss
+     * formats no message; a well-formed code is echoed in the {@value #SWIFT_CODE_HEADER} header instead. Malformed
+     * input is not echoed, as it may hold characters that have no place in a header.
+     *
+     * @param swiftCode The code requested in the path.
+     * @return A {@link ResponseEntity} with status 404 Not Found and an {@link ErrorResponse}.
+     */
+    public static ResponseEntity<ErrorResponse> swiftCodeNotFound(String swiftCode) {
+        ResponseEntity.BodyBuilder notFound = ResponseEntity.status(HttpStatus.NOT_FOUND);
+        if (SwiftCode.packBic(swiftCode, false) != SwiftCode.INVALID) {
+            notFound.header(SWIFT_CODE_HEADER, swiftCode);
+        }
+        return notFound.body(SWIFT_CODE_NOT_FOUND);
     }
 
     /**
@@ -73,6 +115,43 @@ public class SwiftCodeController {
         return ResponseEntity.ok(countrySwiftCodesResponse);
     }
 
+    /**
+     * Handles GET requests to list all countries together with their SWIFT code counts.
+     * The figures come from precomputed, incrementally maintained aggregates.
+     *
+     * Path: GET /v1/swift-codes/countries
+     *
+     * @return A {@link ResponseEntity} containing a list of {@link CountrySummaryResponse}
+     * ordered by country ISO2 code (status 200 OK). Returns an empty list if there is no data.
+     */
+    @GetMapping("/countries")
+    public ResponseEntity<List<CountrySummaryResponse>> getCountrySummaries() {
+        log.info("Received request to get country summaries");
+        List<CountrySummaryResponse> summaries = swiftCodeApiService.getCountrySummaries();
+        log.info("Returning summaries for {} countries", summaries.size());
+        return ResponseEntity.ok(summaries);
+    }
+
+    /**
+     * Handles GET requests for SWIFT code autocomplete.
+     * Returns codes starting with the given prefix in ascending order, served from an in-memory sorted index.
+     *
+     * Path: GET /v1/swift-codes/prefix/{prefix}?limit=
+     *
+     * @param prefix The beginning of a SWIFT code (case-insensitive), typically 4-6 characters.
+     * @param limit The maximum number of codes to return (defaults to 10, capped at 100).
+     * @return A {@link ResponseEntity} containing the {@link SwiftCodePrefixResponse} with matching codes
+     * (status 200 OK). Returns an empty list if no codes match.
+     */
+    @GetMapping("/prefix/{prefix}")
+    public ResponseEntity<SwiftCodePrefixResponse> getCodesByPrefix(@PathVariable(name = "prefix") String prefix,
+                                                                    @RequestParam(name = "limit", defaultValue = "" + SwiftCodeApiService.DEFAULT_PREFIX_LIMIT) int limit) {
+        log.info("Received request to get SWIFT codes by prefix {} (limit {})", prefix, limit);
+        SwiftCodePrefixResponse prefixResponse = swiftCodeApiService.getSwiftCodesByPrefix(prefix, limit);
+        log.info("Returning {} codes for prefix {}", prefixResponse.getSwiftCodes().size(), prefix);
+        return ResponseEntity.ok(prefixResponse);
+    }
+
     /**
      * Handles POST requests to add a new SWIFT code entry to the database.
      * Corresponds to Endpoint 3. Input data is validated based on annotations in {@link SwiftCodeRequest}.
@@ -88,7 +167,9 @@ public class SwiftCodeController {
     @PostMapping
     public ResponseEntity<MessageResponse> addSwiftCode(@Valid @RequestBody SwiftCodeRequest requestDto) {
         log.info("Received POST request to add SWIFT code: {}", requestDto.getSwiftCode());
-        MessageResponse messageResponse = swiftCodeApiService.addSwiftCode(requestDto);
+        MessageResponse messageResponse = groupCommitWriteQueue != null
+                ? groupCommitWriteQueue.addSwiftCode(requestDto)
+                : swiftCodeApiService.addSwiftCode(requestDto);
         log.info("Successfully processed POST request for SWIFT code: {}", requestDto.getSwiftCode());
         return ResponseEntity.status(HttpStatus.CREATED).body(messageResponse);
     }
@@ -107,8 +188,71 @@ public class SwiftCodeController {
     @DeleteMapping("/{swift-code}")
     public ResponseEntity<MessageResponse> deleteSwiftCode(@PathVariable(name = "swift-code") String swiftCode) {
         log.info("Received DELETE request for SWIFT code: {}", swiftCode);
-        MessageResponse messageResponse = swiftCodeApiService.deleteSwiftCode(swiftCode);
+        MessageResponse messageResponse = groupCommitWriteQueue != null
+                ? groupCommitWriteQueue.deleteSwiftCode(swiftCode)
+                : swiftCodeApiService.deleteSwiftCode(swiftCode);
         log.info("Successfully processed DELETE request for SWIFT code: {}", swiftCode);
         return ResponseEntity.ok(messageResponse);
     }
+
+    /**
+     * Handles POST requests to delete several SWIFT codes at once with a single set-based DELETE.
+     * Codes that do not exist are ignored.
+     *
+     * Path: POST /v1/swift-codes/bulk-delete
+     *
+     * @param requestDto The request body listing up to {@link BulkDeleteRequest#MAX_CODES} codes to delete.
+     * @return A {@link ResponseEntity} containing a {@link BulkDeleteResponse} with the number of deleted entries
+     * (status 200 OK). Validation errors (400 Bad Request) are handled by the GlobalExceptionHandler.
+     */
+    @PostMapping("/bulk-delete")
+    public ResponseEntity<BulkDeleteResponse> deleteSwiftCodes(@Valid @RequestBody BulkDeleteRequest requestDto) {
+        log.info("Received bulk delete request for {} SWIFT code(s)", requestDto.getSwiftCodes().size());
+        BulkDeleteResponse response = swiftCodeApiService.deleteSwiftCodes(requestDto.getSwiftCodes());
+        log.info("Bulk deleted {} SWIFT code(s)", response.getDeletedCount());
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Handles DELETE requests to remove an institution: its headquarter and all branches
+     * sharing the 8-character institution code.
+     *
+     * Path: DELETE /v1/swift-codes/institution/{institutionCode}
+     *
+     * @param institutionCode The first 8 characters of the institution's SWIFT codes.
+     * @return A {@link ResponseEntity} containing a {@link BulkDeleteResponse} with the number of deleted entries
+     * (status 200 OK). 404 Not Found if the institution has no codes and 400 Bad Request for a malformed code
+     * are handled by the GlobalExceptionHandler.
+     */
+    @DeleteMapping("/institution/{institutionCode}")
+    public ResponseEntity<BulkDeleteResponse> deleteInstitution(
+            @PathVariable(name = "institutionCode")
+            @ValidSwiftCode(ignoreCase = true, institutionCode = true, message = "Institution code must be the first 8 characters of a SWIFT code")
+            String institutionCode) {
+        log.info("Received DELETE request for institution: {}", institutionCode);
+        BulkDeleteResponse response = swiftCodeApiService.deleteInstitution(institutionCode);
+        log.info("Deleted {} SWIFT code(s) of institution {}", response.getDeletedCount(), institutionCode);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Handles DELETE requests to remove all SWIFT codes of a country.
+     *
+     * Path: DELETE /v1/swift-codes/country/{countryISO2code}
+     *
+     * @param countryISO2code The 2-letter ISO country code.
+     * @return A {@link ResponseEntity} containing a {@link BulkDeleteResponse} with the number of deleted entries
+     * (status 200 OK). 404 Not Found if the country has no codes and 400 Bad Request for a malformed code
+     * are handled by the GlobalExceptionHandler.
+     */
+    @DeleteMapping("/country/{countryISO2code}")
+    public ResponseEntity<BulkDeleteResponse> deleteCountry(
+            @PathVariable(name = "countryISO2code")
+            @Pattern(regexp = "^[A-Za-z]{2}$", message = "Country ISO2 code must be exactly 2 letters")
+            String countryISO2code) {
+        log.info("Received DELETE request for all SWIFT codes of country: {}", countryISO2code);
+        BulkDeleteResponse response = swiftCodeApiService.deleteCountry(countryISO2code);
+        log.info("Deleted {} SWIFT code(s) of country {}", response.getDeletedCount(), countryISO2code);
+        return ResponseEntity.ok(response);
+    }
 }
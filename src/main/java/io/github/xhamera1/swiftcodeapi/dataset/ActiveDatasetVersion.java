@@ -0,0 +1,88 @@
+package io.github.xhamera1.swiftcodeapi.dataset;
+
+import io.github.xhamera1.swiftcodeapi.model.SwiftCodeInfo;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+/**
+ * The number of the dataset version currently served, read once from the {@code active_dataset} pointer and then
+ * kept in memory. {@link DatasetVersions} updates it whenever it moves the pointer.
+ * <p>
+ * Hibernate binds it to the {@link SwiftCodeInfo#ACTIVE_VERSION_FILTER} of every session ({@link FilterParameter}), so entity queries compare
+ * {@code dataset_version} with a parameter instead of reading the pointer in every statement.
+ * </p>
+ * <p>
+ * The copy in memory only follows the switches of this instance. With {@code swift-api.deployment.multi-instance},
+ * another instance may move the pointer, so nothing is cached and the pointer is read again for every session,
+ * a primary key lookup of the single-row table.
+ * </p>
+ */
+@Component
+public class ActiveDatasetVersion {
+
+    private static final String SELECT_ACTIVE_VERSION = "SELECT version FROM active_dataset WHERE id = 1";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean multiInstance;
+    private volatile Long version;
+
+    /**
+     * Supplies the active version as the parameter of the filter. Hibernate creates it through the Spring bean
+     * container, which injects the {@link ActiveDatasetVersion} bean.
+     */
+    public static class FilterParameter implements Supplier<Long> {
+
+        private final ActiveDatasetVersion activeVersion;
+
+        public FilterParameter(ActiveDatasetVersion activeVersion) {
+            this.activeVersion = activeVersion;
+        }
+
+        @Override
+        public Long get() {
+            return activeVersion.get();
+        }
+    }
+
+    /**
+     * @param jdbcTemplate Reads the pointer on first use; Hibernate needs this bean before the repositories exist.
+     * @param multiInstance Whether other instances share the database and may move the pointer; then it is read on every call.
+     */
+    @Autowired
+    public ActiveDatasetVersion(JdbcTemplate jdbcTemplate,
+                                @Value("${swift-api.deployment.multi-instance:false}") boolean multiInstance) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.multiInstance = multiInstance;
+    }
+
+    /**
+     * @return the number of the version currently served
+     */
+    public long get() {
+        if (multiInstance) {
+            return jdbcTemplate.queryForObject(SELECT_ACTIVE_VERSION, Long.class);
+        }
+        Long current = version;
+        if (current == null) {
+            synchronized (this) {
+                current = version;
+                if (current == null) {
+                    current = jdbcTemplate.queryForObject(SELECT_ACTIVE_VERSION, Long.class);
+                    version = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Serves another version from now on. Must be called right after the pointer update has committed.
+     */
+    void set(long version) {
+        this.version = version;
+    }
+}
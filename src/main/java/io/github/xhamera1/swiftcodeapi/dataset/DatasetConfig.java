@@ -0,0 +1,12 @@
+package io.github.xhamera1.swiftcodeapi.dataset;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Enables the {@link DatasetProperties} of the dataset versions.
+ */
+@Configuration
+@EnableConfigurationProperties(DatasetProperties.class)
+public class DatasetConfig {
+}
@@ -0,0 +1,26 @@
+package io.github.xhamera1.swiftcodeapi.dataset;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration of the dataset versions ({@code swift-api.dataset.*}).
+ */
+@Data
+@ConfigurationProperties(prefix = "swift-api.dataset")
+public class DatasetProperties {
+
+    /** Number of inactive versions kept for rollback; older versions are deleted after a switch. */
+    private int retainedVersions = 2;
+
+    /**
+     * An import with fewer entries than this fraction of the active version is rejected as probably truncated
+     * (0 disables the check).
+     */
+    private double minSizeRatio = 0.5;
+
+    /** Value of the {@code Retry-After} header sent with writes rejected while versions are switched. */
+    private Duration retryAfter = Duration.ofSeconds(1);
+}
@@ -0,0 +1,530 @@
+package io.github.xhamera1.swiftcodeapi.dataset;
+
+import io.github.xhamera1.swiftcodeapi.changefeed.SwiftCodeChangeFeed;
+import io.github.xhamera1.swiftcodeapi.dto.DatasetVersionResponse;
+import io.github.xhamera1.swiftcodeapi.exceptions.DatasetVersionConflictException;
+import io.github.xhamera1.swiftcodeapi.exceptions.InvalidDatasetException;
+import io.github.xhamera1.swiftcodeapi.exceptions.ResourceNotFoundException;
+import io.github.xhamera1.swiftcodeapi.exceptions.ServiceNotReadyException;
+import io.github.xhamera1.swiftcodeapi.index.SwiftCodeIndexManager;
+import io.github.xhamera1.swiftcodeapi.model.DatasetVersion;
+import io.github.xhamera1.swiftcodeapi.model.SwiftCodeInfo;
+import io.github.xhamera1.swiftcodeapi.repository.DatasetVersionRepository;
+import io.github.xhamera1.swiftcodeapi.repository.SwiftCodeChangeRepository;
+import io.github.xhamera1.swiftcodeapi.repository.SwiftCodeInfoRepository;
+import io.github.xhamera1.swiftcodeapi.sharding.ShardContext;
+import io.github.xhamera1.swiftcodeapi.sharding.SwiftCodeShards;
+import io.github.xhamera1.swiftcodeapi.snapshot.SnapshotStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Imports the dataset blue-green: a new import is written as a new version next to the one being served, validated,
+ * and only then activated by pointing the {@code active_dataset} pointer at it, in a single short transaction.
+ * <p>
+ * Readers never wait: queries follow the pointer (see {@link SwiftCodeInfo} and {@link ActiveDatasetVersion}), so
+ * until the switch commits they see the old version and afterwards the new one, and the in-memory indexes are
+ * swapped right after the commit, like on any rebuild. A rejected import is discarded without the served data ever changing. The switch records the
+ * difference between the versions in the change feed, so mirrors follow with tombstones and upserts rather than a
+ * full reload. The {@code swift-api.dataset.retained-versions} previous versions are kept and can be reactivated
+ * to roll back a bad import.
+ * </p>
+ * <p>
+ * Individual writes of the API take part via {@link #beginWrite()}: while the pointer moves they are rejected with
+ * 503 and a {@code Retry-After}, so no write can end up in a version that is no longer served. Writes made while an
+ * import is loading go to the served version; the switch carries them over into the new version by replacing the
+ * entries of every code recorded in the change log after the position the log had when the import started with their
+ * served state, so they are not lost. The position is read while writes are held off for a moment, so every later
+ * change belongs to a write the carry-over has to cover. Activating a retained version is a rollback and carries
+ * nothing over.
+ * </p>
+ * <p>
+ * With sharded persistence ({@link SwiftCodeShards}), every batch is split by shard and written to the shards in
+ * parallel, and every shard has its own pointer; the catalog of versions is kept in the default shard. A switch first
+ * moves the other shards, each in a transaction of its own, and then the default shard, whose pointer is the one
+ * readers follow: its commit switches all shards at once. If a shard fails, the shards already moved are moved back.
+ * </p>
+ */
+@Service
+public class DatasetVersions {
+
+    private static final Logger log = LoggerFactory.getLogger(DatasetVersions.class);
+    private static final String INSERT_ENTRY = "INSERT INTO swift_codes (dataset_version, swift_code, bank_name, address, "
+            + "town_name, country_iso2, country_name, is_headquarter) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final DatasetVersionRepository versionRepository;
+    private final SwiftCodeInfoRepository swiftCodeRepository;
+    private final SwiftCodeChangeRepository changeRepository;
+    private final SwiftCodeChangeFeed changeFeed;
+    private final SwiftCodeIndexManager indexManager;
+    private final SnapshotStore snapshotStore;
+    private final DatasetProperties properties;
+    private final SwiftCodeShards shards;
+    private final ActiveDatasetVersion activeVersion;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    /** Serializes imports and activations. */
+    private final ReentrantLock importLock = new ReentrantLock();
+    /** Held shared by write transactions and exclusively while the active version changes. */
+    private final ReentrantReadWriteLock versionLock = new ReentrantReadWriteLock();
+    private final Object transactionKey = new Object();
+    /** Set while a shard points at another version than the default shard, after moving it back failed. */
+    private volatile boolean shardsDiverged;
+
+    /**
+     * Reads the entries of a dataset, handing them over in batches.
+     */
+    @FunctionalInterface
+    public interface DatasetLoader {
+
+        /**
+         * @param batchWriter Stores a batch of entries in the new version; the list may be reused after the call.
+         * @return the number of entries handed over
+         * @throws IOException if the dataset cannot be read
+         */
+        long load(Consumer<List<SwiftCodeInfo>> batchWriter) throws IOException;
+    }
+
+    /**
+     * @param versionRepository The repository of the versions and the active version pointer.
+     * @param swiftCodeRepository The repository of the entries, used for validation and reloading the active version.
+     * @param changeRepository The change log, whose position at the start of an import bounds the writes carried over.
+     * @param changeFeed The change log recording the difference of a switch.
+     * @param indexManager The in-memory indexes, rebuilt after a switch.
+     * @param snapshotStore The snapshot of the served data, refreshed after a switch.
+     * @param properties The retention, validation and retry settings.
+     * @param shards The shard map the batches of an import are distributed by.
+     * @param activeVersion The in-memory copy of the pointer, updated after every switch.
+     * @param jdbcTemplate Inserts the entries of a new version in JDBC batches.
+     * @param transactionManager The transaction manager for the transactions of an import.
+     */
+    @Autowired
+    public DatasetVersions(DatasetVersionRepository versionRepository, SwiftCodeInfoRepository swiftCodeRepository,
+                           SwiftCodeChangeRepository changeRepository, SwiftCodeChangeFeed changeFeed, SwiftCodeIndexManager indexManager,
+                           SnapshotStore snapshotStore, DatasetProperties properties, SwiftCodeShards shards,
+                           ActiveDatasetVersion activeVersion, JdbcTemplate jdbcTemplate,
+                           PlatformTransactionManager transactionManager) {
+        this.versionRepository = versionRepository;
+        this.swiftCodeRepository = swiftCodeRepository;
+        this.changeRepository = changeRepository;
+        this.changeFeed = changeFeed;
+        this.indexManager = indexManager;
+        this.snapshotStore = snapshotStore;
+        this.properties = properties;
+        this.shards = shards;
+        this.activeVersion = activeVersion;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Imports a dataset as a new version and activates it if it passes validation. Each batch is inserted in its
+     * own transaction, so a large import holds no long transaction and no lock readers would wait for.
+     *
+     * @param loader Reads the dataset.
+     * @return the activated version
+     * @throws InvalidDatasetException if the dataset cannot be read or fails validation; it is then discarded.
+     * @throws DatasetVersionConflictException if another import or activation is in progress.
+     */
+    public DatasetVersionResponse importVersion(DatasetLoader loader) {
+        if (!importLock.tryLock()) {
+            throw new DatasetVersionConflictException("Another dataset import or activation is in progress.");
+        }
+        try {
+            Map<String, Long> changeLogPositions = readChangeLogPositions();
+            DatasetVersion version = transactionTemplate.execute(status -> createVersion());
+            long number = version.getVersion();
+            log.info("Importing dataset version {}.", number);
+            try {
+                long imported = loader.load(batch -> insertBatch(number, batch));
+                validate(number, imported);
+                version.setStatus(DatasetVersion.Status.READY);
+                version.setEntryCount(imported);
+                transactionTemplate.executeWithoutResult(status -> versionRepository.save(version));
+            } catch (IOException e) {
+                discard(number);
+                throw new InvalidDatasetException("The dataset could not be read: " + e.getMessage());
+            } catch (RuntimeException e) {
+                discard(number);
+                throw e;
+            }
+            log.info("Imported dataset version {} with {} entries.", number, version.getEntryCount());
+            return switchTo(version, changeLogPositions);
+        } finally {
+            importLock.unlock();
+        }
+    }
+
+    /**
+     * Activates a retained version, e.g. to roll back an import.
+     *
+     * @param version The number of the version to serve.
+     * @return the activated version (unchanged if it already was active)
+     * @throws ResourceNotFoundException if the version does not exist (anymore).
+     * @throws DatasetVersionConflictException if the version is still loading or another import or activation is in progress.
+     */
+    public DatasetVersionResponse activate(long version) {
+        if (!importLock.tryLock()) {
+            throw new DatasetVersionConflictException("Another dataset import or activation is in progress.");
+        }
+        try {
+            DatasetVersion target = versionRepository.findById(version)
+                    .orElseThrow(() -> new ResourceNotFoundException("Dataset version " + version + " not found."));
+            if (target.getStatus() != DatasetVersion.Status.READY) {
+                throw new DatasetVersionConflictException("Dataset version " + version + " is still loading and cannot be activated.");
+            }
+            return switchTo(target, null);
+        } finally {
+            importLock.unlock();
+        }
+    }
+
+    /**
+     * @return all versions, newest first, with the active one flagged
+     */
+    public List<DatasetVersionResponse> listVersions() {
+        return transactionTemplate.execute(status -> {
+            long active = versionRepository.findActiveVersion();
+            return versionRepository.findAllByOrderByVersionDesc().stream()
+                    .map(version -> mapVersionToDto(version, active))
+                    .collect(Collectors.toList());
+        });
+    }
+
+    /**
+     * Registers a write of the API for the current transaction, once per transaction: holds off version switches
+     * until the transaction has completed. Must be called before the first statement of the write.
+     *
+     * @throws ServiceNotReadyException if a switch is in progress or waiting; the write is better retried than
+     *         kept waiting with a pooled connection.
+     */
+    public void beginWrite() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("Writes must run within a transaction");
+        }
+        if (TransactionSynchronizationManager.hasResource(transactionKey)) {
+            return;
+        }
+        long retryAfterSeconds = Math.max(1, (properties.getRetryAfter().toMillis() + 999) / 1000);
+        if (shardsDiverged) {
+            throw new ServiceNotReadyException("The shards point at different dataset versions after a failed switch. "
+                    + "Writes are rejected until a version is activated.", retryAfterSeconds);
+        }
+        Lock lock = versionLock.readLock();
+        if (!tryLockWithoutWaiting(lock)) {
+            throw new ServiceNotReadyException("The dataset is being switched to another version. Please retry shortly.", retryAfterSeconds);
+        }
+        RegisteredWrite write = new RegisteredWrite();
+        TransactionSynchronizationManager.bindResource(transactionKey, write);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(transactionKey);
+                lock.unlock();
+                if (status == STATUS_COMMITTED && write.rebuildIndexes) {
+                    rebuildIndexes();
+                }
+            }
+        });
+    }
+
+    /**
+     * Rebuilds the in-memory indexes from the database once the current write has committed, for bulk changes whose
+     * affected entries are not known individually. The rebuild holds off writes like a switch does: otherwise the
+     * changes of a write committing meanwhile could be forwarded to the indexes before the rebuild replaces them, or
+     * be missing from the entries it read, and be lost from memory. It therefore runs only after the write has
+     * released its own share of the lock.
+     *
+     * @throws IllegalStateException if the current transaction has not been registered with {@link #beginWrite()}
+     */
+    public void rebuildIndexesAfterCommit() {
+        Object write = TransactionSynchronizationManager.getResource(transactionKey);
+        if (!(write instanceof RegisteredWrite registeredWrite)) {
+            throw new IllegalStateException("Index rebuilds must be requested by a write registered with beginWrite()");
+        }
+        registeredWrite.rebuildIndexes = true;
+    }
+
+    private void rebuildIndexes() {
+        versionLock.writeLock().lock();
+        try {
+            if (indexManager.isReady()) {
+                indexManager.rebuildAll();
+            }
+        } finally {
+            versionLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Moves the pointer to a ready version, records the difference in the change feed, then refreshes the in-memory
+     * indexes and the snapshot and prunes old versions.
+     *
+     * @param writesAfter For a new import, the position of every shard's change log when it started loading: the
+     *        writes recorded after it are carried over into the new version before the switch. {@code null} to
+     *        activate the version as it is.
+     */
+    private DatasetVersionResponse switchTo(DatasetVersion target, Map<String, Long> writesAfter) {
+        long start = System.nanoTime();
+        long number = target.getVersion();
+        List<SwiftCodeInfo> entries = null;
+        versionLock.writeLock().lock();
+        try {
+            long active = versionRepository.findActiveVersion();
+            if (active != number || shardsDiverged) {
+                moveShards(active, target, writesAfter);
+                // Entity queries follow the pointer from now on; writes stay held off until the indexes are swapped.
+                activeVersion.set(number);
+                entries = swiftCodeRepository.findAll();
+                // Before the warm-up has built the indexes, it loads the active version itself.
+                if (indexManager.isReady()) {
+                    indexManager.rebuildAll(entries);
+                }
+            }
+        } finally {
+            versionLock.writeLock().unlock();
+        }
+        if (entries == null) {
+            log.info("Dataset version {} is already active.", number);
+            return mapVersionToDto(target, number);
+        }
+        log.info("Dataset version {} is active, switched in {} ms.", number, (System.nanoTime() - start) / 1_000_000);
+        if (indexManager.isReady()) {
+            snapshotStore.save(entries);
+        }
+        prune(number);
+        return mapVersionToDto(target, number);
+    }
+
+    /**
+     * Moves the pointer of every shard to the target version. The other shards are prepared first, in parallel, and
+     * the default shard follows together with the catalog. Readers only follow the pointer of the default shard
+     * ({@link ActiveDatasetVersion}), and the pointers of the other shards are only read by writes, which are held
+     * off, so the commit of the default shard is the switch. If a shard fails, the shards already moved are moved
+     * back and the served version does not change. Without sharding this is a single transaction.
+     */
+    private void moveShards(long active, DatasetVersion target, Map<String, Long> writesAfter) {
+        long number = target.getVersion();
+        String defaultShard = shards.getDefaultShard();
+        Set<String> moved = ConcurrentHashMap.newKeySet();
+        try {
+            List<int[]> prepared = shards.scatter(shard -> {
+                if (shard.equals(defaultShard)) {
+                    return new int[3];
+                }
+                int[] counts = transactionTemplate.execute(status -> moveShard(active, number, writesAfter));
+                moved.add(shard);
+                return counts;
+            });
+            ShardContext.callOn(defaultShard, () -> transactionTemplate.execute(status -> {
+                int[] counts = moveShard(active, number, writesAfter);
+                for (int[] shardCounts : prepared) {
+                    for (int i = 0; i < counts.length; i++) {
+                        counts[i] += shardCounts[i];
+                    }
+                }
+                if (counts[0] > 0 || counts[1] > 0) {
+                    target.setEntryCount(target.getEntryCount() - counts[0] + counts[1]);
+                    log.info("Carried the writes made during the import over into dataset version {} ({} imported entries removed, {} served entries copied).",
+                            number, counts[0], counts[1]);
+                }
+                target.setActivatedAt(Instant.now());
+                versionRepository.save(target);
+                log.info("Switching dataset from version {} to {} ({} change(s)).", active, number, counts[2]);
+                return null;
+            }));
+            shardsDiverged = false;
+        } catch (RuntimeException e) {
+            moveBack(moved, number, active);
+            throw e;
+        }
+    }
+
+    /**
+     * Moves the pointer of the shard bound to the current transaction, after replacing the entries of the codes
+     * written since the import started with their state in the served version, so the writes are not lost by the
+     * switch. Every shard carries over from the position of its own change log.
+     *
+     * @return the number of imported entries removed, of served entries copied and of recorded changes
+     */
+    private int[] moveShard(long active, long number, Map<String, Long> writesAfter) {
+        int removed = 0;
+        int copied = 0;
+        if (writesAfter != null) {
+            long position = writesAfter.get(ShardContext.current());
+            removed = swiftCodeRepository.deleteChangedSince(number, position);
+            copied = swiftCodeRepository.copyChangedSince(active, number, position);
+        }
+        int changes = changeFeed.recordVersionSwitch(active, number);
+        versionRepository.updateActiveVersion(number);
+        return new int[] {removed, copied, changes};
+    }
+
+    /**
+     * Moves shards back to the served version after a failed switch. A shard that cannot be moved back would take
+     * writes into a version that is not served, so writes are rejected until a switch succeeds.
+     */
+    private void moveBack(Set<String> moved, long number, long active) {
+        for (String shard : moved) {
+            try {
+                ShardContext.callOn(shard, () -> transactionTemplate.execute(status -> {
+                    changeFeed.recordVersionSwitch(number, active);
+                    return versionRepository.updateActiveVersion(active);
+                }));
+                log.warn("Moved shard '{}' back to dataset version {} after the switch to version {} failed.", shard, active, number);
+            } catch (RuntimeException e) {
+                shardsDiverged = true;
+                log.error("Shard '{}' could not be moved back to dataset version {} and still points at version {}; "
+                        + "writes are rejected until a version is activated.", shard, active, number, e);
+            }
+        }
+    }
+
+    /**
+     * Reads the last sequence number of every shard's change log. Writes are held off meanwhile, so no write is in
+     * progress: every change recorded later belongs to a write that started after this point.
+     */
+    private Map<String, Long> readChangeLogPositions() {
+        versionLock.writeLock().lock();
+        try {
+            List<Long> positions = shards.scatter(shard -> changeRepository.findMaxSeq());
+            Map<String, Long> positionByShard = new HashMap<>();
+            for (int i = 0; i < positions.size(); i++) {
+                positionByShard.put(shards.getShardNames().get(i), positions.get(i));
+            }
+            return positionByShard;
+        } finally {
+            versionLock.writeLock().unlock();
+        }
+    }
+
+    private DatasetVersion createVersion() {
+        DatasetVersion version = new DatasetVersion();
+        version.setVersion(versionRepository.findMaxVersion() + 1);
+        version.setStatus(DatasetVersion.Status.LOADING);
+        version.setCreatedAt(Instant.now());
+        return versionRepository.save(version);
+    }
+
+    private void insertBatch(long version, List<SwiftCodeInfo> batch) {
+        try {
+            shards.scatterPartitioned(batch, SwiftCodeInfo::getSwiftCode, shardBatch -> transactionTemplate.executeWithoutResult(
+                    status -> jdbcTemplate.batchUpdate(INSERT_ENTRY, shardBatch, shardBatch.size(), (statement, entry) -> {
+                        statement.setLong(1, version);
+                        statement.setString(2, entry.getSwiftCode());
+                        statement.setString(3, entry.getBankName());
+                        statement.setString(4, entry.getAddress());
+                        statement.setString(5, entry.getTownName());
+                        statement.setString(6, entry.getCountryISO2());
+                        statement.setString(7, entry.getCountryName());
+                        statement.setBoolean(8, entry.isHeadquarter());
+                    })));
+        } catch (DuplicateKeyException e) {
+            throw new InvalidDatasetException("The dataset contains a SWIFT code more than once.");
+        }
+        log.debug("Stored batch of {} entries in dataset version {}.", batch.size(), version);
+    }
+
+    /**
+     * Rejects an empty import, one that was not stored completely, and one much smaller than the served version,
+     * which usually means a truncated file rather than a real shrinkage.
+     */
+    private void validate(long version, long imported) {
+        if (imported == 0) {
+            throw new InvalidDatasetException("The dataset contains no valid entries.");
+        }
+        long stored = swiftCodeRepository.countByDatasetVersion(version);
+        if (stored != imported) {
+            throw new InvalidDatasetException("Only " + stored + " of " + imported + " imported entries were stored.");
+        }
+        long active = swiftCodeRepository.count();
+        if (imported < active * properties.getMinSizeRatio()) {
+            throw new InvalidDatasetException(String.format(
+                    "The dataset has %d entries, fewer than %.0f%% of the %d entries of the active version.",
+                    imported, properties.getMinSizeRatio() * 100, active));
+        }
+    }
+
+    /**
+     * Deletes the versions no longer needed: all but the newest {@code retained-versions} inactive ready versions,
+     * and versions left loading by an interrupted import.
+     */
+    private void prune(long activeVersion) {
+        int retained = 0;
+        for (DatasetVersion version : versionRepository.findAllByOrderByVersionDesc()) {
+            if (version.getVersion() == activeVersion) {
+                continue;
+            }
+            if (version.getStatus() == DatasetVersion.Status.READY && retained < properties.getRetainedVersions()) {
+                retained++;
+                continue;
+            }
+            discard(version.getVersion());
+        }
+    }
+
+    private void discard(long version) {
+        try {
+            int deleted = transactionTemplate.execute(status -> {
+                int rows = swiftCodeRepository.deleteByDatasetVersion(version);
+                versionRepository.deleteById(version);
+                return rows;
+            });
+            log.info("Deleted dataset version {} ({} entries).", version, deleted);
+        } catch (RuntimeException e) {
+            log.warn("Could not delete dataset version {}, retrying after the next switch: {}", version, e.getMessage());
+        }
+    }
+
+    /**
+     * State of a write registered with {@link #beginWrite()}, kept for the transaction.
+     */
+    private static final class RegisteredWrite {
+
+        /** Set if the indexes must be rebuilt after the commit. */
+        private boolean rebuildIndexes;
+    }
+
+    private static boolean tryLockWithoutWaiting(Lock lock) {
+        try {
+            // Unlike tryLock(), a zero timeout honours queued switches instead of barging past them.
+            return lock.tryLock(0, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static DatasetVersionResponse mapVersionToDto(DatasetVersion version, long activeVersion) {
+        return DatasetVersionResponse.builder()
+                .version(version.getVersion())
+                .status(version.getStatus().name())
+                .active(version.getVersion() == activeVersion)
+                .entryCount(version.getEntryCount())
+                .createdAt(version.getCreatedAt())
+                .activatedAt(version.getActivatedAt())
+                .build();
+    }
+}
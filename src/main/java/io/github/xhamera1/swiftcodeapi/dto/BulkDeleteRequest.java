@@ -0,0 +1,24 @@
+package io.github.xhamera1.swiftcodeapi.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.github.xhamera1.swiftcodeapi.dto.validation.ValidSwiftCode;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * DTO representing the request body for deleting several SWIFT codes at once.
+ */
+@Data
+public class BulkDeleteRequest {
+
+    /** Maximum number of codes accepted by a single bulk delete request. */
+    public static final int MAX_CODES = 1000;
+
+    @JsonProperty(index = 1)
+    @NotEmpty(message = "At least one SWIFT code must be provided")
+    @Size(max = MAX_CODES, message = "At most " + MAX_CODES + " SWIFT codes can be deleted at once")
+    private List<@ValidSwiftCode(ignoreCase = true) String> swiftCodes;
+}
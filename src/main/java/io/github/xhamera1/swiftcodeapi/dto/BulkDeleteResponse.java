@@ -0,0 +1,18 @@
+package io.github.xhamera1.swiftcodeapi.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * DTO representing the result of a bulk delete: a status message and the number of deleted entries.
+ */
+@Data
+@Builder
+public class BulkDeleteResponse {
+
+    @JsonProperty(index = 1)
+    private String message;
+    @JsonProperty(index = 2)
+    private int deletedCount;
+}
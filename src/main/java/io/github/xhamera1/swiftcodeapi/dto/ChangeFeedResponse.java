@@ -0,0 +1,19 @@
+package io.github.xhamera1.swiftcodeapi.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * DTO representing a page of the change feed: the changes in log order, the value of {@code since} for the next
+ * request and whether more changes are already available.
+ */
+@Data
+@Builder
+public class ChangeFeedResponse {
+
+    private List<SwiftCodeChangeResponse> changes;
+    private long nextSince;
+    private boolean hasMore;
+}
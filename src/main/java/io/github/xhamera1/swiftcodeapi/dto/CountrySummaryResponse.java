@@ -0,0 +1,26 @@
+package io.github.xhamera1.swiftcodeapi.dto;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * DTO representing aggregated SWIFT code figures for a single country.
+ */
+@Data
+@Builder
+@JsonPropertyOrder({
+        "countryISO2",
+        "countryName",
+        "totalCodes",
+        "headquarterCount",
+        "branchCount"
+})
+public class CountrySummaryResponse {
+
+    private String countryISO2;
+    private String countryName;
+    private long totalCodes;
+    private long headquarterCount;
+    private long branchCount;
+}
@@ -1,5 +1,6 @@
 package io.github.xhamera1.swiftcodeapi.dto;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Builder;
 import lombok.Data;
 
@@ -12,7 +13,10 @@ import java.util.List;
 @Builder
 public class CountrySwiftCodesResponse {
 
+    @JsonProperty(index = 1)
     private String countryISO2;
+    @JsonProperty(index = 2)
     private String countryName;
+    @JsonProperty(index = 3)
     private List<SwiftCodeResponse> swiftCodes;
 }
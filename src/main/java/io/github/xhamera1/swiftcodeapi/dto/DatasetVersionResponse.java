@@ -0,0 +1,32 @@
+package io.github.xhamera1.swiftcodeapi.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.Instant;
+
+/**
+ * DTO representing a version of the dataset and whether it is the one currently served.
+ */
+@Data
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL) // activatedAt of versions never activated
+@JsonPropertyOrder({
+        "version",
+        "status",
+        "active",
+        "entryCount",
+        "createdAt",
+        "activatedAt"
+})
+public class DatasetVersionResponse {
+
+    private long version;
+    private String status;
+    private boolean active;
+    private long entryCount;
+    private Instant createdAt;
+    private Instant activatedAt;
+}
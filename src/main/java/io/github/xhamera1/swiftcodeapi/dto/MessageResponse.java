@@ -1,5 +1,6 @@
 package io.github.xhamera1.swiftcodeapi.dto;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -11,5 +12,6 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @AllArgsConstructor
 public class MessageResponse {
+    @JsonProperty(index = 1)
     private String message;
 }
\ No newline at end of file
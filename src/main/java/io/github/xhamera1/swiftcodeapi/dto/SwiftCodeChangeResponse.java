@@ -0,0 +1,44 @@
+package io.github.xhamera1.swiftcodeapi.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.Instant;
+
+/**
+ * DTO representing one entry of the change feed. {@code ADDED} changes carry the entry with the properties of the
+ * NDJSON export; {@code DELETED} changes (tombstones) only the code.
+ */
+@Data
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL) // tombstones carry no entry data
+@JsonPropertyOrder({
+        "seq",
+        "type",
+        "changedAt",
+        "address",
+        "bankName",
+        "countryISO2",
+        "countryName",
+        "isHeadquarter",
+        "swiftCode",
+        "townName"
+})
+public class SwiftCodeChangeResponse {
+
+    private long seq;
+    private String type;
+    private Instant changedAt;
+    private String address;
+    private String bankName;
+    private String countryISO2;
+    private String countryName;
+
+    @JsonProperty("isHeadquarter")
+    private Boolean isHeadquarter;
+    private String swiftCode;
+    private String townName;
+}
@@ -0,0 +1,20 @@
+package io.github.xhamera1.swiftcodeapi.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * DTO representing the response for a SWIFT code prefix (autocomplete) query.
+ */
+@Data
+@Builder
+public class SwiftCodePrefixResponse {
+
+    @JsonProperty(index = 1)
+    private String prefix;
+    @JsonProperty(index = 2)
+    private List<String> swiftCodes;
+}
@@ -1,5 +1,7 @@
 package io.github.xhamera1.swiftcodeapi.dto;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.github.xhamera1.swiftcodeapi.dto.validation.ValidSwiftCode;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Pattern;
@@ -12,25 +14,31 @@ import lombok.Data;
 @Data
 public class SwiftCodeRequest {
 
+    @JsonProperty(index = 1)
     @NotBlank(message = "SWIFT code cannot be blank")
-    @Pattern(regexp = "^[A-Z]{4}[A-Z]{2}[A-Z0-9]{2}([A-Z0-9]{3})?$", message = "Invalid SWIFT/BIC format. Should be an 8 to 11-character identifier (e.g., BANKPLPWXXX, BANKDEFF)")
+    @ValidSwiftCode
     private String swiftCode;
 
+    @JsonProperty(index = 2)
     @NotBlank(message = "Bank name cannot be blank")
     private String bankName;
 
+    @JsonProperty(index = 3)
     @NotBlank(message = "Address cannot be blank")
     @Size(max = 512, message = "Address cannot exceed 512 characters")
     private String address;
 
+    @JsonProperty(index = 4)
     @NotBlank(message = "Country ISO2 code cannot be blank")
     @Size(min = 2, max = 2, message = "Country ISO2 code must be exactly 2 characters")
     @Pattern(regexp = "^[A-Za-z]{2}$", message = "Country ISO2 code must contain only letters")
     private String countryISO2;
 
+    @JsonProperty(index = 5)
     @NotBlank(message = "Country name cannot be blank")
     private String countryName;
 
+    @JsonProperty(index = 6)
     @NotNull(message = "isHeadquarter flag must be provided")
     private Boolean isHeadquarter;
 
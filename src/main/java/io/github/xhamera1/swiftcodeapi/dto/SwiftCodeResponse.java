@@ -26,13 +26,19 @@ import java.util.List;
 })
 public class SwiftCodeResponse {
 
+    @JsonProperty(index = 1)
     private String address;
+    @JsonProperty(index = 2)
     private String bankName;
+    @JsonProperty(index = 3)
     private String countryISO2;
+    @JsonProperty(index = 4)
     private String countryName;
 
-    @JsonProperty("isHeadquarter")
+    @JsonProperty(value = "isHeadquarter", index = 5)
     private boolean isHeadquarter;
+    @JsonProperty(index = 6)
     private String swiftCode;
+    @JsonProperty(index = 7)
     private List<SwiftCodeResponse> branches;
 }
@@ -0,0 +1,33 @@
+package io.github.xhamera1.swiftcodeapi.dto.validation;
+
+import io.github.xhamera1.swiftcodeapi.model.SwiftCode;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+
+/**
+ * Validates {@link ValidSwiftCode} constraints with {@link SwiftCode#packBic(CharSequence, boolean)}.
+ */
+public class SwiftCodeValidator implements ConstraintValidator<ValidSwiftCode, CharSequence> {
+
+    private static final int INSTITUTION_CODE_LENGTH = 8;
+
+    private boolean ignoreCase;
+    private boolean institutionCode;
+
+    @Override
+    public void initialize(ValidSwiftCode constraint) {
+        this.ignoreCase = constraint.ignoreCase();
+        this.institutionCode = constraint.institutionCode();
+    }
+
+    @Override
+    public boolean isValid(CharSequence value, ConstraintValidatorContext context) {
+        if (value == null) {
+            return true;
+        }
+        if (institutionCode && value.length() != INSTITUTION_CODE_LENGTH) {
+            return false;
+        }
+        return SwiftCode.packBic(value, !ignoreCase) != SwiftCode.INVALID;
+    }
+}
@@ -0,0 +1,38 @@
+package io.github.xhamera1.swiftcodeapi.dto.validation;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.Payload;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * The annotated string must be a SWIFT/BIC code in the BIC layout: a four-letter bank code, a two-letter country code,
+ * two alphanumeric location characters and optionally three alphanumeric branch characters.
+ * {@code null} is considered valid; combine with {@code @NotBlank} where a value is required.
+ * <p>
+ * Checked by {@link SwiftCodeValidator} in a single pass without a regular expression
+ * (see {@link io.github.xhamera1.swiftcodeapi.model.SwiftCode#packBic(CharSequence, boolean)}).
+ * </p>
+ */
+@Documented
+@Constraint(validatedBy = SwiftCodeValidator.class)
+@Target({ElementType.FIELD, ElementType.PARAMETER, ElementType.TYPE_USE})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ValidSwiftCode {
+
+    String message() default "Invalid SWIFT/BIC format. Should be an 8 to 11-character identifier (e.g., BANKPLPWXXX, BANKDEFF)";
+
+    Class<?>[] groups() default {};
+
+    Class<? extends Payload>[] payload() default {};
+
+    /** Whether lower-case letters are accepted. */
+    boolean ignoreCase() default false;
+
+    /** Whether only the 8-character institution part (bank, country and location code) is accepted. */
+    boolean institutionCode() default false;
+}
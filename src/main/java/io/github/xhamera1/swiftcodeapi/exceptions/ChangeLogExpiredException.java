@@ -0,0 +1,12 @@
+package io.github.xhamera1.swiftcodeapi.exceptions;
+
+/**
+ * Unchecked exception thrown when changes are requested after a sequence number whose successors have already been
+ * deleted by the change log retention. The client cannot catch up incrementally and has to start over with an export.
+ */
+public class ChangeLogExpiredException extends RuntimeException {
+
+    public ChangeLogExpiredException(String message) {
+        super(message);
+    }
+}
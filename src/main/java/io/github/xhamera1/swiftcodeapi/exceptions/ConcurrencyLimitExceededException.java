@@ -0,0 +1,23 @@
+package io.github.xhamera1.swiftcodeapi.exceptions;
+
+
+/**
+ * Unchecked exception raised when a request is rejected because the adaptive concurrency limit
+ * for its kind of operation (read or write) is reached.
+ */
+public class ConcurrencyLimitExceededException extends RuntimeException{
+
+    private final long retryAfterSeconds;
+
+    public ConcurrencyLimitExceededException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    /**
+     * @return the number of seconds the client should wait before retrying
+     */
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,13 @@
+package io.github.xhamera1.swiftcodeapi.exceptions;
+
+/**
+ * Unchecked exception thrown with sharded persistence when an operation would need a single transaction or a
+ * single ordered log spanning several shards (e.g. a bulk delete of codes of countries stored in different shards).
+ * Indicates a request that must be split by the client.
+ */
+public class CrossShardOperationException extends RuntimeException {
+
+    public CrossShardOperationException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,12 @@
+package io.github.xhamera1.swiftcodeapi.exceptions;
+
+/**
+ * Unchecked exception thrown when a dataset version cannot be imported or activated in the current state:
+ * another import or switch is in progress, or the version is not complete.
+ */
+public class DatasetVersionConflictException extends RuntimeException {
+
+    public DatasetVersionConflictException(String message) {
+        super(message);
+    }
+}
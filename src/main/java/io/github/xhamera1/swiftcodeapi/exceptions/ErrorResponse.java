@@ -1,5 +1,6 @@
 package io.github.xhamera1.swiftcodeapi.exceptions;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
@@ -11,6 +12,7 @@ import lombok.Getter;
 @AllArgsConstructor
 public class ErrorResponse {
 
+    @JsonProperty(index = 1)
     private final String message;
 
 }
@@ -4,14 +4,19 @@ package io.github.xhamera1.swiftcodeapi.exceptions;
 import jakarta.persistence.EntityNotFoundException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.MessageSourceResolvable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.web.HttpMediaTypeNotAcceptableException;
 import org.springframework.web.HttpMediaTypeNotSupportedException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.method.annotation.HandlerMethodValidationException;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 import org.springframework.web.servlet.NoHandlerFoundException;
 
 
@@ -41,11 +46,12 @@ public class GlobalExceptionHandler {
 
     /**
      * Handles custom ResourceNotFoundException thrown from service layer.
+     * Logged at debug level only, since the service already reports misses (rate-limited).
      */
     @ExceptionHandler(ResourceNotFoundException.class)
     public ResponseEntity<ErrorResponse> handleResourceNotFoundException(ResourceNotFoundException ex) {
         ErrorResponse error = new ErrorResponse(ex.getMessage());
-        log.info("Handling ResourceNotFoundException: {}", ex.getMessage());
+        log.debug("Handling ResourceNotFoundException: {}", ex.getMessage());
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error); // 404
     }
 
@@ -59,6 +65,26 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.CONFLICT).body(error); // 409
     }
 
+    /**
+     * Handles custom DatasetVersionConflictException thrown when an import or activation cannot run now.
+     */
+    @ExceptionHandler(DatasetVersionConflictException.class)
+    public ResponseEntity<ErrorResponse> handleDatasetVersionConflictException(DatasetVersionConflictException ex) {
+        ErrorResponse error = new ErrorResponse(ex.getMessage());
+        log.warn("Handling DatasetVersionConflictException: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(error); // 409
+    }
+
+    /**
+     * Handles custom InvalidDatasetException thrown when an imported dataset is rejected.
+     */
+    @ExceptionHandler(InvalidDatasetException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidDatasetException(InvalidDatasetException ex) {
+        ErrorResponse error = new ErrorResponse(ex.getMessage());
+        log.warn("Handling InvalidDatasetException: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).body(error); // 422
+    }
+
 
     /**
      * Handles custom InconsistentSwiftDataException thrown from service layer
@@ -71,6 +97,28 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error); // 400
     }
 
+    /**
+     * Handles custom CrossShardOperationException thrown with sharded persistence
+     * when a request would need a single transaction or change log across shards.
+     */
+    @ExceptionHandler(CrossShardOperationException.class)
+    public ResponseEntity<ErrorResponse> handleCrossShardOperationException(CrossShardOperationException ex) {
+        ErrorResponse error = new ErrorResponse(ex.getMessage());
+        log.warn("Handling CrossShardOperationException: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error); // 400
+    }
+
+
+    /**
+     * Handles custom ChangeLogExpiredException thrown when the changes a client needs have left the change log.
+     */
+    @ExceptionHandler(ChangeLogExpiredException.class)
+    public ResponseEntity<ErrorResponse> handleChangeLogExpiredException(ChangeLogExpiredException ex) {
+        ErrorResponse error = new ErrorResponse(ex.getMessage());
+        log.warn("Handling ChangeLogExpiredException: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.GONE).body(error); // 410
+    }
+
 
     /**
      * Handles validation exceptions triggered by @Valid on @RequestBody.
@@ -88,6 +136,20 @@ public class GlobalExceptionHandler {
 
 
 
+    /**
+     * Handles validation exceptions triggered by constraint annotations on path variables or request parameters
+     * (e.g., a malformed institution code).
+     */
+    @ExceptionHandler(HandlerMethodValidationException.class)
+    public ResponseEntity<ErrorResponse> handleHandlerMethodValidation(HandlerMethodValidationException ex) {
+        String errors = ex.getAllErrors().stream()
+                .map(MessageSourceResolvable::getDefaultMessage)
+                .collect(Collectors.joining("; "));
+        ErrorResponse error = new ErrorResponse("Validation failed: " + errors);
+        log.warn("Handling HandlerMethodValidationException: {}", errors);
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error); // 400
+    }
+
     /**
      * Handles exceptions when the request body is missing or cannot be parsed
      * (e.g., malformed JSON, empty body for required object).
@@ -100,6 +162,17 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);   // 400
     }
 
+    /**
+     * Handles exceptions when a path variable or query parameter cannot be converted
+     * to the expected type (e.g., a non-numeric {@code limit}).
+     */
+    @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+    public ResponseEntity<ErrorResponse> handleMethodArgumentTypeMismatch(MethodArgumentTypeMismatchException ex) {
+        log.warn("Handling MethodArgumentTypeMismatchException: parameter '{}' with value '{}'", ex.getName(), ex.getValue());
+        ErrorResponse error = new ErrorResponse("Invalid value '" + ex.getValue() + "' for parameter '" + ex.getName() + "'.");
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error); // 400
+    }
+
     /**
      * Handles exceptions when the client sends a request with an unsupported Content-Type.
      */
@@ -110,6 +183,43 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.UNSUPPORTED_MEDIA_TYPE).body(error); // 415
     }
 
+    /**
+     * Handles exceptions when the response cannot be produced in any type listed in the Accept header
+     * (e.g., a top-level list requested as Protobuf).
+     * No body is returned, since by definition none of the client's accepted types can be written.
+     */
+    @ExceptionHandler(HttpMediaTypeNotAcceptableException.class)
+    public ResponseEntity<Void> handleMediaTypeNotAcceptable(HttpMediaTypeNotAcceptableException ex) {
+        log.warn("Handling HttpMediaTypeNotAcceptableException: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.NOT_ACCEPTABLE).build(); // 406
+    }
+
+    /**
+     * Handles requests rejected by the adaptive concurrency limiter (see {@code ConcurrencyLimitFilter}).
+     * Returns 503 with a {@code Retry-After} header so well-behaved clients back off instead of retrying immediately.
+     */
+    @ExceptionHandler(ConcurrencyLimitExceededException.class)
+    public ResponseEntity<ErrorResponse> handleConcurrencyLimitExceeded(ConcurrencyLimitExceededException ex) {
+        ErrorResponse error = new ErrorResponse(ex.getMessage());
+        log.warn("Handling ConcurrencyLimitExceededException: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(error); // 503
+    }
+
+    /**
+     * Handles requests that arrive while the data is still being loaded (see {@code WarmupFilter}).
+     * Returns 503 with a {@code Retry-After} header.
+     */
+    @ExceptionHandler(ServiceNotReadyException.class)
+    public ResponseEntity<ErrorResponse> handleServiceNotReady(ServiceNotReadyException ex) {
+        ErrorResponse error = new ErrorResponse(ex.getMessage());
+        log.info("Handling ServiceNotReadyException: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(error); // 503
+    }
+
     /**
      * Handles NoHandlerFoundException which occurs when the DispatcherServlet
      * cannot find a handler for a request path (e.g., incorrect URL).
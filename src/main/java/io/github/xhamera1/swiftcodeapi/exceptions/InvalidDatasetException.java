@@ -0,0 +1,13 @@
+package io.github.xhamera1.swiftcodeapi.exceptions;
+
+/**
+ * Unchecked exception thrown when an imported dataset fails validation (no valid entries, duplicate codes,
+ * fewer entries stored than imported or far fewer than the active version). The rejected version is discarded,
+ * the active version stays in service.
+ */
+public class InvalidDatasetException extends RuntimeException {
+
+    public InvalidDatasetException(String message) {
+        super(message);
+    }
+}
@@ -4,10 +4,14 @@ package io.github.xhamera1.swiftcodeapi.exceptions;
 /**
  * Unchecked exception thrown when a requested resource (e.g., a SWIFT code)
  * cannot be found in the system.
+ * <p>
+ * A missing resource is an expected outcome reported to the client, not a failure to debug, so the exception
+ * records no stack trace and no suppressed exceptions: throwing it costs about as much as creating its message.
+ * </p>
  */
 public class ResourceNotFoundException extends RuntimeException{
 
     public ResourceNotFoundException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
 }
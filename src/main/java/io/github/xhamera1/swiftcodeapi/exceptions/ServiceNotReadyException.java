@@ -0,0 +1,23 @@
+package io.github.xhamera1.swiftcodeapi.exceptions;
+
+
+/**
+ * Unchecked exception raised when a request arrives before the application has finished loading its data,
+ * or when a write arrives while the dataset is being switched to another version.
+ */
+public class ServiceNotReadyException extends RuntimeException{
+
+    private final long retryAfterSeconds;
+
+    public ServiceNotReadyException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    /**
+     * @return the number of seconds the client should wait before retrying
+     */
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
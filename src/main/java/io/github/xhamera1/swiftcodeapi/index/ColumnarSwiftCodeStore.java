@@ -0,0 +1,408 @@
+package io.github.xhamera1.swiftcodeapi.index;
+
+import io.github.xhamera1.swiftcodeapi.model.SwiftCode;
+import io.github.xhamera1.swiftcodeapi.model.SwiftCodeInfo;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Columnar, dictionary-encoded in-memory copy of the {@code swift_codes} table, the only in-memory copy of the
+ * rows' details. It serves country listings and, through {@link SwiftCodeLookupIndex}, lookups by code.
+ * <p>
+ * Rows are grouped by country: each country owns one immutable {@link CountrySegment} whose primitive
+ * column arrays hold that country's rows contiguously, ordered by SWIFT code. Codes are stored packed
+ * ({@link SwiftCode}), bank, town and country names as ids into shared {@link StringDictionary dictionaries},
+ * and the ISO2 code once per segment. Listing a country is therefore a range iteration over a few arrays
+ * and does not materialize an entity per row. A code is found by taking its country from the packed code and
+ * binary-searching that country's codes; the branches of an institution are the adjacent rows around it.
+ * </p>
+ * <p>
+ * Writers replace only the affected segment with a modified copy (copy-on-write) and publish a new segment map,
+ * so readers never lock and always see a consistent country.
+ * </p>
+ */
+@Component
+public class ColumnarSwiftCodeStore implements SwiftCodeIndex {
+
+    private volatile State state = State.of(new Dictionaries(), Collections.emptyMap());
+
+    /**
+     * Returns a read-only view of the row stored under the given code. Only rows whose ISO2 code matches the
+     * country embedded in their SWIFT code can be found this way, which the write paths guarantee.
+     *
+     * @param packedCode a code packed with {@link SwiftCode#pack(CharSequence)}
+     * @return the row, or empty if the code is unknown
+     */
+    public Optional<Row> find(long packedCode) {
+        State current = this.state;
+        CountrySegment segment = current.segmentOf(packedCode);
+        int position = segment == null ? -1 : Arrays.binarySearch(segment.codes, packedCode);
+        return position < 0 ? Optional.empty() : Optional.of(new Row(new CountryRows(segment, current.dictionaries), position));
+    }
+
+    /**
+     * @param packedCode a code packed with {@link SwiftCode#pack(CharSequence)}
+     * @return {@code true} if {@link #find(long)} would find a row
+     */
+    public boolean contains(long packedCode) {
+        CountrySegment segment = state.segmentOf(packedCode);
+        return segment != null && Arrays.binarySearch(segment.codes, packedCode) >= 0;
+    }
+
+    /**
+     * Returns the rows of an institution: all codes sharing the 8-character institution part
+     * ({@link SwiftCode#institutionKey(long)}) with the given code, in code order.
+     *
+     * @param packedCode a packed code of the institution, e.g. its headquarter
+     * @return the rows, or an empty list if the institution is unknown
+     */
+    public List<Row> findInstitution(long packedCode) {
+        State current = this.state;
+        CountrySegment segment = current.segmentOf(packedCode);
+        if (segment == null) {
+            return Collections.emptyList();
+        }
+        long institution = SwiftCode.institutionKey(packedCode);
+        int position = Arrays.binarySearch(segment.codes, institution);
+        int from = position >= 0 ? position : -position - 1;
+        int to = from;
+        while (to < segment.codes.length && SwiftCode.institutionKey(segment.codes[to]) == institution) {
+            to++;
+        }
+        CountryRows rows = new CountryRows(segment, current.dictionaries);
+        List<Row> institutionRows = new ArrayList<>(to - from);
+        for (int row = from; row < to; row++) {
+            institutionRows.add(new Row(rows, row));
+        }
+        return institutionRows;
+    }
+
+    /**
+     * Returns a read-only view of all rows of the given country.
+     *
+     * @param countryISO2 the (case-insensitive) ISO2 code
+     * @return the rows of the country, or empty if the country has no codes
+     */
+    public Optional<CountryRows> findByCountry(String countryISO2) {
+        if (countryISO2 == null) {
+            return Optional.empty();
+        }
+        State current = this.state;
+        CountrySegment segment = current.segments.get(countryISO2.toUpperCase(Locale.ROOT));
+        return segment == null ? Optional.empty() : Optional.of(new CountryRows(segment, current.dictionaries));
+    }
+
+    /**
+     * @return the total number of rows held by the store
+     */
+    public int size() {
+        return state.segments.values().stream().mapToInt(segment -> segment.codes.length).sum();
+    }
+
+    /**
+     * @return the number of distinct bank names stored in the bank name dictionary
+     */
+    int distinctBankNames() {
+        return state.dictionaries.bankNames.size();
+    }
+
+    @Override
+    public synchronized void rebuild(List<SwiftCodeInfo> entries) {
+        Dictionaries newDictionaries = new Dictionaries();
+        Map<String, List<SwiftCodeInfo>> byCountry = new HashMap<>();
+        for (SwiftCodeInfo entry : entries) {
+            if (SwiftCode.pack(entry.getSwiftCode()) == SwiftCode.INVALID) {
+                continue;
+            }
+            byCountry.computeIfAbsent(entry.getCountryISO2().toUpperCase(Locale.ROOT), key -> new ArrayList<>()).add(entry);
+        }
+
+        Map<String, CountrySegment> newSegments = new HashMap<>();
+        byCountry.forEach((countryISO2, rows) -> {
+            rows.sort(Comparator.comparingLong(row -> SwiftCode.pack(row.getSwiftCode())));
+            newSegments.put(countryISO2, CountrySegment.of(countryISO2, rows, newDictionaries));
+        });
+
+        this.state = State.of(newDictionaries, newSegments);
+    }
+
+    @Override
+    public synchronized void onAdded(SwiftCodeInfo entry) {
+        long packed = SwiftCode.pack(entry.getSwiftCode());
+        if (packed == SwiftCode.INVALID) {
+            return;
+        }
+        String countryISO2 = entry.getCountryISO2().toUpperCase(Locale.ROOT);
+        Dictionaries dictionaries = state.dictionaries;
+        CountrySegment current = state.segments.get(countryISO2);
+        CountrySegment updated = current == null
+                ? CountrySegment.of(countryISO2, List.of(entry), dictionaries)
+                : current.withRow(packed, entry, dictionaries);
+        publish(countryISO2, updated);
+    }
+
+    @Override
+    public synchronized void onDeleted(SwiftCodeInfo entry) {
+        long packed = SwiftCode.pack(entry.getSwiftCode());
+        String countryISO2 = entry.getCountryISO2().toUpperCase(Locale.ROOT);
+        CountrySegment current = state.segments.get(countryISO2);
+        if (packed == SwiftCode.INVALID || current == null) {
+            return;
+        }
+        publish(countryISO2, current.withoutRow(packed));
+    }
+
+    private void publish(String countryISO2, CountrySegment segment) {
+        State current = this.state;
+        Map<String, CountrySegment> updated = new HashMap<>(current.segments);
+        if (segment.codes.length == 0) {
+            updated.remove(countryISO2);
+        } else {
+            updated.put(countryISO2, segment);
+        }
+        this.state = State.of(current.dictionaries, updated);
+    }
+
+    /**
+     * Dictionaries and the segments encoded with them, published together so readers never mix generations.
+     * {@code segmentsByCountryIndex} holds the same segments indexed by {@link SwiftCode#countryIndex(CharSequence)},
+     * so a lookup by packed code needs no string.
+     */
+    private record State(Dictionaries dictionaries, Map<String, CountrySegment> segments,
+                         CountrySegment[] segmentsByCountryIndex) {
+
+        static State of(Dictionaries dictionaries, Map<String, CountrySegment> segments) {
+            CountrySegment[] segmentsByCountryIndex = new CountrySegment[SwiftCode.COUNTRY_INDEX_RANGE];
+            segments.forEach((countryISO2, segment) -> {
+                int countryIndex = SwiftCode.countryIndex(countryISO2);
+                if (countryIndex >= 0) {
+                    segmentsByCountryIndex[countryIndex] = segment;
+                }
+            });
+            return new State(dictionaries, Collections.unmodifiableMap(segments), segmentsByCountryIndex);
+        }
+
+        CountrySegment segmentOf(long packedCode) {
+            return packedCode == SwiftCode.INVALID ? null : segmentsByCountryIndex[SwiftCode.countryIndex(packedCode)];
+        }
+    }
+
+    /**
+     * Dictionaries shared by all segments built from the same rebuild.
+     */
+    private static final class Dictionaries {
+        private final StringDictionary bankNames = new StringDictionary();
+        private final StringDictionary townNames = new StringDictionary();
+        private final StringDictionary countryNames = new StringDictionary();
+    }
+
+    /**
+     * Immutable column arrays of a single country, ordered by packed SWIFT code.
+     */
+    private static final class CountrySegment {
+        private final String countryISO2;
+        private final long[] codes;
+        private final int[] bankNameIds;
+        private final int[] townNameIds;
+        private final int[] countryNameIds;
+        private final String[] addresses;
+        private final boolean[] headquarters;
+
+        private CountrySegment(String countryISO2, long[] codes, int[] bankNameIds, int[] townNameIds,
+                               int[] countryNameIds, String[] addresses, boolean[] headquarters) {
+            this.countryISO2 = countryISO2;
+            this.codes = codes;
+            this.bankNameIds = bankNameIds;
+            this.townNameIds = townNameIds;
+            this.countryNameIds = countryNameIds;
+            this.addresses = addresses;
+            this.headquarters = headquarters;
+        }
+
+        /**
+         * Builds a segment from rows already sorted by packed code.
+         */
+        static CountrySegment of(String countryISO2, List<SwiftCodeInfo> sortedRows, Dictionaries dictionaries) {
+            int size = sortedRows.size();
+            CountrySegment segment = new CountrySegment(countryISO2, new long[size], new int[size], new int[size],
+                    new int[size], new String[size], new boolean[size]);
+            for (int i = 0; i < size; i++) {
+                segment.set(i, SwiftCode.pack(sortedRows.get(i).getSwiftCode()), sortedRows.get(i), dictionaries);
+            }
+            return segment;
+        }
+
+        CountrySegment withRow(long packed, SwiftCodeInfo entry, Dictionaries dictionaries) {
+            int position = Arrays.binarySearch(codes, packed);
+            if (position >= 0) {
+                CountrySegment copy = copy(codes.length, 0, 0);
+                copy.set(position, packed, entry, dictionaries);
+                return copy;
+            }
+            int insertionPoint = -position - 1;
+            CountrySegment copy = copy(codes.length + 1, insertionPoint, 1);
+            copy.set(insertionPoint, packed, entry, dictionaries);
+            return copy;
+        }
+
+        CountrySegment withoutRow(long packed) {
+            int position = Arrays.binarySearch(codes, packed);
+            if (position < 0) {
+                return this;
+            }
+            return copy(codes.length - 1, position, -1);
+        }
+
+        /**
+         * Copies all columns into arrays of {@code newSize}, opening ({@code shift == 1}) or closing
+         * ({@code shift == -1}) a gap of one row at {@code position}.
+         */
+        private CountrySegment copy(int newSize, int position, int shift) {
+            CountrySegment copy = new CountrySegment(countryISO2, new long[newSize], new int[newSize], new int[newSize],
+                    new int[newSize], new String[newSize], new boolean[newSize]);
+            int tailFrom = shift < 0 ? position + 1 : position;
+            int tailTo = shift > 0 ? position + 1 : position;
+            int tailLength = codes.length - tailFrom;
+            copyColumn(codes, copy.codes, position, tailFrom, tailTo, tailLength);
+            copyColumn(bankNameIds, copy.bankNameIds, position, tailFrom, tailTo, tailLength);
+            copyColumn(townNameIds, copy.townNameIds, position, tailFrom, tailTo, tailLength);
+            copyColumn(countryNameIds, copy.countryNameIds, position, tailFrom, tailTo, tailLength);
+            copyColumn(addresses, copy.addresses, position, tailFrom, tailTo, tailLength);
+            copyColumn(headquarters, copy.headquarters, position, tailFrom, tailTo, tailLength);
+            return copy;
+        }
+
+        private static void copyColumn(Object source, Object target, int headLength, int tailFrom, int tailTo, int tailLength) {
+            System.arraycopy(source, 0, target, 0, headLength);
+            System.arraycopy(source, tailFrom, target, tailTo, tailLength);
+        }
+
+        private void set(int row, long packed, SwiftCodeInfo entry, Dictionaries dictionaries) {
+            codes[row] = packed;
+            bankNameIds[row] = dictionaries.bankNames.encode(entry.getBankName());
+            townNameIds[row] = dictionaries.townNames.encode(entry.getTownName());
+            countryNameIds[row] = dictionaries.countryNames.encode(entry.getCountryName());
+            addresses[row] = entry.getAddress();
+            headquarters[row] = entry.isHeadquarter();
+        }
+    }
+
+    /**
+     * Read-only, allocation-free view over the rows of one country.
+     * Row indexes range from {@code 0} to {@link #size()} {@code - 1}, in SWIFT code order.
+     */
+    public static final class CountryRows {
+        private final CountrySegment segment;
+        private final Dictionaries dictionaries;
+
+        private CountryRows(CountrySegment segment, Dictionaries dictionaries) {
+            this.segment = segment;
+            this.dictionaries = dictionaries;
+        }
+
+        public int size() {
+            return segment.codes.length;
+        }
+
+        public String countryISO2() {
+            return segment.countryISO2;
+        }
+
+        public long packedSwiftCode(int row) {
+            return segment.codes[row];
+        }
+
+        public String swiftCode(int row) {
+            return SwiftCode.unpack(segment.codes[row]);
+        }
+
+        public String bankName(int row) {
+            return dictionaries.bankNames.decode(segment.bankNameIds[row]);
+        }
+
+        public String address(int row) {
+            return segment.addresses[row];
+        }
+
+        public String townName(int row) {
+            return dictionaries.townNames.decode(segment.townNameIds[row]);
+        }
+
+        public String countryName(int row) {
+            return dictionaries.countryNames.decode(segment.countryNameIds[row]);
+        }
+
+        public boolean isHeadquarter(int row) {
+            return segment.headquarters[row];
+        }
+
+        /**
+         * @return a new, detached entity with the values of the row, e.g. to report a delete to the indexes
+         */
+        public SwiftCodeInfo toSwiftCodeInfo(int row) {
+            return new SwiftCodeInfo(swiftCode(row), bankName(row), address(row), townName(row), countryISO2(),
+                    countryName(row), isHeadquarter(row));
+        }
+    }
+
+    /**
+     * Read-only view of a single row, as returned by lookups by code.
+     */
+    public static final class Row {
+        private final CountryRows rows;
+        private final int row;
+
+        private Row(CountryRows rows, int row) {
+            this.rows = rows;
+            this.row = row;
+        }
+
+        public long packedSwiftCode() {
+            return rows.packedSwiftCode(row);
+        }
+
+        public String swiftCode() {
+            return rows.swiftCode(row);
+        }
+
+        public String bankName() {
+            return rows.bankName(row);
+        }
+
+        public String address() {
+            return rows.address(row);
+        }
+
+        public String townName() {
+            return rows.townName(row);
+        }
+
+        public String countryISO2() {
+            return rows.countryISO2();
+        }
+
+        public String countryName() {
+            return rows.countryName(row);
+        }
+
+        public boolean isHeadquarter() {
+            return rows.isHeadquarter(row);
+        }
+
+        /**
+         * @see CountryRows#toSwiftCodeInfo(int)
+         */
+        public SwiftCodeInfo toSwiftCodeInfo() {
+            return rows.toSwiftCodeInfo(row);
+        }
+    }
+}
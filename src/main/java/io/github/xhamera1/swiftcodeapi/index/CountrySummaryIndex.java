@@ -0,0 +1,107 @@
+package io.github.xhamera1.swiftcodeapi.index;
+
+import io.github.xhamera1.swiftcodeapi.model.SwiftCodeInfo;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * Per-country aggregates (total, headquarter and branch counts) kept in memory.
+ * <p>
+ * The figures are computed once from the full dataset after the initial import and then
+ * adjusted by one on every committed add or delete, so listing countries never scans the
+ * {@code swift_codes} table. Readers use an immutable snapshot; writers replace it with an
+ * updated copy (the map holds only one entry per country, so copying is cheap).
+ * </p>
+ */
+@Component
+public class CountrySummaryIndex implements SwiftCodeIndex {
+
+    /**
+     * Aggregated figures for a single country.
+     *
+     * @param countryISO2 the uppercase ISO2 code
+     * @param countryName the uppercase country name taken from the first entry seen for this country
+     * @param totalCodes number of SWIFT codes in the country
+     * @param headquarterCount number of headquarter codes in the country
+     */
+    public record CountrySummary(String countryISO2, String countryName, long totalCodes, long headquarterCount) {
+
+        /**
+         * @return number of branch codes in the country
+         */
+        public long branchCount() {
+            return totalCodes - headquarterCount;
+        }
+
+        private CountrySummary plus(boolean headquarter, int delta) {
+            return new CountrySummary(countryISO2, countryName, totalCodes + delta, headquarterCount + (headquarter ? delta : 0));
+        }
+    }
+
+    private volatile Map<String, CountrySummary> summaries = Collections.emptyMap();
+
+    /**
+     * @return summaries of all countries having at least one code, ordered by ISO2 code
+     */
+    public List<CountrySummary> findAll() {
+        return List.copyOf(summaries.values());
+    }
+
+    /**
+     * @param countryISO2 the (case-insensitive) ISO2 code
+     * @return the summary for the given country, or empty if the country has no codes
+     */
+    public Optional<CountrySummary> findByCountry(String countryISO2) {
+        if (countryISO2 == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(summaries.get(countryISO2.toUpperCase(Locale.ROOT)));
+    }
+
+    @Override
+    public synchronized void rebuild(List<SwiftCodeInfo> entries) {
+        Map<String, CountrySummary> rebuilt = new TreeMap<>();
+        for (SwiftCodeInfo entry : entries) {
+            apply(rebuilt, entry, 1);
+        }
+        this.summaries = Collections.unmodifiableMap(rebuilt);
+    }
+
+    @Override
+    public synchronized void onAdded(SwiftCodeInfo entry) {
+        Map<String, CountrySummary> updated = new TreeMap<>(summaries);
+        apply(updated, entry, 1);
+        this.summaries = Collections.unmodifiableMap(updated);
+    }
+
+    @Override
+    public synchronized void onDeleted(SwiftCodeInfo entry) {
+        Map<String, CountrySummary> updated = new TreeMap<>(summaries);
+        apply(updated, entry, -1);
+        this.summaries = Collections.unmodifiableMap(updated);
+    }
+
+    private static void apply(Map<String, CountrySummary> target, SwiftCodeInfo entry, int delta) {
+        String countryISO2 = entry.getCountryISO2().toUpperCase(Locale.ROOT);
+        CountrySummary current = target.get(countryISO2);
+        if (current == null) {
+            if (delta < 0) {
+                return;
+            }
+            String countryName = entry.getCountryName() == null ? "" : entry.getCountryName().toUpperCase(Locale.ROOT);
+            current = new CountrySummary(countryISO2, countryName, 0, 0);
+        }
+        CountrySummary updated = current.plus(entry.isHeadquarter(), delta);
+        if (updated.totalCodes() <= 0) {
+            target.remove(countryISO2);
+        } else {
+            target.put(countryISO2, updated);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package io.github.xhamera1.swiftcodeapi.index;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Append-only dictionary assigning dense {@code int} ids to distinct strings.
+ * <p>
+ * {@code null} is encoded as {@link #NULL_ID}. Ids are never reused, so any id handed out stays
+ * resolvable for the lifetime of the dictionary. Lookups by id are lock-free: an id is only
+ * published to readers (through a volatile write in the owning store) after it has been stored,
+ * and the backing array is replaced, never shrunk.
+ * </p>
+ */
+final class StringDictionary {
+
+    /** Id used to encode {@code null}. */
+    static final int NULL_ID = -1;
+
+    private final Map<String, Integer> ids = new HashMap<>();
+    private volatile String[] values = new String[16];
+    private int size;
+
+    /**
+     * Returns the id of the given value, assigning a new one if the value was not seen before.
+     * Must be called by a single writer at a time.
+     */
+    int encode(String value) {
+        if (value == null) {
+            return NULL_ID;
+        }
+        Integer existing = ids.get(value);
+        if (existing != null) {
+            return existing;
+        }
+        String[] current = values;
+        if (size == current.length) {
+            current = Arrays.copyOf(current, current.length * 2);
+        }
+        current[size] = value;
+        values = current;
+        ids.put(value, size);
+        return size++;
+    }
+
+    /**
+     * @return the value for the given id, or {@code null} for {@link #NULL_ID}
+     */
+    String decode(int id) {
+        return id == NULL_ID ? null : values[id];
+    }
+
+    /**
+     * @return the number of distinct non-null values
+     */
+    int size() {
+        return size;
+    }
+}
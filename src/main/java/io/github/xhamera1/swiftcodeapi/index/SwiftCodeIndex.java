@@ -0,0 +1,34 @@
+package io.github.xhamera1.swiftcodeapi.index;
+
+import io.github.xhamera1.swiftcodeapi.model.SwiftCodeInfo;
+
+import java.util.List;
+
+/**
+ * In-memory structure derived from the {@code swift_codes} table.
+ * Implementations are kept in sync by {@link SwiftCodeIndexManager}, which performs
+ * a full rebuild on startup and forwards every committed add/delete afterwards.
+ */
+public interface SwiftCodeIndex {
+
+    /**
+     * Replaces the whole content of the index with the given entries.
+     *
+     * @param entries all SWIFT code entries currently stored in the database
+     */
+    void rebuild(List<SwiftCodeInfo> entries);
+
+    /**
+     * Applies a single committed insert.
+     *
+     * @param entry the entry that was added
+     */
+    void onAdded(SwiftCodeInfo entry);
+
+    /**
+     * Applies a single committed delete.
+     *
+     * @param entry the entry that was removed
+     */
+    void onDeleted(SwiftCodeInfo entry);
+}
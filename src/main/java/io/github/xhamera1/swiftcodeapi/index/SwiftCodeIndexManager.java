@@ -0,0 +1,114 @@
+package io.github.xhamera1.swiftcodeapi.index;
+
+import io.github.xhamera1.swiftcodeapi.model.SwiftCodeInfo;
+import io.github.xhamera1.swiftcodeapi.repository.SwiftCodeInfoRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+/**
+ * Keeps every {@link SwiftCodeIndex} bean in sync with the {@code swift_codes} table.
+ * <p>
+ * All indexes are built from the database by {@link io.github.xhamera1.swiftcodeapi.startup.DataWarmup}
+ * once {@link io.github.xhamera1.swiftcodeapi.service.DataInitializer} has finished its import.
+ * Single-row changes made by the service layer are forwarded only after the surrounding
+ * transaction commits, so a rolled back insert or delete never becomes visible in memory. Bulk changes whose
+ * entries are not known individually request a full rebuild through
+ * {@link io.github.xhamera1.swiftcodeapi.dataset.DatasetVersions#rebuildIndexesAfterCommit()}, which holds off
+ * other writes while it runs.
+ * </p>
+ */
+@Component
+public class SwiftCodeIndexManager {
+
+    private static final Logger log = LoggerFactory.getLogger(SwiftCodeIndexManager.class);
+
+    private final SwiftCodeInfoRepository repository;
+    private final List<SwiftCodeIndex> indexes;
+    private volatile boolean ready;
+
+    /**
+     * Constructs the manager with the repository used for full rebuilds and all registered indexes.
+     *
+     * @param repository The repository providing the SWIFT code data.
+     * @param indexes All {@link SwiftCodeIndex} beans present in the application context.
+     */
+    @Autowired
+    public SwiftCodeIndexManager(SwiftCodeInfoRepository repository, List<SwiftCodeIndex> indexes) {
+        this.repository = repository;
+        this.indexes = indexes;
+    }
+
+    /**
+     * Reloads all entries from the database and rebuilds every registered index.
+     */
+    public void rebuildAll() {
+        rebuildAll(repository.findAll());
+    }
+
+    /**
+     * Rebuilds every registered index from the given entries, which must be the complete content of the table
+     * (e.g. a current snapshot).
+     */
+    public void rebuildAll(List<SwiftCodeInfo> entries) {
+        long start = System.nanoTime();
+        for (SwiftCodeIndex index : indexes) {
+            index.rebuild(entries);
+        }
+        ready = true;
+        log.info("Rebuilt {} in-memory index(es) from {} SWIFT code entries in {} ms.",
+                indexes.size(), entries.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * @return {@code true} once all indexes have been built at least once and may be used to serve requests
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Forwards an insert to all indexes once the current transaction has committed.
+     *
+     * @param entry the entry that was saved
+     */
+    public void entryAdded(SwiftCodeInfo entry) {
+        runAfterCommit(() -> indexes.forEach(index -> index.onAdded(entry)));
+    }
+
+    /**
+     * Forwards a delete to all indexes once the current transaction has committed.
+     *
+     * @param entry the entry that was deleted
+     */
+    public void entryDeleted(SwiftCodeInfo entry) {
+        runAfterCommit(() -> indexes.forEach(index -> index.onDeleted(entry)));
+    }
+
+    /**
+     * Forwards several deletes (e.g. of a bulk delete) to all indexes once the current transaction has committed.
+     *
+     * @param entries the entries that were deleted
+     */
+    public void entriesDeleted(List<SwiftCodeInfo> entries) {
+        runAfterCommit(() -> entries.forEach(entry -> indexes.forEach(index -> index.onDeleted(entry))));
+    }
+
+    private void runAfterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
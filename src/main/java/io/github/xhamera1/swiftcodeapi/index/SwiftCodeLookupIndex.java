@@ -0,0 +1,106 @@
+package io.github.xhamera1.swiftcodeapi.index;
+
+import io.github.xhamera1.swiftcodeapi.index.ColumnarSwiftCodeStore.Row;
+import io.github.xhamera1.swiftcodeapi.model.SwiftCode;
+import io.github.xhamera1.swiftcodeapi.model.SwiftCodeInfo;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * In-memory lookup of SWIFT code entries keyed by their packed {@link SwiftCode} form.
+ * <p>
+ * The index holds no copy of the entries: a packed code is resolved to its row in the {@link ColumnarSwiftCodeStore}
+ * (country segment from the code, then a binary search over the segment's packed codes), and callers read the
+ * details from that row. A lookup therefore costs one array access and a binary search over primitive {@code long}s,
+ * without hashing strings, and the data is kept in memory only once, dictionary-encoded.
+ * </p>
+ * <p>
+ * The index is only authoritative if every entry in the database can be resolved this way, i.e. its code could be
+ * packed and embeds the entry's country code; otherwise {@link #isComplete()} returns {@code false} and callers must
+ * fall back to the database.
+ * </p>
+ */
+@Component
+public class SwiftCodeLookupIndex implements SwiftCodeIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(SwiftCodeLookupIndex.class);
+
+    private final ColumnarSwiftCodeStore columnarStore;
+
+    private int unresolvableCount;
+
+    /**
+     * @param columnarStore The store holding the rows the index resolves codes to.
+     */
+    @Autowired
+    public SwiftCodeLookupIndex(ColumnarSwiftCodeStore columnarStore) {
+        this.columnarStore = columnarStore;
+    }
+
+    /**
+     * @param packedCode a code packed with {@link SwiftCode#pack(CharSequence)}
+     * @return the row stored under the code, or empty if the code is unknown
+     */
+    public Optional<Row> find(long packedCode) {
+        return columnarStore.find(packedCode);
+    }
+
+    /**
+     * @param packedCode a code packed with {@link SwiftCode#pack(CharSequence)}
+     * @return {@code true} if an entry with this code exists
+     */
+    public boolean contains(long packedCode) {
+        return columnarStore.contains(packedCode);
+    }
+
+    /**
+     * @return {@code true} if every stored entry can be found by its packed code, i.e. a miss in this index is a definite miss
+     */
+    public synchronized boolean isComplete() {
+        return unresolvableCount == 0;
+    }
+
+    @Override
+    public void rebuild(List<SwiftCodeInfo> entries) {
+        int newUnresolvableCount = 0;
+        for (SwiftCodeInfo entry : entries) {
+            if (!isResolvable(entry)) {
+                newUnresolvableCount++;
+            }
+        }
+        if (newUnresolvableCount > 0) {
+            log.warn("{} SWIFT code(s) could not be packed or do not match their country; lookups will fall back to the database.",
+                    newUnresolvableCount);
+        }
+        synchronized (this) {
+            unresolvableCount = newUnresolvableCount;
+        }
+    }
+
+    @Override
+    public synchronized void onAdded(SwiftCodeInfo entry) {
+        if (!isResolvable(entry)) {
+            unresolvableCount++;
+        }
+    }
+
+    @Override
+    public synchronized void onDeleted(SwiftCodeInfo entry) {
+        if (!isResolvable(entry)) {
+            unresolvableCount = Math.max(0, unresolvableCount - 1);
+        }
+    }
+
+    /**
+     * Returns {@code true} if the {@link ColumnarSwiftCodeStore} files the entry under the country its code is looked up in.
+     */
+    private static boolean isResolvable(SwiftCodeInfo entry) {
+        long packed = SwiftCode.pack(entry.getSwiftCode());
+        return packed != SwiftCode.INVALID && SwiftCode.countryMatches(packed, entry.getCountryISO2());
+    }
+}
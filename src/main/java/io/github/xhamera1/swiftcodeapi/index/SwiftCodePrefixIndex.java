@@ -0,0 +1,176 @@
+package io.github.xhamera1.swiftcodeapi.index;
+
+import io.github.xhamera1.swiftcodeapi.model.SwiftCode;
+import io.github.xhamera1.swiftcodeapi.model.SwiftCodeInfo;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Sorted, immutable array of all known SWIFT codes used for prefix (autocomplete) lookups.
+ * <p>
+ * Codes are stored packed ({@link SwiftCode}), whose order is the order of the uppercase code strings, so all codes
+ * starting with a prefix form one range that starts at {@link SwiftCode#packPrefix(CharSequence)}. Only the codes
+ * returned are unpacked into strings. The rare codes that cannot be packed are kept as uppercase strings in a
+ * separate sorted array and merged into the results.
+ * </p>
+ * <p>
+ * Readers take a snapshot of the {@code volatile} arrays and binary-search them without locking.
+ * Writers replace the arrays with modified copies (copy-on-write), so a lookup always sees a
+ * consistent, fully sorted view.
+ * </p>
+ */
+@Component
+public class SwiftCodePrefixIndex implements SwiftCodeIndex {
+
+    private volatile Codes codes = new Codes(new long[0], new String[0]);
+
+    /**
+     * Returns up to {@code limit} codes starting with {@code prefix}, in ascending order.
+     *
+     * @param prefix the (case-insensitive) code prefix
+     * @param limit maximum number of codes to return; must be positive
+     * @return the matching codes, or an empty list if none match
+     */
+    public List<String> findByPrefix(String prefix, int limit) {
+        if (prefix == null || prefix.isEmpty() || limit <= 0) {
+            return Collections.emptyList();
+        }
+        String normalizedPrefix = prefix.toUpperCase(Locale.ROOT);
+        Codes snapshot = this.codes;
+        long[] packed = snapshot.packed;
+
+        List<String> result = new ArrayList<>();
+        long lowerBound = SwiftCode.packPrefix(normalizedPrefix);
+        if (lowerBound != SwiftCode.INVALID) {
+            int position = Arrays.binarySearch(packed, lowerBound);
+            for (int i = position >= 0 ? position : -position - 1; i < packed.length && result.size() < limit; i++) {
+                String code = SwiftCode.unpack(packed[i]);
+                if (!code.startsWith(normalizedPrefix)) {
+                    break;
+                }
+                result.add(code);
+            }
+        }
+        if (snapshot.unpackable.length > 0) {
+            mergeUnpackable(snapshot.unpackable, normalizedPrefix, limit, result);
+        }
+        return result;
+    }
+
+    /**
+     * @return the number of codes currently held by the index
+     */
+    public int size() {
+        Codes snapshot = this.codes;
+        return snapshot.packed.length + snapshot.unpackable.length;
+    }
+
+    @Override
+    public synchronized void rebuild(List<SwiftCodeInfo> entries) {
+        long[] packed = new long[entries.size()];
+        List<String> unpackable = new ArrayList<>();
+        int count = 0;
+        for (SwiftCodeInfo entry : entries) {
+            long code = SwiftCode.pack(entry.getSwiftCode());
+            if (code == SwiftCode.INVALID) {
+                unpackable.add(entry.getSwiftCode().toUpperCase(Locale.ROOT));
+            } else {
+                packed[count++] = code;
+            }
+        }
+        this.codes = new Codes(
+                Arrays.stream(packed, 0, count).sorted().distinct().toArray(),
+                unpackable.stream().sorted().distinct().toArray(String[]::new));
+    }
+
+    @Override
+    public synchronized void onAdded(SwiftCodeInfo entry) {
+        Codes current = this.codes;
+        long code = SwiftCode.pack(entry.getSwiftCode());
+        if (code == SwiftCode.INVALID) {
+            String unpackableCode = entry.getSwiftCode().toUpperCase(Locale.ROOT);
+            String[] unpackable = current.unpackable;
+            int position = Arrays.binarySearch(unpackable, unpackableCode);
+            if (position < 0) {
+                String[] updated = new String[unpackable.length + 1];
+                insert(unpackable, unpackable.length, updated, -position - 1);
+                updated[-position - 1] = unpackableCode;
+                this.codes = new Codes(current.packed, updated);
+            }
+            return;
+        }
+        int position = Arrays.binarySearch(current.packed, code);
+        if (position >= 0) {
+            return;
+        }
+        long[] updated = new long[current.packed.length + 1];
+        insert(current.packed, current.packed.length, updated, -position - 1);
+        updated[-position - 1] = code;
+        this.codes = new Codes(updated, current.unpackable);
+    }
+
+    @Override
+    public synchronized void onDeleted(SwiftCodeInfo entry) {
+        Codes current = this.codes;
+        long code = SwiftCode.pack(entry.getSwiftCode());
+        if (code == SwiftCode.INVALID) {
+            String[] unpackable = current.unpackable;
+            int position = Arrays.binarySearch(unpackable, entry.getSwiftCode().toUpperCase(Locale.ROOT));
+            if (position >= 0) {
+                String[] updated = new String[unpackable.length - 1];
+                remove(unpackable, unpackable.length, updated, position);
+                this.codes = new Codes(current.packed, updated);
+            }
+            return;
+        }
+        int position = Arrays.binarySearch(current.packed, code);
+        if (position < 0) {
+            return;
+        }
+        long[] updated = new long[current.packed.length - 1];
+        remove(current.packed, current.packed.length, updated, position);
+        this.codes = new Codes(updated, current.unpackable);
+    }
+
+    /**
+     * Adds the unpackable codes starting with {@code prefix} to the packed matches, keeping the result sorted and
+     * within {@code limit}.
+     */
+    private static void mergeUnpackable(String[] unpackable, String prefix, int limit, List<String> result) {
+        int position = Arrays.binarySearch(unpackable, prefix);
+        for (int i = position >= 0 ? position : -position - 1; i < unpackable.length && unpackable[i].startsWith(prefix); i++) {
+            result.add(unpackable[i]);
+        }
+        Collections.sort(result);
+        if (result.size() > limit) {
+            result.subList(limit, result.size()).clear();
+        }
+    }
+
+    /**
+     * Copies the {@code length} elements of {@code source} into {@code target}, which is one element longer, leaving {@code position} free.
+     */
+    private static void insert(Object source, int length, Object target, int position) {
+        System.arraycopy(source, 0, target, 0, position);
+        System.arraycopy(source, position, target, position + 1, length - position);
+    }
+
+    /**
+     * Copies the {@code length} elements of {@code source} into {@code target}, which is one element shorter, skipping {@code position}.
+     */
+    private static void remove(Object source, int length, Object target, int position) {
+        System.arraycopy(source, 0, target, 0, position);
+        System.arraycopy(source, position + 1, target, position, length - position - 1);
+    }
+
+    /**
+     * Packed and unpackable codes, published together.
+     */
+    private record Codes(long[] packed, String[] unpackable) {
+    }
+}
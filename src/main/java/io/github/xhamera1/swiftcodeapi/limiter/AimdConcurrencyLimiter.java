@@ -0,0 +1,104 @@
+package io.github.xhamera1.swiftcodeapi.limiter;
+
+import java.time.Duration;
+
+/**
+ * Concurrency limiter whose limit adapts to observed latency using AIMD (additive increase, multiplicative decrease).
+ * <p>
+ * Every request acquires a permit before it is processed and releases it with its latency once it completes.
+ * A request slower than {@code slowRequestThreshold}, or one that failed with a server error, signals that the
+ * downstream (typically the database) is saturated: the limit is multiplied by {@code backoffRatio}.
+ * Fast requests grow the limit by one, but only while at least half of it is in use, so an idle service does not
+ * inflate its limit without evidence that it can handle the load. The limit stays within {@code [minLimit, maxLimit]}.
+ * </p>
+ * <p>
+ * Requests beyond the current limit are rejected immediately instead of queueing in the web server, which keeps
+ * latency bounded for the requests that are admitted.
+ * </p>
+ */
+public final class AimdConcurrencyLimiter {
+
+    private final String name;
+    private final int minLimit;
+    private final int maxLimit;
+    private final long slowRequestThresholdNanos;
+    private final double backoffRatio;
+
+    private int limit;
+    private int inFlight;
+    private long rejected;
+
+    /**
+     * @param name name used in metrics and logs (e.g. {@code read})
+     * @param initialLimit the limit before any latency has been observed
+     * @param minLimit the lowest limit the backoff may reach; at least 1
+     * @param maxLimit the highest limit the increase may reach
+     * @param slowRequestThreshold requests slower than this reduce the limit
+     * @param backoffRatio factor in {@code (0, 1)} applied to the limit on a slow or failed request
+     */
+    public AimdConcurrencyLimiter(String name, int initialLimit, int minLimit, int maxLimit,
+                                  Duration slowRequestThreshold, double backoffRatio) {
+        if (minLimit < 1 || maxLimit < minLimit || initialLimit < minLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("Limits must satisfy 1 <= minLimit <= initialLimit <= maxLimit");
+        }
+        if (backoffRatio <= 0 || backoffRatio >= 1) {
+            throw new IllegalArgumentException("backoffRatio must be in (0, 1)");
+        }
+        this.name = name;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.slowRequestThresholdNanos = slowRequestThreshold.toNanos();
+        this.backoffRatio = backoffRatio;
+        this.limit = initialLimit;
+    }
+
+    /**
+     * Tries to admit a request.
+     *
+     * @return {@code true} if the request may proceed and must later call {@link #release(long, boolean)};
+     * {@code false} if the limit is reached and the request has to be rejected
+     */
+    public synchronized boolean tryAcquire() {
+        if (inFlight >= limit) {
+            rejected++;
+            return false;
+        }
+        inFlight++;
+        return true;
+    }
+
+    /**
+     * Releases a permit obtained from {@link #tryAcquire()} and adapts the limit.
+     *
+     * @param latencyNanos the time the request spent in processing
+     * @param failed {@code true} if the request failed in a way that indicates overload (server error)
+     */
+    public synchronized void release(long latencyNanos, boolean failed) {
+        boolean wasUtilized = inFlight * 2 >= limit;
+        inFlight--;
+        if (failed || latencyNanos > slowRequestThresholdNanos) {
+            limit = Math.max(minLimit, (int) (limit * backoffRatio));
+        } else if (wasUtilized) {
+            limit = Math.min(maxLimit, limit + 1);
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public synchronized int getLimit() {
+        return limit;
+    }
+
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    /**
+     * @return the number of requests rejected since startup
+     */
+    public synchronized long getRejectedCount() {
+        return rejected;
+    }
+}
@@ -0,0 +1,80 @@
+package io.github.xhamera1.swiftcodeapi.limiter;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+
+import java.util.List;
+
+/**
+ * Wires the adaptive concurrency limiters in front of the {@code /v1/swift-codes} endpoints
+ * (enabled unless {@code swift-api.concurrency-limit.enabled=false}).
+ * <p>
+ * The current limit, the number of in-flight requests and the rejection count of each limiter are published
+ * as Micrometer meters ({@code swift.api.concurrency.limit}, {@code swift.api.concurrency.in.flight},
+ * {@code swift.api.concurrency.rejected}, tagged with {@code kind=read|write}) and can be read at
+ * {@code /actuator/metrics}.
+ * </p>
+ */
+@Configuration
+@EnableConfigurationProperties(ConcurrencyLimitProperties.class)
+@ConditionalOnProperty(prefix = "swift-api.concurrency-limit", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ConcurrencyLimitConfig {
+
+    @Bean
+    public AimdConcurrencyLimiter readConcurrencyLimiter(ConcurrencyLimitProperties properties) {
+        return properties.getRead().newLimiter("read");
+    }
+
+    @Bean
+    public AimdConcurrencyLimiter writeConcurrencyLimiter(ConcurrencyLimitProperties properties) {
+        return properties.getWrite().newLimiter("write");
+    }
+
+    /**
+     * Registers the limiter filter for the API paths only, ahead of other application filters,
+     * so rejected requests do as little work as possible.
+     */
+    @Bean
+    public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilter(
+            ConcurrencyLimitProperties properties,
+            @Qualifier("readConcurrencyLimiter") AimdConcurrencyLimiter readConcurrencyLimiter,
+            @Qualifier("writeConcurrencyLimiter") AimdConcurrencyLimiter writeConcurrencyLimiter,
+            @Qualifier("handlerExceptionResolver") HandlerExceptionResolver handlerExceptionResolver) {
+        long retryAfterSeconds = Math.max(1, (properties.getRetryAfter().toMillis() + 999) / 1000);
+        FilterRegistrationBean<ConcurrencyLimitFilter> registration = new FilterRegistrationBean<>(
+                new ConcurrencyLimitFilter(readConcurrencyLimiter, writeConcurrencyLimiter, retryAfterSeconds, handlerExceptionResolver));
+        registration.addUrlPatterns("/v1/swift-codes", "/v1/swift-codes/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+
+    @Bean
+    public MeterBinder concurrencyLimitMetrics(@Qualifier("readConcurrencyLimiter") AimdConcurrencyLimiter readConcurrencyLimiter,
+                                               @Qualifier("writeConcurrencyLimiter") AimdConcurrencyLimiter writeConcurrencyLimiter) {
+        return registry -> {
+            for (AimdConcurrencyLimiter limiter : List.of(readConcurrencyLimiter, writeConcurrencyLimiter)) {
+                Gauge.builder("swift.api.concurrency.limit", limiter, AimdConcurrencyLimiter::getLimit)
+                        .description("Current adaptive concurrency limit")
+                        .tag("kind", limiter.getName())
+                        .register(registry);
+                Gauge.builder("swift.api.concurrency.in.flight", limiter, AimdConcurrencyLimiter::getInFlight)
+                        .description("Requests currently being processed")
+                        .tag("kind", limiter.getName())
+                        .register(registry);
+                FunctionCounter.builder("swift.api.concurrency.rejected", limiter, AimdConcurrencyLimiter::getRejectedCount)
+                        .description("Requests rejected with 503 because the concurrency limit was reached")
+                        .tag("kind", limiter.getName())
+                        .register(registry);
+            }
+        };
+    }
+}
@@ -0,0 +1,121 @@
+package io.github.xhamera1.swiftcodeapi.limiter;
+
+import io.github.xhamera1.swiftcodeapi.exceptions.ConcurrencyLimitExceededException;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Collection;
+
+/**
+ * Admits {@code /v1/swift-codes} requests through the read or write {@link AimdConcurrencyLimiter}.
+ * <p>
+ * Rejected requests are not queued: a {@link ConcurrencyLimitExceededException} is handed to Spring MVC's
+ * {@link HandlerExceptionResolver}, so the 503 response (with {@code Retry-After}) is rendered by
+ * {@link io.github.xhamera1.swiftcodeapi.exceptions.GlobalExceptionHandler} like any other API error.
+ * Admitted requests report their latency, and whether they ended with a server error, back to the limiter.
+ * </p>
+ * <p>
+ * A request processed asynchronously (e.g. a streamed export) keeps its permit until the asynchronous processing
+ * completes, so the limit also bounds concurrent streams. Its latency sample is the time until the handler returned
+ * and streaming began: a long download says nothing about the load of the service and must not make the limiter back off.
+ * Server-sent event streams (the live change feed) stay open for many minutes and mostly idle, so they release their
+ * permit once the stream is open; their number is bounded by {@code swift-api.change-feed.max-subscribers} instead.
+ * </p>
+ */
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(ConcurrencyLimitFilter.class);
+
+    private final AimdConcurrencyLimiter readLimiter;
+    private final AimdConcurrencyLimiter writeLimiter;
+    private final long retryAfterSeconds;
+    private final HandlerExceptionResolver handlerExceptionResolver;
+
+    public ConcurrencyLimitFilter(AimdConcurrencyLimiter readLimiter, AimdConcurrencyLimiter writeLimiter,
+                                  long retryAfterSeconds, HandlerExceptionResolver handlerExceptionResolver) {
+        this.readLimiter = readLimiter;
+        this.writeLimiter = writeLimiter;
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.handlerExceptionResolver = handlerExceptionResolver;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        AimdConcurrencyLimiter limiter = isRead(request) ? readLimiter : writeLimiter;
+
+        if (!limiter.tryAcquire()) {
+            log.warn("Rejecting {} {}: {} concurrency limit of {} reached", request.getMethod(), request.getRequestURI(),
+                    limiter.getName(), limiter.getLimit());
+            handlerExceptionResolver.resolveException(request, response, null,
+                    new ConcurrencyLimitExceededException("The service is currently overloaded. Please retry later.", retryAfterSeconds));
+            return;
+        }
+
+        long start = System.nanoTime();
+        boolean failed = true;
+        boolean async = false;
+        try {
+            filterChain.doFilter(request, response);
+            failed = response.getStatus() >= HttpServletResponse.SC_INTERNAL_SERVER_ERROR;
+            async = request.isAsyncStarted();
+        } finally {
+            long latencyNanos = System.nanoTime() - start;
+            if (async && !isEventStream(request)) {
+                request.getAsyncContext().addListener(new ReleaseOnComplete(limiter, latencyNanos, response));
+            } else {
+                limiter.release(latencyNanos, failed);
+            }
+        }
+    }
+
+    /**
+     * Recognizes event streams by the media type their handler mapping produces: the response headers of an
+     * emitter are only written with its first event, possibly after this filter has returned.
+     */
+    private static boolean isEventStream(HttpServletRequest request) {
+        return request.getAttribute(HandlerMapping.PRODUCIBLE_MEDIA_TYPES_ATTRIBUTE) instanceof Collection<?> producible
+                && producible.contains(MediaType.TEXT_EVENT_STREAM);
+    }
+
+    private static boolean isRead(HttpServletRequest request) {
+        String method = request.getMethod();
+        return "GET".equals(method) || "HEAD".equals(method);
+    }
+
+    /**
+     * Releases the permit of an asynchronously processed request. The container always ends asynchronous processing
+     * with {@code onComplete}, also after a timeout or an error, so the permit is released exactly once.
+     */
+    private record ReleaseOnComplete(AimdConcurrencyLimiter limiter, long latencyNanos, HttpServletResponse response)
+            implements AsyncListener {
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            limiter.release(latencyNanos, response.getStatus() >= HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+    }
+}
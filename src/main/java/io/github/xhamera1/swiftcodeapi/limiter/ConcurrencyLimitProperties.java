@@ -0,0 +1,61 @@
+package io.github.xhamera1.swiftcodeapi.limiter;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration of the adaptive concurrency limits applied to the {@code /v1/swift-codes} endpoints
+ * ({@code swift-api.concurrency-limit.*}). Reads (GET/HEAD) and writes (all other methods) have separate limits,
+ * so a burst of slow writes cannot starve lookups and vice versa.
+ */
+@Data
+@ConfigurationProperties(prefix = "swift-api.concurrency-limit")
+public class ConcurrencyLimitProperties {
+
+    /** Whether the limiter filter is registered at all. */
+    private boolean enabled = true;
+
+    /** Value of the {@code Retry-After} header sent with rejections (rounded up to whole seconds). */
+    private Duration retryAfter = Duration.ofSeconds(1);
+
+    /** Limits for GET and HEAD requests. */
+    private Limit read = new Limit(50, 10, 400, Duration.ofMillis(250));
+
+    /** Limits for POST, PUT, PATCH and DELETE requests. */
+    private Limit write = new Limit(10, 2, 50, Duration.ofSeconds(1));
+
+    @Data
+    public static class Limit {
+
+        /** The limit before any latency has been observed. */
+        private int initialLimit;
+
+        /** The lowest limit the backoff may reach. */
+        private int minLimit;
+
+        /** The highest limit the increase may reach. */
+        private int maxLimit;
+
+        /** Requests slower than this reduce the limit. */
+        private Duration slowRequestThreshold;
+
+        /** Factor applied to the limit on a slow or failed request. */
+        private double backoffRatio = 0.9;
+
+        public Limit() {
+        }
+
+        Limit(int initialLimit, int minLimit, int maxLimit, Duration slowRequestThreshold) {
+            this.initialLimit = initialLimit;
+            this.minLimit = minLimit;
+            this.maxLimit = maxLimit;
+            this.slowRequestThreshold = slowRequestThreshold;
+        }
+
+        AimdConcurrencyLimiter newLimiter(String name) {
+            return new AimdConcurrencyLimiter(name, initialLimit, minLimit, maxLimit, slowRequestThreshold, backoffRatio);
+        }
+    }
+}
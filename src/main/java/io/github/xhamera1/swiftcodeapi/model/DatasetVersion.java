@@ -0,0 +1,49 @@
+package io.github.xhamera1.swiftcodeapi.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+
+/**
+ * A version of the dataset, persisted in {@code dataset_versions}. The entries of a version are the rows of
+ * {@code swift_codes} with its number in {@code dataset_version}; which version is served is recorded separately,
+ * in the single-row {@code active_dataset} pointer.
+ */
+@Entity
+@Table(name = "dataset_versions")
+@Data
+@NoArgsConstructor
+public class DatasetVersion {
+
+    /** Lifecycle of a version. */
+    public enum Status {
+        /** Entries are being imported; never served. */
+        LOADING,
+        /** Complete and validated; may be activated. */
+        READY
+    }
+
+    /** Number of the version, increasing with every import (Primary Key). */
+    @Id
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", length = 7, nullable = false)
+    private Status status;
+
+    /** Number of entries; the number imported while loading, the number stored once ready. */
+    @Column(name = "entry_count", nullable = false)
+    private long entryCount;
+
+    /** Time at which the import started (Not Null). */
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    /** Time at which the version was last activated; {@code null} if it never was. */
+    @Column(name = "activated_at")
+    private Instant activatedAt;
+}
@@ -0,0 +1,328 @@
+package io.github.xhamera1.swiftcodeapi.model;
+
+/**
+ * SWIFT/BIC code packed into a single {@code long}.
+ * <p>
+ * A code consists of 8 or 11 characters from the 36-symbol alphabet {@code [0-9A-Z]}.
+ * Each position is encoded as a base-37 digit, where {@code 0} is reserved as padding for the
+ * missing branch part of 8-character codes, digits map to {@code 1..10} and letters to {@code 11..36}.
+ * Eleven base-37 digits need less than 58 bits, so every code fits into a positive {@code long}.
+ * Because padding sorts before digits and digits before letters, comparing packed values gives
+ * the same order as comparing the uppercase code strings.
+ * </p>
+ * <p>
+ * The static {@link #pack(CharSequence)} method parses and validates without allocating, which makes
+ * it suitable for hot lookup paths. Packing only checks the alphabet and the length; {@link #packBic(CharSequence, boolean)}
+ * additionally checks the BIC layout (letters in the first six positions) in the same single pass and is the
+ * format check shared by request validation, the service and the CSV import. The parts of a packed code
+ * (country code, institution, headquarter branch) are then read from the {@code long} without creating substrings.
+ * </p>
+ */
+public final class SwiftCode implements Comparable<SwiftCode> {
+
+    /** Returned by {@link #pack(CharSequence)} when the input is not a packable code. */
+    public static final long INVALID = -1L;
+
+    /** Number of distinct values returned by {@link #countryIndex(long)}. */
+    public static final int COUNTRY_INDEX_RANGE = 37 * 37;
+
+    private static final int LENGTH = 11;
+    private static final int INSTITUTION_LENGTH = 8;
+    private static final int LETTERS_LENGTH = 6;
+    private static final int COUNTRY_START = 4;
+    private static final long RADIX = 37;
+    private static final int FIRST_LETTER_SYMBOL = 11;
+    private static final long BRANCH_RANGE = RADIX * RADIX * RADIX;
+    private static final int SYMBOL_X = symbol('X');
+    private static final long HEADQUARTER_BRANCH = SYMBOL_X * RADIX * RADIX + SYMBOL_X * RADIX + SYMBOL_X;
+
+    private final long packed;
+
+    private SwiftCode(long packed) {
+        this.packed = packed;
+    }
+
+    /**
+     * Parses the given code into a {@link SwiftCode}.
+     *
+     * @param code an 8 or 11 character alphanumeric code (case-insensitive, surrounding whitespace ignored)
+     * @return the parsed code
+     * @throws IllegalArgumentException if the code cannot be packed
+     */
+    public static SwiftCode parse(CharSequence code) {
+        long packed = pack(code);
+        if (packed == INVALID) {
+            throw new IllegalArgumentException("Invalid SWIFT/BIC code: '" + code + "'");
+        }
+        return new SwiftCode(packed);
+    }
+
+    /**
+     * Wraps an already packed value.
+     *
+     * @param packed a value previously returned by {@link #pack(CharSequence)}
+     * @return the code
+     */
+    public static SwiftCode ofPacked(long packed) {
+        if (packed <= 0) {
+            throw new IllegalArgumentException("Invalid packed SWIFT/BIC code: " + packed);
+        }
+        return new SwiftCode(packed);
+    }
+
+    /**
+     * Packs the given code into a {@code long} without allocating.
+     *
+     * @param code an 8 or 11 character alphanumeric code (case-insensitive, surrounding whitespace ignored)
+     * @return the packed code (always positive), or {@link #INVALID} if the input is null, has the wrong length
+     * or contains characters outside {@code [0-9A-Za-z]}
+     */
+    public static long pack(CharSequence code) {
+        if (code == null) {
+            return INVALID;
+        }
+        int start = 0;
+        int end = code.length();
+        while (start < end && Character.isWhitespace(code.charAt(start))) {
+            start++;
+        }
+        while (end > start && Character.isWhitespace(code.charAt(end - 1))) {
+            end--;
+        }
+        int length = end - start;
+        if (length != INSTITUTION_LENGTH && length != LENGTH) {
+            return INVALID;
+        }
+        long packed = 0;
+        for (int i = 0; i < LENGTH; i++) {
+            int symbol = 0;
+            if (i < length) {
+                symbol = symbol(code.charAt(start + i));
+                if (symbol <= 0) {
+                    return INVALID;
+                }
+            }
+            packed = packed * RADIX + symbol;
+        }
+        return packed;
+    }
+
+    /**
+     * Validates the BIC layout of the given code and packs it, in a single pass and without allocating:
+     * a four-letter bank code, a two-letter country code, two alphanumeric location characters and,
+     * for 11-character codes, three alphanumeric branch characters. Unlike {@link #pack(CharSequence)},
+     * surrounding whitespace is not accepted.
+     *
+     * @param code the code to check
+     * @param upperCaseOnly if {@code true}, lower-case letters make the code invalid
+     * @return the packed code (always positive), or {@link #INVALID} if the code does not follow the layout
+     */
+    public static long packBic(CharSequence code, boolean upperCaseOnly) {
+        if (code == null) {
+            return INVALID;
+        }
+        int length = code.length();
+        if (length != INSTITUTION_LENGTH && length != LENGTH) {
+            return INVALID;
+        }
+        long packed = 0;
+        for (int i = 0; i < LENGTH; i++) {
+            int symbol = 0;
+            if (i < length) {
+                char c = code.charAt(i);
+                symbol = symbol(c);
+                if (symbol <= 0 || (i < LETTERS_LENGTH && symbol < FIRST_LETTER_SYMBOL) || (upperCaseOnly && c >= 'a')) {
+                    return INVALID;
+                }
+            }
+            packed = packed * RADIX + symbol;
+        }
+        return packed;
+    }
+
+    /**
+     * Compares the country code embedded in a packed code (characters 5-6) with the given ISO2 code, ignoring case.
+     *
+     * @param packed a packed code
+     * @param countryISO2 the country code to compare with
+     * @return {@code true} if both are equal; {@code false} also for a {@code null} or malformed country code
+     */
+    public static boolean countryMatches(long packed, CharSequence countryISO2) {
+        if (countryISO2 == null || countryISO2.length() != 2) {
+            return false;
+        }
+        return symbolAt(packed, COUNTRY_START) == symbol(countryISO2.charAt(0))
+                && symbolAt(packed, COUNTRY_START + 1) == symbol(countryISO2.charAt(1));
+    }
+
+    /**
+     * Maps the country code embedded in a packed code (characters 5-6) to a small number, e.g. to index an array by
+     * country without creating a string.
+     *
+     * @param packed a packed code
+     * @return a value in {@code [0, }{@link #COUNTRY_INDEX_RANGE}{@code )}, equal to {@link #countryIndex(CharSequence)}
+     * of the same country code
+     */
+    public static int countryIndex(long packed) {
+        return (int) (symbolAt(packed, COUNTRY_START) * RADIX + symbolAt(packed, COUNTRY_START + 1));
+    }
+
+    /**
+     * Same as {@link #countryIndex(long)} for a country code given as text.
+     *
+     * @param countryISO2 the (case-insensitive) country code
+     * @return the index of the country, or {@code -1} if the code is not two characters from {@code [0-9A-Za-z]}
+     */
+    public static int countryIndex(CharSequence countryISO2) {
+        if (countryISO2 == null || countryISO2.length() != 2) {
+            return -1;
+        }
+        int first = symbol(countryISO2.charAt(0));
+        int second = symbol(countryISO2.charAt(1));
+        return first <= 0 || second <= 0 ? -1 : (int) (first * RADIX + second);
+    }
+
+    /**
+     * Packs the beginning of a code into the smallest packed value of all codes starting with it, which is where a
+     * binary search over sorted packed codes finds the first match. The prefix itself is not validated beyond the alphabet.
+     *
+     * @param prefix up to 11 characters from {@code [0-9A-Za-z]} (case-insensitive)
+     * @return the lower bound, or {@link #INVALID} if no code can start with the prefix
+     */
+    public static long packPrefix(CharSequence prefix) {
+        if (prefix == null || prefix.length() > LENGTH) {
+            return INVALID;
+        }
+        long packed = 0;
+        for (int i = 0; i < LENGTH; i++) {
+            int symbol = 0;
+            if (i < prefix.length()) {
+                symbol = symbol(prefix.charAt(i));
+                if (symbol <= 0) {
+                    return INVALID;
+                }
+            }
+            packed = packed * RADIX + symbol;
+        }
+        return packed;
+    }
+
+    /**
+     * @param packed a packed code
+     * @return the upper-case country code embedded in the code (characters 5-6)
+     */
+    public static String countryCode(long packed) {
+        return new String(new char[] {
+                character(symbolAt(packed, COUNTRY_START)), character(symbolAt(packed, COUNTRY_START + 1))});
+    }
+
+    /**
+     * Converts a packed value back to its uppercase string form.
+     *
+     * @param packed a value previously returned by {@link #pack(CharSequence)}
+     * @return the 8 or 11 character code
+     */
+    public static String unpack(long packed) {
+        char[] chars = new char[LENGTH];
+        int length = LENGTH;
+        long remaining = packed;
+        for (int i = LENGTH - 1; i >= 0; i--) {
+            int symbol = (int) (remaining % RADIX);
+            remaining /= RADIX;
+            if (symbol == 0) {
+                length = i;
+            } else {
+                chars[i] = character(symbol);
+            }
+        }
+        return new String(chars, 0, length);
+    }
+
+    /**
+     * Same as {@code code.endsWith("XXX")} on the upper-case code, the headquarter rule of the API. This includes
+     * 8-character codes whose last three characters are {@code XXX}, i.e. a country code ending in {@code X}
+     * (e.g. {@code MX}) with location {@code XX}.
+     *
+     * @param packed a packed code
+     * @return {@code true} if the code ends in {@code XXX}
+     */
+    public static boolean isHeadquarter(long packed) {
+        long branch = packed % BRANCH_RANGE;
+        return branch == HEADQUARTER_BRANCH
+                || (branch == 0 && (packed / BRANCH_RANGE) % BRANCH_RANGE == HEADQUARTER_BRANCH);
+    }
+
+    /**
+     * Returns the packed form of the 8-character institution part (bank, country and location code).
+     * All codes sharing the same institution part lie in the range
+     * {@code [institutionKey, institutionKey + 37^3)}.
+     *
+     * @param packed a packed code
+     * @return the packed 8-character code
+     */
+    public static long institutionKey(long packed) {
+        return packed - packed % BRANCH_RANGE;
+    }
+
+    /**
+     * @return the packed representation
+     */
+    public long packed() {
+        return packed;
+    }
+
+    /**
+     * @return {@code true} if the code ends in {@code XXX} (see {@link #isHeadquarter(long)})
+     */
+    public boolean isHeadquarter() {
+        return isHeadquarter(packed);
+    }
+
+    @Override
+    public int compareTo(SwiftCode other) {
+        return Long.compare(packed, other.packed);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof SwiftCode other && other.packed == packed;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(packed);
+    }
+
+    @Override
+    public String toString() {
+        return unpack(packed);
+    }
+
+    /**
+     * Returns the base-37 digit of the character at the given position (0-based, from the left).
+     */
+    private static int symbolAt(long packed, int position) {
+        long value = packed;
+        for (int i = LENGTH - 1; i > position; i--) {
+            value /= RADIX;
+        }
+        return (int) (value % RADIX);
+    }
+
+    private static int symbol(char c) {
+        if (c >= '0' && c <= '9') {
+            return c - '0' + 1;
+        }
+        if (c >= 'A' && c <= 'Z') {
+            return c - 'A' + 11;
+        }
+        if (c >= 'a' && c <= 'z') {
+            return c - 'a' + 11;
+        }
+        return -1;
+    }
+
+    private static char character(int symbol) {
+        return symbol <= 10 ? (char) ('0' + symbol - 1) : (char) ('A' + symbol - 11);
+    }
+}
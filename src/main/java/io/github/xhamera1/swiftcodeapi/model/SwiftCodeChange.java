@@ -0,0 +1,95 @@
+package io.github.xhamera1.swiftcodeapi.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+
+/**
+ * An entry of the change log of the {@code swift_codes} table, persisted in {@code swift_code_changes}.
+ * Every added entry and every deleted code is recorded in the transaction of the change, so the log can be
+ * replayed by clients mirroring the dataset (see {@code GET /v1/swift-codes/changes}).
+ * <p>
+ * {@link Type#ADDED} rows carry a copy of the entry; {@link Type#DELETED} rows (tombstones) only the code.
+ * </p>
+ */
+@Entity
+@Table(name = "swift_code_changes")
+@Data
+@NoArgsConstructor
+public class SwiftCodeChange {
+
+    /** Kind of change. */
+    public enum Type {
+        ADDED,
+        DELETED
+    }
+
+    /** Position of the change in the log, assigned by the database in increasing order (Primary Key). */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "seq", nullable = false)
+    private Long seq;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "change_type", length = 7, nullable = false)
+    private Type type;
+
+    /** The added or deleted SWIFT code (Not Null, Uppercase). */
+    @Column(name = "swift_code", length = 11, nullable = false)
+    private String swiftCode;
+
+    /** Time at which the change was recorded (Not Null). */
+    @Column(name = "changed_at", nullable = false)
+    private Instant changedAt;
+
+    // The entry as added; null for tombstones.
+
+    @Column(name = "bank_name")
+    private String bankName;
+
+    @Column(name = "address", length = 512)
+    private String address;
+
+    @Column(name = "town_name")
+    private String townName;
+
+    @Column(name = "country_iso2", length = 2)
+    private String countryISO2;
+
+    @Column(name = "country_name")
+    private String countryName;
+
+    @Column(name = "is_headquarter")
+    private Boolean headquarter;
+
+    /**
+     * Creates the change recording the addition of an entry.
+     */
+    public static SwiftCodeChange added(SwiftCodeInfo entry, Instant changedAt) {
+        SwiftCodeChange change = new SwiftCodeChange();
+        change.setType(Type.ADDED);
+        change.setSwiftCode(entry.getSwiftCode());
+        change.setChangedAt(changedAt);
+        change.setBankName(entry.getBankName());
+        change.setAddress(entry.getAddress());
+        change.setTownName(entry.getTownName());
+        change.setCountryISO2(entry.getCountryISO2());
+        change.setCountryName(entry.getCountryName());
+        change.setHeadquarter(entry.isHeadquarter());
+        return change;
+    }
+
+    /**
+     * Creates the tombstone recording the deletion of a code.
+     */
+    public static SwiftCodeChange deleted(String swiftCode, Instant changedAt) {
+        SwiftCodeChange change = new SwiftCodeChange();
+        change.setType(Type.DELETED);
+        change.setSwiftCode(swiftCode);
+        change.setChangedAt(changedAt);
+        return change;
+    }
+}
@@ -1,9 +1,17 @@
 package io.github.xhamera1.swiftcodeapi.model;
 
+import io.github.xhamera1.swiftcodeapi.dataset.ActiveDatasetVersion;
 import jakarta.persistence.*;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.Filter;
+import org.hibernate.annotations.FilterDef;
+import org.hibernate.annotations.ParamDef;
+
+import java.io.Serializable;
 
 
 /**
@@ -11,22 +19,72 @@ import lombok.NoArgsConstructor;
  * This JPA entity maps to the {@code swift_codes} table and stores details
  * associated with a specific SWIFT code, including bank information,
  * location, country details, and whether it represents a headquarters.
- * An index is defined on the {@code country_iso2} column to optimize country-specific queries.
+ * <p>
+ * The schema is created by the Flyway migrations in {@code db/migration}; the indexes declared here mirror them:
+ * {@code (country_iso2, swift_code)} for country listings and {@code institution_code} for branch lookups,
+ * each preceded by the dataset version.
+ * </p>
+ * <p>
+ * The table holds several versions of the dataset (see {@code DatasetVersions}), keyed by
+ * {@code (dataset_version, swift_code)} ({@link Key}); only the version selected by the {@code active_dataset}
+ * pointer is visible. The {@link #ACTIVE_VERSION_FILTER}, enabled in every session, restricts the queries and bulk
+ * deletes of this entity to that version, bound as a parameter from {@link ActiveDatasetVersion}. Native statements
+ * address the version themselves, e.g. with {@link #IN_ACTIVE_VERSION}.
+ * </p>
  */
 @Entity
 @Table(name = "swift_codes", indexes = {
-        @Index(name = "idx_country_iso2", columnList = "country_iso2")
+        @Index(name = "idx_country_iso2_swift_code", columnList = "dataset_version, country_iso2, swift_code"),
+        @Index(name = "idx_institution_code", columnList = "dataset_version, institution_code")
 })
+@IdClass(SwiftCodeInfo.Key.class)
+@FilterDef(name = SwiftCodeInfo.ACTIVE_VERSION_FILTER, defaultCondition = "dataset_version = :version", autoEnabled = true,
+        parameters = @ParamDef(name = "version", type = Long.class, resolver = ActiveDatasetVersion.FilterParameter.class))
+@Filter(name = SwiftCodeInfo.ACTIVE_VERSION_FILTER)
 @Data
 @NoArgsConstructor
-@AllArgsConstructor
 public class SwiftCodeInfo {
 
-    /** Unique 8 or 11 character SWIFT/BIC code (Primary Key). */
+    /** Length of the institution code: bank code, country code and location code. */
+    public static final int INSTITUTION_CODE_LENGTH = 8;
+
+    /** Name of the filter restricting the entity to the active dataset version. */
+    public static final String ACTIVE_VERSION_FILTER = "activeVersion";
+
+    /** The version currently served, read from the single-row {@code active_dataset} pointer by native statements. */
+    public static final String ACTIVE_VERSION = "(SELECT a.version FROM active_dataset a WHERE a.id = 1)";
+
+    /** SQL condition restricting {@code swift_codes} rows to the active dataset version. */
+    public static final String IN_ACTIVE_VERSION = "dataset_version = " + ACTIVE_VERSION;
+
+    /** Primary key of an entry: the dataset version and the code. */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+
+        private Long datasetVersion;
+        private String swiftCode;
+    }
+
+    /** Version of the dataset the entry belongs to (Primary Key, with the code). */
+    @Id
+    @Column(name = "dataset_version", nullable = false, updatable = false)
+    private Long datasetVersion;
+
+    /** 8 or 11 character SWIFT/BIC code, unique within a dataset version (Primary Key, with the version). */
     @Id
-    @Column(name = "swift_code", length = 11, nullable = false, unique = true)
+    @Column(name = "swift_code", length = 11, nullable = false)
     private String swiftCode;
 
+    /**
+     * First 8 characters of the SWIFT code, shared by a headquarter and its branches.
+     * A column generated and stored by the database; kept in sync with {@link #swiftCode} in memory.
+     */
+    @Column(name = "institution_code", length = INSTITUTION_CODE_LENGTH, nullable = false, insertable = false, updatable = false)
+    @Setter(AccessLevel.NONE)
+    private String institutionCode;
+
     /** Name of the bank or institution (Not Null). */
     @Column(name = "bank_name", nullable = false) // I assume that bank name cannot be null
     private String bankName;
@@ -53,4 +111,30 @@ public class SwiftCodeInfo {
 
     // The columns : CODE TYPE and TIME ZONE are omitted per the requirement "Redundant columns... may be omitted"
 
+    public SwiftCodeInfo(String swiftCode, String bankName, String address, String townName,
+                         String countryISO2, String countryName, boolean isHeadquarter) {
+        setSwiftCode(swiftCode);
+        this.bankName = bankName;
+        this.address = address;
+        this.townName = townName;
+        this.countryISO2 = countryISO2;
+        this.countryName = countryName;
+        this.isHeadquarter = isHeadquarter;
+    }
+
+    public void setSwiftCode(String swiftCode) {
+        this.swiftCode = swiftCode;
+        this.institutionCode = institutionCodeOf(swiftCode);
+    }
+
+    /**
+     * @return the first {@value #INSTITUTION_CODE_LENGTH} characters of the code (the whole code if shorter),
+     *         or {@code null} for {@code null}
+     */
+    public static String institutionCodeOf(String swiftCode) {
+        if (swiftCode == null || swiftCode.length() <= INSTITUTION_CODE_LENGTH) {
+            return swiftCode;
+        }
+        return swiftCode.substring(0, INSTITUTION_CODE_LENGTH);
+    }
 }
@@ -0,0 +1,46 @@
+package io.github.xhamera1.swiftcodeapi.repository;
+
+import io.github.xhamera1.swiftcodeapi.model.DatasetVersion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Manages the dataset versions ({@link DatasetVersion}) and the {@code active_dataset} pointer selecting the
+ * version served by {@link SwiftCodeInfoRepository}.
+ */
+@Repository
+public interface DatasetVersionRepository extends JpaRepository<DatasetVersion, Long> {
+
+    /**
+     * @return all versions, newest first
+     */
+    List<DatasetVersion> findAllByOrderByVersionDesc();
+
+    /**
+     * @return the highest version number, or 0 if there is none
+     */
+    @Query("SELECT COALESCE(MAX(v.version), 0) FROM DatasetVersion v")
+    long findMaxVersion();
+
+    /**
+     * @return the number of the version currently served
+     */
+    @Query(value = "SELECT version FROM active_dataset WHERE id = 1", nativeQuery = true)
+    long findActiveVersion();
+
+    /**
+     * Points the {@code active_dataset} pointer at another version. Takes effect for all queries once the
+     * transaction commits.
+     *
+     * @param version the version to serve
+     * @return the number of updated rows (1)
+     */
+    @Modifying
+    @Query(value = "UPDATE active_dataset SET version = :version WHERE id = 1", nativeQuery = true)
+    int updateActiveVersion(@Param("version") long version);
+}
@@ -0,0 +1,153 @@
+package io.github.xhamera1.swiftcodeapi.repository;
+
+import io.github.xhamera1.swiftcodeapi.model.SwiftCodeChange;
+import io.github.xhamera1.swiftcodeapi.model.SwiftCodeInfo;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Manages the change log of the {@code swift_codes} table ({@link SwiftCodeChange}).
+ * <p>
+ * Changes of set-based operations are recorded with a single {@code INSERT ... SELECT} from {@code swift_codes},
+ * issued in the transaction of the operation and, for deletes, before the DELETE itself. Under MySQL's default
+ * REPEATABLE READ isolation, InnoDB locks the rows (and gaps) read by such a statement, so no entry can be inserted
+ * into the selected range between the recorded tombstones and the DELETE. Like the queries of
+ * {@code SwiftCodeInfoRepository}, they only read the active dataset version.
+ * </p>
+ */
+@Repository
+public interface SwiftCodeChangeRepository extends JpaRepository<SwiftCodeChange, Long> {
+
+    /**
+     * @return the highest committed sequence number, or 0 if the log is empty (read from the end of the primary key)
+     */
+    @Query("SELECT COALESCE(MAX(c.seq), 0) FROM SwiftCodeChange c")
+    long findMaxSeq();
+
+    /**
+     * Retrieves changes in log order, as a range scan of the primary key.
+     *
+     * @param since the exclusive lower bound of the sequence numbers
+     * @param upTo the inclusive upper bound of the sequence numbers
+     * @param limit the maximum number of changes returned
+     * @return the changes with {@code since < seq <= upTo}, ordered by sequence number
+     */
+    @Query("SELECT c FROM SwiftCodeChange c WHERE c.seq > :since AND c.seq <= :upTo ORDER BY c.seq")
+    List<SwiftCodeChange> findRange(@Param("since") long since, @Param("upTo") long upTo, Limit limit);
+
+    /**
+     * @return the lowest sequence number still in the log, or 0 if the log is empty (read from the start of the primary key)
+     */
+    @Query("SELECT COALESCE(MIN(c.seq), 0) FROM SwiftCodeChange c")
+    long findMinSeq();
+
+    /**
+     * Finds the end of the expired part of the log, read from the index on {@code changed_at}.
+     *
+     * @param cutoff the time before which changes have expired
+     * @return the highest sequence number of a change recorded before {@code cutoff}, or 0 if there is none
+     */
+    @Query("SELECT COALESCE(MAX(c.seq), 0) FROM SwiftCodeChange c WHERE c.changedAt < :cutoff")
+    long findMaxSeqChangedBefore(@Param("cutoff") Instant cutoff);
+
+    /**
+     * Deletes a range of the log, as a range of the primary key.
+     *
+     * @param after the exclusive lower bound of the sequence numbers
+     * @param upTo the inclusive upper bound of the sequence numbers
+     * @return the number of deleted changes
+     */
+    @Modifying
+    @Query("DELETE FROM SwiftCodeChange c WHERE c.seq > :after AND c.seq <= :upTo")
+    int deleteRange(@Param("after") long after, @Param("upTo") long upTo);
+
+    /**
+     * Records the switch between two dataset versions as the changes turning one into the other, in code order:
+     * tombstones for the codes missing from the new version. Must be followed by {@link #insertAddedForVersionSwitch}.
+     *
+     * @param fromVersion the version served until now
+     * @param toVersion the version about to be activated
+     * @param changedAt the time of the change
+     * @return the number of recorded tombstones
+     */
+    @Modifying
+    @Query(value = "INSERT INTO swift_code_changes (change_type, swift_code, changed_at) "
+            + "SELECT 'DELETED', o.swift_code, :changedAt FROM swift_codes o WHERE o.dataset_version = :fromVersion "
+            + "AND NOT EXISTS (SELECT 1 FROM swift_codes n WHERE n.dataset_version = :toVersion AND n.swift_code = o.swift_code) "
+            + "ORDER BY o.swift_code", nativeQuery = true)
+    int insertTombstonesForVersionSwitch(@Param("fromVersion") long fromVersion, @Param("toVersion") long toVersion,
+                                         @Param("changedAt") Instant changedAt);
+
+    /**
+     * Records the entries of the new version that are missing from the old one or differ from it as added,
+     * in code order. Clients apply an added entry as a replacement of any entry with the same code.
+     *
+     * @param fromVersion the version served until now
+     * @param toVersion the version about to be activated
+     * @param changedAt the time of the change
+     * @return the number of recorded changes
+     */
+    @Modifying
+    @Query(value = "INSERT INTO swift_code_changes (change_type, swift_code, changed_at, bank_name, address, town_name, "
+            + "country_iso2, country_name, is_headquarter) "
+            + "SELECT 'ADDED', n.swift_code, :changedAt, n.bank_name, n.address, n.town_name, n.country_iso2, n.country_name, "
+            + "n.is_headquarter FROM swift_codes n WHERE n.dataset_version = :toVersion "
+            + "AND NOT EXISTS (SELECT 1 FROM swift_codes o WHERE o.dataset_version = :fromVersion AND o.swift_code = n.swift_code "
+            + "AND o.bank_name = n.bank_name "
+            + "AND (o.address = n.address OR o.address IS NULL AND n.address IS NULL) "
+            + "AND (o.town_name = n.town_name OR o.town_name IS NULL AND n.town_name IS NULL) "
+            + "AND o.country_iso2 = n.country_iso2 AND o.country_name = n.country_name AND o.is_headquarter = n.is_headquarter) "
+            + "ORDER BY n.swift_code", nativeQuery = true)
+    int insertAddedForVersionSwitch(@Param("fromVersion") long fromVersion, @Param("toVersion") long toVersion,
+                                    @Param("changedAt") Instant changedAt);
+
+    /**
+     * Records tombstones for the stored entries among the given codes, in code order.
+     *
+     * @param swiftCodes the upper-case SWIFT codes about to be deleted
+     * @param changedAt the time of the change
+     * @return the number of recorded tombstones
+     */
+    @Modifying
+    @Query(value = "INSERT INTO swift_code_changes (change_type, swift_code, changed_at) "
+            + "SELECT 'DELETED', swift_code, :changedAt FROM swift_codes WHERE swift_code IN (:swiftCodes) "
+            + "AND " + SwiftCodeInfo.IN_ACTIVE_VERSION + " "
+            + "ORDER BY swift_code", nativeQuery = true)
+    int insertTombstonesBySwiftCodes(@Param("swiftCodes") Collection<String> swiftCodes, @Param("changedAt") Instant changedAt);
+
+    /**
+     * Records tombstones for all entries of an institution, in code order.
+     *
+     * @param institutionCode the upper-case 8-character institution code about to be deleted
+     * @param changedAt the time of the change
+     * @return the number of recorded tombstones
+     */
+    @Modifying
+    @Query(value = "INSERT INTO swift_code_changes (change_type, swift_code, changed_at) "
+            + "SELECT 'DELETED', swift_code, :changedAt FROM swift_codes WHERE institution_code = :institutionCode "
+            + "AND " + SwiftCodeInfo.IN_ACTIVE_VERSION + " "
+            + "ORDER BY swift_code", nativeQuery = true)
+    int insertTombstonesByInstitutionCode(@Param("institutionCode") String institutionCode, @Param("changedAt") Instant changedAt);
+
+    /**
+     * Records tombstones for all entries of a country, in code order.
+     *
+     * @param countryISO2 the upper-case 2-letter country ISO code about to be deleted
+     * @param changedAt the time of the change
+     * @return the number of recorded tombstones
+     */
+    @Modifying
+    @Query(value = "INSERT INTO swift_code_changes (change_type, swift_code, changed_at) "
+            + "SELECT 'DELETED', swift_code, :changedAt FROM swift_codes WHERE country_iso2 = :countryISO2 "
+            + "AND " + SwiftCodeInfo.IN_ACTIVE_VERSION + " "
+            + "ORDER BY swift_code", nativeQuery = true)
+    int insertTombstonesByCountry(@Param("countryISO2") String countryISO2, @Param("changedAt") Instant changedAt);
+}
@@ -2,17 +2,41 @@ package io.github.xhamera1.swiftcodeapi.repository;
 
 
 import io.github.xhamera1.swiftcodeapi.model.SwiftCodeInfo;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Manages database operations for SwiftCodeInfo entities using Spring Data JPA.
+ * <p>
+ * Stored codes, country codes and institution codes are upper case (see {@code DataInitializer} and the service),
+ * so the case-insensitive lookups upper-case the argument instead of the column. This keeps every predicate
+ * sargable: it is answered from the primary key, {@code idx_institution_code} or {@code idx_country_iso2_swift_code}
+ * instead of a full scan applying {@code UPPER()} to each row.
+ * </p>
+ * <p>
+ * All queries of the entity are restricted to the active dataset version by {@link SwiftCodeInfo#ACTIVE_VERSION_FILTER},
+ * which binds the version as a parameter; native statements restrict themselves. The version is the first column of
+ * every index, so the restriction narrows the same index range scans.
+ * Only {@link #countByDatasetVersion(long)}, {@link #deleteByDatasetVersion(long)} and the statements carrying writes
+ * over into a new version ({@link #deleteChangedSince}, {@link #copyChangedSince}) address other versions.
+ * </p>
  */
 @Repository
-public interface SwiftCodeInfoRepository extends JpaRepository<SwiftCodeInfo, String> {
+public interface SwiftCodeInfoRepository extends JpaRepository<SwiftCodeInfo, SwiftCodeInfo.Key> {
+
+    /** Number of rows fetched per database round trip by {@link #streamAllOrderBySwiftCode()}. */
+    int STREAM_FETCH_SIZE = 1000;
 
     /**
      * Finds a SWIFT code entry by its code, ignoring case differences.
@@ -21,29 +45,38 @@ public interface SwiftCodeInfoRepository extends JpaRepository<SwiftCodeInfo, St
      * @param swiftCode the SWIFT code to search for
      * @return Optional containing the found SwiftCodeInfo, or empty if none match
      */
-    Optional<SwiftCodeInfo> findBySwiftCodeIgnoreCase(String swiftCode);
+    @Query("SELECT s FROM SwiftCodeInfo s WHERE s.swiftCode = UPPER(:swiftCode)")
+    Optional<SwiftCodeInfo> findBySwiftCode(@Param("swiftCode") String swiftCode);
 
     /**
      * Retrieves all SWIFT code entries for a specific country, identified by its ISO2 code.
-     * The country code comparison ignores case.
+     * The country code comparison ignores case. Entries are ordered by SWIFT code, the order of the
+     * {@code (country_iso2, swift_code)} index, so no sort step is needed.
      *
      * @param countryISO2 the 2-letter country ISO code (case is ignored)
      * @return List of matching SwiftCodeInfo entries; empty list if none are found
      */
-    List<SwiftCodeInfo> findByCountryISO2IgnoreCase(String countryISO2);
+    @Query("SELECT s FROM SwiftCodeInfo s WHERE s.countryISO2 = UPPER(:countryISO2) ORDER BY s.swiftCode")
+    List<SwiftCodeInfo> findByCountryISO2IgnoreCase(@Param("countryISO2") String countryISO2);
 
 
 
     /**
      * Finds potential branch codes associated with a headquarter's SWIFT code prefix.
-     * This searches for codes starting with the {@code prefix} (typically the first 8 chars of an HQ code)
+     * This searches for codes sharing the 8-character institution code {@code prefix} (the first 8 chars of an HQ code)
      * but excludes the exact {@code swiftCodeToExclude} (the HQ code itself). Comparisons ignore case.
+     * <p>
+     * Matches the indexed {@code institution_code} column by equality rather than {@code swift_code} with
+     * {@code LIKE 'prefix%'}, so the prefix must be exactly 8 characters long.
+     * </p>
      *
-     * @param prefix the SWIFT code prefix (e.g., first 8 characters)
+     * @param prefix the 8-character SWIFT code prefix (institution code)
      * @param swiftCodeToExclude the exact SWIFT code to exclude from the results
-     * @return List of SwiftCodeInfo entities considered branches for the given prefix
+     * @return List of SwiftCodeInfo entities considered branches for the given prefix, ordered by SWIFT code
      */
-    List<SwiftCodeInfo> findBySwiftCodeStartingWithIgnoreCaseAndSwiftCodeNotIgnoreCase(String prefix, String swiftCodeToExclude);
+    @Query("SELECT s FROM SwiftCodeInfo s WHERE s.institutionCode = UPPER(:prefix) "
+            + "AND s.swiftCode <> UPPER(:swiftCodeToExclude) ORDER BY s.swiftCode")
+    List<SwiftCodeInfo> findBranches(@Param("prefix") String prefix, @Param("swiftCodeToExclude") String swiftCodeToExclude);
 
 
     /**
@@ -52,6 +85,128 @@ public interface SwiftCodeInfoRepository extends JpaRepository<SwiftCodeInfo, St
      * @param swiftCode the SWIFT code to check
      * @return true if an entry with this code exists (case-insensitive), false otherwise
      */
-    boolean existsBySwiftCodeIgnoreCase(String swiftCode);
+    @Query("SELECT COUNT(s) > 0 FROM SwiftCodeInfo s WHERE s.swiftCode = UPPER(:swiftCode)")
+    boolean existsBySwiftCodeIgnoreCase(@Param("swiftCode") String swiftCode);
+
+
+    /**
+     * Inserts a new entry with a single INSERT statement.
+     * Unlike {@link #save(Object)}, which merges entities with an assigned id (SELECT, then INSERT),
+     * this never reads the row first; an existing code makes the statement fail with a duplicate key violation.
+     * The generated {@code institution_code} column is computed by the database. The entry is added to the active
+     * dataset version.
+     *
+     * @param entry the entry to insert
+     * @return the number of inserted rows (1)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO swift_codes (dataset_version, swift_code, bank_name, address, town_name, country_iso2, country_name, is_headquarter) "
+            + "VALUES (" + SwiftCodeInfo.ACTIVE_VERSION + ", :#{#entry.swiftCode}, :#{#entry.bankName}, :#{#entry.address}, "
+            + ":#{#entry.townName}, :#{#entry.countryISO2}, :#{#entry.countryName}, :#{#entry.headquarter})", nativeQuery = true)
+    int insert(@Param("entry") SwiftCodeInfo entry);
+
+    /**
+     * Deletes all entries whose code is in the given collection with a single DELETE statement.
+     *
+     * @param swiftCodes the upper-case SWIFT codes to delete
+     * @return the number of deleted rows
+     */
+    @Modifying
+    @Query("DELETE FROM SwiftCodeInfo s WHERE s.swiftCode IN :swiftCodes")
+    int deleteBySwiftCodes(@Param("swiftCodes") Collection<String> swiftCodes);
+
+    /**
+     * Deletes all entries of an institution (the headquarter and all its branches sharing the 8-character
+     * institution code) with a single DELETE statement.
+     *
+     * @param institutionCode the upper-case 8-character institution code
+     * @return the number of deleted rows
+     */
+    @Modifying
+    @Query("DELETE FROM SwiftCodeInfo s WHERE s.institutionCode = :institutionCode")
+    int deleteByInstitutionCode(@Param("institutionCode") String institutionCode);
+
+    /**
+     * Deletes all entries of a country with a single DELETE statement.
+     *
+     * @param countryISO2 the upper-case 2-letter country ISO code
+     * @return the number of deleted rows
+     */
+    @Modifying
+    @Query("DELETE FROM SwiftCodeInfo s WHERE s.countryISO2 = :countryISO2")
+    int deleteByCountry(@Param("countryISO2") String countryISO2);
+
+    /**
+     * Retrieves the codes of all stored entries without loading the entities.
+     *
+     * @return List of all SWIFT codes, in code order (read from the primary key index)
+     */
+    @Query("SELECT s.swiftCode FROM SwiftCodeInfo s ORDER BY s.swiftCode")
+    List<String> findAllSwiftCodes();
+
+    /**
+     * Streams all entries in code order (read from the primary key index) through a forward-only cursor.
+     * Rows are fetched {@value #STREAM_FETCH_SIZE} at a time and loaded as read-only entities, so memory use does not
+     * grow with the table as long as the caller detaches each entity once processed. With MySQL, the cursor requires
+     * {@code useCursorFetch=true} on the JDBC URL; otherwise the driver reads the whole result set into memory.
+     * Must be called within a transaction, and the stream must be closed.
+     *
+     * @return Stream of all SwiftCodeInfo entities, ordered by SWIFT code
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + STREAM_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT s FROM SwiftCodeInfo s ORDER BY s.swiftCode")
+    Stream<SwiftCodeInfo> streamAllOrderBySwiftCode();
+
+    /**
+     * Counts the entries of any dataset version, active or not (a range of the primary key).
+     *
+     * @param datasetVersion the version to count
+     * @return the number of entries stored for the version
+     */
+    @Query(value = "SELECT COUNT(*) FROM swift_codes WHERE dataset_version = :datasetVersion", nativeQuery = true)
+    long countByDatasetVersion(@Param("datasetVersion") long datasetVersion);
+
+    /**
+     * Deletes all entries of a dataset version with a single DELETE statement. Must not be called for the active version.
+     *
+     * @param datasetVersion the version to delete
+     * @return the number of deleted rows
+     */
+    @Modifying
+    @Query(value = "DELETE FROM swift_codes WHERE dataset_version = :datasetVersion", nativeQuery = true)
+    int deleteByDatasetVersion(@Param("datasetVersion") long datasetVersion);
+
+    /**
+     * Deletes from a dataset version the entries of all codes recorded in the change log after the given position.
+     * Followed by {@link #copyChangedSince}, this carries the writes made while the version was loading over into it.
+     * The subquery is a range scan of the change log's primary key.
+     *
+     * @param datasetVersion the version being activated
+     * @param sinceSeq the last sequence number of the change log when the version started loading
+     * @return the number of deleted rows
+     */
+    @Modifying
+    @Query(value = "DELETE FROM swift_codes WHERE dataset_version = :datasetVersion AND swift_code IN "
+            + "(SELECT c.swift_code FROM swift_code_changes c WHERE c.seq > :sinceSeq)", nativeQuery = true)
+    int deleteChangedSince(@Param("datasetVersion") long datasetVersion, @Param("sinceSeq") long sinceSeq);
+
+    /**
+     * Copies the current entries of all codes recorded in the change log after the given position from one dataset
+     * version into another, with a single INSERT ... SELECT. Codes deleted since then have no entry and stay absent.
+     *
+     * @param fromVersion the version served until now
+     * @param toVersion the version being activated, after {@link #deleteChangedSince} has removed the same codes
+     * @param sinceSeq the last sequence number of the change log when the new version started loading
+     * @return the number of copied rows
+     */
+    @Modifying
+    @Query(value = "INSERT INTO swift_codes (dataset_version, swift_code, bank_name, address, town_name, country_iso2, country_name, is_headquarter) "
+            + "SELECT :toVersion, s.swift_code, s.bank_name, s.address, s.town_name, s.country_iso2, s.country_name, s.is_headquarter "
+            + "FROM swift_codes s WHERE s.dataset_version = :fromVersion AND s.swift_code IN "
+            + "(SELECT c.swift_code FROM swift_code_changes c WHERE c.seq > :sinceSeq)", nativeQuery = true)
+    int copyChangedSince(@Param("fromVersion") long fromVersion, @Param("toVersion") long toVersion, @Param("sinceSeq") long sinceSeq);
 
 }
@@ -1,5 +1,8 @@
 package io.github.xhamera1.swiftcodeapi.service;
 
+import io.github.xhamera1.swiftcodeapi.dataset.DatasetVersions;
+import io.github.xhamera1.swiftcodeapi.dto.DatasetVersionResponse;
+import io.github.xhamera1.swiftcodeapi.model.SwiftCode;
 import io.github.xhamera1.swiftcodeapi.model.SwiftCodeInfo;
 import io.github.xhamera1.swiftcodeapi.repository.SwiftCodeInfoRepository;
 import org.apache.commons.csv.CSVFormat;
@@ -8,58 +11,62 @@ import org.apache.commons.csv.CSVRecord;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.boot.CommandLineRunner;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
 import java.io.InputStreamReader;
 import java.io.Reader;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
 
 /**
  * Initializes the application's database with SWIFT code data from a CSV file upon startup.
- * Implements {@link CommandLineRunner} to execute after the application context is loaded.
+ * Invoked by {@link io.github.xhamera1.swiftcodeapi.startup.DataWarmup} once the application has started,
+ * either on the startup thread or in the background (see {@code swift-api.startup.async-initialization}).
  * <p>
  * Data initialization only occurs if the {@code swift_codes} table in the database is empty,
  * preventing data duplication on subsequent application restarts.
  * Data is loaded from a CSV file specified by {@link #csvFilePath} located in the classpath resources.
  * Uses Apache Commons CSV for parsing and saves data in batches for performance.
+ * Every import, at startup or through the API, is stored as a new dataset version and served once it has been
+ * validated ({@link DatasetVersions}).
  * </p>
  */
 @Component
-public class DataInitializer implements CommandLineRunner {
+public class DataInitializer {
+
+    /** Columns of the CSV file, in order; {@link SwiftCodeExporter} writes the same layout. */
+    static final String[] CSV_HEADER = {"COUNTRY ISO2 CODE", "SWIFT CODE", "CODE TYPE", "NAME", "ADDRESS", "TOWN NAME", "COUNTRY NAME", "TIME ZONE"};
 
     Logger log = LoggerFactory.getLogger(DataInitializer.class);
     private final SwiftCodeInfoRepository repository;
+    private final DatasetVersions datasetVersions;
 
     private final String csvFilePath = "data/swift_code_data.csv";
 
     /**
      * Constructs the DataInitializer with required dependencies.
      *
-     * @param swiftCodeInfoRepository The repository used for saving SWIFT code data.
+     * @param swiftCodeInfoRepository The repository used for checking whether data is present.
+     * @param datasetVersions The service storing imports as new dataset versions.
      */
     @Autowired
-    public DataInitializer(SwiftCodeInfoRepository swiftCodeInfoRepository) {
+    public DataInitializer(SwiftCodeInfoRepository swiftCodeInfoRepository, DatasetVersions datasetVersions) {
         this.repository = swiftCodeInfoRepository;
+        this.datasetVersions = datasetVersions;
     }
 
 
     /**
      * Executes the data initialization logic when the application starts.
      * Checks if the database is empty and triggers the CSV loading process if needed.
-     * This method runs within a database transaction.
-     *
-     * @param args Incoming command line arguments (not used).
-     * @throws Exception if an error occurs during file access or database interaction.
+     * The entries are imported as a new dataset version; switching to it records them as added in the change feed.
      */
-    @Override
-    @Transactional
-    public void run(String... args) throws Exception {
+    public void importIfEmpty() {
         if (repository.count() == 0) {
             log.info("Database is empty. Initializing data from CSV: {}", csvFilePath);
             loadDataFromCsv();
@@ -80,24 +87,54 @@ public class DataInitializer implements CommandLineRunner {
      * </p>
      */
     private void loadDataFromCsv() {
+        Resource resource = new ClassPathResource(this.csvFilePath);
+
+        log.info("Starting SWIFT code data initialization from CSV: {}", this.csvFilePath);
+        try (Reader reader = new InputStreamReader(resource.getInputStream())) {
+            importDataset(reader);
+        }
+        catch (Exception e) {
+            log.error("Failed to load data from CSV file: {}", csvFilePath, e);
+        }
+    }
+
+    /**
+     * Imports CSV content as a new dataset version and activates it once validated.
+     *
+     * @param reader the CSV content, in the layout of {@link #CSV_HEADER}
+     * @return the activated version
+     * @throws io.github.xhamera1.swiftcodeapi.exceptions.InvalidDatasetException if the content cannot be read or
+     *         fails validation; the served version stays active.
+     */
+    public DatasetVersionResponse importDataset(Reader reader) {
+        return datasetVersions.importVersion(batchWriter -> importCsv(reader, batchWriter));
+    }
+
+    /**
+     * Parses SWIFT code records in the layout of {@link #CSV_HEADER} (the first line is skipped as the header)
+     * and hands the valid ones to {@code batchWriter} in batches. Also accepts the output of {@link SwiftCodeExporter}.
+     *
+     * @param reader the CSV content
+     * @param batchWriter stores a batch of entries; the list is reused after the call
+     * @return the number of records handed over
+     * @throws IOException if the content cannot be read
+     */
+    long importCsv(Reader reader, Consumer<List<SwiftCodeInfo>> batchWriter) throws IOException {
         final int BATCH_SIZE = 1000;
         List<SwiftCodeInfo> swiftCodeInfoListBatch = new ArrayList<>(BATCH_SIZE);
-        Resource resource = new ClassPathResource(this.csvFilePath);
 
         CSVFormat csvFormat = CSVFormat.DEFAULT.builder()
-                .setHeader("COUNTRY ISO2 CODE", "SWIFT CODE", "CODE TYPE", "NAME", "ADDRESS", "TOWN NAME", "COUNTRY NAME", "TIME ZONE")
+                .setHeader(CSV_HEADER)
                 .setSkipHeaderRecord(true)
                 .setIgnoreEmptyLines(true)
                 .setTrim(true)
                 .build();
 
-        log.info("Starting SWIFT code data initialization from CSV: {}", this.csvFilePath);
         long recordCount = 0;
         long successfullyMappedCount = 0;
         long errorCount = 0;
 
-        try(Reader reader = new InputStreamReader(resource.getInputStream());
-            CSVParser csvParser = new CSVParser(reader, csvFormat)) {
+        try (CSVParser csvParser = new CSVParser(reader, csvFormat)) {
 
             for (CSVRecord record : csvParser) {
                 recordCount++;
@@ -119,39 +156,34 @@ public class DataInitializer implements CommandLineRunner {
                         continue;
                     }
 
-                    if (!(swiftCode.length() == 8 || swiftCode.length() == 11)) {
-                        log.warn("Record {}: Invalid SWIFT code length ('{}'). Expected 8 or 11 characters. Skipping record.",
+                    // Format, country and headquarter checks on the packed code: one pass over the characters, no substrings.
+                    long packedSwiftCode = SwiftCode.packBic(swiftCode, false);
+                    if (packedSwiftCode == SwiftCode.INVALID) {
+                        log.warn("Record {}: Invalid SWIFT code ('{}'). Expected 8 or 11 characters: 6 letters, then letters or digits. Skipping record.",
                                 record.getRecordNumber(), swiftCode);
                         errorCount++;
                         continue;
                     }
 
-                    String embeddedCountryCode = swiftCode.substring(4, 6);
-                    if (!embeddedCountryCode.equalsIgnoreCase(countryIso2)) {
+                    if (!SwiftCode.countryMatches(packedSwiftCode, countryIso2)) {
                         log.warn("Record {}: SWIFT code country part ('{}') does not match provided Country ISO2 ('{}'). Skipping record.",
-                                record.getRecordNumber(), embeddedCountryCode, countryIso2);
+                                record.getRecordNumber(), SwiftCode.countryCode(packedSwiftCode), countryIso2);
                         errorCount++;
                         continue;
                     }
 
                     SwiftCodeInfo swiftCodeInfo = new SwiftCodeInfo();
 
-                    swiftCodeInfo.setSwiftCode(swiftCode);
+                    swiftCodeInfo.setSwiftCode(SwiftCodeRules.normalizeSwiftCode(swiftCode)); // lookups compare the stored code with an upper-cased argument
                     swiftCodeInfo.setBankName(bankName);
                     swiftCodeInfo.setAddress((address != null && !address.isEmpty()) ? address : null);
                     swiftCodeInfo.setTownName((townName != null && !townName.isEmpty()) ? townName : null);
                     swiftCodeInfo.setCountryISO2(countryIso2.toUpperCase());
                     swiftCodeInfo.setCountryName(countryName.toUpperCase());
-                    swiftCodeInfo.setHeadquarter(swiftCode.endsWith("XXX"));
+                    swiftCodeInfo.setHeadquarter(SwiftCode.isHeadquarter(packedSwiftCode));
 
                     swiftCodeInfoListBatch.add(swiftCodeInfo);
                     successfullyMappedCount++;
-
-                    if (swiftCodeInfoListBatch.size() >= BATCH_SIZE) {
-                        repository.saveAll(swiftCodeInfoListBatch);
-                        log.debug("Saved batch of {} records.", swiftCodeInfoListBatch.size());
-                        swiftCodeInfoListBatch.clear();
-                    }
                 } catch (IllegalArgumentException e) {
                     log.error("Skipping record {} due to invalid data or missing header: {} - Record: {}", record.getRecordNumber(), e.getMessage(), record.toString());
                     errorCount++;
@@ -159,17 +191,22 @@ public class DataInitializer implements CommandLineRunner {
                     log.error("Error processing record {}: {}", record.getRecordNumber(), record.toString(), e);
                     errorCount++;
                 }
+
+                // Outside the per-record handling: a failed batch fails the whole import.
+                if (swiftCodeInfoListBatch.size() >= BATCH_SIZE) {
+                    batchWriter.accept(swiftCodeInfoListBatch);
+                    log.debug("Saved batch of {} records.", swiftCodeInfoListBatch.size());
+                    swiftCodeInfoListBatch.clear();
+                }
             }
             if (!swiftCodeInfoListBatch.isEmpty()) {
-                repository.saveAll(swiftCodeInfoListBatch);
+                batchWriter.accept(swiftCodeInfoListBatch);
                 log.info("Saved final batch of {} records.", swiftCodeInfoListBatch.size());
             }
             log.info("Finished processing CSV file. Total records processed: {}. Records successfully loaded: {}. Errors/Skipped: {}",
                     recordCount, recordCount - errorCount, errorCount);
         }
-        catch (Exception e) {
-            log.error("Failed to load data from CSV file: {}", csvFilePath, e);
-        }
+        return successfullyMappedCount;
     }
 
 
@@ -0,0 +1,267 @@
+package io.github.xhamera1.swiftcodeapi.service;
+
+import io.github.xhamera1.swiftcodeapi.dto.MessageResponse;
+import io.github.xhamera1.swiftcodeapi.dto.SwiftCodeRequest;
+import io.github.xhamera1.swiftcodeapi.exceptions.InconsistentSwiftDataException;
+import io.github.xhamera1.swiftcodeapi.exceptions.ResourceAlreadyExistsException;
+import io.github.xhamera1.swiftcodeapi.exceptions.ResourceNotFoundException;
+import io.github.xhamera1.swiftcodeapi.sharding.SwiftCodeShards;
+import io.github.xhamera1.swiftcodeapi.timing.RequestTiming;
+import io.github.xhamera1.swiftcodeapi.timing.TimingStage;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Optional write-behind group commit for adds and deletes (enabled with {@code swift-api.group-commit.enabled=true}).
+ * <p>
+ * Callers enqueue their operation and wait for its individual outcome. A single worker thread collects the
+ * operations arriving within {@code swift-api.group-commit.max-wait} of the first one, up to
+ * {@code swift-api.group-commit.max-batch-size}, and applies them through {@link SwiftCodeApiService} in one
+ * transaction, so a burst of writes shares one commit (and one log flush) instead of paying one each.
+ * </p>
+ * <p>
+ * Business rule violations (duplicate, inconsistent data, unknown code) are detected per operation before
+ * anything is written, so they fail only their own caller with the usual exception (409/400/404) and never
+ * roll back the batch. Two operations on the same code are never placed in the same batch, so each one sees
+ * the outcome of the previous one. If the batch transaction itself fails, e.g. because of a concurrent insert,
+ * its operations are retried one transaction each, so every caller still gets its own result.
+ * With sharded persistence a batch only takes operations on codes of the same shard, since a transaction cannot
+ * span databases.
+ * </p>
+ */
+@Component
+@ConditionalOnProperty(prefix = "swift-api.group-commit", name = "enabled", havingValue = "true")
+public class GroupCommitWriteQueue {
+
+    private static final Logger log = LoggerFactory.getLogger(GroupCommitWriteQueue.class);
+
+    private final SwiftCodeApiService swiftCodeApiService;
+    private final SwiftCodeShards shards;
+    private final TransactionTemplate transactionTemplate;
+    private final int maxBatchSize;
+    private final long maxWaitNanos;
+    private final DistributionSummary batchSizes;
+    private final BlockingQueue<PendingWrite> queue;
+    private final Thread worker;
+    private volatile boolean running = true;
+
+    /**
+     * @param swiftCodeApiService the service applying the individual operations
+     * @param shards the shard map; operations on different shards are never batched together
+     * @param transactionManager the transaction manager used for the batch transactions
+     * @param meterRegistry the registry receiving the {@code swift.api.group.commit.batch.size} summary
+     * @param maxBatchSize the maximum number of operations committed together
+     * @param maxWait how long the worker waits for more operations after the first one of a batch arrived
+     * @param queueCapacity the maximum number of waiting operations; beyond it writes are applied directly
+     */
+    @Autowired
+    public GroupCommitWriteQueue(SwiftCodeApiService swiftCodeApiService,
+                                 SwiftCodeShards shards,
+                                 PlatformTransactionManager transactionManager,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${swift-api.group-commit.max-batch-size:64}") int maxBatchSize,
+                                 @Value("${swift-api.group-commit.max-wait:5ms}") Duration maxWait,
+                                 @Value("${swift-api.group-commit.queue-capacity:10000}") int queueCapacity) {
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("maxBatchSize must be at least 1");
+        }
+        this.swiftCodeApiService = swiftCodeApiService;
+        this.shards = shards;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.maxBatchSize = maxBatchSize;
+        this.maxWaitNanos = maxWait.toNanos();
+        this.queue = new LinkedBlockingQueue<>(queueCapacity);
+        this.batchSizes = DistributionSummary.builder("swift.api.group.commit.batch.size")
+                .description("Number of add/delete operations committed in one group commit transaction")
+                .register(meterRegistry);
+        this.worker = new Thread(this::runWorker, "swift-group-commit");
+        this.worker.setDaemon(true);
+    }
+
+    @PostConstruct
+    void start() {
+        worker.start();
+        log.info("Group commit enabled: up to {} writes per transaction, window {} us.", maxBatchSize, maxWaitNanos / 1_000);
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        worker.interrupt();
+        worker.join(TimeUnit.SECONDS.toMillis(5));
+    }
+
+    /**
+     * Adds a SWIFT code as part of the next group commit and waits for its outcome.
+     * Same contract as {@link SwiftCodeApiService#addSwiftCode(SwiftCodeRequest)}.
+     */
+    public MessageResponse addSwiftCode(SwiftCodeRequest requestDto) {
+        return submit(SwiftCodeRules.normalizeSwiftCode(requestDto.getSwiftCode()),
+                () -> swiftCodeApiService.applyAdd(requestDto),
+                () -> swiftCodeApiService.addSwiftCode(requestDto));
+    }
+
+    /**
+     * Deletes a SWIFT code as part of the next group commit and waits for its outcome.
+     * Same contract as {@link SwiftCodeApiService#deleteSwiftCode(String)}.
+     */
+    public MessageResponse deleteSwiftCode(String swiftCode) {
+        return submit(SwiftCodeRules.normalizeSwiftCode(swiftCode),
+                () -> swiftCodeApiService.applyDelete(swiftCode),
+                () -> swiftCodeApiService.deleteSwiftCode(swiftCode));
+    }
+
+    private MessageResponse submit(String swiftCode, Supplier<MessageResponse> operation, Supplier<MessageResponse> directFallback) {
+        PendingWrite write = new PendingWrite(swiftCode, operation, directFallback, new CompletableFuture<>());
+        if (!running || !queue.offer(write)) {
+            log.debug("Group commit queue unavailable, applying write for {} directly.", swiftCode);
+            return directFallback.get();
+        }
+        try (RequestTiming.Split ignored = RequestTiming.start(TimingStage.QUEUE)) {
+            return write.result().join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+
+    private void runWorker() {
+        List<PendingWrite> deferred = new ArrayList<>();
+        while (running) {
+            try {
+                List<PendingWrite> batch = collectBatch(deferred);
+                if (!batch.isEmpty()) {
+                    commit(batch);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        List<PendingWrite> remaining = new ArrayList<>(deferred);
+        queue.drainTo(remaining);
+        remaining.forEach(write -> complete(write, write.directFallback()));
+    }
+
+    /**
+     * Takes operations for one batch: the ones deferred from the previous batch first, then whatever arrives
+     * until the batch is full or the window has elapsed. Operations on a code already in the batch, or on a code of
+     * another shard than the first operation, are deferred.
+     */
+    private List<PendingWrite> collectBatch(List<PendingWrite> deferred) throws InterruptedException {
+        List<PendingWrite> candidates = new ArrayList<>(deferred);
+        deferred.clear();
+        if (candidates.isEmpty()) {
+            candidates.add(queue.take());
+        }
+
+        List<PendingWrite> batch = new ArrayList<>();
+        Set<String> codesInBatch = new HashSet<>();
+        String shard = null;
+        long deadline = System.nanoTime() + maxWaitNanos;
+        while (batch.size() < maxBatchSize) {
+            PendingWrite next;
+            if (!candidates.isEmpty()) {
+                next = candidates.remove(0);
+            } else {
+                long remaining = deadline - System.nanoTime();
+                next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : queue.poll();
+                if (next == null) {
+                    break;
+                }
+            }
+            String nextShard = shards.shardOfSwiftCode(next.swiftCode());
+            if (shard == null) {
+                shard = nextShard;
+            }
+            if (shard.equals(nextShard) && codesInBatch.add(next.swiftCode())) {
+                batch.add(next);
+            } else {
+                deferred.add(next);
+            }
+        }
+        deferred.addAll(candidates);
+        return batch;
+    }
+
+    private void commit(List<PendingWrite> batch) {
+        batchSizes.record(batch.size());
+        List<Outcome> outcomes = new ArrayList<>(batch.size());
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                outcomes.clear();
+                for (PendingWrite write : batch) {
+                    try {
+                        outcomes.add(new Outcome(write, write.operation().get(), null));
+                    } catch (RuntimeException e) {
+                        if (!isBusinessRuleViolation(e)) {
+                            throw e;
+                        }
+                        outcomes.add(new Outcome(write, null, e));
+                    }
+                }
+            });
+        } catch (RuntimeException e) {
+            log.warn("Group commit of {} write(s) failed ({}), retrying them individually.", batch.size(), e.getMessage());
+            batch.forEach(write -> complete(write, write.directFallback()));
+            return;
+        }
+        log.debug("Committed {} write(s) in one transaction.", batch.size());
+        for (Outcome outcome : outcomes) {
+            if (outcome.failure() != null) {
+                outcome.write().result().completeExceptionally(outcome.failure());
+            } else {
+                outcome.write().result().complete(outcome.response());
+            }
+        }
+    }
+
+    private static boolean isBusinessRuleViolation(RuntimeException e) {
+        return e instanceof ResourceAlreadyExistsException
+                || e instanceof ResourceNotFoundException
+                || e instanceof InconsistentSwiftDataException;
+    }
+
+    private static void complete(PendingWrite write, Supplier<MessageResponse> action) {
+        try {
+            write.result().complete(action.get());
+        } catch (RuntimeException e) {
+            write.result().completeExceptionally(e);
+        }
+    }
+
+    /**
+     * An enqueued write: the operation applied inside the batch transaction and the self-contained
+     * (own transaction) variant used when the batch cannot be committed.
+     */
+    private record PendingWrite(String swiftCode, Supplier<MessageResponse> operation,
+                                Supplier<MessageResponse> directFallback, CompletableFuture<MessageResponse> result) {
+    }
+
+    private record Outcome(PendingWrite write, MessageResponse response, RuntimeException failure) {
+    }
+}
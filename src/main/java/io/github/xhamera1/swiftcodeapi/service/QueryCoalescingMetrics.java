@@ -0,0 +1,48 @@
+package io.github.xhamera1.swiftcodeapi.service;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Publishes the request coalescing statistics of {@link SwiftCodeApiService} as Micrometer meters:
+ * {@code swift.api.coalescing.executions} (database queries actually run),
+ * {@code swift.api.coalescing.coalesced} (requests that shared a query already in flight) and
+ * {@code swift.api.coalescing.in.flight}, each tagged with {@code query=details|country}.
+ */
+@Component
+public class QueryCoalescingMetrics implements MeterBinder {
+
+    private final SwiftCodeApiService swiftCodeApiService;
+
+    @Autowired
+    public QueryCoalescingMetrics(SwiftCodeApiService swiftCodeApiService) {
+        this.swiftCodeApiService = swiftCodeApiService;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Map<String, SingleFlight<String, ?>> flights = Map.of(
+                "details", swiftCodeApiService.getDetailsSingleFlight(),
+                "country", swiftCodeApiService.getCountrySingleFlight());
+        flights.forEach((query, flight) -> {
+            FunctionCounter.builder("swift.api.coalescing.executions", flight, SingleFlight::getExecutionCount)
+                    .description("Database lookups run on behalf of one or more identical concurrent requests")
+                    .tag("query", query)
+                    .register(registry);
+            FunctionCounter.builder("swift.api.coalescing.coalesced", flight, SingleFlight::getCoalescedCount)
+                    .description("Requests served by joining an identical lookup already in flight")
+                    .tag("query", query)
+                    .register(registry);
+            Gauge.builder("swift.api.coalescing.in.flight", flight, SingleFlight::getInFlightCount)
+                    .description("Distinct lookups currently in flight")
+                    .tag("query", query)
+                    .register(registry);
+        });
+    }
+}
@@ -0,0 +1,64 @@
+package io.github.xhamera1.swiftcodeapi.service;
+
+import org.slf4j.Logger;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Writes at most one warning per interval to the wrapped logger, for events that are expected in normal traffic
+ * and would otherwise flood the log (e.g. lookups of unknown SWIFT codes). Messages dropped in between are counted
+ * and their number is appended to the next message that is written.
+ * <p>
+ * Thread-safe. A dropped message costs a clock read and a counter increment, without formatting or allocating.
+ * </p>
+ */
+public final class RateLimitedLog {
+
+    private final Logger logger;
+    private final long intervalNanos;
+    private final AtomicLong nextWriteAt;
+    private final LongAdder suppressed = new LongAdder();
+
+    /**
+     * @param logger the logger to write to
+     * @param interval the minimum time between two written messages
+     */
+    public RateLimitedLog(Logger logger, Duration interval) {
+        this.logger = logger;
+        this.intervalNanos = interval.toNanos();
+        this.nextWriteAt = new AtomicLong(System.nanoTime());
+    }
+
+    /**
+     * Logs a warning with one argument, unless another message was written less than one interval ago.
+     *
+     * @param format the SLF4J message format
+     * @param argument the message argument
+     */
+    public void warn(String format, Object argument) {
+        if (!logger.isWarnEnabled()) {
+            return;
+        }
+        long now = System.nanoTime();
+        long next = nextWriteAt.get();
+        if (now - next < 0 || !nextWriteAt.compareAndSet(next, now + intervalNanos)) {
+            suppressed.increment();
+            return;
+        }
+        long dropped = suppressed.sumThenReset();
+        if (dropped > 0) {
+            logger.warn(format + " ({} similar message(s) suppressed)", argument, dropped);
+        } else {
+            logger.warn(format, argument);
+        }
+    }
+
+    /**
+     * @return the number of messages dropped since the last written one
+     */
+    public long getSuppressedCount() {
+        return suppressed.sum();
+    }
+}
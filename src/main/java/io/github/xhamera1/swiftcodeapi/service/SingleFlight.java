@@ -0,0 +1,95 @@
+package io.github.xhamera1.swiftcodeapi.service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent identical computations ("single flight").
+ * <p>
+ * The first caller for a key (the leader) runs the computation; callers arriving with the same key while it is
+ * still running wait for it and receive the same result, or the same exception, instead of running it again.
+ * Nothing is cached: once the leader finishes, the next call for the key starts a new computation.
+ * </p>
+ * <p>
+ * Used to protect the database from thundering herds of identical queries, e.g. many clients asking for the
+ * same popular headquarter right after a restart, before the in-memory indexes are built.
+ * </p>
+ *
+ * @param <K> the key identifying identical computations; must implement {@code equals}/{@code hashCode}
+ * @param <V> the result type
+ */
+public final class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder executions = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+
+    /**
+     * Runs {@code computation} for {@code key}, or joins a computation for the same key that is already running.
+     *
+     * @param key the key identifying the computation
+     * @param computation the computation to run if none is in flight for the key
+     * @return the result of the (possibly shared) computation
+     * @throws RuntimeException the exception thrown by the (possibly shared) computation
+     */
+    public V execute(K key, Supplier<V> computation) {
+        CompletableFuture<V> own = new CompletableFuture<>();
+        CompletableFuture<V> running = inFlight.putIfAbsent(key, own);
+        if (running != null) {
+            coalesced.increment();
+            return await(running);
+        }
+
+        executions.increment();
+        try {
+            V result = computation.get();
+            own.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            own.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, own);
+        }
+    }
+
+    private static <V> V await(CompletableFuture<V> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * @return the number of computations actually run (one per leader)
+     */
+    public long getExecutionCount() {
+        return executions.sum();
+    }
+
+    /**
+     * @return the number of calls that joined a computation already in flight instead of running their own
+     */
+    public long getCoalescedCount() {
+        return coalesced.sum();
+    }
+
+    /**
+     * @return the number of keys currently being computed
+     */
+    public int getInFlightCount() {
+        return inFlight.size();
+    }
+}
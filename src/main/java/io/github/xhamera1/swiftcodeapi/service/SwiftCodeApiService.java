@@ -1,22 +1,46 @@
 package io.github.xhamera1.swiftcodeapi.service;
 
+import io.github.xhamera1.swiftcodeapi.changefeed.SwiftCodeChangeFeed;
+import io.github.xhamera1.swiftcodeapi.config.DeploymentProperties;
+import io.github.xhamera1.swiftcodeapi.dataset.DatasetVersions;
+import io.github.xhamera1.swiftcodeapi.dto.BulkDeleteResponse;
+import io.github.xhamera1.swiftcodeapi.dto.CountrySummaryResponse;
 import io.github.xhamera1.swiftcodeapi.dto.CountrySwiftCodesResponse;
 import io.github.xhamera1.swiftcodeapi.dto.MessageResponse;
+import io.github.xhamera1.swiftcodeapi.dto.SwiftCodePrefixResponse;
 import io.github.xhamera1.swiftcodeapi.dto.SwiftCodeRequest;
 import io.github.xhamera1.swiftcodeapi.dto.SwiftCodeResponse;
 import io.github.xhamera1.swiftcodeapi.exceptions.InconsistentSwiftDataException;
 import io.github.xhamera1.swiftcodeapi.exceptions.ResourceAlreadyExistsException;
 import io.github.xhamera1.swiftcodeapi.exceptions.ResourceNotFoundException;
+import io.github.xhamera1.swiftcodeapi.exceptions.ServiceNotReadyException;
+import io.github.xhamera1.swiftcodeapi.index.ColumnarSwiftCodeStore;
+import io.github.xhamera1.swiftcodeapi.index.ColumnarSwiftCodeStore.CountryRows;
+import io.github.xhamera1.swiftcodeapi.index.ColumnarSwiftCodeStore.Row;
+import io.github.xhamera1.swiftcodeapi.index.CountrySummaryIndex;
+import io.github.xhamera1.swiftcodeapi.index.SwiftCodeIndexManager;
+import io.github.xhamera1.swiftcodeapi.index.SwiftCodeLookupIndex;
+import io.github.xhamera1.swiftcodeapi.index.SwiftCodePrefixIndex;
+import io.github.xhamera1.swiftcodeapi.model.SwiftCode;
 import io.github.xhamera1.swiftcodeapi.model.SwiftCodeInfo;
 import io.github.xhamera1.swiftcodeapi.repository.SwiftCodeInfoRepository;
+import io.github.xhamera1.swiftcodeapi.timing.RequestTiming;
+import io.github.xhamera1.swiftcodeapi.timing.TimingStage;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -29,16 +53,62 @@ import java.util.stream.Collectors;
 @Service
 public class SwiftCodeApiService {
 
+    /** Number of prefix matches returned when the client does not specify a limit. */
+    public static final int DEFAULT_PREFIX_LIMIT = SwiftCodeRules.DEFAULT_PREFIX_LIMIT;
+    /** Upper bound for the number of prefix matches returned by a single request. */
+    public static final int MAX_PREFIX_LIMIT = SwiftCodeRules.MAX_PREFIX_LIMIT;
+
+    /** Minimum time between two log lines about unknown codes, which are common in normal traffic. */
+    private static final Duration MISS_LOG_INTERVAL = Duration.ofSeconds(10);
+    /** Retry-After for requests served only from memory that arrive before the indexes are built. */
+    private static final long NOT_READY_RETRY_AFTER_SECONDS = 1;
+
     Logger log = LoggerFactory.getLogger(SwiftCodeApiService.class);
+    private final RateLimitedLog missLog = new RateLimitedLog(log, MISS_LOG_INTERVAL);
     private final SwiftCodeInfoRepository repository;
+    private final SwiftCodeIndexManager indexManager;
+    private final SwiftCodePrefixIndex prefixIndex;
+    private final CountrySummaryIndex countrySummaryIndex;
+    private final SwiftCodeLookupIndex lookupIndex;
+    private final ColumnarSwiftCodeStore columnarStore;
+    private final SwiftCodeChangeFeed changeFeed;
+    private final DatasetVersions datasetVersions;
+    private final boolean multiInstance;
+    private final SingleFlight<String, Optional<SwiftCodeResponse>> detailsSingleFlight = new SingleFlight<>();
+    private final SingleFlight<String, CountrySwiftCodesResponse> countrySingleFlight = new SingleFlight<>();
 
     /**
-     * Constructs the service and injects the required repository dependency.
+     * Constructs the service and injects the required dependencies.
      * @param repository The repository for SWIFT code data access.
+     * @param indexManager The manager notified about committed changes so in-memory indexes stay in sync.
+     * @param prefixIndex The sorted in-memory code index used for prefix lookups.
+     * @param countrySummaryIndex The in-memory per-country aggregates.
+     * @param lookupIndex The in-memory index of entries keyed by packed SWIFT code.
+     * @param columnarStore The dictionary-encoded in-memory store used for country listings.
+     * @param changeFeed The change log recording every add and delete in the transaction of the change.
+     * @param datasetVersions The dataset versions; every write registers with it, so it cannot overlap a version switch.
+     * @param deploymentProperties Whether other instances share the database, in which case the in-memory indexes
+     *                             are not authoritative.
      */
     @Autowired
-    public SwiftCodeApiService(SwiftCodeInfoRepository repository) {
+    public SwiftCodeApiService(SwiftCodeInfoRepository repository,
+                               SwiftCodeIndexManager indexManager,
+                               SwiftCodePrefixIndex prefixIndex,
+                               CountrySummaryIndex countrySummaryIndex,
+                               SwiftCodeLookupIndex lookupIndex,
+                               ColumnarSwiftCodeStore columnarStore,
+                               SwiftCodeChangeFeed changeFeed,
+                               DatasetVersions datasetVersions,
+                               DeploymentProperties deploymentProperties) {
         this.repository = repository;
+        this.indexManager = indexManager;
+        this.prefixIndex = prefixIndex;
+        this.countrySummaryIndex = countrySummaryIndex;
+        this.lookupIndex = lookupIndex;
+        this.columnarStore = columnarStore;
+        this.changeFeed = changeFeed;
+        this.datasetVersions = datasetVersions;
+        this.multiInstance = deploymentProperties.isMultiInstance();
     }
 
 
@@ -47,42 +117,134 @@ public class SwiftCodeApiService {
      * If the code represents a headquarters (ends in "XXX"), it also fetches and includes
      * details of associated branch codes (codes starting with the same first 8 characters).
      * The search ignores case for the provided swiftCode.
+     * Once the in-memory indexes are built, the lookup is served from {@link SwiftCodeLookupIndex}
+     * (keyed by the packed {@link SwiftCode}) and the response built from the {@link ColumnarSwiftCodeStore} rows
+     * of the code and its branches, without touching the database.
+     * Otherwise (the indexes are not built, hold codes that could not be packed, or other instances share the database)
+     * it is read from the database;
+     * concurrent requests for the same (normalized) code then share a single database lookup
+     * through a {@link SingleFlight} and all receive its result or its exception.
+     * The method is deliberately not transactional, so callers waiting for a shared lookup do not hold a pooled connection;
+     * each repository call runs in its own read-only transaction.
      *
      * @param swiftCode The 8 or 11 character SWIFT/BIC code to retrieve details for.
      * @return A {@link SwiftCodeResponse} containing the details. Includes a list of branches if the code is a headquarters.
      * @throws ResourceNotFoundException if no SWIFT code matching the provided {@code swiftCode} (case-insensitive) is found.
+     * @see #findSwiftCodeDetails(String)
      */
-    @Transactional(readOnly = true)
     public SwiftCodeResponse getSwiftCodeDetails(String swiftCode) {
+        Optional<SwiftCodeResponse> response = findSwiftCodeDetails(swiftCode);
+        if (response.isEmpty()) {
+            throw new ResourceNotFoundException(SwiftCodeRules.notFoundMessage(swiftCode));
+        }
+        return response.get();
+    }
+
+    /**
+     * Like {@link #getSwiftCodeDetails(String)}, but reports an unknown code with an empty result instead of an exception.
+     * Lookups of unknown codes are common, so this path allocates nothing beyond the lookup itself
+     * and its log message is rate-limited.
+     *
+     * @param swiftCode The 8 or 11 character SWIFT/BIC code to retrieve details for.
+     * @return The details of the code, or an empty {@link Optional} if no SWIFT code matching {@code swiftCode} (case-insensitive) exists.
+     */
+    public Optional<SwiftCodeResponse> findSwiftCodeDetails(String swiftCode) {
         log.debug("Attempting to retrieve details for SWIFT code: {}", swiftCode);
 
-        SwiftCodeInfo swiftCodeInfo = repository.findBySwiftCodeIgnoreCase(swiftCode)
-                .orElseThrow(() -> {
-                    log.warn("ResourceNotFoundException: SWIFT code '{}' not found.", swiftCode);
-                    return new ResourceNotFoundException("SWIFT code '" + swiftCode + "' not found.");
-                });
+        try (RequestTiming.Split ignored = RequestTiming.start(TimingStage.LOOKUP)) {
+            if (canServeFromIndex()) {
+                return loadSwiftCodeDetails(swiftCode);
+            }
+            return detailsSingleFlight.execute(SwiftCodeRules.normalizeSwiftCode(swiftCode), () -> loadSwiftCodeDetails(swiftCode));
+        }
+    }
+
+
+    /**
+     * Looks up a single SWIFT code together with its branches (if it is a headquarters) and maps it to the response.
+     */
+    private Optional<SwiftCodeResponse> loadSwiftCodeDetails(String swiftCode) {
+
+        Optional<SwiftCodeResponse> response = canServeFromIndex()
+                ? lookupIndex.find(SwiftCode.pack(swiftCode)).map(this::detailsFromColumnarStore)
+                : repository.findBySwiftCode(swiftCode).map(this::detailsFromDatabase);
+        if (response.isEmpty()) {
+            missLog.warn("SWIFT code '{}' not found.", swiftCode);
+        }
+        return response;
+    }
+
+    /**
+     * Maps a row found in memory to the response; the branches of a headquarters are the adjacent rows of the
+     * same institution in the {@link ColumnarSwiftCodeStore}.
+     */
+    private SwiftCodeResponse detailsFromColumnarStore(Row row) {
+        log.debug("Found SWIFT code info: {}", row.swiftCode());
+
+        if (row.isHeadquarter()) {
+            log.debug("SWIFT code {} is a headquarter. Fetching branches.", row.swiftCode());
+
+            List<Row> branchRows;
+            try (RequestTiming.Split ignored = RequestTiming.start(TimingStage.BRANCHES)) {
+                branchRows = columnarStore.findInstitution(row.packedSwiftCode()).stream()
+                        .filter(branch -> branch.packedSwiftCode() != row.packedSwiftCode())
+                        .collect(Collectors.toList());
+            }
+            log.debug("Found {} branches for headquarter '{}'", branchRows.size(), row.swiftCode());
+
+            SwiftCodeResponse response;
+            try (RequestTiming.Split ignored = RequestTiming.start(TimingStage.MAPPING)) {
+                List<SwiftCodeResponse> branchDtos = branchRows.stream()
+                        .map(branchRow -> mapRowToDto(branchRow, false)) // mapping without Country name
+                        .collect(Collectors.toList());
+
+                response = mapRowToDto(row, true);
+                response.setBranches(branchDtos.isEmpty() ? null : branchDtos);
+            }
+
+            log.info("Returning details for HQ: {}", row.swiftCode());
+            return response;
+        }
+        log.info("Returning details for branch: {}", row.swiftCode());
+        try (RequestTiming.Split ignored = RequestTiming.start(TimingStage.MAPPING)) {
+            return mapRowToDto(row, true);
+        }
+    }
+
+    /**
+     * Maps an entity loaded from the database to the response, querying the branches of a headquarters.
+     */
+    private SwiftCodeResponse detailsFromDatabase(SwiftCodeInfo swiftCodeInfo) {
         log.debug("Found SWIFT code info: {}", swiftCodeInfo.getSwiftCode());
 
         if (swiftCodeInfo.isHeadquarter()) {
             log.debug("SWIFT code {} is a headquarter. Fetching branches.", swiftCodeInfo.getSwiftCode());
 
-            String prefix = swiftCodeInfo.getSwiftCode().substring(0,8);
-            List<SwiftCodeInfo> branchEntities = repository.findBySwiftCodeStartingWithIgnoreCaseAndSwiftCodeNotIgnoreCase(prefix, swiftCodeInfo.getSwiftCode());
+            String prefix = swiftCodeInfo.getInstitutionCode();
+            List<SwiftCodeInfo> branchEntities;
+            try (RequestTiming.Split ignored = RequestTiming.start(TimingStage.BRANCHES)) {
+                branchEntities = repository.findBranches(prefix, swiftCodeInfo.getSwiftCode());
+            }
             log.debug("Found {} branches for prefix '{}'", branchEntities.size(), prefix);
 
-            List<SwiftCodeResponse> branchDtos = branchEntities.stream()
-                    .map(branchEntity -> mapEntityToDto(branchEntity, false)) // mapping without Country name
-                    .collect(Collectors.toList());
+            SwiftCodeResponse response;
+            try (RequestTiming.Split ignored = RequestTiming.start(TimingStage.MAPPING)) {
+                List<SwiftCodeResponse> branchDtos = branchEntities.stream()
+                        .map(branchEntity -> mapEntityToDto(branchEntity, false)) // mapping without Country name
+                        .collect(Collectors.toList());
 
-            SwiftCodeResponse response = mapEntityToDto(swiftCodeInfo, true);
-            response.setBranches(branchDtos.isEmpty() ? null : branchDtos);
+                response = mapEntityToDto(swiftCodeInfo, true);
+                response.setBranches(branchDtos.isEmpty() ? null : branchDtos);
+            }
 
             log.info("Returning details for HQ: {}", swiftCodeInfo.getSwiftCode());
             return response;
         }
         else {
             log.info("Returning details for branch: {}", swiftCodeInfo.getSwiftCode());
-            return mapEntityToDto(swiftCodeInfo, true);
+            try (RequestTiming.Split ignored = RequestTiming.start(TimingStage.MAPPING)) {
+                return mapEntityToDto(swiftCodeInfo, true);
+            }
         }
     }
 
@@ -91,12 +253,16 @@ public class SwiftCodeApiService {
      * Retrieves all SWIFT codes (both headquarters and branches) associated with a specific country.
      * The country is identified by its ISO 3166-1 alpha-2 code (case-insensitive).
      *
+     * Once the in-memory indexes are built, the rows are read from the {@link ColumnarSwiftCodeStore}
+     * (ordered by SWIFT code) without querying the database or materializing entities.
+     * Until then, or if other instances share the database, concurrent requests for the same country share a single database query through a {@link SingleFlight};
+     * like {@link #getSwiftCodeDetails(String)}, the method is not transactional so waiting callers hold no connection.
+     *
      * @param countryISO2 The 2-letter ISO country code (case is ignored). Cannot be null.
      * @return A {@link CountrySwiftCodesResponse} containing the country details (ISO code and name derived from the first found entry)
      * and a list of {@link SwiftCodeResponse} objects for all codes in that country. Returns an empty list if no codes are found.
      * @throws IllegalArgumentException if the provided {@code countryISO2} is null.
      */
-    @Transactional(readOnly = true)
     public CountrySwiftCodesResponse getSwiftCodesByCountry(String countryISO2) {
         String processedCountryISO2 = Optional.ofNullable(countryISO2)
                 .map(String::toUpperCase)
@@ -104,11 +270,42 @@ public class SwiftCodeApiService {
 
         log.debug("Attempting to retrieve SWIFT codes for country: {}", processedCountryISO2);
 
+        try (RequestTiming.Split ignored = RequestTiming.start(TimingStage.LOOKUP)) {
+            if (canServeFromIndex()) {
+                return getSwiftCodesByCountryFromColumnarStore(processedCountryISO2);
+            }
+            return countrySingleFlight.execute(processedCountryISO2, () -> getSwiftCodesByCountryFromDatabase(processedCountryISO2));
+        }
+    }
+
+
+    /**
+     * @return the single-flight group coalescing concurrent database lookups of the same SWIFT code
+     */
+    public SingleFlight<String, Optional<SwiftCodeResponse>> getDetailsSingleFlight() {
+        return detailsSingleFlight;
+    }
+
+    /**
+     * @return the single-flight group coalescing concurrent database queries for the same country
+     */
+    public SingleFlight<String, CountrySwiftCodesResponse> getCountrySingleFlight() {
+        return countrySingleFlight;
+    }
+
+
+    /**
+     * Builds the country response from a database query, used while the in-memory indexes are not available.
+     */
+    private CountrySwiftCodesResponse getSwiftCodesByCountryFromDatabase(String processedCountryISO2) {
         List<SwiftCodeInfo> entities = repository.findByCountryISO2IgnoreCase(processedCountryISO2);
 
-        List<SwiftCodeResponse> swiftCodeDtos = entities.stream()
-                .map(entity -> mapEntityToDto(entity, false))
-                .collect(Collectors.toList());
+        List<SwiftCodeResponse> swiftCodeDtos;
+        try (RequestTiming.Split ignored = RequestTiming.start(TimingStage.MAPPING)) {
+            swiftCodeDtos = entities.stream()
+                    .map(entity -> mapEntityToDto(entity, false))
+                    .collect(Collectors.toList());
+        }
 
         String countryName = "";
         if (!entities.isEmpty()) {
@@ -130,13 +327,70 @@ public class SwiftCodeApiService {
     }
 
 
+    /**
+     * Retrieves per-country aggregates: total number of codes, headquarters and branches.
+     * The figures are maintained incrementally in {@link CountrySummaryIndex}; no database query is issued.
+     * They only include the writes made through this instance (see {@link DeploymentProperties#isMultiInstance()}).
+     *
+     * @return A list of {@link CountrySummaryResponse} ordered by country ISO2 code; empty if there is no data.
+     * @throws ServiceNotReadyException if the in-memory indexes are not built yet.
+     */
+    public List<CountrySummaryResponse> getCountrySummaries() {
+        requireIndexes();
+        List<CountrySummaryResponse> summaries = countrySummaryIndex.findAll().stream()
+                .map(summary -> CountrySummaryResponse.builder()
+                        .countryISO2(summary.countryISO2())
+                        .countryName(summary.countryName())
+                        .totalCodes(summary.totalCodes())
+                        .headquarterCount(summary.headquarterCount())
+                        .branchCount(summary.branchCount())
+                        .build())
+                .collect(Collectors.toList());
+        log.debug("Returning summaries for {} countries", summaries.size());
+        return summaries;
+    }
+
+
+    /**
+     * Retrieves SWIFT codes starting with the given prefix, in ascending order.
+     * Served entirely from the in-memory {@link SwiftCodePrefixIndex}; no database query is issued.
+     * Only codes written through this instance are included (see {@link DeploymentProperties#isMultiInstance()}).
+     * The requested limit is clamped to the range {@code 1..}{@link #MAX_PREFIX_LIMIT}.
+     *
+     * @param prefix The (case-insensitive) beginning of a SWIFT code, e.g. the first 4-6 characters.
+     * @param limit The maximum number of codes to return.
+     * @return A {@link SwiftCodePrefixResponse} with the normalized prefix and the matching codes (possibly empty).
+     * @throws IllegalArgumentException if the provided {@code prefix} is null.
+     * @throws ServiceNotReadyException if the in-memory indexes are not built yet.
+     */
+    public SwiftCodePrefixResponse getSwiftCodesByPrefix(String prefix, int limit) {
+        String processedPrefix = Optional.ofNullable(prefix)
+                .map(p -> p.trim().toUpperCase())
+                .orElseThrow(() -> new IllegalArgumentException("SWIFT code prefix cannot be null"));
+        int effectiveLimit = SwiftCodeRules.clampPrefixLimit(limit);
+        requireIndexes();
+
+        List<String> matches = prefixIndex.findByPrefix(processedPrefix, effectiveLimit);
+        log.debug("Found {} SWIFT codes for prefix '{}' (limit {})", matches.size(), processedPrefix, effectiveLimit);
+
+        return SwiftCodePrefixResponse.builder()
+                .prefix(processedPrefix)
+                .swiftCodes(matches)
+                .build();
+    }
+
+
     /**
      * Adds a new SWIFT code entry based on the provided request data.
      * Performs several validations:
-     * - Checks if a SWIFT code with the same value (case-insensitive) already exists.
+     * - Rejects a SWIFT code that already exists: from memory once the indexes are built, and in any case through the
+     *   primary key, since the entry is written with a single INSERT and a duplicate-key violation is reported as a conflict.
+     *   This is also correct for concurrent requests adding the same code.
      * - Validates consistency between the country code embedded in the SWIFT code (chars 5-6) and the provided countryISO2 field.
      * - Validates consistency between the provided {@code isHeadquarter} flag and the SWIFT code format (ending in "XXX").
+     * The consistency rules are implemented in {@link SwiftCodeRules}.
      * Converts relevant fields (swiftCode, countryISO2, countryName) to uppercase before saving.
+     * The addition is recorded in the change feed ({@link SwiftCodeChangeFeed}) in the same transaction.
      *
      * @param requestDto The DTO containing the details of the SWIFT code to add. Must pass bean validation defined on {@link SwiftCodeRequest}.
      * @return A {@link MessageResponse} indicating successful addition.
@@ -145,35 +399,30 @@ public class SwiftCodeApiService {
      */
     @Transactional
     public MessageResponse addSwiftCode(SwiftCodeRequest requestDto) {
-        String swiftCode = requestDto.getSwiftCode().trim().toUpperCase();
+        return applyAdd(requestDto);
+    }
+
+    /**
+     * Performs {@link #addSwiftCode(SwiftCodeRequest)} within the caller's transaction.
+     * Rule violations are thrown before anything is written, except for a duplicate that only the database detects;
+     * that failed INSERT marks the transaction rollback-only, which {@link GroupCommitWriteQueue} handles by retrying
+     * the writes of the batch individually. Used by {@link GroupCommitWriteQueue} to apply several writes in one transaction.
+     */
+    MessageResponse applyAdd(SwiftCodeRequest requestDto) {
+        datasetVersions.beginWrite();
+        String swiftCode = SwiftCodeRules.normalizeSwiftCode(requestDto.getSwiftCode());
         String countryIso2 = requestDto.getCountryISO2().toUpperCase();
         String countryName = requestDto.getCountryName().toUpperCase();
 
         log.debug("Attempting to add SWIFT code: {}", swiftCode);
 
-        if (repository.existsBySwiftCodeIgnoreCase(swiftCode)) {
-            log.warn("Attempted to add duplicate SWIFT code: {}", swiftCode);
-            throw new ResourceAlreadyExistsException("SWIFT code '" + swiftCode + "' already exists.");
-        }
-
-        String embeddedCountryCode = swiftCode.substring(4, 6);
-        if (!embeddedCountryCode.equals(countryIso2)) {
-            String errorMessage = String.format(
-                    "Data consistency error: The country code from SWIFT ('%s' in '%s') does not match the provided Country ISO2 ('%s').",
-                    embeddedCountryCode, swiftCode, countryIso2
-            );
-            log.warn("InconsistentSwiftDataException: {}", errorMessage);
-            throw new InconsistentSwiftDataException(errorMessage);
+        long packedSwiftCode = SwiftCode.pack(swiftCode);
+        if (canServeFromIndex() && lookupIndex.contains(packedSwiftCode)) {
+            throw duplicateSwiftCode(swiftCode);
         }
 
-
-        boolean isHqAccordingToCode = swiftCode.endsWith("XXX");
-        if (requestDto.getIsHeadquarter() != isHqAccordingToCode) {
-            log.warn("Inconsistent isHeadquarter flag for SWIFT code {}. Flag was: {}, expected based on code: {}",
-                    swiftCode, requestDto.getIsHeadquarter(), isHqAccordingToCode);
-            throw new InconsistentSwiftDataException("Provided 'isHeadquarter' flag (" + requestDto.getIsHeadquarter()
-                    + ") is inconsistent with the SWIFT code format (" + swiftCode + ").");
-        }
+        SwiftCodeRules.checkConsistency(swiftCode, packedSwiftCode, countryIso2, requestDto.getIsHeadquarter());
+        boolean isHqAccordingToCode = SwiftCode.isHeadquarter(packedSwiftCode);
 
         SwiftCodeInfo newSwiftCodeInfo = new SwiftCodeInfo();
         newSwiftCodeInfo.setSwiftCode(swiftCode);
@@ -184,7 +433,16 @@ public class SwiftCodeApiService {
         newSwiftCodeInfo.setCountryName(countryName);
         newSwiftCodeInfo.setHeadquarter(isHqAccordingToCode);
 
-        repository.save(newSwiftCodeInfo);
+        try {
+            repository.insert(newSwiftCodeInfo);
+        } catch (DataIntegrityViolationException e) {
+            if (isDuplicateKey(e)) {
+                throw duplicateSwiftCode(swiftCode);
+            }
+            throw e;
+        }
+        changeFeed.recordAdded(newSwiftCodeInfo);
+        indexManager.entryAdded(newSwiftCodeInfo);
         log.info("Successfully added SWIFT code: {}", swiftCode);
 
         return new MessageResponse("SWIFT code '" + swiftCode + "' added successfully.");
@@ -194,6 +452,9 @@ public class SwiftCodeApiService {
     /**
      * Deletes a SWIFT code entry identified by its code.
      * The search for the code to delete ignores case.
+     * Once the in-memory indexes are built, the entry is taken from {@link SwiftCodeLookupIndex} and removed with
+     * a single DELETE; until then, or if other instances share the database, it is loaded from the database first.
+     * A tombstone is recorded in the change feed ({@link SwiftCodeChangeFeed}) in the same transaction.
      *
      * @param swiftCode The 8 or 11 character SWIFT/BIC code to delete.
      * @return A {@link MessageResponse} indicating successful deletion.
@@ -201,22 +462,241 @@ public class SwiftCodeApiService {
      */
     @Transactional
     public MessageResponse deleteSwiftCode(String swiftCode) {
-        String processedSwiftCode = swiftCode.trim().toUpperCase();
-        log.debug("Attempting to delete SWIFT code: {}", processedSwiftCode);
+        return applyDelete(swiftCode);
+    }
 
-        SwiftCodeInfo swiftCodeToDelete = repository.findBySwiftCodeIgnoreCase(processedSwiftCode)
-                .orElseThrow(() -> {
-                    log.warn("Attempted to delete non-existent SWIFT code: {}", processedSwiftCode);
-                    return new ResourceNotFoundException("SWIFT code '" + processedSwiftCode + "' not found, cannot delete.");
-                });
+    /**
+     * Performs {@link #deleteSwiftCode(String)} within the caller's transaction (see {@link #applyAdd(SwiftCodeRequest)}).
+     */
+    MessageResponse applyDelete(String swiftCode) {
+        datasetVersions.beginWrite();
+        String processedSwiftCode = SwiftCodeRules.normalizeSwiftCode(swiftCode);
+        log.debug("Attempting to delete SWIFT code: {}", processedSwiftCode);
 
-        repository.delete(swiftCodeToDelete);
+        SwiftCodeInfo swiftCodeToDelete;
+        if (canServeFromIndex()) {
+            // The entry is known from memory, so a single DELETE by code replaces the SELECT loading it.
+            swiftCodeToDelete = lookupIndex.find(SwiftCode.pack(processedSwiftCode))
+                    .map(Row::toSwiftCodeInfo)
+                    .orElseThrow(() -> swiftCodeNotFoundForDelete(processedSwiftCode));
+            int deleted = repository.deleteBySwiftCodes(List.of(swiftCodeToDelete.getSwiftCode()));
+            if (deleted == 0) {
+                throw swiftCodeNotFoundForDelete(processedSwiftCode);
+            }
+        } else {
+            swiftCodeToDelete = repository.findBySwiftCode(processedSwiftCode)
+                    .orElseThrow(() -> swiftCodeNotFoundForDelete(processedSwiftCode));
+            repository.delete(swiftCodeToDelete);
+        }
+        changeFeed.recordDeleted(swiftCodeToDelete.getSwiftCode());
+        indexManager.entryDeleted(swiftCodeToDelete);
         log.info("Successfully deleted SWIFT code: {}", processedSwiftCode);
 
         return new MessageResponse("SWIFT code '" + processedSwiftCode + "' deleted successfully.");
     }
 
 
+    /**
+     * Deletes all entries with the given codes (case-insensitive) using a single set-based DELETE.
+     * Codes that do not exist are ignored. Tombstones for the deleted codes are recorded in the change feed
+     * with a single INSERT ... SELECT before the DELETE.
+     *
+     * @param swiftCodes The 8 or 11 character SWIFT/BIC codes to delete.
+     * @return A {@link BulkDeleteResponse} with the number of deleted entries.
+     */
+    @Transactional
+    public BulkDeleteResponse deleteSwiftCodes(List<String> swiftCodes) {
+        datasetVersions.beginWrite();
+        Set<String> processedSwiftCodes = swiftCodes.stream()
+                .map(SwiftCodeRules::normalizeSwiftCode)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        log.debug("Attempting to bulk delete {} SWIFT code(s)", processedSwiftCodes.size());
+
+        List<SwiftCodeInfo> affected = canServeFromIndex()
+                ? processedSwiftCodes.stream()
+                        .map(code -> lookupIndex.find(SwiftCode.pack(code)))
+                        .flatMap(Optional::stream)
+                        .map(Row::toSwiftCodeInfo)
+                        .collect(Collectors.toList())
+                : null;
+        changeFeed.recordDeletedBySwiftCodes(processedSwiftCodes);
+        int deleted = repository.deleteBySwiftCodes(processedSwiftCodes);
+        return bulkDeleted(deleted, affected, processedSwiftCodes.size() + " requested SWIFT code(s)");
+    }
+
+    /**
+     * Deletes an institution: the headquarter and all branches sharing the 8-character institution code
+     * (bank, country and location code), using a single set-based DELETE.
+     * Tombstones are recorded in the change feed as for {@link #deleteSwiftCodes(List)}.
+     *
+     * @param institutionCode The first 8 characters of the institution's SWIFT codes (case is ignored).
+     * @return A {@link BulkDeleteResponse} with the number of deleted entries.
+     * @throws ResourceNotFoundException if no SWIFT code belongs to the institution.
+     */
+    @Transactional
+    public BulkDeleteResponse deleteInstitution(String institutionCode) {
+        datasetVersions.beginWrite();
+        String prefix = SwiftCodeRules.normalizeSwiftCode(institutionCode);
+        log.debug("Attempting to delete institution: {}", prefix);
+
+        long packedInstitutionCode = SwiftCode.pack(prefix);
+        List<SwiftCodeInfo> affected = canServeFromIndex() && packedInstitutionCode != SwiftCode.INVALID
+                ? columnarStore.findInstitution(packedInstitutionCode).stream()
+                        .map(Row::toSwiftCodeInfo)
+                        .collect(Collectors.toList())
+                : null;
+        changeFeed.recordDeletedByInstitutionCode(prefix);
+        int deleted = repository.deleteByInstitutionCode(prefix);
+        if (deleted == 0) {
+            log.warn("Attempted to delete non-existent institution: {}", prefix);
+            throw new ResourceNotFoundException("No SWIFT codes found for institution '" + prefix + "', nothing to delete.");
+        }
+        return bulkDeleted(deleted, affected, "institution '" + prefix + "'");
+    }
+
+    /**
+     * Deletes all SWIFT codes of a country using a single set-based DELETE.
+     * Tombstones are recorded in the change feed as for {@link #deleteSwiftCodes(List)}.
+     *
+     * @param countryISO2 The 2-letter ISO country code (case is ignored).
+     * @return A {@link BulkDeleteResponse} with the number of deleted entries.
+     * @throws ResourceNotFoundException if the country has no SWIFT codes.
+     */
+    @Transactional
+    public BulkDeleteResponse deleteCountry(String countryISO2) {
+        datasetVersions.beginWrite();
+        String processedCountryISO2 = countryISO2.toUpperCase();
+        log.debug("Attempting to delete all SWIFT codes of country: {}", processedCountryISO2);
+
+        List<SwiftCodeInfo> affected = null;
+        if (canServeFromIndex()) {
+            affected = new ArrayList<>();
+            Optional<CountryRows> countryRows = columnarStore.findByCountry(processedCountryISO2);
+            if (countryRows.isPresent()) {
+                CountryRows rows = countryRows.get();
+                for (int row = 0; row < rows.size(); row++) {
+                    affected.add(rows.toSwiftCodeInfo(row));
+                }
+            }
+        }
+        changeFeed.recordDeletedByCountry(processedCountryISO2);
+        int deleted = repository.deleteByCountry(processedCountryISO2);
+        if (deleted == 0) {
+            log.warn("Attempted to delete SWIFT codes of country without entries: {}", processedCountryISO2);
+            throw new ResourceNotFoundException("No SWIFT codes found for country '" + processedCountryISO2 + "', nothing to delete.");
+        }
+        return bulkDeleted(deleted, affected, "country '" + processedCountryISO2 + "'");
+    }
+
+
+    /**
+     * Keeps the in-memory indexes in sync after a bulk delete. If the entries collected from memory before the
+     * DELETE match the deleted row count, they are forwarded individually; otherwise (indexes not authoritative,
+     * or concurrent changes) all indexes are rebuilt after commit.
+     */
+    private BulkDeleteResponse bulkDeleted(int deleted, List<SwiftCodeInfo> affected, String scope) {
+        if (affected != null && affected.size() == deleted) {
+            indexManager.entriesDeleted(affected);
+        } else if (deleted > 0) {
+            log.debug("Deleted row count ({}) not known from memory, rebuilding indexes after commit.", deleted);
+            datasetVersions.rebuildIndexesAfterCommit();
+        }
+        log.info("Bulk deleted {} SWIFT code(s) for {}", deleted, scope);
+        return BulkDeleteResponse.builder()
+                .message("Deleted " + deleted + " SWIFT code(s) for " + scope + ".")
+                .deletedCount(deleted)
+                .build();
+    }
+
+
+    /**
+     * Returns {@code true} when the in-memory indexes are built and authoritative,
+     * i.e. a miss in {@link SwiftCodeLookupIndex} means the code does not exist in the database.
+     * With {@code swift-api.deployment.multi-instance} they never are: writes made through other instances
+     * do not reach this instance's indexes.
+     */
+    private boolean canServeFromIndex() {
+        return !multiInstance && indexManager.isReady() && lookupIndex.isComplete();
+    }
+
+    /**
+     * Rejects a request that can only be answered from memory while the indexes are not built, so an empty
+     * result always means "no data" rather than "not loaded yet". The {@code WarmupFilter} normally answers
+     * such requests before they get here.
+     */
+    private void requireIndexes() {
+        if (!indexManager.isReady()) {
+            throw new ServiceNotReadyException("The in-memory indexes are not built yet. Please retry later.",
+                    NOT_READY_RETRY_AFTER_SECONDS);
+        }
+    }
+
+    private ResourceNotFoundException swiftCodeNotFoundForDelete(String swiftCode) {
+        missLog.warn("Attempted to delete non-existent SWIFT code: {}", swiftCode);
+        return new ResourceNotFoundException("SWIFT code '" + swiftCode + "' not found, cannot delete.");
+    }
+
+    private ResourceAlreadyExistsException duplicateSwiftCode(String swiftCode) {
+        log.warn("Attempted to add duplicate SWIFT code: {}", swiftCode);
+        return new ResourceAlreadyExistsException("SWIFT code '" + swiftCode + "' already exists.");
+    }
+
+    /**
+     * Returns {@code true} if the integrity violation was caused by a duplicate primary key
+     * (SQLState {@code 23505} on H2 and PostgreSQL, error code 1062 on MySQL).
+     */
+    private static boolean isDuplicateKey(DataIntegrityViolationException e) {
+        if (e instanceof DuplicateKeyException) {
+            return true;
+        }
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException sqlException
+                    && ("23505".equals(sqlException.getSQLState()) || sqlException.getErrorCode() == 1062)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+
+    /**
+     * Builds the country response by iterating over the country's contiguous row range in the columnar store.
+     */
+    private CountrySwiftCodesResponse getSwiftCodesByCountryFromColumnarStore(String countryISO2) {
+        Optional<CountryRows> countryRows = columnarStore.findByCountry(countryISO2);
+        List<SwiftCodeResponse> swiftCodeDtos = new ArrayList<>(countryRows.map(CountryRows::size).orElse(0));
+        String countryName = "";
+
+        if (countryRows.isPresent()) {
+            CountryRows rows = countryRows.get();
+            try (RequestTiming.Split ignored = RequestTiming.start(TimingStage.MAPPING)) {
+                for (int row = 0; row < rows.size(); row++) {
+                    swiftCodeDtos.add(SwiftCodeResponse.builder()
+                            .swiftCode(rows.swiftCode(row))
+                            .bankName(rows.bankName(row))
+                            .address(resolveAddress(rows.address(row), rows.townName(row)))
+                            .countryISO2(rows.countryISO2())
+                            .isHeadquarter(rows.isHeadquarter(row))
+                            .build());
+                }
+            }
+            countryName = Optional.ofNullable(rows.countryName(0))
+                    .map(String::toUpperCase)
+                    .orElse("");
+        } else {
+            log.info("No SWIFT codes found for country code: {}", countryISO2);
+        }
+
+        log.info("Found {} SWIFT codes for country {}", swiftCodeDtos.size(), countryISO2);
+
+        return CountrySwiftCodesResponse.builder()
+                .countryISO2(countryISO2)
+                .countryName(countryName)
+                .swiftCodes(swiftCodeDtos)
+                .build();
+    }
+
+
     /**
      * Maps a {@link SwiftCodeInfo} entity to a {@link SwiftCodeResponse} DTO.
      * Constructs the address string by prioritizing the {@code address} field over the {@code townName} field.
@@ -227,10 +707,36 @@ public class SwiftCodeApiService {
      * @return The mapped {@link SwiftCodeResponse} DTO.
      */
     private SwiftCodeResponse mapEntityToDto(SwiftCodeInfo entity, boolean includeCountryName) {
-        String finalAddressString;
-        String dbAddress = entity.getAddress();
-        String dbTownName = entity.getTownName();
+        return SwiftCodeResponse.builder()
+                .swiftCode(entity.getSwiftCode())
+                .bankName(entity.getBankName())
+                .address(resolveAddress(entity.getAddress(), entity.getTownName()))
+                .countryISO2(entity.getCountryISO2())
+                .countryName(includeCountryName ? entity.getCountryName() : null)
+                .isHeadquarter(entity.isHeadquarter())
+                .build();
+    }
 
+    /**
+     * Same as {@link #mapEntityToDto(SwiftCodeInfo, boolean)} for a row of the {@link ColumnarSwiftCodeStore}.
+     */
+    private SwiftCodeResponse mapRowToDto(Row row, boolean includeCountryName) {
+        return SwiftCodeResponse.builder()
+                .swiftCode(row.swiftCode())
+                .bankName(row.bankName())
+                .address(resolveAddress(row.address(), row.townName()))
+                .countryISO2(row.countryISO2())
+                .countryName(includeCountryName ? row.countryName() : null)
+                .isHeadquarter(row.isHeadquarter())
+                .build();
+    }
+
+    /**
+     * Constructs the address string by prioritizing the {@code address} field over the {@code townName} field.
+     * Returns an empty string if neither is available.
+     */
+    private String resolveAddress(String dbAddress, String dbTownName) {
+        String finalAddressString;
         if (dbAddress != null && !dbAddress.trim().isEmpty()) {
             finalAddressString = dbAddress;
         } else {
@@ -240,14 +746,6 @@ public class SwiftCodeApiService {
         if (finalAddressString == null) {
             finalAddressString = "";
         }
-
-        return SwiftCodeResponse.builder()
-                .swiftCode(entity.getSwiftCode())
-                .bankName(entity.getBankName())
-                .address(finalAddressString)
-                .countryISO2(entity.getCountryISO2())
-                .countryName(includeCountryName ? entity.getCountryName() : null)
-                .isHeadquarter(entity.isHeadquarter())
-                .build();
+        return finalAddressString;
     }
 }
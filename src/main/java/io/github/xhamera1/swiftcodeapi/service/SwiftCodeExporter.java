@@ -0,0 +1,206 @@
+package io.github.xhamera1.swiftcodeapi.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.xhamera1.swiftcodeapi.model.SwiftCodeInfo;
+import io.github.xhamera1.swiftcodeapi.repository.SwiftCodeInfoRepository;
+import jakarta.persistence.EntityManager;
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVPrinter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Writes the complete dataset as CSV or NDJSON (one JSON object per line) to an output stream.
+ * <p>
+ * Entries are read through the forward-only cursor of {@link SwiftCodeInfoRepository#streamAllOrderBySwiftCode()}
+ * in a read-only transaction and written one by one; each entity is detached once written, so memory use is bounded
+ * by the fetch size and the write buffer, not by the size of the table. The CSV output uses the column layout of the
+ * import file and can be loaded again by {@link DataInitializer}.
+ * </p>
+ * <p>
+ * With sharded persistence, the streaming query reads all shards in parallel and merges them in code order
+ * (see {@link io.github.xhamera1.swiftcodeapi.sharding.SwiftCodeShards#scatterOrdered}), so the output is the same.
+ * </p>
+ */
+@Service
+public class SwiftCodeExporter {
+
+    /**
+     * Supported export formats.
+     */
+    public enum Format {
+        CSV("text/csv", "csv"),
+        NDJSON("application/x-ndjson", "ndjson");
+
+        private final String mediaType;
+        private final String fileExtension;
+
+        Format(String mediaType, String fileExtension) {
+            this.mediaType = mediaType;
+            this.fileExtension = fileExtension;
+        }
+
+        public String getMediaType() {
+            return mediaType;
+        }
+
+        public String getFileExtension() {
+            return fileExtension;
+        }
+    }
+
+    private static final Logger log = LoggerFactory.getLogger(SwiftCodeExporter.class);
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+    private static final String BIC11 = "BIC11";
+    private static final String BIC8 = "BIC8";
+
+    private final SwiftCodeInfoRepository repository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * @param repository The repository providing the streaming query.
+     * @param entityManager The entity manager of the streaming transaction, used to detach written entities.
+     * @param objectMapper The application's JSON mapper, whose factory creates the NDJSON generator.
+     * @param transactionManager The transaction manager for the read-only export transaction.
+     */
+    @Autowired
+    public SwiftCodeExporter(SwiftCodeInfoRepository repository,
+                             EntityManager entityManager,
+                             ObjectMapper objectMapper,
+                             PlatformTransactionManager transactionManager) {
+        this.repository = repository;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    /**
+     * Writes all entries, ordered by SWIFT code, in the given format. The stream is flushed but not closed.
+     *
+     * @param format the output format
+     * @param outputStream the stream to write to
+     * @return the number of entries written
+     * @throws IOException if writing fails (e.g. the client disconnected)
+     */
+    public long export(Format format, OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), WRITE_BUFFER_SIZE);
+        RowWriter rowWriter = format == Format.CSV ? new CsvRowWriter(writer) : new NdjsonRowWriter(writer, objectMapper);
+
+        long start = System.nanoTime();
+        long rows;
+        try {
+            rows = transactionTemplate.execute(status -> {
+                try (Stream<SwiftCodeInfo> entries = repository.streamAllOrderBySwiftCode()) {
+                    long written = 0;
+                    for (Iterator<SwiftCodeInfo> iterator = entries.iterator(); iterator.hasNext(); ) {
+                        SwiftCodeInfo entry = iterator.next();
+                        rowWriter.write(entry);
+                        entityManager.detach(entry);
+                        written++;
+                    }
+                    return written;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        rowWriter.flush();
+        log.info("Exported {} SWIFT codes as {} in {} ms", rows, format, (System.nanoTime() - start) / 1_000_000);
+        return rows;
+    }
+
+    /**
+     * Writes entries in one output format.
+     */
+    private interface RowWriter {
+
+        void write(SwiftCodeInfo entry) throws IOException;
+
+        void flush() throws IOException;
+    }
+
+    /**
+     * Writes the import file layout ({@link DataInitializer#CSV_HEADER}). The code type is derived from the code length;
+     * the time zone is not stored and is left empty.
+     */
+    private static final class CsvRowWriter implements RowWriter {
+
+        private final CSVPrinter printer;
+
+        CsvRowWriter(Writer writer) throws IOException {
+            this.printer = new CSVPrinter(writer, CSVFormat.DEFAULT.builder().setHeader(DataInitializer.CSV_HEADER).build());
+        }
+
+        @Override
+        public void write(SwiftCodeInfo entry) throws IOException {
+            String swiftCode = entry.getSwiftCode();
+            printer.printRecord(entry.getCountryISO2(), swiftCode, swiftCode.length() == 11 ? BIC11 : BIC8,
+                    entry.getBankName(), entry.getAddress(), entry.getTownName(), entry.getCountryName(), null);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            printer.flush();
+        }
+    }
+
+    /**
+     * Writes one JSON object per line, with the property names of the API responses plus {@code townName};
+     * {@code null} properties are omitted.
+     */
+    private static final class NdjsonRowWriter implements RowWriter {
+
+        private final JsonGenerator generator;
+
+        NdjsonRowWriter(Writer writer, ObjectMapper objectMapper) throws IOException {
+            this.generator = objectMapper.getFactory().createGenerator(writer)
+                    .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                    .setRootValueSeparator(null);
+        }
+
+        @Override
+        public void write(SwiftCodeInfo entry) throws IOException {
+            generator.writeStartObject();
+            writeOptional("address", entry.getAddress());
+            generator.writeStringField("bankName", entry.getBankName());
+            generator.writeStringField("countryISO2", entry.getCountryISO2());
+            generator.writeStringField("countryName", entry.getCountryName());
+            generator.writeBooleanField("isHeadquarter", entry.isHeadquarter());
+            generator.writeStringField("swiftCode", entry.getSwiftCode());
+            writeOptional("townName", entry.getTownName());
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+
+        private void writeOptional(String name, String value) throws IOException {
+            if (value != null) {
+                generator.writeStringField(name, value);
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            generator.flush();
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package io.github.xhamera1.swiftcodeapi.service;
+
+import io.github.xhamera1.swiftcodeapi.dto.SwiftCodeRequest;
+import io.github.xhamera1.swiftcodeapi.exceptions.InconsistentSwiftDataException;
+import io.github.xhamera1.swiftcodeapi.model.SwiftCode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Locale;
+
+/**
+ * Business rules shared by the API variants: consistency checks for new SWIFT code entries that go beyond
+ * the bean validation declared on {@link SwiftCodeRequest}, code normalization and prefix query limits.
+ * The checks work on the packed form of the code ({@link SwiftCode}), so the format is parsed once and the
+ * country and headquarter parts are compared without substrings.
+ * <p>
+ * Free of Spring and persistence dependencies, so the same rules are applied by {@link SwiftCodeApiService}
+ * and by the reactive variant of the API (module {@code reactive}), which compiles this class from the main source tree.
+ * </p>
+ */
+public final class SwiftCodeRules {
+
+    /** Number of prefix matches returned when the client does not specify a limit. */
+    public static final int DEFAULT_PREFIX_LIMIT = 10;
+    /** Upper bound for the number of prefix matches returned by a single request. */
+    public static final int MAX_PREFIX_LIMIT = 100;
+
+    private static final Logger log = LoggerFactory.getLogger(SwiftCodeRules.class);
+
+    private SwiftCodeRules() {
+    }
+
+    /**
+     * Normalizes a SWIFT code for storage and lookups: surrounding whitespace removed, upper case.
+     * A code that is already normalized (the common case: validated requests, stored codes) is returned as is,
+     * after a single scan and without allocating.
+     */
+    public static String normalizeSwiftCode(String swiftCode) {
+        for (int i = 0; i < swiftCode.length(); i++) {
+            char c = swiftCode.charAt(i);
+            if (!((c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9'))) {
+                return swiftCode.trim().toUpperCase(Locale.ROOT);
+            }
+        }
+        return swiftCode;
+    }
+
+    /**
+     * Builds the error message reported when a SWIFT code lookup finds no entry.
+     *
+     * @param swiftCode the requested code, as received
+     */
+    public static String notFoundMessage(String swiftCode) {
+        return "SWIFT code '" + swiftCode + "' not found.";
+    }
+
+    /**
+     * Clamps a requested number of prefix matches to the range {@code 1..}{@link #MAX_PREFIX_LIMIT}.
+     */
+    public static int clampPrefixLimit(int limit) {
+        return Math.max(1, Math.min(limit, MAX_PREFIX_LIMIT));
+    }
+
+    /**
+     * @return {@code true} if the (normalized) code denotes a headquarters, i.e. ends in "XXX"
+     */
+    public static boolean isHeadquarterCode(String swiftCode) {
+        return swiftCode.endsWith("XXX");
+    }
+
+    /**
+     * Validates the consistency of a new entry:
+     * - the country code embedded in the SWIFT code (chars 5-6) must match the provided country ISO2 code,
+     * - the provided {@code isHeadquarter} flag must match the SWIFT code format (ending in "XXX").
+     *
+     * @param swiftCode The normalized SWIFT code (see {@link #normalizeSwiftCode(String)}).
+     * @param countryIso2 The upper-case country ISO2 code.
+     * @param isHeadquarter The headquarter flag provided by the client.
+     * @throws InconsistentSwiftDataException if any of the rules is violated.
+     */
+    public static void checkConsistency(String swiftCode, String countryIso2, Boolean isHeadquarter) {
+        checkConsistency(swiftCode, SwiftCode.pack(swiftCode), countryIso2, isHeadquarter);
+    }
+
+    /**
+     * Same as {@link #checkConsistency(String, String, Boolean)} for a code the caller has already packed.
+     *
+     * @param packedSwiftCode {@link SwiftCode#pack(CharSequence) the packed form} of {@code swiftCode}
+     */
+    public static void checkConsistency(String swiftCode, long packedSwiftCode, String countryIso2, Boolean isHeadquarter) {
+        if (!SwiftCode.countryMatches(packedSwiftCode, countryIso2)) {
+            String embeddedCountryCode = swiftCode.substring(4, 6);
+            String errorMessage = String.format(
+                    "Data consistency error: The country code from SWIFT ('%s' in '%s') does not match the provided Country ISO2 ('%s').",
+                    embeddedCountryCode, swiftCode, countryIso2
+            );
+            log.warn("InconsistentSwiftDataException: {}", errorMessage);
+            throw new InconsistentSwiftDataException(errorMessage);
+        }
+
+        boolean isHqAccordingToCode = SwiftCode.isHeadquarter(packedSwiftCode);
+        if (isHeadquarter != isHqAccordingToCode) {
+            log.warn("Inconsistent isHeadquarter flag for SWIFT code {}. Flag was: {}, expected based on code: {}",
+                    swiftCode, isHeadquarter, isHqAccordingToCode);
+            throw new InconsistentSwiftDataException("Provided 'isHeadquarter' flag (" + isHeadquarter
+                    + ") is inconsistent with the SWIFT code format (" + swiftCode + ").");
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package io.github.xhamera1.swiftcodeapi.sharding;
+
+import java.util.function.Supplier;
+
+/**
+ * The shard the current thread works on. {@link ShardRoutingDataSource} hands out connections of this shard,
+ * so the binding must be in place when a statement first needs a connection; with no shard bound, connections
+ * of the default shard are used.
+ */
+public final class ShardContext {
+
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+    private ShardContext() {
+    }
+
+    /**
+     * @return the name of the shard bound to the current thread, or {@code null} if there is none
+     */
+    public static String current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Binds a shard to the current thread until {@link #clear()} is called.
+     */
+    static void bind(String shard) {
+        CURRENT.set(shard);
+    }
+
+    static void clear() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Runs an action with the given shard bound, restoring the previous binding afterwards.
+     */
+    public static <T> T callOn(String shard, Supplier<T> action) {
+        String previous = CURRENT.get();
+        CURRENT.set(shard);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package io.github.xhamera1.swiftcodeapi.sharding;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * K-way merge of ordered entries produced concurrently by one reader thread per shard
+ * (see {@link SwiftCodeShards#scatterOrdered}).
+ * <p>
+ * Each reader fills a bounded queue of its own; the consuming thread keeps the head of every queue in a priority
+ * queue and always returns the smallest one, so the result is ordered as long as every shard is. A reader that fails
+ * fails the iteration; closing the iterator makes the readers stop at their next entry.
+ * </p>
+ */
+final class ShardMergeIterator<T> implements Iterator<T>, AutoCloseable {
+
+    private static final Object END = new Object();
+    private static final long OFFER_TIMEOUT_MILLIS = 100;
+
+    private final BlockingQueue<Object>[] queues;
+    private final PriorityQueue<Head<T>> heads;
+    private volatile boolean closed;
+    private boolean started;
+
+    private record Head<T>(T entry, int source) {
+    }
+
+    private record Failure(RuntimeException exception) {
+    }
+
+    @SuppressWarnings("unchecked")
+    ShardMergeIterator(int sources, int bufferSize, Comparator<? super T> order) {
+        this.queues = new BlockingQueue[sources];
+        for (int source = 0; source < sources; source++) {
+            queues[source] = new ArrayBlockingQueue<>(bufferSize);
+        }
+        this.heads = new PriorityQueue<>(sources, (a, b) -> order.compare(a.entry(), b.entry()));
+    }
+
+    /**
+     * Runs the reader of one source on the calling thread, handing its entries to the merge.
+     */
+    void produce(int source, SwiftCodeShards.ShardReader<T> reader) {
+        BlockingQueue<Object> queue = queues[source];
+        Object last = END;
+        try {
+            reader.read(entry -> put(queue, entry));
+        } catch (CancellationException e) {
+            return;
+        } catch (RuntimeException e) {
+            last = new Failure(e);
+        }
+        try {
+            put(queue, last);
+        } catch (CancellationException ignored) {
+            // nobody is waiting for the end anymore
+        }
+    }
+
+    private void put(BlockingQueue<Object> queue, Object element) {
+        try {
+            while (!queue.offer(element, OFFER_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                if (closed) {
+                    throw new CancellationException("The merged stream was closed");
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Interrupted while reading a shard");
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (closed) {
+            return false;
+        }
+        if (!started) {
+            started = true;
+            for (int source = 0; source < queues.length; source++) {
+                advance(source);
+            }
+        }
+        return !heads.isEmpty();
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        Head<T> head = heads.poll();
+        advance(head.source());
+        return head.entry();
+    }
+
+    /**
+     * Takes the next entry of a source into the heads, unless the source has ended.
+     */
+    @SuppressWarnings("unchecked")
+    private void advance(int source) {
+        Object element;
+        try {
+            element = queues[source].take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            close();
+            throw new CancellationException("Interrupted while merging the shards");
+        }
+        if (element instanceof Failure failure) {
+            close();
+            throw failure.exception();
+        }
+        if (element != END) {
+            heads.add(new Head<>((T) element, source));
+        }
+    }
+
+    /**
+     * Stops the readers still running and drops the entries read ahead.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        heads.clear();
+        for (BlockingQueue<Object> queue : queues) {
+            queue.clear();
+        }
+    }
+}
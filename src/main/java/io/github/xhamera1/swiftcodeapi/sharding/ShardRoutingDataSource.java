@@ -0,0 +1,30 @@
+package io.github.xhamera1.swiftcodeapi.sharding;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+
+/**
+ * Hands out connections of the shard bound to the current thread ({@link ShardContext}), or of the default shard
+ * if none is bound. Wrapped in a {@code LazyConnectionDataSourceProxy}, so a transaction only fetches its connection
+ * with the first statement, after the repository call has bound the shard.
+ */
+public class ShardRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return ShardContext.current();
+    }
+
+    /**
+     * Closes the connection pools of the shards.
+     */
+    @Override
+    public void close() throws Exception {
+        for (DataSource shard : getResolvedDataSources().values()) {
+            if (shard instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+}
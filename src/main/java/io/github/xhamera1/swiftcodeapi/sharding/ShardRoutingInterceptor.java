@@ -0,0 +1,348 @@
+package io.github.xhamera1.swiftcodeapi.sharding;
+
+import io.github.xhamera1.swiftcodeapi.exceptions.CrossShardOperationException;
+import io.github.xhamera1.swiftcodeapi.model.SwiftCodeChange;
+import io.github.xhamera1.swiftcodeapi.model.SwiftCodeInfo;
+import io.github.xhamera1.swiftcodeapi.repository.DatasetVersionRepository;
+import io.github.xhamera1.swiftcodeapi.repository.SwiftCodeChangeRepository;
+import io.github.xhamera1.swiftcodeapi.repository.SwiftCodeInfoRepository;
+import jakarta.persistence.EntityManager;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.ProxyMethodInvocation;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Routes the calls of the sharded repositories ({@link SwiftCodeInfoRepository}, {@link SwiftCodeChangeRepository},
+ * {@link DatasetVersionRepository}) to their shard.
+ * <p>
+ * Every repository method has a route:
+ * </p>
+ * <ul>
+ *     <li>Methods with a code, country or entry argument run on the shard of that key. Within a transaction, the
+ *     first such call binds the shard until the transaction completes; a later call for another shard fails with
+ *     {@link CrossShardOperationException}, since a transaction cannot span databases. The entry and its change
+ *     log record therefore always commit together.</li>
+ *     <li>The catalog of dataset versions lives in the default shard.</li>
+ *     <li>Methods without a key (full reads, counts, the version pointer and version-wide statements) run on every
+ *     shard in parallel, each in a transaction of its own, and their results are merged: lists concatenated or
+ *     merged in order, counts summed, ordered streams merged while they are read.</li>
+ *     <li>The change log is read in one sequence order, which separate shards do not have; reading it fails with
+ *     {@link CrossShardOperationException}. Only maintenance working on each shard's log by itself (its position,
+ *     retention, carrying writes over into a new version) runs on the shard the caller has bound.</li>
+ *     <li>A dataset switch moves the pointer of one shard at a time, together with the changes it records, on the
+ *     shard the caller has bound.</li>
+ * </ul>
+ */
+class ShardRoutingInterceptor implements MethodInterceptor {
+
+    private static final String CHANGE_FEED_UNAVAILABLE =
+            "The change feed is not available with sharded persistence: every shard keeps its own change log.";
+    private static final String CARRY_OVER_UNBOUND =
+            "Writes are carried over into a new dataset version shard by shard, from the position of each shard's change log.";
+    private static final String SWITCH_UNBOUND =
+            "A dataset version is activated shard by shard, the default shard last.";
+
+    private final ObjectProvider<SwiftCodeShards> shardsProvider;
+    private final ObjectProvider<PlatformTransactionManager> transactionManagerProvider;
+    private final ObjectProvider<EntityManager> entityManagerProvider;
+
+    private final Map<String, Route> infoRoutes = new HashMap<>();
+    private final Map<String, Route> changeRoutes = new HashMap<>();
+    private final Map<String, Route> versionRoutes = new HashMap<>();
+    private final Route catalog = new Keyed((shards, args) -> shards.getDefaultShard());
+
+    private volatile SwiftCodeShards shards;
+    private volatile TransactionTemplate readTransaction;
+    private volatile TransactionTemplate writeTransaction;
+
+    /** How a repository method is routed. */
+    private sealed interface Route permits Keyed, Scatter, ScatterOrdered, BoundShard, Unsupported {
+    }
+
+    /** Runs on the shard derived from the arguments. */
+    private record Keyed(BiFunction<SwiftCodeShards, Object[], String> shardOf) implements Route {
+    }
+
+    /** Runs on every shard in parallel and merges the results. */
+    private record Scatter(boolean write, Function<List<Object>, Object> merge) implements Route {
+    }
+
+    /** Streams every shard in parallel, merged in the given order. */
+    private record ScatterOrdered(Comparator<Object> order) implements Route {
+    }
+
+    /** Runs on the shard the caller has bound, e.g. per shard within {@link SwiftCodeShards#scatter}; fails without one. */
+    private record BoundShard(String unboundMessage) implements Route {
+    }
+
+    private record Unsupported(String message) implements Route {
+    }
+
+    ShardRoutingInterceptor(ObjectProvider<SwiftCodeShards> shardsProvider,
+                            ObjectProvider<PlatformTransactionManager> transactionManagerProvider,
+                            ObjectProvider<EntityManager> entityManagerProvider) {
+        this.shardsProvider = shardsProvider;
+        this.transactionManagerProvider = transactionManagerProvider;
+        this.entityManagerProvider = entityManagerProvider;
+
+        infoRoutes.put("findBySwiftCode/1", bySwiftCode(0));
+        infoRoutes.put("existsBySwiftCodeIgnoreCase/1", bySwiftCode(0));
+        infoRoutes.put("findBranches/2", bySwiftCode(0));
+        infoRoutes.put("findByCountryISO2IgnoreCase/1", byCountry(0));
+        infoRoutes.put("findById/1", byKey(0));
+        infoRoutes.put("existsById/1", byKey(0));
+        infoRoutes.put("deleteById/1", byKey(0));
+        infoRoutes.put("insert/1", byEntry(0));
+        infoRoutes.put("save/1", byEntry(0));
+        infoRoutes.put("delete/1", byEntry(0));
+        infoRoutes.put("deleteBySwiftCodes/1", bySwiftCodes(0));
+        infoRoutes.put("deleteByInstitutionCode/1", bySwiftCode(0));
+        infoRoutes.put("deleteByCountry/1", byCountry(0));
+        infoRoutes.put("findAll/0", new Scatter(false, ShardRoutingInterceptor::concat));
+        infoRoutes.put("findAllSwiftCodes/0", new Scatter(false, ShardRoutingInterceptor::mergeSorted));
+        infoRoutes.put("count/0", new Scatter(false, ShardRoutingInterceptor::sumLong));
+        infoRoutes.put("countByDatasetVersion/1", new Scatter(false, ShardRoutingInterceptor::sumLong));
+        infoRoutes.put("deleteByDatasetVersion/1", new Scatter(true, ShardRoutingInterceptor::sumInt));
+        // Every shard has its own change log, so the position to carry writes over from differs by shard.
+        infoRoutes.put("deleteChangedSince/2", new BoundShard(CARRY_OVER_UNBOUND));
+        infoRoutes.put("copyChangedSince/3", new BoundShard(CARRY_OVER_UNBOUND));
+        infoRoutes.put("deleteAll/0", new Scatter(true, results -> null));
+        infoRoutes.put("streamAllOrderBySwiftCode/0",
+                new ScatterOrdered(Comparator.comparing(entry -> ((SwiftCodeInfo) entry).getSwiftCode())));
+
+        changeRoutes.put("save/1", byEntry(0));
+        changeRoutes.put("insertTombstonesBySwiftCodes/2", bySwiftCodes(0));
+        changeRoutes.put("insertTombstonesByInstitutionCode/2", bySwiftCode(0));
+        changeRoutes.put("insertTombstonesByCountry/2", byCountry(0));
+        changeRoutes.put("insertTombstonesForVersionSwitch/3", new BoundShard(SWITCH_UNBOUND));
+        changeRoutes.put("insertAddedForVersionSwitch/3", new BoundShard(SWITCH_UNBOUND));
+        changeRoutes.put("deleteAll/0", new Scatter(true, results -> null));
+        changeRoutes.put("findMaxSeq/0", new BoundShard(CHANGE_FEED_UNAVAILABLE));
+        changeRoutes.put("findMinSeq/0", new BoundShard(CHANGE_FEED_UNAVAILABLE));
+        changeRoutes.put("findMaxSeqChangedBefore/1", new BoundShard(CHANGE_FEED_UNAVAILABLE));
+        changeRoutes.put("deleteRange/2", new BoundShard(CHANGE_FEED_UNAVAILABLE));
+        changeRoutes.put("findRange/3", new Unsupported(CHANGE_FEED_UNAVAILABLE));
+
+        // Native statements of every shard read its own pointer, so all of them have to move, one shard at a time.
+        versionRoutes.put("updateActiveVersion/1", new BoundShard(SWITCH_UNBOUND));
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Method method = invocation.getMethod();
+        if (method.getDeclaringClass() == Object.class) {
+            return invocation.proceed();
+        }
+        Route route = routeOf((ProxyMethodInvocation) invocation);
+        if (route instanceof Keyed keyed) {
+            return proceedOn(keyed.shardOf().apply(shards(), invocation.getArguments()), invocation);
+        }
+        if (route instanceof Scatter scatter) {
+            return scatter((ProxyMethodInvocation) invocation, scatter);
+        }
+        if (route instanceof ScatterOrdered ordered) {
+            return scatterOrdered((ProxyMethodInvocation) invocation, ordered);
+        }
+        if (route instanceof BoundShard bound) {
+            if (ShardContext.current() == null) {
+                throw new CrossShardOperationException(bound.unboundMessage());
+            }
+            return invocation.proceed();
+        }
+        throw new CrossShardOperationException(((Unsupported) route).message());
+    }
+
+    private Route routeOf(ProxyMethodInvocation invocation) {
+        Method method = invocation.getMethod();
+        String key = method.getName() + "/" + method.getParameterCount();
+        Object repository = invocation.getProxy();
+        Route route;
+        if (repository instanceof SwiftCodeInfoRepository) {
+            route = infoRoutes.get(key);
+        } else if (repository instanceof SwiftCodeChangeRepository) {
+            route = changeRoutes.get(key);
+        } else {
+            route = versionRoutes.getOrDefault(key, catalog);
+        }
+        if (route == null) {
+            return new Unsupported("Repository method " + method.getName() + " is not available with sharded persistence.");
+        }
+        return route;
+    }
+
+    /**
+     * Proceeds on the given shard: joins the shard of the current transaction or thread, binds it to the current
+     * transaction, or binds it for the duration of the call.
+     */
+    private static Object proceedOn(String shard, MethodInvocation invocation) throws Throwable {
+        String bound = ShardContext.current();
+        if (bound != null) {
+            if (!bound.equals(shard)) {
+                throw new CrossShardOperationException("The operation needs shard '" + shard + "' in a transaction working on shard '"
+                        + bound + "'; entries of countries stored in different shards cannot be changed together.");
+            }
+            return invocation.proceed();
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            ShardContext.bind(shard);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    ShardContext.clear();
+                }
+            });
+            return invocation.proceed();
+        }
+        ShardContext.bind(shard);
+        try {
+            return invocation.proceed();
+        } finally {
+            ShardContext.clear();
+        }
+    }
+
+    private Object scatter(ProxyMethodInvocation invocation, Scatter scatter) {
+        Map<String, MethodInvocation> invocations = cloneForEveryShard(invocation);
+        TransactionTemplate transaction = scatter.write() ? writeTransaction() : readTransaction();
+        List<Object> results = shards().scatter(shard -> transaction.execute(status -> proceed(invocations.get(shard))));
+        return scatter.merge().apply(results);
+    }
+
+    private Stream<Object> scatterOrdered(ProxyMethodInvocation invocation, ScatterOrdered ordered) {
+        Map<String, MethodInvocation> invocations = cloneForEveryShard(invocation);
+        TransactionTemplate transaction = readTransaction();
+        EntityManager entityManager = entityManagerProvider.getObject();
+        return shards().scatterOrdered(sink -> transaction.executeWithoutResult(status -> {
+            try (Stream<?> entries = (Stream<?>) proceed(invocations.get(ShardContext.current()))) {
+                // Detached in the reading transaction, which owns the persistence context holding them.
+                entries.forEach(entry -> {
+                    entityManager.detach(entry);
+                    sink.accept(entry);
+                });
+            }
+        }), ordered.order());
+    }
+
+    /**
+     * Prepares an invocation of the rest of the advice chain per shard, since each one is proceeded on its own thread.
+     */
+    private Map<String, MethodInvocation> cloneForEveryShard(ProxyMethodInvocation invocation) {
+        Map<String, MethodInvocation> invocations = new HashMap<>();
+        for (String shard : shards().getShardNames()) {
+            invocations.put(shard, invocation.invocableClone());
+        }
+        return invocations;
+    }
+
+    private static Object proceed(MethodInvocation invocation) {
+        try {
+            return invocation.proceed();
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new UndeclaredThrowableException(e);
+        }
+    }
+
+    private SwiftCodeShards shards() {
+        SwiftCodeShards current = shards;
+        if (current == null) {
+            current = shardsProvider.getObject();
+            shards = current;
+        }
+        return current;
+    }
+
+    private TransactionTemplate readTransaction() {
+        TransactionTemplate current = readTransaction;
+        if (current == null) {
+            current = new TransactionTemplate(transactionManagerProvider.getObject());
+            current.setReadOnly(true);
+            readTransaction = current;
+        }
+        return current;
+    }
+
+    private TransactionTemplate writeTransaction() {
+        TransactionTemplate current = writeTransaction;
+        if (current == null) {
+            current = new TransactionTemplate(transactionManagerProvider.getObject());
+            writeTransaction = current;
+        }
+        return current;
+    }
+
+    private static Route bySwiftCode(int argument) {
+        return new Keyed((shards, args) -> shards.shardOfSwiftCode((String) args[argument]));
+    }
+
+    private static Route byKey(int argument) {
+        return new Keyed((shards, args) -> shards.shardOfSwiftCode(((SwiftCodeInfo.Key) args[argument]).getSwiftCode()));
+    }
+
+    private static Route byCountry(int argument) {
+        return new Keyed((shards, args) -> shards.shardOfCountry((String) args[argument]));
+    }
+
+    private static Route byEntry(int argument) {
+        return new Keyed((shards, args) -> shards.shardOfSwiftCode(args[argument] instanceof SwiftCodeChange change
+                ? change.getSwiftCode() : ((SwiftCodeInfo) args[argument]).getSwiftCode()));
+    }
+
+    /**
+     * Routes a collection of codes, which must all belong to the same shard.
+     */
+    private static Route bySwiftCodes(int argument) {
+        return new Keyed((shards, args) -> {
+            Set<String> targets = ((Collection<?>) args[argument]).stream()
+                    .map(code -> shards.shardOfSwiftCode((String) code))
+                    .collect(Collectors.toCollection(TreeSet::new));
+            if (targets.size() > 1) {
+                throw new CrossShardOperationException("The SWIFT codes belong to countries stored in different shards "
+                        + targets + "; delete them with one request per shard.");
+            }
+            return targets.isEmpty() ? shards.getDefaultShard() : targets.iterator().next();
+        });
+    }
+
+    private static Object concat(List<Object> results) {
+        List<Object> all = new ArrayList<>();
+        results.forEach(result -> all.addAll((List<?>) result));
+        return all;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Object mergeSorted(List<Object> results) {
+        List<List<String>> lists = new ArrayList<>();
+        results.forEach(result -> lists.add((List<String>) result));
+        return SwiftCodeShards.mergeSorted(lists, Comparator.naturalOrder());
+    }
+
+    private static Object sumLong(List<Object> results) {
+        return results.stream().mapToLong(result -> ((Number) result).longValue()).sum();
+    }
+
+    private static Object sumInt(List<Object> results) {
+        return results.stream().mapToInt(result -> ((Number) result).intValue()).sum();
+    }
+}
@@ -0,0 +1,44 @@
+package io.github.xhamera1.swiftcodeapi.sharding;
+
+import io.github.xhamera1.swiftcodeapi.repository.DatasetVersionRepository;
+import io.github.xhamera1.swiftcodeapi.repository.SwiftCodeChangeRepository;
+import io.github.xhamera1.swiftcodeapi.repository.SwiftCodeInfoRepository;
+import jakarta.persistence.EntityManager;
+import org.springframework.aop.framework.AbstractAdvisingBeanPostProcessor;
+import org.springframework.aop.support.ComposablePointcut;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.RootClassFilter;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.repository.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * Adds the {@link ShardRoutingInterceptor} to the repositories of the sharded tables.
+ * <p>
+ * The routing advice is placed ahead of the repository's own advice, so the shard is bound before the repository
+ * begins its transaction, and a scatter proceeds with the repository's advice on each shard's thread.
+ * </p>
+ */
+public class ShardRoutingPostProcessor extends AbstractAdvisingBeanPostProcessor {
+
+    public ShardRoutingPostProcessor(ObjectProvider<SwiftCodeShards> shards,
+                                     ObjectProvider<PlatformTransactionManager> transactionManager,
+                                     ObjectProvider<EntityManager> entityManager) {
+        this.advisor = new DefaultPointcutAdvisor(new ComposablePointcut(new RootClassFilter(Repository.class)),
+                new ShardRoutingInterceptor(shards, transactionManager, entityManager));
+        setBeforeExistingAdvisors(true);
+    }
+
+    /**
+     * Advises only the sharded repositories; the target class of every repository proxy is the same
+     * generic implementation, so they are told apart by their interface.
+     */
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof SwiftCodeInfoRepository || bean instanceof SwiftCodeChangeRepository
+                || bean instanceof DatasetVersionRepository) {
+            return super.postProcessAfterInitialization(bean, beanName);
+        }
+        return bean;
+    }
+}
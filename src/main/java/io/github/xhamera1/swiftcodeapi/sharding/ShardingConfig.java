@@ -0,0 +1,96 @@
+package io.github.xhamera1.swiftcodeapi.sharding;
+
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManager;
+import org.flywaydb.core.Flyway;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Enables the {@link ShardingProperties} and, with {@code swift-api.sharding.enabled=true}, wires the sharded
+ * persistence: a connection pool per shard behind a {@link ShardRoutingDataSource} replacing the single
+ * {@code spring.datasource}, the Flyway migrations applied to every shard, and the {@link ShardRoutingPostProcessor}.
+ * <p>
+ * JPA, JDBC and the transaction manager keep working with one {@link DataSource}; which database a transaction
+ * talks to is decided by the shard bound when it fetches its connection.
+ * </p>
+ */
+@Configuration
+@EnableConfigurationProperties(ShardingProperties.class)
+public class ShardingConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(ShardingConfig.class);
+
+    /**
+     * A connection pool per shard, behind the routing data source; the pools are closed with it.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "swift-api.sharding", name = "enabled", havingValue = "true")
+    public ShardRoutingDataSource shardRoutingDataSource(SwiftCodeShards shards, ShardingProperties properties) {
+        Map<Object, Object> targets = new LinkedHashMap<>();
+        properties.getShards().forEach((name, shard) -> {
+            HikariDataSource dataSource = new HikariDataSource();
+            dataSource.setPoolName("shard-" + name);
+            dataSource.setJdbcUrl(shard.getUrl());
+            dataSource.setUsername(shard.getUsername());
+            dataSource.setPassword(shard.getPassword());
+            dataSource.setMaximumPoolSize(shard.getMaximumPoolSize());
+            targets.put(name, dataSource);
+        });
+        ShardRoutingDataSource routing = new ShardRoutingDataSource();
+        routing.setTargetDataSources(targets);
+        routing.setDefaultTargetDataSource(targets.get(shards.getDefaultShard()));
+        routing.setLenientFallback(false);
+        return routing;
+    }
+
+    /**
+     * The data source of the application, connecting lazily so that the shard can be bound after the transaction
+     * has begun.
+     */
+    @Bean
+    @Primary
+    @ConditionalOnProperty(prefix = "swift-api.sharding", name = "enabled", havingValue = "true")
+    public DataSource shardedDataSource(ShardRoutingDataSource shardRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(shardRoutingDataSource);
+    }
+
+    /**
+     * Applies the migrations to every shard instead of only the default one, with the configuration Spring Boot
+     * derived for the default shard (the {@code {vendor}} location is resolved from it, so all shards must run
+     * the same database product).
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "swift-api.sharding", name = "enabled", havingValue = "true")
+    public FlywayMigrationStrategy shardedMigrationStrategy(ShardRoutingDataSource shardRoutingDataSource) {
+        return flyway -> shardRoutingDataSource.getResolvedDataSources().forEach((shard, shardDataSource) -> {
+            log.info("Migrating shard '{}'.", shard);
+            Flyway.configure(flyway.getConfiguration().getClassLoader())
+                    .configuration(flyway.getConfiguration())
+                    .dataSource(shardDataSource)
+                    .load()
+                    .migrate();
+        });
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "swift-api.sharding", name = "enabled", havingValue = "true")
+    public static ShardRoutingPostProcessor shardRoutingPostProcessor(ObjectProvider<SwiftCodeShards> shards,
+                                                                      ObjectProvider<PlatformTransactionManager> transactionManager,
+                                                                      ObjectProvider<EntityManager> entityManager) {
+        return new ShardRoutingPostProcessor(shards, transactionManager, entityManager);
+    }
+}
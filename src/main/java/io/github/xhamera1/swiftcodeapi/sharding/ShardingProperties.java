@@ -0,0 +1,59 @@
+package io.github.xhamera1.swiftcodeapi.sharding;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Configuration of the country-sharded persistence ({@code swift-api.sharding.*}).
+ * <p>
+ * Example with two shards, Poland and Germany on the second one and every other country on the first:
+ * </p>
+ * <pre>
+ * swift-api.sharding.enabled=true
+ * swift-api.sharding.default-shard=main
+ * swift-api.sharding.shards.main.url=jdbc:mysql://db-main:3306/swift
+ * swift-api.sharding.shards.east.url=jdbc:mysql://db-east:3306/swift
+ * swift-api.sharding.shards.east.countries=PL,DE
+ * </pre>
+ */
+@Data
+@ConfigurationProperties(prefix = "swift-api.sharding")
+public class ShardingProperties {
+
+    /** Whether the entries are spread over the configured shards instead of the single {@code spring.datasource}. */
+    private boolean enabled = false;
+
+    /**
+     * The shard holding the countries not assigned to any shard and the catalog of dataset versions.
+     * Defaults to the first configured shard.
+     */
+    private String defaultShard;
+
+    /** The shards by name, each a separate database with the full schema. */
+    private Map<String, Shard> shards = new LinkedHashMap<>();
+
+    /**
+     * Connection settings and countries of one shard.
+     */
+    @Data
+    public static class Shard {
+
+        /** JDBC URL of the shard's database. */
+        private String url;
+
+        private String username;
+
+        private String password;
+
+        /** Maximum size of the shard's connection pool. */
+        private int maximumPoolSize = 10;
+
+        /** The 2-letter ISO codes of the countries stored in this shard. */
+        private Set<String> countries = new LinkedHashSet<>();
+    }
+}
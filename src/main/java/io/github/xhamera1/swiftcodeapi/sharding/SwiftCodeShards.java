@@ -0,0 +1,249 @@
+package io.github.xhamera1.swiftcodeapi.sharding;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * The shard map of the country-sharded persistence ({@link ShardingProperties}) and the scatter-gather helpers
+ * working on it.
+ * <p>
+ * Entries are placed by the country embedded in their code (characters 5-6), which {@code addSwiftCode} and
+ * {@code DataInitializer} already check against the country of the entry; so an entry, its branches and all
+ * entries of its country always live in the same shard. Operations without such a key run on every shard in
+ * parallel, each on a thread of its own with the shard bound ({@link ShardContext}), and their results are merged.
+ * </p>
+ * <p>
+ * Without sharding there is a single shard named {@value #UNSHARDED}, and every operation runs directly on the
+ * calling thread, so callers need no special case.
+ * </p>
+ */
+@Component
+public class SwiftCodeShards {
+
+    /** Name of the only shard when sharding is disabled. */
+    public static final String UNSHARDED = "default";
+
+    private static final Logger log = LoggerFactory.getLogger(SwiftCodeShards.class);
+    /** Number of entries each shard may read ahead of the merge in {@link #scatterOrdered}. */
+    private static final int MERGE_BUFFER_SIZE = 1000;
+
+    private final boolean sharded;
+    private final List<String> shardNames;
+    private final String defaultShard;
+    private final Map<String, String> shardByCountry = new HashMap<>();
+    private final ExecutorService executor;
+
+    /**
+     * Reads the entries of one shard, handing them to {@code sink} in order.
+     */
+    @FunctionalInterface
+    public interface ShardReader<T> {
+
+        void read(Consumer<T> sink);
+    }
+
+    /**
+     * @param properties The shard map.
+     * @throws IllegalStateException if sharding is enabled with no shards, an unknown default shard,
+     *         or a country assigned to several shards.
+     */
+    @Autowired
+    public SwiftCodeShards(ShardingProperties properties) {
+        this.sharded = properties.isEnabled();
+        if (!sharded) {
+            this.shardNames = List.of(UNSHARDED);
+            this.defaultShard = UNSHARDED;
+            this.executor = null;
+            return;
+        }
+        if (properties.getShards().isEmpty()) {
+            throw new IllegalStateException("Sharding is enabled but no shards are configured (swift-api.sharding.shards).");
+        }
+        this.shardNames = List.copyOf(properties.getShards().keySet());
+        this.defaultShard = properties.getDefaultShard() != null ? properties.getDefaultShard() : shardNames.get(0);
+        if (!properties.getShards().containsKey(defaultShard)) {
+            throw new IllegalStateException("The default shard '" + defaultShard + "' is not configured.");
+        }
+        properties.getShards().forEach((shard, settings) -> settings.getCountries().forEach(country -> {
+            String previous = shardByCountry.put(country.toUpperCase(Locale.ROOT), shard);
+            if (previous != null && !previous.equals(shard)) {
+                throw new IllegalStateException("Country " + country + " is assigned to shards '" + previous + "' and '" + shard + "'.");
+            }
+        }));
+        AtomicInteger threads = new AtomicInteger();
+        this.executor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "shard-scatter-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        log.info("Sharded persistence over {} shards {}, default shard '{}', {} countries assigned.",
+                shardNames.size(), shardNames, defaultShard, shardByCountry.size());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * @return {@code true} if the entries are spread over several configured shards
+     */
+    public boolean isSharded() {
+        return sharded;
+    }
+
+    /**
+     * @return the names of all shards, in configuration order
+     */
+    public List<String> getShardNames() {
+        return shardNames;
+    }
+
+    /**
+     * @return the shard of the unassigned countries and the dataset version catalog
+     */
+    public String getDefaultShard() {
+        return defaultShard;
+    }
+
+    /**
+     * @param countryISO2 a 2-letter country ISO code (case is ignored)
+     * @return the shard storing the entries of the country
+     */
+    public String shardOfCountry(String countryISO2) {
+        if (countryISO2 == null) {
+            return defaultShard;
+        }
+        return shardByCountry.getOrDefault(countryISO2.toUpperCase(Locale.ROOT), defaultShard);
+    }
+
+    /**
+     * @param swiftCode a SWIFT code, institution code or any other code prefix of at least 6 characters
+     * @return the shard of the country in characters 5-6; the default shard for shorter values, which match no entry
+     */
+    public String shardOfSwiftCode(String swiftCode) {
+        if (swiftCode == null || swiftCode.length() < 6) {
+            return defaultShard;
+        }
+        return shardOfCountry(swiftCode.substring(4, 6));
+    }
+
+    /**
+     * Runs an action on every shard in parallel, each with its shard bound, and waits for all of them.
+     *
+     * @param perShard called with the shard name; must not rely on the caller's transaction
+     * @return the results, in the order of {@link #getShardNames()}
+     * @throws RuntimeException the failure of the first failed shard, after all shards have finished
+     */
+    public <T> List<T> scatter(Function<String, T> perShard) {
+        if (!sharded) {
+            return List.of(perShard.apply(defaultShard));
+        }
+        List<CompletableFuture<T>> futures = shardNames.stream()
+                .map(shard -> CompletableFuture.supplyAsync(() -> ShardContext.callOn(shard, () -> perShard.apply(shard)), executor))
+                .toList();
+        return join(futures);
+    }
+
+    /**
+     * Splits items by the shard of their code and hands each shard its items in parallel, with the shard bound.
+     * Items keep their relative order within a shard.
+     *
+     * @param items the items to distribute
+     * @param swiftCodeOf the code routing an item
+     * @param perShard called once for every shard receiving items
+     */
+    public <T> void scatterPartitioned(List<T> items, Function<T, String> swiftCodeOf, Consumer<List<T>> perShard) {
+        if (!sharded) {
+            perShard.accept(items);
+            return;
+        }
+        Map<String, List<T>> partitions = new LinkedHashMap<>();
+        for (T item : items) {
+            partitions.computeIfAbsent(shardOfSwiftCode(swiftCodeOf.apply(item)), shard -> new ArrayList<>()).add(item);
+        }
+        List<CompletableFuture<Void>> futures = partitions.entrySet().stream()
+                .map(partition -> CompletableFuture.runAsync(() -> ShardContext.callOn(partition.getKey(), () -> {
+                    perShard.accept(partition.getValue());
+                    return null;
+                }), executor))
+                .toList();
+        join(futures);
+    }
+
+    /**
+     * Reads every shard in parallel and merges the ordered shard streams into one ordered stream. Each shard is
+     * read on a thread of its own, at most {@value #MERGE_BUFFER_SIZE} entries ahead of the consumer, so memory use
+     * does not grow with the data. The stream must be closed; closing it early stops the readers.
+     * Without sharding, the single shard is read into memory first.
+     *
+     * @param reader reads one shard (with the shard bound) in the given order
+     * @param order the order of every shard's entries and of the merged stream
+     * @return the merged entries; a failed shard fails the stream
+     */
+    public <T> Stream<T> scatterOrdered(ShardReader<T> reader, Comparator<? super T> order) {
+        if (!sharded) {
+            List<T> entries = new ArrayList<>();
+            reader.read(entries::add);
+            return entries.stream();
+        }
+        ShardMergeIterator<T> iterator = new ShardMergeIterator<>(shardNames.size(), MERGE_BUFFER_SIZE, order);
+        for (int index = 0; index < shardNames.size(); index++) {
+            String shard = shardNames.get(index);
+            int source = index;
+            executor.execute(() -> ShardContext.callOn(shard, () -> {
+                iterator.produce(source, reader);
+                return null;
+            }));
+        }
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(iterator::close);
+    }
+
+    /**
+     * Merges lists that are each sorted in the given order. The concatenation consists of sorted runs,
+     * which {@link List#sort} merges without a full sort.
+     */
+    public static <T> List<T> mergeSorted(List<List<T>> sortedLists, Comparator<? super T> order) {
+        List<T> merged = new ArrayList<>(sortedLists.stream().mapToInt(List::size).sum());
+        sortedLists.forEach(merged::addAll);
+        merged.sort(order);
+        return merged;
+    }
+
+    private static <T> List<T> join(List<CompletableFuture<T>> futures) {
+        try {
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+        return futures.stream().map(CompletableFuture::join).toList();
+    }
+}
@@ -0,0 +1,88 @@
+package io.github.xhamera1.swiftcodeapi.snapshot;
+
+import io.github.xhamera1.swiftcodeapi.model.SwiftCodeInfo;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Stores the {@link SwiftCodeSnapshot} of the dataset at {@code swift-api.snapshot.path}
+ * (enabled with {@code swift-api.snapshot.enabled=true}).
+ * <p>
+ * A snapshot is only used if it is intact and current, i.e. taken from exactly the codes currently in the database.
+ * Missing, unreadable (other format version, checksum mismatch) or stale snapshots are reported as empty,
+ * so callers fall back to the database.
+ * </p>
+ */
+@Component
+public class SnapshotStore {
+
+    private static final Logger log = LoggerFactory.getLogger(SnapshotStore.class);
+
+    private final boolean enabled;
+    private final Path path;
+
+    @Autowired
+    public SnapshotStore(@Value("${swift-api.snapshot.enabled:false}") boolean enabled,
+                         @Value("${swift-api.snapshot.path:swift-codes.snapshot}") Path path) {
+        this.enabled = enabled;
+        this.path = path;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Loads the snapshot if it holds exactly the given codes.
+     *
+     * @param currentSwiftCodes all SWIFT codes currently stored in the database
+     * @return the snapshot entries, or empty if snapshots are disabled or the snapshot is missing, unreadable or stale
+     */
+    public Optional<List<SwiftCodeInfo>> loadIfCurrent(Collection<String> currentSwiftCodes) {
+        if (!enabled || !Files.isRegularFile(path)) {
+            return Optional.empty();
+        }
+        long start = System.nanoTime();
+        SwiftCodeSnapshot snapshot;
+        try {
+            snapshot = SwiftCodeSnapshot.read(path);
+        } catch (IOException e) {
+            log.warn("Ignoring unreadable snapshot {}: {}", path, e.getMessage());
+            return Optional.empty();
+        }
+        if (snapshot.getEntries().size() != currentSwiftCodes.size()
+                || snapshot.getFingerprint() != SwiftCodeSnapshot.fingerprint(currentSwiftCodes)) {
+            log.info("Ignoring stale snapshot {} ({} entries, database has {}).", path,
+                    snapshot.getEntries().size(), currentSwiftCodes.size());
+            return Optional.empty();
+        }
+        log.info("Loaded {} SWIFT code entries from snapshot {} in {} ms.", snapshot.getEntries().size(), path,
+                (System.nanoTime() - start) / 1_000_000);
+        return Optional.of(snapshot.getEntries());
+    }
+
+    /**
+     * Writes a snapshot of the given entries; failures are logged and otherwise ignored.
+     */
+    public void save(List<SwiftCodeInfo> entries) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            SwiftCodeSnapshot.write(path, entries);
+            log.info("Wrote snapshot of {} SWIFT code entries to {}.", entries.size(), path);
+        } catch (IOException e) {
+            log.warn("Could not write snapshot {}: {}", path, e.getMessage());
+        }
+    }
+}
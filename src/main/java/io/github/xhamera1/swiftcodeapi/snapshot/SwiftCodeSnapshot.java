@@ -0,0 +1,314 @@
+package io.github.xhamera1.swiftcodeapi.snapshot;
+
+import io.github.xhamera1.swiftcodeapi.model.SwiftCodeInfo;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.zip.CRC32;
+
+/**
+ * Compact, versioned binary snapshot of the whole {@code swift_codes} table.
+ * <p>
+ * Layout (big-endian):
+ * <pre>
+ * header   magic "SWSN" | format version (int) | entry count (int) | code fingerprint (long)
+ *          | payload length (long) | CRC32 of the payload (int)
+ * payload  7 length-prefixed column sections, each one value per entry:
+ *          SWIFT code, bank name, address, town name, country ISO2, country name, headquarter flag
+ * </pre>
+ * Strings are written as a varint length followed by UTF-8 bytes. Bank, town and country columns are dictionary
+ * encoded: the distinct values once, followed by a varint id per entry. Addresses and codes are mostly unique
+ * and stored inline; headquarter flags are a bitset. {@code null} is encoded as length/id {@code 0}.
+ * </p>
+ * <p>
+ * Files are read through a memory mapping and written to a temporary file that atomically replaces the previous
+ * snapshot, so a reader never sees a partially written file. The {@linkplain #fingerprint(Collection) code fingerprint}
+ * identifies the set of codes the snapshot was taken from and is used to detect stale snapshots.
+ * </p>
+ */
+public final class SwiftCodeSnapshot {
+
+    /** Current format version; files with another version are rejected. */
+    public static final int FORMAT_VERSION = 1;
+
+    private static final int MAGIC = 0x5357534E; // "SWSN"
+    private static final int HEADER_LENGTH = 4 + 4 + 4 + 8 + 8 + 4;
+    private static final int COLUMN_COUNT = 7;
+
+    private final long fingerprint;
+    private final List<SwiftCodeInfo> entries;
+
+    private SwiftCodeSnapshot(long fingerprint, List<SwiftCodeInfo> entries) {
+        this.fingerprint = fingerprint;
+        this.entries = entries;
+    }
+
+    /**
+     * @return the fingerprint of the codes contained in the snapshot
+     */
+    public long getFingerprint() {
+        return fingerprint;
+    }
+
+    /**
+     * @return the entries of the snapshot (detached, not managed by JPA)
+     */
+    public List<SwiftCodeInfo> getEntries() {
+        return entries;
+    }
+
+    /**
+     * Computes an order-independent fingerprint of a set of SWIFT codes. Entries are never updated in place
+     * (only inserted and deleted), so two datasets with the same codes and fingerprint hold the same rows.
+     */
+    public static long fingerprint(Collection<String> swiftCodes) {
+        long sum = swiftCodes.size();
+        for (String swiftCode : swiftCodes) {
+            sum += mix(hash64(swiftCode));
+        }
+        return sum;
+    }
+
+    /**
+     * Writes the entries to {@code path}, replacing an existing snapshot atomically.
+     */
+    public static void write(Path path, List<SwiftCodeInfo> entries) throws IOException {
+        List<String> codes = new ArrayList<>(entries.size());
+        entries.forEach(entry -> codes.add(entry.getSwiftCode()));
+
+        ByteArrayOutputStream payload = new ByteArrayOutputStream(entries.size() * 64);
+        writeSection(payload, out -> entries.forEach(entry -> writeString(out, entry.getSwiftCode())));
+        writeSection(payload, out -> writeDictionaryColumn(out, entries, SwiftCodeInfo::getBankName));
+        writeSection(payload, out -> entries.forEach(entry -> writeString(out, entry.getAddress())));
+        writeSection(payload, out -> writeDictionaryColumn(out, entries, SwiftCodeInfo::getTownName));
+        writeSection(payload, out -> writeDictionaryColumn(out, entries, SwiftCodeInfo::getCountryISO2));
+        writeSection(payload, out -> writeDictionaryColumn(out, entries, SwiftCodeInfo::getCountryName));
+        writeSection(payload, out -> {
+            byte[] bits = new byte[(entries.size() + 7) / 8];
+            for (int i = 0; i < entries.size(); i++) {
+                if (entries.get(i).isHeadquarter()) {
+                    bits[i >>> 3] |= (byte) (1 << (i & 7));
+                }
+            }
+            out.writeBytes(bits);
+        });
+        byte[] payloadBytes = payload.toByteArray();
+
+        CRC32 crc = new CRC32();
+        crc.update(payloadBytes);
+        ByteBuffer header = ByteBuffer.allocate(HEADER_LENGTH).order(ByteOrder.BIG_ENDIAN)
+                .putInt(MAGIC)
+                .putInt(FORMAT_VERSION)
+                .putInt(entries.size())
+                .putLong(fingerprint(codes))
+                .putLong(payloadBytes.length)
+                .putInt((int) crc.getValue())
+                .flip();
+
+        Path directory = path.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path temporary = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                ByteBuffer body = ByteBuffer.wrap(payloadBytes);
+                while (header.hasRemaining() || body.hasRemaining()) {
+                    channel.write(new ByteBuffer[]{header, body});
+                }
+                channel.force(true);
+            }
+            Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    /**
+     * Reads a snapshot through a read-only memory mapping.
+     *
+     * @throws IOException if the file cannot be read, is not a snapshot, has another format version
+     *                     or fails the checksum
+     */
+    public static SwiftCodeSnapshot read(Path path) throws IOException {
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        buffer.order(ByteOrder.BIG_ENDIAN);
+        if (buffer.remaining() < HEADER_LENGTH || buffer.getInt() != MAGIC) {
+            throw new IOException("Not a SWIFT code snapshot: " + path);
+        }
+        int version = buffer.getInt();
+        if (version != FORMAT_VERSION) {
+            throw new IOException("Unsupported snapshot format version " + version + " (expected " + FORMAT_VERSION + ")");
+        }
+        int count = buffer.getInt();
+        long fingerprint = buffer.getLong();
+        long payloadLength = buffer.getLong();
+        int expectedCrc = buffer.getInt();
+        if (count < 0 || payloadLength != buffer.remaining()) {
+            throw new IOException("Truncated or corrupt snapshot: " + path);
+        }
+
+        ByteBuffer payload = buffer.slice();
+        CRC32 crc = new CRC32();
+        crc.update(payload.duplicate());
+        if ((int) crc.getValue() != expectedCrc) {
+            throw new IOException("Snapshot checksum mismatch: " + path);
+        }
+
+        try {
+            ByteBuffer[] columns = new ByteBuffer[COLUMN_COUNT];
+            for (int i = 0; i < COLUMN_COUNT; i++) {
+                int length = payload.getInt();
+                columns[i] = payload.slice(payload.position(), length);
+                payload.position(payload.position() + length);
+            }
+            String[] codes = readStringColumn(columns[0], count);
+            String[] bankNames = readDictionaryColumn(columns[1], count);
+            String[] addresses = readStringColumn(columns[2], count);
+            String[] townNames = readDictionaryColumn(columns[3], count);
+            String[] countryIso2 = readDictionaryColumn(columns[4], count);
+            String[] countryNames = readDictionaryColumn(columns[5], count);
+            ByteBuffer headquarters = columns[6];
+
+            List<SwiftCodeInfo> entries = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                boolean headquarter = (headquarters.get(i >>> 3) & (1 << (i & 7))) != 0;
+                entries.add(new SwiftCodeInfo(codes[i], bankNames[i], addresses[i], townNames[i],
+                        countryIso2[i], countryNames[i], headquarter));
+            }
+            return new SwiftCodeSnapshot(fingerprint, entries);
+        } catch (RuntimeException e) {
+            throw new IOException("Corrupt snapshot: " + path, e);
+        }
+    }
+
+    private interface SectionWriter {
+        void write(ByteArrayOutputStream out);
+    }
+
+    private static void writeSection(ByteArrayOutputStream payload, SectionWriter writer) {
+        ByteArrayOutputStream section = new ByteArrayOutputStream();
+        writer.write(section);
+        int length = section.size();
+        payload.write(length >>> 24);
+        payload.write(length >>> 16);
+        payload.write(length >>> 8);
+        payload.write(length);
+        payload.writeBytes(section.toByteArray());
+    }
+
+    private static void writeDictionaryColumn(ByteArrayOutputStream out, List<SwiftCodeInfo> entries,
+                                              Function<SwiftCodeInfo, String> column) {
+        Map<String, Integer> ids = new HashMap<>();
+        List<String> values = new ArrayList<>();
+        int[] rowIds = new int[entries.size()];
+        for (int i = 0; i < entries.size(); i++) {
+            String value = column.apply(entries.get(i));
+            if (value != null) {
+                rowIds[i] = ids.computeIfAbsent(value, key -> {
+                    values.add(key);
+                    return values.size();
+                });
+            }
+        }
+        writeVarint(out, values.size());
+        values.forEach(value -> writeString(out, value));
+        for (int rowId : rowIds) {
+            writeVarint(out, rowId);
+        }
+    }
+
+    private static String[] readDictionaryColumn(ByteBuffer column, int count) {
+        String[] dictionary = new String[readVarint(column) + 1];
+        for (int id = 1; id < dictionary.length; id++) {
+            dictionary[id] = readString(column);
+        }
+        String[] values = new String[count];
+        for (int i = 0; i < count; i++) {
+            values[i] = dictionary[readVarint(column)];
+        }
+        return values;
+    }
+
+    private static String[] readStringColumn(ByteBuffer column, int count) {
+        String[] values = new String[count];
+        for (int i = 0; i < count; i++) {
+            values[i] = readString(column);
+        }
+        return values;
+    }
+
+    /**
+     * Writes a string as varint (UTF-8 length + 1) followed by its bytes; {@code null} is a single {@code 0}.
+     */
+    private static void writeString(ByteArrayOutputStream out, String value) {
+        if (value == null) {
+            out.write(0);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarint(out, bytes.length + 1);
+        out.writeBytes(bytes);
+    }
+
+    private static String readString(ByteBuffer in) {
+        int length = readVarint(in);
+        if (length == 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length - 1];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeVarint(ByteArrayOutputStream out, int value) {
+        while ((value & ~0x7F) != 0) {
+            out.write((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.write(value);
+    }
+
+    private static int readVarint(ByteBuffer in) {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            byte b = in.get();
+            value |= (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IllegalStateException("Malformed varint");
+    }
+
+    private static long hash64(String value) {
+        long hash = 0xcbf29ce484222325L; // FNV-1a
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L; // splitmix64 finalizer
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,128 @@
+package io.github.xhamera1.swiftcodeapi.startup;
+
+import io.github.xhamera1.swiftcodeapi.index.SwiftCodeIndexManager;
+import io.github.xhamera1.swiftcodeapi.model.SwiftCodeInfo;
+import io.github.xhamera1.swiftcodeapi.repository.SwiftCodeInfoRepository;
+import io.github.xhamera1.swiftcodeapi.service.DataInitializer;
+import io.github.xhamera1.swiftcodeapi.snapshot.SnapshotStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Brings the data into a servable state once the application has started: imports the CSV data if the database
+ * is empty ({@link DataInitializer}) and then builds the in-memory indexes ({@link SwiftCodeIndexManager}).
+ * <p>
+ * With snapshots enabled, the indexes are built from the binary {@link SnapshotStore snapshot} if it holds exactly
+ * the codes in the database; only the code column is read to check that. Otherwise all rows are read from the
+ * database and a new snapshot is written for the next start.
+ * </p>
+ * <p>
+ * By default this runs on the startup thread, so startup completes only after the data is available. With
+ * {@code swift-api.startup.async-initialization=true} it runs on a background thread instead: the HTTP server
+ * accepts connections immediately and the JVM warms up while the data is loaded. In both modes
+ * {@link #isReady()} stays {@code false} until the warm-up has finished; it gates the API
+ * (see {@link WarmupFilter}) and the {@code swiftData} contributor of the readiness probe.
+ * </p>
+ */
+@Component
+public class DataWarmup {
+
+    private static final Logger log = LoggerFactory.getLogger(DataWarmup.class);
+
+    private final DataInitializer dataInitializer;
+    private final SwiftCodeIndexManager indexManager;
+    private final SwiftCodeInfoRepository repository;
+    private final SnapshotStore snapshotStore;
+    private final boolean asyncInitialization;
+
+    private volatile boolean ready;
+    private volatile RuntimeException failure;
+
+    @Autowired
+    public DataWarmup(DataInitializer dataInitializer, SwiftCodeIndexManager indexManager,
+                      SwiftCodeInfoRepository repository, SnapshotStore snapshotStore,
+                      @Value("${swift-api.startup.async-initialization:false}") boolean asyncInitialization) {
+        this.dataInitializer = dataInitializer;
+        this.indexManager = indexManager;
+        this.repository = repository;
+        this.snapshotStore = snapshotStore;
+        this.asyncInitialization = asyncInitialization;
+    }
+
+    /**
+     * Starts the warm-up, in the background if asynchronous initialization is enabled.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!asyncInitialization) {
+            warmUp();
+            return;
+        }
+        Thread worker = new Thread(this::warmUp, "swift-data-warmup");
+        worker.setDaemon(true);
+        worker.start();
+        log.info("Application started; loading data in the background, API requests get 503 until it is ready.");
+    }
+
+    /**
+     * Imports the data if needed and builds the indexes. A failure fails the startup in synchronous mode;
+     * in asynchronous mode it is kept and reported by the readiness probe.
+     */
+    void warmUp() {
+        long start = System.nanoTime();
+        try {
+            dataInitializer.importIfEmpty();
+            indexManager.rebuildAll(loadEntries());
+            ready = true;
+            log.info("Data warm-up finished in {} ms, accepting API requests.", (System.nanoTime() - start) / 1_000_000);
+        } catch (RuntimeException e) {
+            failure = e;
+            log.error("Data warm-up failed, API requests will keep getting 503.", e);
+            if (!asyncInitialization) {
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Returns all entries, from the snapshot if it is current, otherwise from the database (refreshing the snapshot).
+     */
+    private List<SwiftCodeInfo> loadEntries() {
+        if (!snapshotStore.isEnabled()) {
+            return repository.findAll();
+        }
+        Optional<List<SwiftCodeInfo>> fromSnapshot = snapshotStore.loadIfCurrent(repository.findAllSwiftCodes());
+        if (fromSnapshot.isPresent()) {
+            return fromSnapshot.get();
+        }
+        List<SwiftCodeInfo> entries = repository.findAll();
+        snapshotStore.save(entries);
+        return entries;
+    }
+
+    /**
+     * @return {@code true} once the data has been imported and the in-memory indexes are built
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * @return the exception that aborted the warm-up, or {@code null} if it has not failed
+     */
+    public RuntimeException getFailure() {
+        return failure;
+    }
+
+    public boolean isAsyncInitialization() {
+        return asyncInitialization;
+    }
+}
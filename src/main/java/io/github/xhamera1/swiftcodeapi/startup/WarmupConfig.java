@@ -0,0 +1,55 @@
+package io.github.xhamera1.swiftcodeapi.startup;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+
+import java.time.Duration;
+
+/**
+ * Exposes the state of the {@link DataWarmup}: the {@link WarmupFilter} in front of the API and the
+ * {@code swiftData} health contributor, which is part of the readiness group ({@code /actuator/health/readiness}).
+ */
+@Configuration
+public class WarmupConfig {
+
+    /**
+     * Registers the warm-up gate ahead of the concurrency limiter, so requests rejected here do not take a permit.
+     */
+    @Bean
+    public FilterRegistrationBean<WarmupFilter> warmupFilter(
+            DataWarmup dataWarmup,
+            @Value("${swift-api.startup.retry-after:2s}") Duration retryAfter,
+            @Qualifier("handlerExceptionResolver") HandlerExceptionResolver handlerExceptionResolver) {
+        long retryAfterSeconds = Math.max(1, (retryAfter.toMillis() + 999) / 1000);
+        FilterRegistrationBean<WarmupFilter> registration = new FilterRegistrationBean<>(
+                new WarmupFilter(dataWarmup, retryAfterSeconds, handlerExceptionResolver));
+        registration.addUrlPatterns("/v1/swift-codes", "/v1/swift-codes/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 5);
+        return registration;
+    }
+
+    /**
+     * Reports {@code OUT_OF_SERVICE} while the data is loading and {@code DOWN} if loading failed.
+     */
+    @Bean
+    public HealthIndicator swiftDataHealthIndicator(DataWarmup dataWarmup) {
+        return () -> {
+            String mode = dataWarmup.isAsyncInitialization() ? "async" : "sync";
+            if (dataWarmup.isReady()) {
+                return Health.up().withDetail("initialization", mode).build();
+            }
+            RuntimeException failure = dataWarmup.getFailure();
+            if (failure != null) {
+                return Health.down(failure).withDetail("initialization", mode).build();
+            }
+            return Health.outOfService().withDetail("initialization", mode).build();
+        };
+    }
+}
@@ -0,0 +1,44 @@
+package io.github.xhamera1.swiftcodeapi.startup;
+
+import io.github.xhamera1.swiftcodeapi.exceptions.ServiceNotReadyException;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+
+import java.io.IOException;
+
+/**
+ * Rejects {@code /v1/swift-codes} requests with 503 and {@code Retry-After} until the {@link DataWarmup} is ready.
+ * <p>
+ * Reads would otherwise see a partially imported table. Writes are rejected as well: an entry written while
+ * the indexes are being built could be missing from them afterwards.
+ * Like {@link io.github.xhamera1.swiftcodeapi.limiter.ConcurrencyLimitFilter}, the rejection is handed to
+ * Spring MVC's {@link HandlerExceptionResolver} and rendered by the global exception handler.
+ * </p>
+ */
+public class WarmupFilter extends OncePerRequestFilter {
+
+    private final DataWarmup dataWarmup;
+    private final long retryAfterSeconds;
+    private final HandlerExceptionResolver handlerExceptionResolver;
+
+    public WarmupFilter(DataWarmup dataWarmup, long retryAfterSeconds, HandlerExceptionResolver handlerExceptionResolver) {
+        this.dataWarmup = dataWarmup;
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.handlerExceptionResolver = handlerExceptionResolver;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        if (!dataWarmup.isReady()) {
+            handlerExceptionResolver.resolveException(request, response, null,
+                    new ServiceNotReadyException("The service is starting and its data is not loaded yet. Please retry later.", retryAfterSeconds));
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+}
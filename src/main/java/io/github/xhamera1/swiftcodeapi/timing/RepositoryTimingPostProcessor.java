@@ -0,0 +1,28 @@
+package io.github.xhamera1.swiftcodeapi.timing;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.aop.framework.AbstractAdvisingBeanPostProcessor;
+import org.springframework.aop.support.ComposablePointcut;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.RootClassFilter;
+import org.springframework.data.repository.Repository;
+
+/**
+ * Adds the {@link TimingStage#DB} stage around every call to a Spring Data repository.
+ * <p>
+ * The timing advice is placed ahead of the repository's own advice, so the measured time includes acquiring
+ * a connection and beginning and committing the repository's transaction, not only the statement itself.
+ * </p>
+ */
+public class RepositoryTimingPostProcessor extends AbstractAdvisingBeanPostProcessor {
+
+    public RepositoryTimingPostProcessor() {
+        MethodInterceptor timingInterceptor = invocation -> {
+            try (RequestTiming.Split ignored = RequestTiming.start(TimingStage.DB)) {
+                return invocation.proceed();
+            }
+        };
+        this.advisor = new DefaultPointcutAdvisor(new ComposablePointcut(new RootClassFilter(Repository.class)), timingInterceptor);
+        setBeforeExistingAdvisors(true);
+    }
+}
@@ -0,0 +1,193 @@
+package io.github.xhamera1.swiftcodeapi.timing;
+
+import java.util.Locale;
+
+/**
+ * Stage timers of a single request, bound to the request thread by the {@link ServerTimingFilter}.
+ * <p>
+ * Code on the request path wraps a stage in a try-with-resources block:
+ * <pre>{@code
+ * try (RequestTiming.Split ignored = RequestTiming.start(TimingStage.DB)) {
+ *     return repository.findBySwiftCode(swiftCode);
+ * }
+ * }</pre>
+ * When the current request is not timed, {@link #start(TimingStage)} costs a thread-local read and returns
+ * a shared no-op split. Timed requests reuse one preallocated split per stage, so measuring does not allocate either.
+ * Re-entering a stage that is already running (e.g. nested repository calls) is counted once, by the outermost split.
+ * </p>
+ * <p>
+ * Only the request thread is measured: work done on behalf of the request by other threads
+ * (a coalesced lookup run by another request, the group commit worker) shows up as the waiting stage instead.
+ * Instances are confined to the request thread and are not thread-safe.
+ * </p>
+ */
+public final class RequestTiming {
+
+    private static final ThreadLocal<RequestTiming> CURRENT = new ThreadLocal<>();
+    private static final TimingStage[] STAGES = TimingStage.values();
+    private static final Split NO_OP = new Split(null, null);
+
+    private final long startNanos;
+    private final long[] nanos = new long[STAGES.length];
+    private final int[] counts = new int[STAGES.length];
+    private final Split[] splits = new Split[STAGES.length];
+    private long totalNanos = -1;
+
+    private RequestTiming(long startNanos) {
+        this.startNanos = startNanos;
+        for (TimingStage stage : STAGES) {
+            splits[stage.ordinal()] = new Split(this, stage);
+        }
+    }
+
+    /**
+     * Starts timing the current request and binds it to the calling thread. The {@link TimingStage#DISPATCH}
+     * stage starts immediately and ends when the handler is invoked (see {@link #endDispatch()}).
+     */
+    static RequestTiming begin() {
+        RequestTiming timing = new RequestTiming(System.nanoTime());
+        timing.splits[TimingStage.DISPATCH.ordinal()].open(timing.startNanos);
+        CURRENT.set(timing);
+        return timing;
+    }
+
+    /**
+     * @return the timing of the request being processed by the calling thread, or {@code null} if it is not timed
+     */
+    public static RequestTiming current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Starts a stage of the current request.
+     *
+     * @return the split to close when the stage ends; a no-op if the current request is not timed
+     */
+    public static Split start(TimingStage stage) {
+        RequestTiming timing = CURRENT.get();
+        if (timing == null) {
+            return NO_OP;
+        }
+        Split split = timing.splits[stage.ordinal()];
+        split.open(System.nanoTime());
+        return split;
+    }
+
+    /**
+     * Ends the {@link TimingStage#DISPATCH} stage of the current request, if it is timed and the stage is still running.
+     */
+    public static void endDispatch() {
+        RequestTiming timing = CURRENT.get();
+        if (timing != null) {
+            timing.splits[TimingStage.DISPATCH.ordinal()].closeAll();
+        }
+    }
+
+    /**
+     * Starts the {@link TimingStage#SERIALIZATION} stage of the current request; it runs until the request {@link #finish() finishes}.
+     */
+    public static void startSerialization() {
+        RequestTiming timing = CURRENT.get();
+        if (timing != null && timing.splits[TimingStage.SERIALIZATION.ordinal()].depth == 0) {
+            timing.splits[TimingStage.SERIALIZATION.ordinal()].open(System.nanoTime());
+        }
+    }
+
+    /**
+     * Ends all running stages, fixes the total duration and unbinds the timing from the calling thread.
+     */
+    void finish() {
+        for (Split split : splits) {
+            split.closeAll();
+        }
+        totalNanos = System.nanoTime() - startNanos;
+        CURRENT.remove();
+    }
+
+    /**
+     * @return the accumulated duration of the stage in nanoseconds (0 if it did not run)
+     */
+    public long getNanos(TimingStage stage) {
+        return nanos[stage.ordinal()];
+    }
+
+    /**
+     * @return how many times the stage ran (nested re-entries are not counted)
+     */
+    public int getCount(TimingStage stage) {
+        return counts[stage.ordinal()];
+    }
+
+    /**
+     * @return the duration of the whole request in nanoseconds, or -1 before {@link #finish()}
+     */
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+
+    /**
+     * Formats the stages that ran, followed by the total, as a {@code Server-Timing} header value,
+     * e.g. {@code dispatch;dur=0.21, db;dur=1.84;desc="2 calls", total;dur=3.02} (durations in milliseconds).
+     */
+    String toHeaderValue() {
+        StringBuilder header = new StringBuilder(128);
+        for (TimingStage stage : STAGES) {
+            int count = counts[stage.ordinal()];
+            if (count == 0) {
+                continue;
+            }
+            appendMetric(header, stage.getMetricName(), nanos[stage.ordinal()]);
+            if (count > 1) {
+                header.append(";desc=\"").append(count).append(" calls\"");
+            }
+            header.append(", ");
+        }
+        appendMetric(header, "total", totalNanos);
+        return header.toString();
+    }
+
+    private static void appendMetric(StringBuilder header, String name, long durationNanos) {
+        header.append(name).append(";dur=").append(String.format(Locale.ROOT, "%.2f", durationNanos / 1_000_000.0));
+    }
+
+    /**
+     * A running stage; closing it adds the elapsed time to the stage.
+     */
+    public static final class Split implements AutoCloseable {
+
+        private final RequestTiming owner;
+        private final TimingStage stage;
+        private int depth;
+        private long openedAt;
+
+        private Split(RequestTiming owner, TimingStage stage) {
+            this.owner = owner;
+            this.stage = stage;
+        }
+
+        private void open(long now) {
+            if (owner != null && depth++ == 0) {
+                openedAt = now;
+            }
+        }
+
+        @Override
+        public void close() {
+            if (owner != null && depth > 0 && --depth == 0) {
+                record();
+            }
+        }
+
+        private void closeAll() {
+            if (owner != null && depth > 0) {
+                depth = 0;
+                record();
+            }
+        }
+
+        private void record() {
+            owner.nanos[stage.ordinal()] += System.nanoTime() - openedAt;
+            owner.counts[stage.ordinal()]++;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package io.github.xhamera1.swiftcodeapi.timing;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Wires the per-request stage timing (enabled unless {@code swift-api.server-timing.enabled=false}):
+ * the {@link ServerTimingFilter} in front of the API, a handler interceptor ending the dispatch stage
+ * and the {@link RepositoryTimingPostProcessor}. With the feature disabled, none of them is registered and
+ * the stage markers in the service reduce to a thread-local read.
+ * <p>
+ * Stage durations of timed requests are published as the {@code swift.api.request.stage} timer
+ * (tagged with {@code stage}, including {@code total}), with percentile histogram buckets.
+ * </p>
+ */
+@Configuration
+@EnableConfigurationProperties(ServerTimingProperties.class)
+@ConditionalOnProperty(prefix = "swift-api.server-timing", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ServerTimingConfig {
+
+    /**
+     * Registers the timing filter ahead of the warm-up gate and the concurrency limiter, so the dispatch stage covers them.
+     */
+    @Bean
+    public FilterRegistrationBean<ServerTimingFilter> serverTimingFilter(ServerTimingProperties properties, MeterRegistry meterRegistry) {
+        FilterRegistrationBean<ServerTimingFilter> registration = new FilterRegistrationBean<>(
+                new ServerTimingFilter(properties.getRequestHeader(), properties.getSampleRate(), meterRegistry));
+        registration.addUrlPatterns("/v1/swift-codes", "/v1/swift-codes/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        return registration;
+    }
+
+    @Bean
+    public static RepositoryTimingPostProcessor repositoryTimingPostProcessor() {
+        return new RepositoryTimingPostProcessor();
+    }
+
+    /**
+     * Ends the dispatch stage once a handler has been selected for the request.
+     */
+    @Bean
+    public WebMvcConfigurer serverTimingInterceptorConfigurer() {
+        return new WebMvcConfigurer() {
+            @Override
+            public void addInterceptors(InterceptorRegistry registry) {
+                registry.addInterceptor(new HandlerInterceptor() {
+                    @Override
+                    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+                        RequestTiming.endDispatch();
+                        return true;
+                    }
+                }).addPathPatterns("/v1/swift-codes", "/v1/swift-codes/**");
+            }
+        };
+    }
+}
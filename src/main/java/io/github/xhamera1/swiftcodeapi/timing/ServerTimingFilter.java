@@ -0,0 +1,153 @@
+package io.github.xhamera1.swiftcodeapi.timing;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times selected {@code /v1/swift-codes} requests stage by stage (see {@link RequestTiming}), reports the stages
+ * in a {@code Server-Timing} response header and records them in the {@code swift.api.request.stage} histogram.
+ * <p>
+ * A request is timed if it carries the opt-in request header or is picked by the sample rate; all other requests
+ * pass straight through. Timed responses are buffered, so the header (set once the body has been serialized)
+ * can still be sent ahead of the body and include the serialization time.
+ * </p>
+ * <p>
+ * Streamed responses (e.g. {@code StreamingResponseBody}) are written straight through instead, so they keep their
+ * constant memory use. Their body is produced asynchronously, after the stages recorded here, and they get no
+ * {@code Server-Timing} header; their stages up to the start of streaming are still recorded in the histogram.
+ * </p>
+ */
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+    static final String SERVER_TIMING_HEADER = "Server-Timing";
+    static final String METRIC_NAME = "swift.api.request.stage";
+
+    /**
+     * Request attribute set by Spring MVC ({@link ShallowEtagHeaderFilter#disableContentCaching}) before it writes
+     * a streaming return value, such as {@code StreamingResponseBody} or {@code SseEmitter}.
+     */
+    private static final String STREAMING_ATTRIBUTE = ShallowEtagHeaderFilter.class.getName() + ".STREAMING";
+
+    private final String requestHeader;
+    private final double sampleRate;
+    private final Timer[] stageTimers;
+    private final Timer totalTimer;
+
+    public ServerTimingFilter(String requestHeader, double sampleRate, MeterRegistry meterRegistry) {
+        this.requestHeader = requestHeader;
+        this.sampleRate = sampleRate;
+        TimingStage[] stages = TimingStage.values();
+        this.stageTimers = new Timer[stages.length];
+        for (TimingStage stage : stages) {
+            stageTimers[stage.ordinal()] = stageTimer(stage.getMetricName(), meterRegistry);
+        }
+        this.totalTimer = stageTimer("total", meterRegistry);
+    }
+
+    private static Timer stageTimer(String stage, MeterRegistry meterRegistry) {
+        return Timer.builder(METRIC_NAME)
+                .description("Time spent in each stage of timed (opted-in or sampled) API requests")
+                .tag("stage", stage)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        if (!shouldTime(request)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        RequestTiming timing = RequestTiming.begin();
+        TimedResponse bufferedResponse = new TimedResponse(request, response);
+        try {
+            filterChain.doFilter(request, bufferedResponse);
+        } finally {
+            timing.finish();
+            if (!bufferedResponse.isStreaming() && !response.isCommitted()) {
+                response.setHeader(SERVER_TIMING_HEADER, timing.toHeaderValue());
+            }
+            record(timing);
+            bufferedResponse.copyBodyToResponse();
+        }
+    }
+
+    private boolean shouldTime(HttpServletRequest request) {
+        return request.getHeader(requestHeader) != null
+                || (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate);
+    }
+
+    private void record(RequestTiming timing) {
+        for (TimingStage stage : TimingStage.values()) {
+            if (timing.getCount(stage) > 0) {
+                stageTimers[stage.ordinal()].record(timing.getNanos(stage), TimeUnit.NANOSECONDS);
+            }
+        }
+        totalTimer.record(timing.getTotalNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Buffers the body of a timed response, unless Spring MVC marks the request as streaming before writing the body.
+     */
+    private static final class TimedResponse extends ContentCachingResponseWrapper {
+
+        private final HttpServletRequest request;
+        private boolean streaming;
+
+        TimedResponse(HttpServletRequest request, HttpServletResponse response) {
+            super(response);
+            this.request = request;
+        }
+
+        boolean isStreaming() {
+            return streaming;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            if (startsStreaming()) {
+                return getResponse().getOutputStream();
+            }
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            if (startsStreaming()) {
+                return getResponse().getWriter();
+            }
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            if (streaming) {
+                getResponse().flushBuffer();
+            } else {
+                super.flushBuffer();
+            }
+        }
+
+        private boolean startsStreaming() {
+            if (!streaming && request.getAttribute(STREAMING_ATTRIBUTE) != null && getContentSize() == 0) {
+                streaming = true;
+            }
+            return streaming;
+        }
+    }
+}
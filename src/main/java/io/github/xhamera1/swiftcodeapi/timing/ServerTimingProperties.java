@@ -0,0 +1,21 @@
+package io.github.xhamera1.swiftcodeapi.timing;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration of the per-request stage timing of the {@code /v1/swift-codes} endpoints ({@code swift-api.server-timing.*}).
+ */
+@Data
+@ConfigurationProperties(prefix = "swift-api.server-timing")
+public class ServerTimingProperties {
+
+    /** Whether the timing filter and the repository timing are registered at all. */
+    private boolean enabled = true;
+
+    /** Requests carrying this header (with any value) are timed and answered with a {@code Server-Timing} header. */
+    private String requestHeader = "X-Server-Timing";
+
+    /** Fraction of all other requests (0.0 - 1.0) that are timed as well, to feed the stage histograms. */
+    private double sampleRate = 0.0;
+}
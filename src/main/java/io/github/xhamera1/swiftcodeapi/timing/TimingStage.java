@@ -0,0 +1,36 @@
+package io.github.xhamera1.swiftcodeapi.timing;
+
+/**
+ * Stages of a request measured by {@link RequestTiming}, in the order they appear in the {@code Server-Timing} header.
+ * Stages may nest: {@link #LOOKUP} includes the {@link #DB} and {@link #BRANCHES} time of the same lookup.
+ */
+public enum TimingStage {
+
+    /** Filters (warm-up gate, concurrency limiter) and handler mapping, until the controller method is invoked. */
+    DISPATCH("dispatch"),
+    /** Waiting for the group commit worker to run a queued write. */
+    QUEUE("queue"),
+    /** A service lookup, served from the in-memory indexes or the database, including waits for a shared lookup. */
+    LOOKUP("lookup"),
+    /** Repository calls made on the request thread, including connection acquisition and transaction handling. */
+    DB("db"),
+    /** Fetching the branches of a headquarter. */
+    BRANCHES("branches"),
+    /** Mapping entities or columnar rows to response DTOs. */
+    MAPPING("mapping"),
+    /** Writing the response body with the negotiated message converter. */
+    SERIALIZATION("serialize");
+
+    private final String metricName;
+
+    TimingStage(String metricName) {
+        this.metricName = metricName;
+    }
+
+    /**
+     * @return the name used in the {@code Server-Timing} header and as the {@code stage} tag of the histogram
+     */
+    public String getMetricName() {
+        return metricName;
+    }
+}
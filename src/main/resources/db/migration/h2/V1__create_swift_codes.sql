@@ -0,0 +1,12 @@
+-- Baseline: the swift_codes table as previously created by Hibernate (ddl-auto=update).
+CREATE TABLE swift_codes (
+    swift_code     VARCHAR(11)  NOT NULL PRIMARY KEY,
+    bank_name      VARCHAR(255) NOT NULL,
+    address        VARCHAR(512),
+    town_name      VARCHAR(255),
+    country_iso2   VARCHAR(2)   NOT NULL,
+    country_name   VARCHAR(255) NOT NULL,
+    is_headquarter BOOLEAN      NOT NULL
+);
+
+CREATE INDEX idx_country_iso2 ON swift_codes (country_iso2);
@@ -0,0 +1,6 @@
+-- Same index set as the MySQL migration of this version (see db/migration/mysql).
+ALTER TABLE swift_codes ADD COLUMN institution_code VARCHAR(8) GENERATED ALWAYS AS (LEFT(swift_code, 8)) NOT NULL;
+
+CREATE INDEX idx_institution_code ON swift_codes (institution_code);
+CREATE INDEX idx_country_iso2_swift_code ON swift_codes (country_iso2, swift_code);
+DROP INDEX idx_country_iso2;
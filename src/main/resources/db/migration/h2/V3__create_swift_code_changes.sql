@@ -0,0 +1,13 @@
+-- Same change log as the MySQL migration of this version (see db/migration/mysql).
+CREATE TABLE swift_code_changes (
+    seq            BIGINT       GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    change_type    VARCHAR(7)   NOT NULL,
+    swift_code     VARCHAR(11)  NOT NULL,
+    changed_at     TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    bank_name      VARCHAR(255),
+    address        VARCHAR(512),
+    town_name      VARCHAR(255),
+    country_iso2   VARCHAR(2),
+    country_name   VARCHAR(255),
+    is_headquarter BOOLEAN
+);
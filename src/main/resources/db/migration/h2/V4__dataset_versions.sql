@@ -0,0 +1,27 @@
+-- Same dataset versions as the MySQL migration of this version (see db/migration/mysql).
+CREATE TABLE dataset_versions (
+    version      BIGINT       NOT NULL PRIMARY KEY,
+    status       VARCHAR(7)   NOT NULL,
+    entry_count  BIGINT       NOT NULL,
+    created_at   TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    activated_at TIMESTAMP(6) WITH TIME ZONE
+);
+
+CREATE TABLE active_dataset (
+    id      INT    NOT NULL PRIMARY KEY,
+    version BIGINT NOT NULL,
+    CONSTRAINT chk_active_dataset_single_row CHECK (id = 1)
+);
+
+INSERT INTO dataset_versions (version, status, entry_count, created_at, activated_at)
+    SELECT 1, 'READY', COUNT(*), CURRENT_TIMESTAMP(6), CURRENT_TIMESTAMP(6) FROM swift_codes;
+INSERT INTO active_dataset (id, version) VALUES (1, 1);
+
+ALTER TABLE swift_codes ADD COLUMN dataset_version BIGINT NOT NULL DEFAULT 1 BEFORE swift_code;
+ALTER TABLE swift_codes DROP PRIMARY KEY;
+ALTER TABLE swift_codes ADD PRIMARY KEY (dataset_version, swift_code);
+DROP INDEX idx_institution_code;
+CREATE INDEX idx_institution_code ON swift_codes (dataset_version, institution_code);
+DROP INDEX idx_country_iso2_swift_code;
+CREATE INDEX idx_country_iso2_swift_code ON swift_codes (dataset_version, country_iso2, swift_code);
+ALTER TABLE swift_codes ALTER COLUMN dataset_version DROP DEFAULT;
@@ -0,0 +1,2 @@
+-- Same change log index as the MySQL migration of this version (see db/migration/mysql).
+CREATE INDEX idx_swift_code_changes_changed_at ON swift_code_changes (changed_at);
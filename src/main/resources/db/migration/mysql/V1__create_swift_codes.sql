@@ -0,0 +1,13 @@
+-- Baseline: the swift_codes table as previously created by Hibernate (ddl-auto=update).
+-- Databases created that way are baselined at this version (spring.flyway.baseline-on-migrate) and skip it.
+CREATE TABLE IF NOT EXISTS swift_codes (
+    swift_code     VARCHAR(11)  NOT NULL,
+    bank_name      VARCHAR(255) NOT NULL,
+    address        VARCHAR(512),
+    town_name      VARCHAR(255),
+    country_iso2   VARCHAR(2)   NOT NULL,
+    country_name   VARCHAR(255) NOT NULL,
+    is_headquarter BIT          NOT NULL,
+    PRIMARY KEY (swift_code),
+    INDEX idx_country_iso2 (country_iso2)
+) ENGINE = InnoDB;
@@ -0,0 +1,10 @@
+-- Indexes tuned to the queries of SwiftCodeInfoRepository:
+-- * institution_code: the first 8 characters of the code (institution + country + location), computed and stored
+--   by the database for every writer, with its own index for branch lookups (headquarter -> branches).
+-- * (country_iso2, swift_code): country listings and deletes, returned in code order straight from the index.
+--   It makes the single-column country index redundant.
+ALTER TABLE swift_codes
+    ADD COLUMN institution_code VARCHAR(8) AS (LEFT(swift_code, 8)) STORED NOT NULL AFTER swift_code,
+    ADD INDEX idx_institution_code (institution_code),
+    ADD INDEX idx_country_iso2_swift_code (country_iso2, swift_code),
+    DROP INDEX idx_country_iso2;
@@ -0,0 +1,16 @@
+-- Change log behind GET /v1/swift-codes/changes: one row per added entry (with its data) and one tombstone per
+-- deleted code, written in the transaction of the change. seq orders the changes; reads are range scans of the
+-- primary key (seq > ? ORDER BY seq), so no secondary index is needed.
+CREATE TABLE swift_code_changes (
+    seq            BIGINT       NOT NULL AUTO_INCREMENT,
+    change_type    VARCHAR(7)   NOT NULL,
+    swift_code     VARCHAR(11)  NOT NULL,
+    changed_at     DATETIME(6)  NOT NULL,
+    bank_name      VARCHAR(255),
+    address        VARCHAR(512),
+    town_name      VARCHAR(255),
+    country_iso2   VARCHAR(2),
+    country_name   VARCHAR(255),
+    is_headquarter BIT,
+    PRIMARY KEY (seq)
+) ENGINE = InnoDB;
@@ -0,0 +1,35 @@
+-- Blue-green dataset versions: an import loads a complete new version of swift_codes next to the one being served,
+-- and the single row of active_dataset selects the version every query reads and writes. Switching versions is an
+-- update of that row; previous versions stay in the table for rollback. Existing rows become version 1.
+CREATE TABLE dataset_versions (
+    version      BIGINT      NOT NULL,
+    status       VARCHAR(7)  NOT NULL,
+    entry_count  BIGINT      NOT NULL,
+    created_at   DATETIME(6) NOT NULL,
+    activated_at DATETIME(6),
+    PRIMARY KEY (version)
+) ENGINE = InnoDB;
+
+CREATE TABLE active_dataset (
+    id      INT    NOT NULL,
+    version BIGINT NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT chk_active_dataset_single_row CHECK (id = 1)
+) ENGINE = InnoDB;
+
+INSERT INTO dataset_versions (version, status, entry_count, created_at, activated_at)
+    SELECT 1, 'READY', COUNT(*), UTC_TIMESTAMP(6), UTC_TIMESTAMP(6) FROM swift_codes;
+INSERT INTO active_dataset (id, version) VALUES (1, 1);
+
+-- Every key starts with the version, so a query restricted to the active version reads the same index ranges as before.
+ALTER TABLE swift_codes
+    ADD COLUMN dataset_version BIGINT NOT NULL DEFAULT 1 FIRST,
+    DROP PRIMARY KEY,
+    ADD PRIMARY KEY (dataset_version, swift_code),
+    DROP INDEX idx_institution_code,
+    ADD INDEX idx_institution_code (dataset_version, institution_code),
+    DROP INDEX idx_country_iso2_swift_code,
+    ADD INDEX idx_country_iso2_swift_code (dataset_version, country_iso2, swift_code);
+
+-- Writers must name the version explicitly.
+ALTER TABLE swift_codes ALTER COLUMN dataset_version DROP DEFAULT;
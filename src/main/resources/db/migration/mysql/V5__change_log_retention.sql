@@ -0,0 +1,3 @@
+-- Retention of the change log: expired changes are found by their time, so the boundary of a pruning run is read
+-- from this index instead of scanning the log. The carry-over of an import selects by seq, a range of the primary key.
+CREATE INDEX idx_swift_code_changes_changed_at ON swift_code_changes (changed_at);
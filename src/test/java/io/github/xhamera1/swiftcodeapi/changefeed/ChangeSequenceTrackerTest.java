@@ -0,0 +1,65 @@
+package io.github.xhamera1.swiftcodeapi.changefeed;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ChangeSequenceTrackerTest {
+
+    private final ChangeSequenceTracker tracker = new ChangeSequenceTracker();
+
+    @Test
+    @DisplayName("Without open writers, the committed maximum is stable at once")
+    void stableSequence_withoutOpenWriters_shouldBeCommittedMaximum() {
+        assertThat(tracker.stableSequence(0)).isZero();
+        assertThat(tracker.stableSequence(5)).isEqualTo(5);
+        assertThat(tracker.stableSequence(7)).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("A writer open when the maximum was read should hold the stable sequence back until it completes")
+    void stableSequence_withWriterOpenBeforeRead_shouldWaitForIt() {
+        tracker.stableSequence(5);
+        long writer = tracker.begin();
+
+        // The writer may hold a number below 7 that is not committed yet.
+        assertThat(tracker.stableSequence(7)).isEqualTo(5);
+
+        tracker.end(writer);
+        assertThat(tracker.stableSequence(7)).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("Writers starting after the maximum was read should not hold it back")
+    void stableSequence_withWriterStartedAfterRead_shouldNotWaitForIt() {
+        long early = tracker.begin();
+        assertThat(tracker.stableSequence(7)).isZero();
+        long late = tracker.begin();
+
+        tracker.end(early);
+        assertThat(tracker.stableSequence(7)).isEqualTo(7);
+
+        // A newer maximum is held back by the writer that is still open.
+        assertThat(tracker.stableSequence(9)).isEqualTo(7);
+        tracker.end(late);
+        assertThat(tracker.stableSequence(9)).isEqualTo(9);
+    }
+
+    @Test
+    @DisplayName("A pending maximum should be promoted despite a continuous flow of overlapping writers")
+    void stableSequence_withOverlappingWriters_shouldStillAdvance() {
+        long first = tracker.begin();
+        assertThat(tracker.stableSequence(3)).isZero();
+        long second = tracker.begin();
+        assertThat(tracker.stableSequence(4)).isZero();
+
+        tracker.end(first);
+        long third = tracker.begin();
+
+        assertThat(tracker.stableSequence(6)).isEqualTo(3);
+        tracker.end(second);
+        tracker.end(third);
+        assertThat(tracker.stableSequence(6)).isEqualTo(6);
+    }
+}
@@ -0,0 +1,216 @@
+package io.github.xhamera1.swiftcodeapi.changefeed;
+
+import io.github.xhamera1.swiftcodeapi.dto.SwiftCodeRequest;
+import io.github.xhamera1.swiftcodeapi.limiter.AimdConcurrencyLimiter;
+import io.github.xhamera1.swiftcodeapi.model.SwiftCodeInfo;
+import io.github.xhamera1.swiftcodeapi.service.SwiftCodeApiService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Integration tests for the change feed ({@code GET /v1/swift-codes/changes} and its event stream):
+ * changes made through {@link SwiftCodeApiService} and the startup import must appear in log order.
+ * The test CSV imports 8 entries, recorded as changes 1 to 8.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class SwiftCodeChangeFeedIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private SwiftCodeApiService swiftCodeApiService;
+
+    @Autowired
+    private SwiftCodeChangeFeed changeFeed;
+
+    @Autowired
+    private ChangeFeedBroadcaster broadcaster;
+
+    @Autowired
+    private ChangeLogRetention retention;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    @Qualifier("readConcurrencyLimiter")
+    private AimdConcurrencyLimiter readConcurrencyLimiter;
+
+    @Test
+    @DisplayName("The startup import should be recorded as added entries, in code order and in pages")
+    void changes_shouldContainImportedEntries() throws Exception {
+        mockMvc.perform(get("/v1/swift-codes/changes"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changes", hasSize(8)))
+                .andExpect(jsonPath("$.changes[0].seq").value(1))
+                .andExpect(jsonPath("$.changes[0].type").value("ADDED"))
+                .andExpect(jsonPath("$.changes[0].swiftCode").value("AAISALTRXXX"))
+                .andExpect(jsonPath("$.changes[0].bankName").value("UNITED BANK OF ALBANIA SH.A"))
+                .andExpect(jsonPath("$.changes[0].townName").value("TIRANA"))
+                .andExpect(jsonPath("$.changes[0].isHeadquarter").value(true))
+                .andExpect(jsonPath("$.nextSince").value(8))
+                .andExpect(jsonPath("$.hasMore").value(false));
+
+        mockMvc.perform(get("/v1/swift-codes/changes").param("since", "2").param("limit", "3"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changes[*].seq", contains(3, 4, 5)))
+                .andExpect(jsonPath("$.nextSince").value(5))
+                .andExpect(jsonPath("$.hasMore").value(true));
+
+        mockMvc.perform(get("/v1/swift-codes/changes").param("since", "8"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changes", hasSize(0)))
+                .andExpect(jsonPath("$.nextSince").value(8));
+    }
+
+    @Test
+    @DisplayName("Adds, deletes and bulk deletes should be recorded, deletes as tombstones")
+    void changes_shouldRecordServiceMutations() throws Exception {
+        swiftCodeApiService.addSwiftCode(swiftCodeRequest("NEWBPLPWXXX"));
+        swiftCodeApiService.deleteSwiftCode("newbplpwxxx");
+        swiftCodeApiService.deleteCountry("pl");
+
+        mockMvc.perform(get("/v1/swift-codes/changes").param("since", "8"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changes[*].type", contains("ADDED", "DELETED", "DELETED", "DELETED", "DELETED", "DELETED")))
+                .andExpect(jsonPath("$.changes[*].swiftCode",
+                        contains("NEWBPLPWXXX", "NEWBPLPWXXX", "CASEPLPX", "DEUTPLPX", "EMPTPLPX", "TESTPLPWABC")))
+                .andExpect(jsonPath("$.changes[0].countryName").value("POLAND"))
+                .andExpect(jsonPath("$.changes[1].bankName").doesNotExist())
+                .andExpect(jsonPath("$.changes[1].isHeadquarter").doesNotExist())
+                .andExpect(jsonPath("$.nextSince").value(14));
+    }
+
+    @Test
+    @DisplayName("Changes of a rolled back transaction should never appear; their sequence gap is skipped")
+    void changes_shouldSkipRolledBackChanges() throws Exception {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            changeFeed.recordDeleted("AAISALTRXXX");
+            status.setRollbackOnly();
+        });
+        swiftCodeApiService.deleteSwiftCode("AAISALTRXXX");
+
+        mockMvc.perform(get("/v1/swift-codes/changes").param("since", "8"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changes", hasSize(1)))
+                .andExpect(jsonPath("$.changes[0].seq").value(10))
+                .andExpect(jsonPath("$.nextSince").value(10));
+    }
+
+    @Test
+    @DisplayName("Recording a change outside of a transaction should be rejected")
+    void recordAdded_withoutTransaction_shouldFail() {
+        SwiftCodeInfo entry = new SwiftCodeInfo("NEWBPLPWXXX", "New Bank", null, null, "PL", "POLAND", true);
+
+        assertThatThrownBy(() -> changeFeed.recordAdded(entry)).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("A negative since should be rejected with 400")
+    void changes_withNegativeSince_shouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/v1/swift-codes/changes").param("since", "-1"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Validation failed: since must not be negative"));
+    }
+
+    @Test
+    @DisplayName("The event stream should deliver changes committed after subscribing, without holding a limiter permit")
+    void stream_shouldDeliverNewChanges() throws Exception {
+        MvcResult stream = mockMvc.perform(get("/v1/swift-codes/changes/stream"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        assertThat(readConcurrencyLimiter.getInFlight()).isZero();
+
+        swiftCodeApiService.addSwiftCode(swiftCodeRequest("NEWBPLPWXXX"));
+
+        String events = awaitContent(stream, "NEWBPLPWXXX");
+        assertThat(events).contains("id:9\nevent:change\ndata:{\"seq\":9,\"type\":\"ADDED\"");
+        assertThat(events).doesNotContain("AAISALTRXXX");
+        assertThat(broadcaster.getSubscriberCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("A reconnecting event source should resume after its Last-Event-ID")
+    void stream_withLastEventId_shouldResumeFromLog() throws Exception {
+        MvcResult stream = mockMvc.perform(get("/v1/swift-codes/changes/stream").header("Last-Event-ID", "6"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String events = awaitContent(stream, "id:8\n");
+        List<String> ids = events.lines().filter(line -> line.startsWith("id:")).toList();
+        assertThat(ids).containsExactly("id:7", "id:8");
+    }
+
+    @Test
+    @DisplayName("Expired changes should be deleted except the newest, and reading before them should answer 410")
+    void retention_shouldDeleteExpiredChanges() throws Exception {
+        jdbcTemplate.update("UPDATE swift_code_changes SET changed_at = ?", Timestamp.from(Instant.now().minus(Duration.ofDays(31))));
+
+        assertThat(retention.discardExpired()).isEqualTo(7);
+
+        mockMvc.perform(get("/v1/swift-codes/changes").param("since", "6"))
+                .andExpect(status().isGone())
+                .andExpect(jsonPath("$.message").value(
+                        "The changes up to sequence 7 have expired. Export the dataset and continue from its X-Change-Sequence."));
+        mockMvc.perform(get("/v1/swift-codes/changes/stream").param("since", "0"))
+                .andExpect(status().isGone());
+        mockMvc.perform(get("/v1/swift-codes/changes").param("since", "7"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changes[*].seq", contains(8)));
+        assertThat(retention.discardExpired()).isZero();
+    }
+
+    private static String awaitContent(MvcResult result, String expected) throws Exception {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        String content = result.getResponse().getContentAsString(StandardCharsets.UTF_8);
+        while (!content.contains(expected) && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+            content = result.getResponse().getContentAsString(StandardCharsets.UTF_8);
+        }
+        assertThat(content).contains(expected);
+        return content;
+    }
+
+    private static SwiftCodeRequest swiftCodeRequest(String swiftCode) {
+        SwiftCodeRequest request = new SwiftCodeRequest();
+        request.setSwiftCode(swiftCode);
+        request.setBankName("New Bank");
+        request.setAddress("Address");
+        request.setCountryISO2("PL");
+        request.setCountryName("POLAND");
+        request.setIsHeadquarter(swiftCode.endsWith("XXX"));
+        return request;
+    }
+}
@@ -0,0 +1,56 @@
+package io.github.xhamera1.swiftcodeapi.config;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ProtobufSchemaRegistryTest {
+
+    /** Field numbers are pinned explicitly, so only deliberate changes may alter the published schema. */
+    private static final String PUBLISHED_SCHEMA = "proto/swiftcodeapi-v1.proto";
+
+    static class UnnumberedPayload {
+        @JsonProperty(index = 1)
+        public String numbered;
+        public String unnumbered;
+    }
+
+    static class DuplicateNumberPayload {
+        @JsonProperty(index = 1)
+        public String first;
+        @JsonProperty(index = 1)
+        public String second;
+    }
+
+    @Test
+    @DisplayName("The published schema should keep the field numbers of the checked-in schema")
+    void publishedSchema_shouldMatchCheckedInSchema() throws IOException {
+        String checkedIn = new ClassPathResource(PUBLISHED_SCHEMA).getContentAsString(StandardCharsets.UTF_8);
+
+        assertThat(new ProtobufSchemaRegistry().publishedSchema()).isEqualTo(checkedIn);
+    }
+
+    @Test
+    @DisplayName("A payload property without an explicit field number should be rejected")
+    void constructor_withUnnumberedProperty_shouldFail() {
+        assertThatThrownBy(() -> new ProtobufSchemaRegistry(List.of(UnnumberedPayload.class)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("'unnumbered'");
+    }
+
+    @Test
+    @DisplayName("A field number used twice should be rejected")
+    void constructor_withDuplicateNumber_shouldFail() {
+        assertThatThrownBy(() -> new ProtobufSchemaRegistry(List.of(DuplicateNumberPayload.class)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("field number 1");
+    }
+}
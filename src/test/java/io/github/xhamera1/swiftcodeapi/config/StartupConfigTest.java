@@ -0,0 +1,29 @@
+package io.github.xhamera1.swiftcodeapi.config;
+
+import io.github.xhamera1.swiftcodeapi.index.SwiftCodeLookupIndex;
+import io.github.xhamera1.swiftcodeapi.service.SwiftCodeApiService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.boot.actuate.metrics.MetricsEndpoint;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StartupConfigTest {
+
+    private final LazyInitializationExcludeFilter filter = StartupConfig.applicationBeansEagerFilter();
+
+    @Test
+    @DisplayName("Application beans should be excluded from lazy initialization")
+    void filter_shouldKeepApplicationBeansEager() {
+        assertThat(filter.isExcluded("swiftCodeApiService", new RootBeanDefinition(), SwiftCodeApiService.class)).isTrue();
+        assertThat(filter.isExcluded("swiftCodeLookupIndex", new RootBeanDefinition(), SwiftCodeLookupIndex.class)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Framework beans that are not needed for requests should stay lazy")
+    void filter_shouldLeaveFrameworkBeansLazy() {
+        assertThat(filter.isExcluded("metricsEndpoint", new RootBeanDefinition(), MetricsEndpoint.class)).isFalse();
+    }
+}
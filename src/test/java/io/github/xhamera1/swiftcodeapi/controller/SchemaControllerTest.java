@@ -0,0 +1,36 @@
+package io.github.xhamera1.swiftcodeapi.controller;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(SchemaController.class)
+class SchemaControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @DisplayName("GET /v1/swift-codes/schema.proto - Should publish every payload message exactly once")
+    void getProtobufSchema_shouldReturnProtoFile() throws Exception {
+        String schema = mockMvc.perform(get("/v1/swift-codes/schema.proto"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.TEXT_PLAIN))
+                .andReturn().getResponse().getContentAsString();
+
+        assertThat(schema).startsWith("syntax = \"proto2\";")
+                .contains("package swiftcodeapi.v1;")
+                .contains("repeated SwiftCodeResponse swiftCodes = 3;")
+                .contains("repeated SwiftCodeResponse branches = 7;")
+                .contains("message SwiftCodeRequest {", "message SwiftCodePrefixResponse {", "message ErrorResponse {");
+        assertThat(schema.split("message SwiftCodeResponse \\{", -1)).hasSize(2);
+    }
+}
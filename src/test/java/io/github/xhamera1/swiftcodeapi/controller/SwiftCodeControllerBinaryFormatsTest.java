@@ -0,0 +1,180 @@
+package io.github.xhamera1.swiftcodeapi.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import io.github.xhamera1.swiftcodeapi.config.JacksonProtobufHttpMessageConverter;
+import io.github.xhamera1.swiftcodeapi.config.ProtobufSchemaRegistry;
+import io.github.xhamera1.swiftcodeapi.dto.CountrySwiftCodesResponse;
+import io.github.xhamera1.swiftcodeapi.dto.MessageResponse;
+import io.github.xhamera1.swiftcodeapi.dto.SwiftCodeRequest;
+import io.github.xhamera1.swiftcodeapi.dto.SwiftCodeResponse;
+import io.github.xhamera1.swiftcodeapi.exceptions.ErrorResponse;
+import io.github.xhamera1.swiftcodeapi.exceptions.GlobalExceptionHandler;
+import io.github.xhamera1.swiftcodeapi.service.SwiftCodeApiService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+// MockBean is deprecated but it's still best way to mock the service for this @WebMvcTest.
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(SwiftCodeController.class)
+@Import(GlobalExceptionHandler.class)
+class SwiftCodeControllerBinaryFormatsTest {
+
+    private static final MediaType APPLICATION_SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ProtobufSchemaRegistry protobufSchemaRegistry;
+
+    @MockBean
+    private SwiftCodeApiService swiftCodeApiService;
+
+    private CountrySwiftCodesResponse countryResponse;
+
+    @BeforeEach
+    void setUp() {
+        List<SwiftCodeResponse> codes = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            codes.add(SwiftCodeResponse.builder()
+                    .swiftCode(String.format("BANKPLPW%03d", i))
+                    .bankName("SANTANDER CONSUMER BANK SPOLKA AKCYJNA")
+                    .address("STRZEGOMSKA 42C  WROCLAW, DOLNOSLASKIE, 53-611")
+                    .countryISO2("PL")
+                    .isHeadquarter(false)
+                    .build());
+        }
+        countryResponse = CountrySwiftCodesResponse.builder()
+                .countryISO2("PL")
+                .countryName("POLAND")
+                .swiftCodes(codes)
+                .build();
+        given(swiftCodeApiService.getSwiftCodesByCountry("PL")).willReturn(countryResponse);
+    }
+
+    private byte[] getCountry(MediaType accept) throws Exception {
+        return mockMvc.perform(get("/v1/swift-codes/country/PL").accept(accept))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(accept))
+                .andReturn().getResponse().getContentAsByteArray();
+    }
+
+    private JsonNode readProtobuf(byte[] payload, Class<?> type) throws Exception {
+        return protobufSchemaRegistry.mapper()
+                .readerFor(JsonNode.class)
+                .with(protobufSchemaRegistry.schemaFor(type))
+                .readValue(payload);
+    }
+
+    @Test
+    @DisplayName("GET /v1/swift-codes/country/{code} - Should default to JSON when no binary type is requested")
+    void getDetailsForCountry_withoutAcceptHeader_shouldReturnJson() throws Exception {
+        mockMvc.perform(get("/v1/swift-codes/country/PL"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON));
+    }
+
+    @Test
+    @DisplayName("GET /v1/swift-codes/country/{code} - Should return CBOR smaller than the JSON payload")
+    void getDetailsForCountry_asCbor_shouldReturnCompactPayload() throws Exception {
+        byte[] json = getCountry(MediaType.APPLICATION_JSON);
+        byte[] cbor = getCountry(MediaType.APPLICATION_CBOR);
+
+        JsonNode decoded = new CBORMapper().readTree(cbor);
+        assertThat(decoded.get("countryName").asText()).isEqualTo("POLAND");
+        assertThat(decoded.get("swiftCodes")).hasSize(50);
+        assertThat(decoded.get("swiftCodes").get(49).get("swiftCode").asText()).isEqualTo("BANKPLPW049");
+        assertThat(decoded.get("swiftCodes").get(49).get("bankName").asText()).isEqualTo("SANTANDER CONSUMER BANK SPOLKA AKCYJNA");
+        assertThat(cbor.length).isLessThan(json.length / 2);
+    }
+
+    @Test
+    @DisplayName("GET /v1/swift-codes/country/{code} - Should return Smile with shared names and values")
+    void getDetailsForCountry_asSmile_shouldReturnCompactPayload() throws Exception {
+        byte[] json = getCountry(MediaType.APPLICATION_JSON);
+        byte[] smile = getCountry(APPLICATION_SMILE);
+
+        JsonNode decoded = new SmileMapper().readTree(smile);
+        assertThat(decoded.get("countryISO2").asText()).isEqualTo("PL");
+        assertThat(decoded.get("swiftCodes").get(10).get("address").asText()).isEqualTo("STRZEGOMSKA 42C  WROCLAW, DOLNOSLASKIE, 53-611");
+        assertThat(decoded.get("swiftCodes").get(10).get("isHeadquarter").asBoolean()).isFalse();
+        assertThat(smile.length).isLessThan(json.length / 2);
+    }
+
+    @Test
+    @DisplayName("GET /v1/swift-codes/country/{code} - Should return a Protobuf message matching the published schema")
+    void getDetailsForCountry_asProtobuf_shouldReturnMessage() throws Exception {
+        byte[] protobuf = getCountry(JacksonProtobufHttpMessageConverter.APPLICATION_PROTOBUF);
+
+        JsonNode decoded = readProtobuf(protobuf, CountrySwiftCodesResponse.class);
+        assertThat(decoded.get("countryName").asText()).isEqualTo("POLAND");
+        assertThat(decoded.get("swiftCodes")).hasSize(50);
+        assertThat(decoded.get("swiftCodes").get(0).get("swiftCode").asText()).isEqualTo("BANKPLPW000");
+    }
+
+    @Test
+    @DisplayName("GET /v1/swift-codes/{code} - Should return the error body as Protobuf when the code is not found")
+    void getDetailsFromSwiftCode_asProtobuf_whenNotFound_shouldReturnErrorMessage() throws Exception {
+        given(swiftCodeApiService.findSwiftCodeDetails("NONEXISTXXX"))
+                .willReturn(Optional.empty());
+
+        byte[] protobuf = mockMvc.perform(get("/v1/swift-codes/NONEXISTXXX").accept(JacksonProtobufHttpMessageConverter.APPLICATION_PROTOBUF))
+                .andExpect(status().isNotFound())
+                .andReturn().getResponse().getContentAsByteArray();
+
+        assertThat(readProtobuf(protobuf, ErrorResponse.class).get("message").asText())
+                .isEqualTo("SWIFT code not found.");
+    }
+
+    @Test
+    @DisplayName("POST /v1/swift-codes - Should accept a Protobuf request body")
+    void addSwiftCode_withProtobufBody_shouldReturnCreated() throws Exception {
+        SwiftCodeRequest request = new SwiftCodeRequest();
+        request.setSwiftCode("BANKPLPWXXX");
+        request.setBankName("BANK");
+        request.setAddress("Address");
+        request.setCountryISO2("PL");
+        request.setCountryName("POLAND");
+        request.setIsHeadquarter(true);
+        byte[] body = protobufSchemaRegistry.mapper()
+                .writer(protobufSchemaRegistry.schemaFor(SwiftCodeRequest.class))
+                .writeValueAsBytes(request);
+        given(swiftCodeApiService.addSwiftCode(any(SwiftCodeRequest.class)))
+                .willReturn(new MessageResponse("SWIFT code 'BANKPLPWXXX' added successfully."));
+
+        mockMvc.perform(post("/v1/swift-codes")
+                        .contentType(JacksonProtobufHttpMessageConverter.APPLICATION_PROTOBUF)
+                        .accept(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isCreated());
+    }
+
+    @Test
+    @DisplayName("GET /v1/swift-codes/countries - Should return 406 for Protobuf since top-level lists have no message type")
+    void getCountrySummaries_asProtobuf_shouldReturnNotAcceptable() throws Exception {
+        given(swiftCodeApiService.getCountrySummaries()).willReturn(List.of());
+
+        mockMvc.perform(get("/v1/swift-codes/countries").accept(JacksonProtobufHttpMessageConverter.APPLICATION_PROTOBUF))
+                .andExpect(status().isNotAcceptable());
+    }
+}
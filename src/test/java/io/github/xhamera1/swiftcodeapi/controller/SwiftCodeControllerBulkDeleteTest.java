@@ -0,0 +1,113 @@
+package io.github.xhamera1.swiftcodeapi.controller;
+
+import io.github.xhamera1.swiftcodeapi.dto.BulkDeleteResponse;
+import io.github.xhamera1.swiftcodeapi.exceptions.GlobalExceptionHandler;
+import io.github.xhamera1.swiftcodeapi.exceptions.ResourceNotFoundException;
+import io.github.xhamera1.swiftcodeapi.service.SwiftCodeApiService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(SwiftCodeController.class)
+@Import(GlobalExceptionHandler.class)
+class SwiftCodeControllerBulkDeleteTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    // MockBean is deprecated but it's still best way to mock the service for this @WebMvcTest.
+    @MockBean
+    private SwiftCodeApiService swiftCodeApiService;
+
+    @Test
+    @DisplayName("POST /v1/swift-codes/bulk-delete - Should return 200 OK with the number of deleted codes")
+    void deleteSwiftCodes_withValidCodes_shouldReturnDeletedCount() throws Exception {
+        given(swiftCodeApiService.deleteSwiftCodes(List.of("AAISALTRXXX", "deutplpx")))
+                .willReturn(BulkDeleteResponse.builder().message("Deleted 2 SWIFT code(s) for 2 requested SWIFT code(s).").deletedCount(2).build());
+
+        mockMvc.perform(post("/v1/swift-codes/bulk-delete")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"swiftCodes\": [\"AAISALTRXXX\", \"deutplpx\"]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.deletedCount", is(2)))
+                .andExpect(jsonPath("$.message", is("Deleted 2 SWIFT code(s) for 2 requested SWIFT code(s).")));
+    }
+
+    @Test
+    @DisplayName("POST /v1/swift-codes/bulk-delete - Should return 400 Bad Request for an empty list or a malformed code")
+    void deleteSwiftCodes_withInvalidBody_shouldReturnBadRequest() throws Exception {
+        mockMvc.perform(post("/v1/swift-codes/bulk-delete")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"swiftCodes\": []}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", containsString("At least one SWIFT code must be provided")));
+
+        mockMvc.perform(post("/v1/swift-codes/bulk-delete")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"swiftCodes\": [\"AAISALTRXXX\", \"BAD-CODE\"]}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", containsString("Invalid SWIFT/BIC format")));
+
+        verify(swiftCodeApiService, never()).deleteSwiftCodes(any());
+    }
+
+    @Test
+    @DisplayName("DELETE /v1/swift-codes/institution/{institutionCode} - Should return 200 OK with the number of deleted codes")
+    void deleteInstitution_whenInstitutionExists_shouldReturnDeletedCount() throws Exception {
+        given(swiftCodeApiService.deleteInstitution("AAISALTR"))
+                .willReturn(BulkDeleteResponse.builder().message("Deleted 3 SWIFT code(s) for institution 'AAISALTR'.").deletedCount(3).build());
+
+        mockMvc.perform(delete("/v1/swift-codes/institution/{institutionCode}", "AAISALTR"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.deletedCount", is(3)));
+    }
+
+    @Test
+    @DisplayName("DELETE /v1/swift-codes/institution/{institutionCode} - Should return 400 Bad Request for a code that is not 8 characters")
+    void deleteInstitution_withMalformedCode_shouldReturnBadRequest() throws Exception {
+        mockMvc.perform(delete("/v1/swift-codes/institution/{institutionCode}", "AAISALTRXXX"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", is("Validation failed: Institution code must be the first 8 characters of a SWIFT code")));
+
+        verify(swiftCodeApiService, never()).deleteInstitution(anyString());
+    }
+
+    @Test
+    @DisplayName("DELETE /v1/swift-codes/country/{countryISO2code} - Should return 404 Not Found when the country has no codes")
+    void deleteCountry_whenCountryHasNoCodes_shouldReturnNotFound() throws Exception {
+        String expectedErrorMessage = "No SWIFT codes found for country 'XX', nothing to delete.";
+        given(swiftCodeApiService.deleteCountry("XX")).willThrow(new ResourceNotFoundException(expectedErrorMessage));
+
+        mockMvc.perform(delete("/v1/swift-codes/country/{countryISO2code}", "XX"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.message", is(expectedErrorMessage)));
+    }
+
+    @Test
+    @DisplayName("DELETE /v1/swift-codes/country/{countryISO2code} - Should return 400 Bad Request for a malformed country code")
+    void deleteCountry_withMalformedCode_shouldReturnBadRequest() throws Exception {
+        mockMvc.perform(delete("/v1/swift-codes/country/{countryISO2code}", "POL"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", is("Validation failed: Country ISO2 code must be exactly 2 letters")));
+
+        verify(swiftCodeApiService, never()).deleteCountry(anyString());
+    }
+}
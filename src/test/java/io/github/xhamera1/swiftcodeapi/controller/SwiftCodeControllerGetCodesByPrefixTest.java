@@ -0,0 +1,94 @@
+package io.github.xhamera1.swiftcodeapi.controller;
+
+import io.github.xhamera1.swiftcodeapi.dto.SwiftCodePrefixResponse;
+import io.github.xhamera1.swiftcodeapi.exceptions.GlobalExceptionHandler;
+import io.github.xhamera1.swiftcodeapi.service.SwiftCodeApiService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.Matchers.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(SwiftCodeController.class)
+@Import(GlobalExceptionHandler.class)
+class SwiftCodeControllerGetCodesByPrefixTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private SwiftCodeApiService swiftCodeApiService;
+
+
+    @Test
+    @DisplayName("GET /v1/swift-codes/prefix/{prefix} - Should return 200 OK with matching codes using the default limit")
+    void getCodesByPrefix_whenCodesMatch_shouldReturnOkWithCodes() throws Exception {
+        SwiftCodePrefixResponse prefixResponse = SwiftCodePrefixResponse.builder()
+                .prefix("BANKPL")
+                .swiftCodes(List.of("BANKPLPW", "BANKPLPWXXX"))
+                .build();
+        given(swiftCodeApiService.getSwiftCodesByPrefix("BANKPL", SwiftCodeApiService.DEFAULT_PREFIX_LIMIT)).willReturn(prefixResponse);
+
+        ResultActions response = mockMvc.perform(get("/v1/swift-codes/prefix/{prefix}", "BANKPL")
+                .accept(MediaType.APPLICATION_JSON));
+
+        response.andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.prefix", is("BANKPL")))
+                .andExpect(jsonPath("$.swiftCodes", hasSize(2)))
+                .andExpect(jsonPath("$.swiftCodes[0]", is("BANKPLPW")))
+                .andExpect(jsonPath("$.swiftCodes[1]", is("BANKPLPWXXX")));
+
+        verify(swiftCodeApiService).getSwiftCodesByPrefix("BANKPL", SwiftCodeApiService.DEFAULT_PREFIX_LIMIT);
+    }
+
+    @Test
+    @DisplayName("GET /v1/swift-codes/prefix/{prefix}?limit=5 - Should pass the requested limit to the service")
+    void getCodesByPrefix_withLimit_shouldPassLimitToService() throws Exception {
+        SwiftCodePrefixResponse prefixResponse = SwiftCodePrefixResponse.builder()
+                .prefix("DEUT")
+                .swiftCodes(Collections.emptyList())
+                .build();
+        given(swiftCodeApiService.getSwiftCodesByPrefix("deut", 5)).willReturn(prefixResponse);
+
+        ResultActions response = mockMvc.perform(get("/v1/swift-codes/prefix/{prefix}", "deut")
+                .param("limit", "5")
+                .accept(MediaType.APPLICATION_JSON));
+
+        response.andExpect(status().isOk())
+                .andExpect(jsonPath("$.prefix", is("DEUT")))
+                .andExpect(jsonPath("$.swiftCodes", empty()));
+
+        verify(swiftCodeApiService).getSwiftCodesByPrefix("deut", 5);
+    }
+
+    @Test
+    @DisplayName("GET /v1/swift-codes/prefix/{prefix}?limit=abc - Should return 400 Bad Request for non-numeric limit")
+    void getCodesByPrefix_whenLimitIsNotNumeric_shouldReturnBadRequest() throws Exception {
+        ResultActions response = mockMvc.perform(get("/v1/swift-codes/prefix/{prefix}", "BANK")
+                .param("limit", "abc")
+                .accept(MediaType.APPLICATION_JSON));
+
+        response.andExpect(status().isBadRequest())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.message", is("Invalid value 'abc' for parameter 'limit'.")));
+
+        verify(swiftCodeApiService, never()).getSwiftCodesByPrefix(anyString(), anyInt());
+    }
+}
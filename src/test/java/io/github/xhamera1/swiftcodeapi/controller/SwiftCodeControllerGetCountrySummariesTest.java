@@ -0,0 +1,77 @@
+package io.github.xhamera1.swiftcodeapi.controller;
+
+import io.github.xhamera1.swiftcodeapi.dto.CountrySummaryResponse;
+import io.github.xhamera1.swiftcodeapi.exceptions.GlobalExceptionHandler;
+import io.github.xhamera1.swiftcodeapi.service.SwiftCodeApiService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.Matchers.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(SwiftCodeController.class)
+@Import(GlobalExceptionHandler.class)
+class SwiftCodeControllerGetCountrySummariesTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private SwiftCodeApiService swiftCodeApiService;
+
+
+    @Test
+    @DisplayName("GET /v1/swift-codes/countries - Should return 200 OK with per-country counts")
+    void getCountrySummaries_shouldReturnOkWithSummaries() throws Exception {
+        given(swiftCodeApiService.getCountrySummaries()).willReturn(List.of(
+                CountrySummaryResponse.builder().countryISO2("AL").countryName("ALBANIA")
+                        .totalCodes(3).headquarterCount(1).branchCount(2).build(),
+                CountrySummaryResponse.builder().countryISO2("PL").countryName("POLAND")
+                        .totalCodes(5).headquarterCount(2).branchCount(3).build()
+        ));
+
+        ResultActions response = mockMvc.perform(get("/v1/swift-codes/countries")
+                .accept(MediaType.APPLICATION_JSON));
+
+        response.andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].countryISO2", is("AL")))
+                .andExpect(jsonPath("$[0].countryName", is("ALBANIA")))
+                .andExpect(jsonPath("$[0].totalCodes", is(3)))
+                .andExpect(jsonPath("$[0].headquarterCount", is(1)))
+                .andExpect(jsonPath("$[0].branchCount", is(2)))
+                .andExpect(jsonPath("$[1].countryISO2", is("PL")))
+                .andExpect(jsonPath("$[1].totalCodes", is(5)));
+
+        verify(swiftCodeApiService).getCountrySummaries();
+        verify(swiftCodeApiService, never()).findSwiftCodeDetails(anyString());
+    }
+
+    @Test
+    @DisplayName("GET /v1/swift-codes/countries - Should return 200 OK with an empty list when there is no data")
+    void getCountrySummaries_whenNoData_shouldReturnEmptyList() throws Exception {
+        given(swiftCodeApiService.getCountrySummaries()).willReturn(Collections.emptyList());
+
+        ResultActions response = mockMvc.perform(get("/v1/swift-codes/countries")
+                .accept(MediaType.APPLICATION_JSON));
+
+        response.andExpect(status().isOk())
+                .andExpect(jsonPath("$", empty()));
+    }
+}
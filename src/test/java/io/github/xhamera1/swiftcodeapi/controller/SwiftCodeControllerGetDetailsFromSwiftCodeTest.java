@@ -3,7 +3,6 @@ package io.github.xhamera1.swiftcodeapi.controller;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.github.xhamera1.swiftcodeapi.dto.SwiftCodeResponse;
 import io.github.xhamera1.swiftcodeapi.exceptions.GlobalExceptionHandler;
-import io.github.xhamera1.swiftcodeapi.exceptions.ResourceNotFoundException;
 import io.github.xhamera1.swiftcodeapi.service.SwiftCodeApiService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -18,6 +17,7 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
 
 import java.util.Collections;
+import java.util.Optional;
 
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.is;
@@ -81,7 +81,7 @@ class SwiftCodeControllerGetDetailsFromSwiftCodeTest {
     @DisplayName("GET /v1/swift-codes/{swift-code} - Should return 200 OK with HQ details when code exists")
     void getDetailsFromSwiftCode_whenHqCodeExists_shouldReturnOkWithDetails() throws Exception {
         String swiftCode = hqResponseDto.getSwiftCode();
-        given(swiftCodeApiService.getSwiftCodeDetails(swiftCode)).willReturn(hqResponseDto);
+        given(swiftCodeApiService.findSwiftCodeDetails(swiftCode)).willReturn(Optional.of(hqResponseDto));
 
         ResultActions response = mockMvc.perform(get("/v1/swift-codes/{swift-code}", swiftCode)
                 .contentType(MediaType.APPLICATION_JSON));
@@ -99,14 +99,14 @@ class SwiftCodeControllerGetDetailsFromSwiftCodeTest {
                 .andExpect(jsonPath("$.branches[0].swiftCode", is("AAISALTRB01")))
                 .andExpect(jsonPath("$.branches[0].countryName").doesNotExist());
 
-        verify(swiftCodeApiService).getSwiftCodeDetails(swiftCode);
+        verify(swiftCodeApiService).findSwiftCodeDetails(swiftCode);
     }
 
     @Test
     @DisplayName("GET /v1/swift-codes/{swift-code} - Should return 200 OK with Branch details when code exists")
     void getDetailsFromSwiftCode_whenBranchCodeExists_shouldReturnOkWithDetails() throws Exception {
         String swiftCode = branchResponseDto.getSwiftCode();
-        given(swiftCodeApiService.getSwiftCodeDetails(swiftCode)).willReturn(branchResponseDto);
+        given(swiftCodeApiService.findSwiftCodeDetails(swiftCode)).willReturn(Optional.of(branchResponseDto));
 
         ResultActions response = mockMvc.perform(get("/v1/swift-codes/{swift-code}", swiftCode)
                 .contentType(MediaType.APPLICATION_JSON));
@@ -120,7 +120,7 @@ class SwiftCodeControllerGetDetailsFromSwiftCodeTest {
                 .andExpect(jsonPath("$.isHeadquarter", is(false)))
                 .andExpect(jsonPath("$.branches").doesNotExist());
 
-        verify(swiftCodeApiService).getSwiftCodeDetails(swiftCode);
+        verify(swiftCodeApiService).findSwiftCodeDetails(swiftCode);
     }
 
 
@@ -128,18 +128,18 @@ class SwiftCodeControllerGetDetailsFromSwiftCodeTest {
     @DisplayName("GET /v1/swift-codes/{swift-code} - Should return 404 Not Found when code does not exist")
     void getDetailsFromSwiftCode_whenCodeNotFound_shouldReturnNotFound() throws Exception {
         String nonExistentSwiftCode = "XXXXXXXXXXX";
-        String expectedErrorMessage = "SWIFT code '" + nonExistentSwiftCode + "' not found.";
-        given(swiftCodeApiService.getSwiftCodeDetails(nonExistentSwiftCode))
-                .willThrow(new ResourceNotFoundException(expectedErrorMessage));
+        given(swiftCodeApiService.findSwiftCodeDetails(nonExistentSwiftCode))
+                .willReturn(Optional.empty());
 
         ResultActions response = mockMvc.perform(get("/v1/swift-codes/{swift-code}", nonExistentSwiftCode)
                 .contentType(MediaType.APPLICATION_JSON));
 
         response.andExpect(status().isNotFound())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
-                .andExpect(jsonPath("$.message", is(expectedErrorMessage)));
+                .andExpect(header().string(SwiftCodeController.SWIFT_CODE_HEADER, nonExistentSwiftCode))
+                .andExpect(jsonPath("$.message", is("SWIFT code not found.")));
 
-        verify(swiftCodeApiService).getSwiftCodeDetails(nonExistentSwiftCode);
+        verify(swiftCodeApiService).findSwiftCodeDetails(nonExistentSwiftCode);
     }
 
 
@@ -147,7 +147,7 @@ class SwiftCodeControllerGetDetailsFromSwiftCodeTest {
     @DisplayName("GET /v1/swift-codes/{swift-code} - Should handle case insensitivity in path variable")
     void getDetailsFromSwiftCode_shouldHandleCaseInsensitivity() throws Exception {
         String swiftCodeLower = "deutplpx";
-        given(swiftCodeApiService.getSwiftCodeDetails(swiftCodeLower)).willReturn(branchResponseDto);
+        given(swiftCodeApiService.findSwiftCodeDetails(swiftCodeLower)).willReturn(Optional.of(branchResponseDto));
 
         ResultActions response = mockMvc.perform(get("/v1/swift-codes/{swift-code}", swiftCodeLower)
                 .contentType(MediaType.APPLICATION_JSON));
@@ -155,14 +155,14 @@ class SwiftCodeControllerGetDetailsFromSwiftCodeTest {
         response.andExpect(status().isOk())
                 .andExpect(jsonPath("$.swiftCode", is(branchResponseDto.getSwiftCode())));
 
-        verify(swiftCodeApiService).getSwiftCodeDetails(swiftCodeLower);
+        verify(swiftCodeApiService).findSwiftCodeDetails(swiftCodeLower);
     }
 
     @Test
     @DisplayName("GET /v1/swift-codes/{swift-code} - Should return 500 Internal Server Error when service throws unexpected exception")
     void getDetailsFromSwiftCode_whenServiceThrowsError_shouldReturnInternalServerError() throws Exception {
         String swiftCode = "ERRORCODE";
-        given(swiftCodeApiService.getSwiftCodeDetails(swiftCode))
+        given(swiftCodeApiService.findSwiftCodeDetails(swiftCode))
                 .willThrow(new RuntimeException("Unexpected service failure!"));
 
         ResultActions response = mockMvc.perform(get("/v1/swift-codes/{swift-code}", swiftCode)
@@ -172,25 +172,25 @@ class SwiftCodeControllerGetDetailsFromSwiftCodeTest {
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                 .andExpect(jsonPath("$.message", is("An internal server error occurred. Please try again later.")));
 
-        verify(swiftCodeApiService).getSwiftCodeDetails(swiftCode);
+        verify(swiftCodeApiService).findSwiftCodeDetails(swiftCode);
     }
 
     @Test
-    @DisplayName("GET /v1/swift-codes/{swift-code} - Should return 404 Not Found for invalid format variable if service throws NotFound")
+    @DisplayName("GET /v1/swift-codes/{swift-code} - Should return 404 Not Found without echoing a malformed code")
     void getDetailsFromSwiftCode_whenPathVarIsInvalidFormat_shouldReturnNotFound() throws Exception {
-        String invalidFormatSwiftCode = "TOOLONGCODE";
-        String expectedErrorMessage = "SWIFT code '" + invalidFormatSwiftCode + "' not found.";
-        given(swiftCodeApiService.getSwiftCodeDetails(invalidFormatSwiftCode))
-                .willThrow(new ResourceNotFoundException(expectedErrorMessage));
+        String invalidFormatSwiftCode = "TOO-LONG-CODE";
+        given(swiftCodeApiService.findSwiftCodeDetails(invalidFormatSwiftCode))
+                .willReturn(Optional.empty());
 
         ResultActions response = mockMvc.perform(get("/v1/swift-codes/{swift-code}", invalidFormatSwiftCode)
                 .contentType(MediaType.APPLICATION_JSON));
 
         response.andExpect(status().isNotFound())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
-                .andExpect(jsonPath("$.message", is(expectedErrorMessage)));
+                .andExpect(header().doesNotExist(SwiftCodeController.SWIFT_CODE_HEADER))
+                .andExpect(jsonPath("$.message", is("SWIFT code not found.")));
 
-        verify(swiftCodeApiService).getSwiftCodeDetails(invalidFormatSwiftCode);
+        verify(swiftCodeApiService).findSwiftCodeDetails(invalidFormatSwiftCode);
     }
 
     @Test
@@ -205,7 +205,7 @@ class SwiftCodeControllerGetDetailsFromSwiftCodeTest {
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                 .andExpect(jsonPath("$.message", containsString("The requested resource path '" + expectedPath + "' could not be found")));
 
-        verify(swiftCodeApiService, never()).getSwiftCodeDetails(anyString());
+        verify(swiftCodeApiService, never()).findSwiftCodeDetails(anyString());
         verify(swiftCodeApiService, never()).getSwiftCodesByCountry(anyString());
     }
 }
\ No newline at end of file
@@ -0,0 +1,53 @@
+package io.github.xhamera1.swiftcodeapi.dataset;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link ActiveDatasetVersion}: a single instance keeps the pointer in memory, while with
+ * {@code swift-api.deployment.multi-instance} every read goes to the database, so switches made by other
+ * instances are followed.
+ */
+@ExtendWith(MockitoExtension.class)
+class ActiveDatasetVersionTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("A single instance should read the pointer once and then follow its own switches")
+    void get_singleInstance_shouldCacheThePointer() {
+        when(jdbcTemplate.queryForObject(anyString(), eq(Long.class))).thenReturn(2L);
+        ActiveDatasetVersion activeVersion = new ActiveDatasetVersion(jdbcTemplate, false);
+
+        assertThat(activeVersion.get()).isEqualTo(2);
+        assertThat(activeVersion.get()).isEqualTo(2);
+        activeVersion.set(3);
+
+        assertThat(activeVersion.get()).isEqualTo(3);
+        verify(jdbcTemplate, times(1)).queryForObject(anyString(), eq(Long.class));
+    }
+
+    @Test
+    @DisplayName("With several instances the pointer should be read on every call, following switches made elsewhere")
+    void get_multiInstance_shouldReadThePointerEveryTime() {
+        when(jdbcTemplate.queryForObject(anyString(), eq(Long.class))).thenReturn(2L, 3L);
+        ActiveDatasetVersion activeVersion = new ActiveDatasetVersion(jdbcTemplate, true);
+
+        assertThat(activeVersion.get()).isEqualTo(2);
+
+        assertThat(activeVersion.get()).isEqualTo(3);
+        verify(jdbcTemplate, times(2)).queryForObject(anyString(), eq(Long.class));
+    }
+}
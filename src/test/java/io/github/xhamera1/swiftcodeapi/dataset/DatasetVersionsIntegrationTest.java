@@ -0,0 +1,283 @@
+package io.github.xhamera1.swiftcodeapi.dataset;
+
+import io.github.xhamera1.swiftcodeapi.dto.DatasetVersionResponse;
+import io.github.xhamera1.swiftcodeapi.dto.SwiftCodeRequest;
+import io.github.xhamera1.swiftcodeapi.exceptions.ServiceNotReadyException;
+import io.github.xhamera1.swiftcodeapi.index.SwiftCodePrefixIndex;
+import io.github.xhamera1.swiftcodeapi.model.SwiftCodeInfo;
+import io.github.xhamera1.swiftcodeapi.repository.SwiftCodeInfoRepository;
+import io.github.xhamera1.swiftcodeapi.service.SwiftCodeApiService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Integration tests for the dataset versions ({@code /v1/swift-codes/datasets}): an import is served only once
+ * it has been validated, the switch is recorded in the change feed, writes made during an import are carried over,
+ * and previous versions can be reactivated.
+ * The startup import of the test CSV is version 2 (version 1 is the empty table before it) with 8 entries,
+ * recorded as changes 1 to 8.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class DatasetVersionsIntegrationTest {
+
+    private static final String HEADER = "COUNTRY ISO2 CODE,SWIFT CODE,CODE TYPE,NAME,ADDRESS,TOWN NAME,COUNTRY NAME,TIME ZONE\n";
+    private static final String UNCHANGED = """
+            AL,AAISALTRXXX,BIC11,UNITED BANK OF ALBANIA SH.A,"HYRJA 3 RR. DRITAN HOXHA ND. 11 TIRANA, TIRANA, 1023",TIRANA,ALBANIA,Europe/Tirane
+            BG,ABIEBGS1XXX,BIC11,ABV INVESTMENTS LTD,"TSAR ASEN 20  VARNA, VARNA, 9002",VARNA,BULGARIA,Europe/Sofia
+            MT,AKBKMTMTXXX,,AKBANK T.A.S. (MALTA BRANCH),"FLOOR 6, PORTOMASO BUSINESS TOWER 01 PORTOMASO PTM - ST. JULIAN'S ST. JULIAN'S, STJ 4011",ST. JULIAN'S,MALTA,Europe/Malta
+            MC,AGRIMCM1XXX,BIC11,CREDIT AGRICOLE MONACO (CRCA PROVENCE COTE D'AZUR MONACO),"23 BOULEVARD PRINCESSE CHARLOTTE  MONACO, MONACO, 98000",MONACO,MONACO,
+            PL,TESTPLPWABC,BIC11,TEST BANK NON-HQ,TEST ADDRESS 1,TEST TOWN,POLAND,Europe/Warsaw
+            """;
+    /** Drops CASEPLPX and EMPTPLPX, renames DEUTPLPX and adds NEWBPLPWXXX: 7 entries. */
+    private static final String NEXT_DATASET = HEADER + UNCHANGED + """
+            PL,DEUTPLPX,BIC8,DEUTSCHE BANK POLSKA,FOCUS AL. ARMII LUDOWEJ 26,WARSZAWA,POLAND,Europe/Warsaw
+            PL,NEWBPLPWXXX,BIC11,NEW BANK,NEW ADDRESS,WARSZAWA,POLAND,Europe/Warsaw
+            """;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private DatasetVersions datasetVersions;
+
+    @Autowired
+    private SwiftCodeApiService swiftCodeApiService;
+
+    @Autowired
+    private SwiftCodeInfoRepository repository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private SwiftCodePrefixIndex prefixIndex;
+
+    @Test
+    @DisplayName("An import should become a new version that is served, indexed and recorded in the change feed")
+    void importVersion_shouldSwitchToNewVersion() throws Exception {
+        importDataset(NEXT_DATASET)
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.version").value(3))
+                .andExpect(jsonPath("$.status").value("READY"))
+                .andExpect(jsonPath("$.active").value(true))
+                .andExpect(jsonPath("$.entryCount").value(7));
+
+        mockMvc.perform(get("/v1/swift-codes/DEUTPLPX"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.bankName").value("DEUTSCHE BANK POLSKA"));
+        mockMvc.perform(get("/v1/swift-codes/NEWBPLPWXXX")).andExpect(status().isOk());
+        mockMvc.perform(get("/v1/swift-codes/CASEPLPX")).andExpect(status().isNotFound());
+        assertThat(repository.count()).isEqualTo(7);
+
+        mockMvc.perform(get("/v1/swift-codes/changes").param("since", "8"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changes[*].type", contains("DELETED", "DELETED", "ADDED", "ADDED")))
+                .andExpect(jsonPath("$.changes[*].swiftCode", contains("CASEPLPX", "EMPTPLPX", "DEUTPLPX", "NEWBPLPWXXX")))
+                .andExpect(jsonPath("$.changes[2].bankName").value("DEUTSCHE BANK POLSKA"));
+
+        mockMvc.perform(get("/v1/swift-codes/datasets"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].version", contains(3, 2, 1)))
+                .andExpect(jsonPath("$[*].active", contains(true, false, false)));
+    }
+
+    @Test
+    @DisplayName("Activating a previous version should roll back to its entries")
+    void activate_shouldRollBackToPreviousVersion() throws Exception {
+        importDataset(NEXT_DATASET).andExpect(status().isCreated());
+
+        mockMvc.perform(post("/v1/swift-codes/datasets/2/activate"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.version").value(2))
+                .andExpect(jsonPath("$.active").value(true))
+                .andExpect(jsonPath("$.entryCount").value(8));
+
+        mockMvc.perform(get("/v1/swift-codes/DEUTPLPX"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.bankName").value("DEUTSCHE BANK POLSKA S.A."));
+        mockMvc.perform(get("/v1/swift-codes/CASEPLPX")).andExpect(status().isOk());
+        mockMvc.perform(get("/v1/swift-codes/NEWBPLPWXXX")).andExpect(status().isNotFound());
+        mockMvc.perform(get("/v1/swift-codes/changes").param("since", "12"))
+                .andExpect(jsonPath("$.changes[*].swiftCode", contains("NEWBPLPWXXX", "CASEPLPX", "DEUTPLPX", "EMPTPLPX")));
+    }
+
+    @Test
+    @DisplayName("A rejected import should be discarded and leave the active version in service")
+    void importVersion_withInvalidDataset_shouldKeepActiveVersion() throws Exception {
+        importDataset(HEADER)
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.message").value("The dataset contains no valid entries."));
+        importDataset(HEADER + UNCHANGED.lines().limit(2).map(line -> line + "\n").reduce("", String::concat))
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.message").value("The dataset has 2 entries, fewer than 50% of the 8 entries of the active version."));
+
+        assertThat(repository.count()).isEqualTo(8);
+        assertThat(repository.countByDatasetVersion(3)).isZero();
+        mockMvc.perform(get("/v1/swift-codes/datasets"))
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].version").value(2))
+                .andExpect(jsonPath("$[0].active").value(true));
+    }
+
+    @Test
+    @DisplayName("Only the configured number of previous versions should be retained")
+    void importVersion_shouldPruneOldVersions() throws Exception {
+        importDataset(NEXT_DATASET).andExpect(status().isCreated());
+        importDataset(NEXT_DATASET).andExpect(status().isCreated());
+        importDataset(NEXT_DATASET).andExpect(status().isCreated());
+
+        mockMvc.perform(get("/v1/swift-codes/datasets"))
+                .andExpect(jsonPath("$[*].version", contains(5, 4, 3)));
+        assertThat(repository.countByDatasetVersion(2)).isZero();
+        mockMvc.perform(post("/v1/swift-codes/datasets/2/activate"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.message").value("Dataset version 2 not found."));
+    }
+
+    @Test
+    @DisplayName("Writes made while an import is loading should be carried over into the new version")
+    void writes_duringImport_shouldBeCarriedOver() throws Exception {
+        List<SwiftCodeInfo> entries = repository.findAll();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch releaseLoader = new CountDownLatch(1);
+        CompletableFuture<DatasetVersionResponse> runningImport = CompletableFuture.supplyAsync(() ->
+                datasetVersions.importVersion(batchWriter -> {
+                    batchWriter.accept(entries);
+                    loading.countDown();
+                    await(releaseLoader);
+                    return entries.size();
+                }));
+        assertThat(loading.await(10, TimeUnit.SECONDS)).isTrue();
+
+        mockMvc.perform(post("/v1/swift-codes").contentType(MediaType.APPLICATION_JSON).content("""
+                        {"swiftCode": "NEWBPLPWXXX", "bankName": "NEW BANK", "address": "NEW ADDRESS",
+                         "countryISO2": "PL", "countryName": "POLAND", "isHeadquarter": true}
+                        """))
+                .andExpect(status().isCreated());
+        mockMvc.perform(delete("/v1/swift-codes/DEUTPLPX")).andExpect(status().isOk());
+
+        releaseLoader.countDown();
+        assertThat(runningImport.get(10, TimeUnit.SECONDS).getEntryCount()).isEqualTo(8);
+
+        mockMvc.perform(get("/v1/swift-codes/NEWBPLPWXXX"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.bankName").value("NEW BANK"));
+        mockMvc.perform(get("/v1/swift-codes/DEUTPLPX")).andExpect(status().isNotFound());
+        assertThat(repository.countByDatasetVersion(3)).isEqualTo(8);
+        mockMvc.perform(get("/v1/swift-codes/changes").param("since", "10"))
+                .andExpect(jsonPath("$.changes", hasSize(0)));
+    }
+
+    @Test
+    @DisplayName("Writes should be rejected with 503 while a switch waits for running writes to complete")
+    void writes_duringSwitch_shouldBeRejected() throws Exception {
+        CountDownLatch writeStarted = new CountDownLatch(1);
+        CountDownLatch releaseWrite = new CountDownLatch(1);
+        CompletableFuture<Void> runningWrite = CompletableFuture.runAsync(() ->
+                new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                    datasetVersions.beginWrite();
+                    writeStarted.countDown();
+                    await(releaseWrite);
+                }));
+        assertThat(writeStarted.await(10, TimeUnit.SECONDS)).isTrue();
+
+        Thread switchThread = new Thread(() -> datasetVersions.activate(1));
+        switchThread.start();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (switchThread.getState() != Thread.State.WAITING && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+
+        assertThatThrownBy(() -> swiftCodeApiService.deleteSwiftCode("DEUTPLPX"))
+                .isInstanceOf(ServiceNotReadyException.class);
+
+        releaseWrite.countDown();
+        runningWrite.get(10, TimeUnit.SECONDS);
+        switchThread.join(10_000);
+        assertThat(repository.count()).isZero();
+        assertThat(swiftCodeApiService.deleteSwiftCodes(List.of("DEUTPLPX")).getDeletedCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("An index rebuild after a bulk delete should wait for running writes and keep their changes")
+    void indexRebuild_afterBulkDelete_shouldWaitForRunningWrites() throws Exception {
+        // Not known to the indexes, so deleting the institution cannot be forwarded entry by entry.
+        jdbcTemplate.update("INSERT INTO swift_codes (dataset_version, swift_code, bank_name, address, town_name, country_iso2, "
+                + "country_name, is_headquarter) VALUES (2, 'NEWBPLPWB01', 'NEW BANK', 'NEW ADDRESS', 'WARSZAWA', 'PL', 'POLAND', FALSE)");
+        CountDownLatch writeStarted = new CountDownLatch(1);
+        CountDownLatch releaseWrite = new CountDownLatch(1);
+        CompletableFuture<Void> runningWrite = CompletableFuture.runAsync(() ->
+                new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                    SwiftCodeRequest request = new SwiftCodeRequest();
+                    request.setSwiftCode("NEWCPLPWXXX");
+                    request.setBankName("NEW BANK");
+                    request.setAddress("NEW ADDRESS");
+                    request.setCountryISO2("PL");
+                    request.setCountryName("POLAND");
+                    request.setIsHeadquarter(true);
+                    swiftCodeApiService.addSwiftCode(request);
+                    writeStarted.countDown();
+                    await(releaseWrite);
+                }));
+        assertThat(writeStarted.await(10, TimeUnit.SECONDS)).isTrue();
+
+        AtomicInteger deletedCount = new AtomicInteger();
+        Thread bulkDeleteThread = new Thread(() -> deletedCount.set(swiftCodeApiService.deleteInstitution("NEWBPLPW").getDeletedCount()));
+        bulkDeleteThread.start();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (bulkDeleteThread.getState() != Thread.State.WAITING && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(bulkDeleteThread.isAlive()).isTrue();
+
+        releaseWrite.countDown();
+        runningWrite.get(10, TimeUnit.SECONDS);
+        bulkDeleteThread.join(10_000);
+        assertThat(deletedCount.get()).isEqualTo(1);
+        assertThat(prefixIndex.findByPrefix("NEW", 10)).containsExactly("NEWCPLPWXXX");
+        assertThat(swiftCodeApiService.getSwiftCodeDetails("NEWCPLPWXXX").getBankName()).isEqualTo("NEW BANK");
+    }
+
+    private ResultActions importDataset(String csv) throws Exception {
+        return mockMvc.perform(post("/v1/swift-codes/datasets").contentType("text/csv").content(csv));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
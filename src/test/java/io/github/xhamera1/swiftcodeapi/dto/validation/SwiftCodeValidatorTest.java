@@ -0,0 +1,65 @@
+package io.github.xhamera1.swiftcodeapi.dto.validation;
+
+import io.github.xhamera1.swiftcodeapi.service.SwiftCodeRules;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import lombok.AllArgsConstructor;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SwiftCodeValidatorTest {
+
+    private static ValidatorFactory validatorFactory;
+    private static Validator validator;
+
+    @AllArgsConstructor
+    private static class Codes {
+        @ValidSwiftCode
+        private String strict;
+        @ValidSwiftCode(ignoreCase = true)
+        private String lenient;
+        @ValidSwiftCode(ignoreCase = true, institutionCode = true)
+        private String institution;
+    }
+
+    @BeforeAll
+    static void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+    }
+
+    @AfterAll
+    static void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Test
+    @DisplayName("Valid codes and null values should pass validation")
+    void validCodes_shouldPass() {
+        assertThat(validator.validate(new Codes("AAISALTRXXX", "aaisaltrxxx", "aaisaltr"))).isEmpty();
+        assertThat(validator.validate(new Codes("DEUTPLPX", "DEUTPLPX", "DEUTPLPX"))).isEmpty();
+        assertThat(validator.validate(new Codes(null, null, null))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Lower-case, malformed and full-length institution codes should be reported per field")
+    void invalidCodes_shouldFail() {
+        assertThat(validator.validate(new Codes("aaisaltrxxx", "AAIS1LTRXXX", "AAISALTRXXX")))
+                .extracting(violation -> violation.getPropertyPath().toString())
+                .containsExactlyInAnyOrder("strict", "lenient", "institution");
+    }
+
+    @Test
+    @DisplayName("normalizeSwiftCode() should return an already normalized code without copying it")
+    void normalizeSwiftCode_shouldReuseNormalizedInstance() {
+        String normalized = "AAISALTRXXX";
+
+        assertThat(SwiftCodeRules.normalizeSwiftCode(normalized)).isSameAs(normalized);
+        assertThat(SwiftCodeRules.normalizeSwiftCode(" aaisaltrxxx ")).isEqualTo(normalized);
+    }
+}
@@ -0,0 +1,133 @@
+package io.github.xhamera1.swiftcodeapi.index;
+
+import io.github.xhamera1.swiftcodeapi.index.ColumnarSwiftCodeStore.CountryRows;
+import io.github.xhamera1.swiftcodeapi.index.ColumnarSwiftCodeStore.Row;
+import io.github.xhamera1.swiftcodeapi.model.SwiftCode;
+import io.github.xhamera1.swiftcodeapi.model.SwiftCodeInfo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ColumnarSwiftCodeStoreTest {
+
+    private ColumnarSwiftCodeStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new ColumnarSwiftCodeStore();
+        store.rebuild(List.of(
+                new SwiftCodeInfo("BANKPLPWXXX", "BANK", "HQ Address", "WARSZAWA", "PL", "POLAND", true),
+                new SwiftCodeInfo("BANKPLPWA01", "BANK", null, "KRAKOW", "pl", "POLAND", false),
+                new SwiftCodeInfo("AAISALTRXXX", "UNITED BANK OF ALBANIA SH.A", "TIRANA", null, "AL", "ALBANIA", true),
+                new SwiftCodeInfo("ABCDPLPX", "OTHER BANK", "Other Address", "WARSZAWA", "PL", "POLAND", false)
+        ));
+    }
+
+    private static List<String> codes(CountryRows rows) {
+        List<String> codes = new ArrayList<>();
+        for (int row = 0; row < rows.size(); row++) {
+            codes.add(rows.swiftCode(row));
+        }
+        return codes;
+    }
+
+    @Test
+    @DisplayName("rebuild() should group rows by country and order them by SWIFT code")
+    void rebuild_shouldGroupByCountryInCodeOrder() {
+        CountryRows poland = store.findByCountry("pl").orElseThrow();
+
+        assertThat(poland.countryISO2()).isEqualTo("PL");
+        assertThat(codes(poland)).containsExactly("ABCDPLPX", "BANKPLPWA01", "BANKPLPWXXX");
+        assertThat(poland.bankName(2)).isEqualTo("BANK");
+        assertThat(poland.townName(1)).isEqualTo("KRAKOW");
+        assertThat(poland.address(1)).isNull();
+        assertThat(poland.countryName(0)).isEqualTo("POLAND");
+        assertThat(poland.isHeadquarter(2)).isTrue();
+        assertThat(store.size()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Repeated names should be stored once in the dictionaries; null values should be preserved")
+    void rebuild_shouldDeduplicateNames() {
+        CountryRows albania = store.findByCountry("AL").orElseThrow();
+
+        assertThat(store.distinctBankNames()).isEqualTo(3);
+        assertThat(albania.townName(0)).isNull();
+    }
+
+    @Test
+    @DisplayName("onAdded() should insert rows in code order without changing previously returned views")
+    void onAdded_shouldInsertInOrderCopyOnWrite() {
+        CountryRows before = store.findByCountry("PL").orElseThrow();
+
+        store.onAdded(new SwiftCodeInfo("BANKPLPWA00", "BANK", "New Branch", "GDANSK", "PL", "POLAND", false));
+        store.onAdded(new SwiftCodeInfo("DEUTDEFFXXX", "DEUTSCHE BANK", "Frankfurt", "FRANKFURT", "DE", "GERMANY", true));
+
+        CountryRows after = store.findByCountry("PL").orElseThrow();
+        assertThat(codes(after)).containsExactly("ABCDPLPX", "BANKPLPWA00", "BANKPLPWA01", "BANKPLPWXXX");
+        assertThat(after.townName(1)).isEqualTo("GDANSK");
+        assertThat(codes(before)).containsExactly("ABCDPLPX", "BANKPLPWA01", "BANKPLPWXXX");
+        assertThat(codes(store.findByCountry("DE").orElseThrow())).containsExactly("DEUTDEFFXXX");
+        assertThat(store.distinctBankNames()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("onDeleted() should remove rows and drop countries without remaining codes")
+    void onDeleted_shouldRemoveRowsAndEmptyCountries() {
+        store.onDeleted(new SwiftCodeInfo("BANKPLPWA01", "BANK", null, "KRAKOW", "PL", "POLAND", false));
+        store.onDeleted(new SwiftCodeInfo("AAISALTRXXX", "UNITED BANK OF ALBANIA SH.A", "TIRANA", null, "AL", "ALBANIA", true));
+
+        CountryRows poland = store.findByCountry("PL").orElseThrow();
+        assertThat(codes(poland)).containsExactly("ABCDPLPX", "BANKPLPWXXX");
+        assertThat(poland.address(1)).isEqualTo("HQ Address");
+        assertThat(store.findByCountry("AL")).isEmpty();
+        assertThat(store.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("findByCountry() should return empty for unknown or null countries")
+    void findByCountry_shouldReturnEmptyForUnknownCountry() {
+        assertThat(store.findByCountry("XX")).isEmpty();
+        assertThat(store.findByCountry(null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("find() should resolve a packed code to its row and reflect later writes")
+    void find_shouldResolvePackedCodeToRow() {
+        Row row = store.find(SwiftCode.pack("bankplpwa01")).orElseThrow();
+
+        assertThat(row.swiftCode()).isEqualTo("BANKPLPWA01");
+        assertThat(row.bankName()).isEqualTo("BANK");
+        assertThat(row.address()).isNull();
+        assertThat(row.townName()).isEqualTo("KRAKOW");
+        assertThat(row.countryISO2()).isEqualTo("PL");
+        assertThat(row.countryName()).isEqualTo("POLAND");
+        assertThat(row.isHeadquarter()).isFalse();
+        assertThat(row.toSwiftCodeInfo().getSwiftCode()).isEqualTo("BANKPLPWA01");
+        assertThat(store.find(SwiftCode.pack("BANKPLPWA02"))).isEmpty();
+        assertThat(store.find(SwiftCode.INVALID)).isEmpty();
+
+        store.onAdded(new SwiftCodeInfo("BANKPLPWA02", "BANK", "New Branch", "GDANSK", "PL", "POLAND", false));
+        store.onDeleted(new SwiftCodeInfo("BANKPLPWA01", "BANK", null, "KRAKOW", "PL", "POLAND", false));
+
+        assertThat(store.contains(SwiftCode.pack("BANKPLPWA02"))).isTrue();
+        assertThat(store.contains(SwiftCode.pack("BANKPLPWA01"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("findInstitution() should return the institution's 8-character code, branches and HQ in code order")
+    void findInstitution_shouldReturnAdjacentRows() {
+        store.onAdded(new SwiftCodeInfo("BANKPLPW", "BANK", "Institution", "WARSZAWA", "PL", "POLAND", false));
+        store.onAdded(new SwiftCodeInfo("BANKPLPXXXX", "OTHER", "Other HQ", "WARSZAWA", "PL", "POLAND", true));
+
+        assertThat(store.findInstitution(SwiftCode.pack("BANKPLPWXXX"))).extracting(Row::swiftCode)
+                .containsExactly("BANKPLPW", "BANKPLPWA01", "BANKPLPWXXX");
+        assertThat(store.findInstitution(SwiftCode.pack("NONEPLPWXXX"))).isEmpty();
+        assertThat(store.findInstitution(SwiftCode.pack("NONEDEFFXXX"))).isEmpty();
+    }
+}
@@ -0,0 +1,73 @@
+package io.github.xhamera1.swiftcodeapi.index;
+
+import io.github.xhamera1.swiftcodeapi.index.CountrySummaryIndex.CountrySummary;
+import io.github.xhamera1.swiftcodeapi.model.SwiftCodeInfo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CountrySummaryIndexTest {
+
+    private CountrySummaryIndex countrySummaryIndex;
+
+    private SwiftCodeInfo hqPl;
+    private SwiftCodeInfo branchPl;
+
+    @BeforeEach
+    void setUp() {
+        hqPl = new SwiftCodeInfo("BANKPLPWXXX", "Bank Polski HQ", "Centrala PL", "Warszawa", "PL", "POLAND", true);
+        branchPl = new SwiftCodeInfo("BANKPLPWA01", "Bank Polski A01", "Oddzial A01", "Krakow", "PL", "POLAND", false);
+        SwiftCodeInfo hqAl = new SwiftCodeInfo("AAISALTRXXX", "United Bank Albania", "Address AL", "Tirana", "AL", "ALBANIA", true);
+
+        countrySummaryIndex = new CountrySummaryIndex();
+        countrySummaryIndex.rebuild(List.of(hqPl, branchPl, hqAl));
+    }
+
+    @Test
+    @DisplayName("rebuild() should aggregate counts per country ordered by ISO2 code")
+    void rebuild_shouldAggregatePerCountry() {
+        assertThat(countrySummaryIndex.findAll()).containsExactly(
+                new CountrySummary("AL", "ALBANIA", 1, 1),
+                new CountrySummary("PL", "POLAND", 2, 1)
+        );
+        assertThat(countrySummaryIndex.findByCountry("pl")).hasValueSatisfying(summary -> {
+            assertThat(summary.totalCodes()).isEqualTo(2);
+            assertThat(summary.headquarterCount()).isEqualTo(1);
+            assertThat(summary.branchCount()).isEqualTo(1);
+        });
+    }
+
+    @Test
+    @DisplayName("onAdded() should increment counts and create new countries")
+    void onAdded_shouldIncrementCounts() {
+        countrySummaryIndex.onAdded(new SwiftCodeInfo("BANKPLPWA02", "Bank Polski A02", "Addr", null, "PL", "POLAND", false));
+        countrySummaryIndex.onAdded(new SwiftCodeInfo("DEUTDEFFXXX", "Deutsche Bank", "Addr", null, "DE", "germany", true));
+
+        assertThat(countrySummaryIndex.findByCountry("PL")).contains(new CountrySummary("PL", "POLAND", 3, 1));
+        assertThat(countrySummaryIndex.findByCountry("DE")).contains(new CountrySummary("DE", "GERMANY", 1, 1));
+    }
+
+    @Test
+    @DisplayName("onDeleted() should decrement counts and drop countries without codes")
+    void onDeleted_shouldDecrementCountsAndRemoveEmptyCountries() {
+        countrySummaryIndex.onDeleted(hqPl);
+        assertThat(countrySummaryIndex.findByCountry("PL")).contains(new CountrySummary("PL", "POLAND", 1, 0));
+
+        countrySummaryIndex.onDeleted(branchPl);
+        assertThat(countrySummaryIndex.findByCountry("PL")).isEmpty();
+        assertThat(countrySummaryIndex.findAll()).extracting(CountrySummary::countryISO2).containsExactly("AL");
+    }
+
+    @Test
+    @DisplayName("onDeleted() should ignore entries of unknown countries")
+    void onDeleted_shouldIgnoreUnknownCountry() {
+        countrySummaryIndex.onDeleted(new SwiftCodeInfo("DEUTDEFFXXX", "Deutsche Bank", "Addr", null, "DE", "GERMANY", true));
+
+        assertThat(countrySummaryIndex.findAll()).hasSize(2);
+        assertThat(countrySummaryIndex.findByCountry("DE")).isEmpty();
+    }
+}
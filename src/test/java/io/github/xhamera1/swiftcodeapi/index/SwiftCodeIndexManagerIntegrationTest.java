@@ -0,0 +1,94 @@
+package io.github.xhamera1.swiftcodeapi.index;
+
+import io.github.xhamera1.swiftcodeapi.dto.SwiftCodeRequest;
+import io.github.xhamera1.swiftcodeapi.index.CountrySummaryIndex.CountrySummary;
+import io.github.xhamera1.swiftcodeapi.service.SwiftCodeApiService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests verifying that in-memory indexes are built after the CSV import
+ * and follow changes committed through {@link SwiftCodeApiService}.
+ */
+@SpringBootTest
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class SwiftCodeIndexManagerIntegrationTest {
+
+    @Autowired
+    private SwiftCodeApiService swiftCodeApiService;
+
+    @Autowired
+    private SwiftCodePrefixIndex prefixIndex;
+
+    @Autowired
+    private CountrySummaryIndex countrySummaryIndex;
+
+    @Test
+    @DisplayName("Indexes should contain the records imported from the test CSV on startup")
+    void indexes_shouldBeBuiltAfterStartupImport() {
+        assertThat(prefixIndex.size()).isEqualTo(8);
+        assertThat(prefixIndex.findByPrefix("AAIS", 10)).containsExactly("AAISALTRXXX");
+        assertThat(countrySummaryIndex.findByCountry("PL")).contains(new CountrySummary("PL", "POLAND", 4, 0));
+        assertThat(countrySummaryIndex.findAll()).extracting(CountrySummary::countryISO2)
+                .containsExactly("AL", "BG", "MC", "MT", "PL");
+    }
+
+    @Test
+    @DisplayName("Indexes should follow codes added and deleted through the service")
+    void indexes_shouldFollowServiceMutations() {
+        SwiftCodeRequest request = new SwiftCodeRequest();
+        request.setSwiftCode("NEWBPLPWXXX");
+        request.setBankName("New Bank");
+        request.setAddress("Address");
+        request.setCountryISO2("PL");
+        request.setCountryName("POLAND");
+        request.setIsHeadquarter(true);
+
+        swiftCodeApiService.addSwiftCode(request);
+
+        assertThat(prefixIndex.findByPrefix("NEWB", 10)).containsExactly("NEWBPLPWXXX");
+        assertThat(countrySummaryIndex.findByCountry("PL")).contains(new CountrySummary("PL", "POLAND", 5, 1));
+
+        swiftCodeApiService.deleteSwiftCode("newbplpwxxx");
+        swiftCodeApiService.deleteSwiftCode("AAISALTRXXX");
+
+        assertThat(prefixIndex.findByPrefix("NEWB", 10)).isEmpty();
+        assertThat(countrySummaryIndex.findByCountry("PL")).contains(new CountrySummary("PL", "POLAND", 4, 0));
+        assertThat(countrySummaryIndex.findByCountry("AL")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Indexes should follow bulk deletes by institution, country and code list")
+    void indexes_shouldFollowBulkDeletes() {
+        for (String code : List.of("NEWBPLPWXXX", "NEWBPLPWB01")) {
+            SwiftCodeRequest request = new SwiftCodeRequest();
+            request.setSwiftCode(code);
+            request.setBankName("New Bank");
+            request.setAddress("Address");
+            request.setCountryISO2("PL");
+            request.setCountryName("POLAND");
+            request.setIsHeadquarter(code.endsWith("XXX"));
+            swiftCodeApiService.addSwiftCode(request);
+        }
+
+        assertThat(swiftCodeApiService.deleteInstitution("newbplpw").getDeletedCount()).isEqualTo(2);
+        assertThat(prefixIndex.findByPrefix("NEWB", 10)).isEmpty();
+        assertThat(countrySummaryIndex.findByCountry("PL")).contains(new CountrySummary("PL", "POLAND", 4, 0));
+
+        assertThat(swiftCodeApiService.deleteCountry("al").getDeletedCount()).isEqualTo(1);
+        assertThat(countrySummaryIndex.findByCountry("AL")).isEmpty();
+        assertThat(swiftCodeApiService.getSwiftCodesByCountry("AL").getSwiftCodes()).isEmpty();
+
+        assertThat(swiftCodeApiService.deleteSwiftCodes(List.of("ABIEBGS1XXX", "akbkmtmtxxx", "NONEXISTXXX")).getDeletedCount())
+                .isEqualTo(2);
+        assertThat(prefixIndex.size()).isEqualTo(5);
+        assertThat(countrySummaryIndex.findAll()).extracting(CountrySummary::countryISO2).containsExactly("MC", "PL");
+    }
+}
@@ -0,0 +1,60 @@
+package io.github.xhamera1.swiftcodeapi.index;
+
+import io.github.xhamera1.swiftcodeapi.index.ColumnarSwiftCodeStore.Row;
+import io.github.xhamera1.swiftcodeapi.model.SwiftCode;
+import io.github.xhamera1.swiftcodeapi.model.SwiftCodeInfo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SwiftCodeLookupIndexTest {
+
+    private static final SwiftCodeInfo MISFILED = new SwiftCodeInfo("BANKDEFFXXX", "BANK", "Address", "Town", "PL", "POLAND", true);
+
+    private ColumnarSwiftCodeStore columnarStore;
+    private SwiftCodeLookupIndex lookupIndex;
+
+    @BeforeEach
+    void setUp() {
+        columnarStore = new ColumnarSwiftCodeStore();
+        lookupIndex = new SwiftCodeLookupIndex(columnarStore);
+        List<SwiftCodeInfo> entries = List.of(
+                new SwiftCodeInfo("AAISALTRXXX", "UNITED BANK OF ALBANIA SH.A", "HQ Address", "TIRANA", "AL", "ALBANIA", true),
+                new SwiftCodeInfo("DEUTPLPX", "DEUTSCHE BANK POLSKA S.A.", "Address", "WARSZAWA", "pl", "POLAND", false));
+        columnarStore.rebuild(entries);
+        lookupIndex.rebuild(entries);
+    }
+
+    @Test
+    @DisplayName("find() should resolve codes to the rows of the columnar store")
+    void find_shouldReadFromColumnarStore() {
+        Row row = lookupIndex.find(SwiftCode.pack("deutplpx")).orElseThrow();
+
+        assertThat(row.bankName()).isEqualTo("DEUTSCHE BANK POLSKA S.A.");
+        assertThat(lookupIndex.contains(SwiftCode.pack("AAISALTRXXX"))).isTrue();
+        assertThat(lookupIndex.find(SwiftCode.pack("NONEXISTXXX"))).isEmpty();
+        assertThat(lookupIndex.isComplete()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Codes that cannot be packed or do not match their country should make the index incomplete until removed")
+    void unresolvableEntries_shouldMakeIndexIncomplete() {
+        SwiftCodeInfo unpackable = new SwiftCodeInfo("BAD-CODE", "BANK", "Address", "Town", "PL", "POLAND", false);
+
+        lookupIndex.onAdded(MISFILED);
+        lookupIndex.onAdded(unpackable);
+        assertThat(lookupIndex.isComplete()).isFalse();
+
+        lookupIndex.onDeleted(MISFILED);
+        assertThat(lookupIndex.isComplete()).isFalse();
+        lookupIndex.onDeleted(unpackable);
+        assertThat(lookupIndex.isComplete()).isTrue();
+
+        lookupIndex.rebuild(List.of(MISFILED));
+        assertThat(lookupIndex.isComplete()).isFalse();
+    }
+}
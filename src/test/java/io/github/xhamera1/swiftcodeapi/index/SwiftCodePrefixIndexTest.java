@@ -0,0 +1,103 @@
+package io.github.xhamera1.swiftcodeapi.index;
+
+import io.github.xhamera1.swiftcodeapi.model.SwiftCodeInfo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SwiftCodePrefixIndexTest {
+
+    private SwiftCodePrefixIndex prefixIndex;
+
+    @BeforeEach
+    void setUp() {
+        prefixIndex = new SwiftCodePrefixIndex();
+        prefixIndex.rebuild(List.of(
+                entry("BANKPLPWXXX"),
+                entry("AAISALTRXXX"),
+                entry("BANKPLPWA01"),
+                entry("aaisaltrb02"),
+                entry("DEUTDEFFXXX"),
+                entry("BANKPLPW")
+        ));
+    }
+
+    @Test
+    @DisplayName("rebuild() should store codes uppercased, sorted and without duplicates")
+    void rebuild_shouldSortAndNormalizeCodes() {
+        prefixIndex.rebuild(List.of(entry("bbbbplpw"), entry("AAAAPLPW"), entry("BBBBPLPW")));
+
+        assertThat(prefixIndex.size()).isEqualTo(2);
+        assertThat(prefixIndex.findByPrefix("", 10)).isEmpty();
+        assertThat(prefixIndex.findByPrefix("A", 10)).containsExactly("AAAAPLPW");
+        assertThat(prefixIndex.findByPrefix("B", 10)).containsExactly("BBBBPLPW");
+    }
+
+    @Test
+    @DisplayName("findByPrefix() should return all matching codes in ascending order")
+    void findByPrefix_shouldReturnMatchesInOrder() {
+        assertThat(prefixIndex.findByPrefix("BANKPL", 10))
+                .containsExactly("BANKPLPW", "BANKPLPWA01", "BANKPLPWXXX");
+        assertThat(prefixIndex.findByPrefix("AAIS", 10))
+                .containsExactly("AAISALTRB02", "AAISALTRXXX");
+    }
+
+    @Test
+    @DisplayName("findByPrefix() should be case-insensitive")
+    void findByPrefix_shouldIgnoreCase() {
+        assertThat(prefixIndex.findByPrefix("deut", 10)).containsExactly("DEUTDEFFXXX");
+    }
+
+    @Test
+    @DisplayName("findByPrefix() should honour the limit")
+    void findByPrefix_shouldRespectLimit() {
+        assertThat(prefixIndex.findByPrefix("BANK", 2)).containsExactly("BANKPLPW", "BANKPLPWA01");
+        assertThat(prefixIndex.findByPrefix("BANK", 0)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("findByPrefix() should return an empty list when nothing matches")
+    void findByPrefix_shouldReturnEmptyWhenNoMatch() {
+        assertThat(prefixIndex.findByPrefix("ZZZZ", 10)).isEmpty();
+        assertThat(prefixIndex.findByPrefix("BANKPLPWXXXX", 10)).isEmpty();
+        assertThat(prefixIndex.findByPrefix(null, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("onAdded()/onDeleted() should keep the array sorted and ignore duplicates or unknown codes")
+    void mutations_shouldKeepIndexSorted() {
+        prefixIndex.onAdded(entry("BANKPLPWA00"));
+        prefixIndex.onAdded(entry("BANKPLPWA00"));
+        prefixIndex.onDeleted(entry("BANKPLPWXXX"));
+        prefixIndex.onDeleted(entry("NOTKNOWNXXX"));
+
+        assertThat(prefixIndex.size()).isEqualTo(6);
+        assertThat(prefixIndex.findByPrefix("BANK", 10))
+                .containsExactly("BANKPLPW", "BANKPLPWA00", "BANKPLPWA01");
+    }
+
+    @Test
+    @DisplayName("Codes that cannot be packed should still be found, merged in order")
+    void unpackableCodes_shouldBeMergedIntoResults() {
+        prefixIndex.onAdded(entry("BANKPLPW-01"));
+        prefixIndex.onAdded(entry("bankplpw_a1"));
+
+        assertThat(prefixIndex.size()).isEqualTo(8);
+        assertThat(prefixIndex.findByPrefix("BANKPLPW", 10))
+                .containsExactly("BANKPLPW", "BANKPLPW-01", "BANKPLPWA01", "BANKPLPWXXX", "BANKPLPW_A1");
+        assertThat(prefixIndex.findByPrefix("BANKPLPW-", 10)).containsExactly("BANKPLPW-01");
+        assertThat(prefixIndex.findByPrefix("BANKPLPW", 2)).containsExactly("BANKPLPW", "BANKPLPW-01");
+
+        prefixIndex.onDeleted(entry("BANKPLPW-01"));
+        assertThat(prefixIndex.findByPrefix("BANKPLPW", 10))
+                .containsExactly("BANKPLPW", "BANKPLPWA01", "BANKPLPWXXX", "BANKPLPW_A1");
+    }
+
+    private static SwiftCodeInfo entry(String swiftCode) {
+        return new SwiftCodeInfo(swiftCode, "Bank", "Address", "Town", swiftCode.substring(4, 6).toUpperCase(), "COUNTRY", swiftCode.toUpperCase().endsWith("XXX"));
+    }
+}
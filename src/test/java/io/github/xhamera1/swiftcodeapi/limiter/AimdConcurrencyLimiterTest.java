@@ -0,0 +1,91 @@
+package io.github.xhamera1.swiftcodeapi.limiter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class AimdConcurrencyLimiterTest {
+
+    private static final long FAST = Duration.ofMillis(5).toNanos();
+    private static final long SLOW = Duration.ofMillis(500).toNanos();
+
+    private static AimdConcurrencyLimiter newLimiter(int initialLimit) {
+        return new AimdConcurrencyLimiter("read", initialLimit, 2, 8, Duration.ofMillis(100), 0.5);
+    }
+
+    @Test
+    @DisplayName("tryAcquire() should reject requests beyond the current limit and count the rejections")
+    void tryAcquire_shouldRejectBeyondLimit() {
+        AimdConcurrencyLimiter limiter = newLimiter(2);
+
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isFalse();
+        assertThat(limiter.tryAcquire()).isFalse();
+
+        assertThat(limiter.getInFlight()).isEqualTo(2);
+        assertThat(limiter.getRejectedCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Fast requests under load should grow the limit by one up to the maximum")
+    void release_fastUnderLoad_shouldIncreaseLimitAdditively() {
+        AimdConcurrencyLimiter limiter = newLimiter(4);
+
+        for (int round = 0; round < 10; round++) {
+            int admitted = 0;
+            while (limiter.tryAcquire()) {
+                admitted++;
+            }
+            for (int i = 0; i < admitted; i++) {
+                limiter.release(FAST, false);
+            }
+        }
+
+        assertThat(limiter.getLimit()).isEqualTo(8);
+        assertThat(limiter.getInFlight()).isZero();
+        assertThat(limiter.getRejectedCount()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("Fast requests on an idle limiter should not grow the limit")
+    void release_fastWhileIdle_shouldKeepLimit() {
+        AimdConcurrencyLimiter limiter = newLimiter(4);
+
+        limiter.tryAcquire();
+        limiter.release(FAST, false);
+
+        assertThat(limiter.getLimit()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Slow or failed requests should shrink the limit multiplicatively down to the minimum")
+    void release_slowOrFailed_shouldDecreaseLimitMultiplicatively() {
+        AimdConcurrencyLimiter limiter = newLimiter(8);
+
+        limiter.tryAcquire();
+        limiter.release(SLOW, false);
+        assertThat(limiter.getLimit()).isEqualTo(4);
+
+        limiter.tryAcquire();
+        limiter.release(FAST, true);
+        assertThat(limiter.getLimit()).isEqualTo(2);
+
+        limiter.tryAcquire();
+        limiter.release(SLOW, false);
+        assertThat(limiter.getLimit()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Constructor should reject inconsistent limits")
+    void constructor_shouldValidateLimits() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new AimdConcurrencyLimiter("read", 1, 2, 8, Duration.ofMillis(100), 0.5));
+        assertThrows(IllegalArgumentException.class,
+                () -> new AimdConcurrencyLimiter("read", 4, 2, 8, Duration.ofMillis(100), 1.0));
+    }
+}
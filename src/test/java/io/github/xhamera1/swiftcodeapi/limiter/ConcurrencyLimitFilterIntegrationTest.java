@@ -0,0 +1,63 @@
+package io.github.xhamera1.swiftcodeapi.limiter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Integration tests verifying that {@link ConcurrencyLimitFilter} sheds API requests once the limit
+ * for their kind is reached, and that the rejection is rendered by the global exception handler.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestPropertySource(properties = {
+        "swift-api.concurrency-limit.retry-after=2s",
+        "swift-api.concurrency-limit.read.initial-limit=2",
+        "swift-api.concurrency-limit.read.min-limit=1",
+        "swift-api.concurrency-limit.read.max-limit=2"
+})
+class ConcurrencyLimitFilterIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    @Qualifier("readConcurrencyLimiter")
+    private AimdConcurrencyLimiter readConcurrencyLimiter;
+
+    @Test
+    @DisplayName("Reads beyond the limit should get 503 with Retry-After while writes are still admitted")
+    void requestsBeyondLimit_shouldBeRejectedWith503() throws Exception {
+        assertThat(readConcurrencyLimiter.tryAcquire()).isTrue();
+        assertThat(readConcurrencyLimiter.tryAcquire()).isTrue();
+        try {
+            mockMvc.perform(get("/v1/swift-codes/AAISALTRXXX"))
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(header().string(HttpHeaders.RETRY_AFTER, "2"))
+                    .andExpect(jsonPath("$.message").value("The service is currently overloaded. Please retry later."));
+
+            mockMvc.perform(delete("/v1/swift-codes/NONEXISTXXX"))
+                    .andExpect(status().isNotFound());
+        } finally {
+            readConcurrencyLimiter.release(0, false);
+            readConcurrencyLimiter.release(0, false);
+        }
+
+        assertThat(readConcurrencyLimiter.getRejectedCount()).isEqualTo(1);
+        mockMvc.perform(get("/v1/swift-codes/AAISALTRXXX"))
+                .andExpect(status().isOk());
+    }
+}
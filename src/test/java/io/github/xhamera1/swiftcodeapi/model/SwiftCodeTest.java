@@ -0,0 +1,160 @@
+package io.github.xhamera1.swiftcodeapi.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SwiftCodeTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {"AAISALTRXXX", "DEUTPLPX", "AIPOPLP1XXX", "ZZZZZZZZZZZ", "00000000", "99999999999"})
+    @DisplayName("pack() and unpack() should round-trip valid codes")
+    void packAndUnpack_shouldRoundTrip(String code) {
+        long packed = SwiftCode.pack(code);
+
+        assertThat(packed).isPositive();
+        assertThat(SwiftCode.unpack(packed)).isEqualTo(code);
+    }
+
+    @Test
+    @DisplayName("pack() should ignore case and surrounding whitespace")
+    void pack_shouldIgnoreCaseAndWhitespace() {
+        assertThat(SwiftCode.pack("  aaisaltrxxx ")).isEqualTo(SwiftCode.pack("AAISALTRXXX"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "SHORTPX", "LONGLONGPX", "EXTRALONGPLX", "AAIS-LTRXXX", "AAISALTR XX", "ÄAISALTRXXX"})
+    @DisplayName("pack() should reject codes with wrong length or characters")
+    void pack_shouldRejectInvalidCodes(String code) {
+        assertThat(SwiftCode.pack(code)).isEqualTo(SwiftCode.INVALID);
+    }
+
+    @Test
+    @DisplayName("pack() should reject null and parse() should throw for invalid codes")
+    void pack_shouldRejectNull() {
+        assertThat(SwiftCode.pack(null)).isEqualTo(SwiftCode.INVALID);
+        assertThrows(IllegalArgumentException.class, () -> SwiftCode.parse("INVALID"));
+    }
+
+    @Test
+    @DisplayName("Packed values should sort in the same order as the code strings")
+    void packedValues_shouldPreserveStringOrder() {
+        List<String> codes = List.of("BANKPLPWXXX", "BANKPLPW", "AAISALTRXXX", "BANKPLPWA01", "BANKPLP1", "BANKPLPW001", "ZZZZZZZZ");
+
+        List<String> byPackedValue = codes.stream()
+                .map(SwiftCode::parse)
+                .sorted()
+                .map(SwiftCode::toString)
+                .collect(Collectors.toList());
+
+        assertThat(byPackedValue).isEqualTo(codes.stream().sorted().collect(Collectors.toList()));
+    }
+
+    @Test
+    @DisplayName("isHeadquarter() should detect the XXX branch part")
+    void isHeadquarter_shouldDetectXxxSuffix() {
+        assertThat(SwiftCode.parse("AAISALTRXXX").isHeadquarter()).isTrue();
+        assertThat(SwiftCode.parse("AAISALTRXX1").isHeadquarter()).isFalse();
+        assertThat(SwiftCode.parse("AAISALTR").isHeadquarter()).isFalse();
+    }
+
+    @Test
+    @DisplayName("isHeadquarter() should agree with endsWith(\"XXX\") for 8- and 11-character codes")
+    void isHeadquarter_shouldMatchEndsWithXxx() {
+        List<String> codes = List.of("BANKMXXX", "BANKMXXXXXX", "BANKMXXXB01", "BANKMXX1", "BANKAXXX",
+                "BANKPLXX", "BANKPLPX", "AAISALTR", "AAISALTRXXX", "AAISALTR0XX", "DEUTPLPX");
+
+        assertThat(SwiftCode.parse("BANKMXXX").isHeadquarter()).isTrue();
+        for (String code : codes) {
+            assertThat(SwiftCode.isHeadquarter(SwiftCode.pack(code))).as(code).isEqualTo(code.endsWith("XXX"));
+        }
+    }
+
+    @Test
+    @DisplayName("institutionKey() should map HQ and branches to the packed 8-character code")
+    void institutionKey_shouldStripBranchPart() {
+        long institution = SwiftCode.pack("AAISALTR");
+
+        assertThat(SwiftCode.institutionKey(SwiftCode.pack("AAISALTRXXX"))).isEqualTo(institution);
+        assertThat(SwiftCode.institutionKey(SwiftCode.pack("AAISALTRB01"))).isEqualTo(institution);
+        assertThat(SwiftCode.institutionKey(institution)).isEqualTo(institution);
+        assertThat(SwiftCode.institutionKey(SwiftCode.pack("AAISALTSXXX"))).isNotEqualTo(institution);
+    }
+
+    @Test
+    @DisplayName("equals() and hashCode() should be based on the packed value")
+    void equality_shouldUsePackedValue() {
+        SwiftCode upper = SwiftCode.parse("DEUTPLPX");
+        SwiftCode lower = SwiftCode.parse("deutplpx");
+
+        assertThat(upper).isEqualTo(lower).hasSameHashCodeAs(lower);
+        assertThat(SwiftCode.ofPacked(upper.packed())).isEqualTo(upper);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"AAISALTRXXX", "DEUTPLPX", "AIPOPLP1XXX", "BANKDE2F123"})
+    @DisplayName("packBic() should accept the BIC layout and pack like pack()")
+    void packBic_shouldAcceptBicLayout(String code) {
+        assertThat(SwiftCode.packBic(code, true)).isEqualTo(SwiftCode.pack(code));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "SHORTPX", "EXTRALONGPLX", "1AISALTRXXX", "AAISA1TRXXX", " AAISALTRXXX", "AAISALTRXXX ", "AAIS-LTRXXX"})
+    @DisplayName("packBic() should reject codes outside the BIC layout, including surrounding whitespace")
+    void packBic_shouldRejectInvalidLayout(String code) {
+        assertThat(SwiftCode.packBic(code, false)).isEqualTo(SwiftCode.INVALID);
+    }
+
+    @Test
+    @DisplayName("packBic() should accept lower-case letters only when asked to")
+    void packBic_shouldHonourCaseSensitivity() {
+        assertThat(SwiftCode.packBic("aaisaltrxxx", false)).isEqualTo(SwiftCode.pack("AAISALTRXXX"));
+        assertThat(SwiftCode.packBic("aaisaltrxxx", true)).isEqualTo(SwiftCode.INVALID);
+        assertThat(SwiftCode.packBic(null, false)).isEqualTo(SwiftCode.INVALID);
+    }
+
+    @Test
+    @DisplayName("countryMatches() and countryCode() should read characters 5-6 of the packed code")
+    void countryMatches_shouldCompareEmbeddedCountry() {
+        long packed = SwiftCode.packBic("AAISALTRXXX", true);
+
+        assertThat(SwiftCode.countryMatches(packed, "AL")).isTrue();
+        assertThat(SwiftCode.countryMatches(packed, "al")).isTrue();
+        assertThat(SwiftCode.countryMatches(packed, "PL")).isFalse();
+        assertThat(SwiftCode.countryMatches(packed, "A")).isFalse();
+        assertThat(SwiftCode.countryMatches(packed, null)).isFalse();
+        assertThat(SwiftCode.countryCode(packed)).isEqualTo("AL");
+    }
+
+    @Test
+    @DisplayName("countryIndex() should give a packed code and its country code the same index")
+    void countryIndex_shouldMatchForCodeAndCountry() {
+        int albania = SwiftCode.countryIndex("AL");
+
+        assertThat(SwiftCode.countryIndex(SwiftCode.pack("AAISALTRXXX"))).isEqualTo(albania);
+        assertThat(SwiftCode.countryIndex("al")).isEqualTo(albania);
+        assertThat(SwiftCode.countryIndex(SwiftCode.pack("BANKPLPW"))).isNotEqualTo(albania);
+        assertThat(albania).isBetween(0, SwiftCode.COUNTRY_INDEX_RANGE - 1);
+        assertThat(SwiftCode.countryIndex("ALB")).isEqualTo(-1);
+        assertThat(SwiftCode.countryIndex("A-")).isEqualTo(-1);
+        assertThat(SwiftCode.countryIndex((CharSequence) null)).isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("packPrefix() should return the smallest packed code starting with the prefix")
+    void packPrefix_shouldReturnLowerBound() {
+        assertThat(SwiftCode.packPrefix("BANKPLPW")).isEqualTo(SwiftCode.pack("BANKPLPW"));
+        assertThat(SwiftCode.packPrefix("bank")).isLessThan(SwiftCode.pack("BANK0000"))
+                .isGreaterThan(SwiftCode.pack("BANJZZZZZZZ"));
+        assertThat(SwiftCode.packPrefix("BANKPLPWXXX")).isEqualTo(SwiftCode.pack("BANKPLPWXXX"));
+        assertThat(SwiftCode.packPrefix("BANKPLPWXXXX")).isEqualTo(SwiftCode.INVALID);
+        assertThat(SwiftCode.packPrefix("BAN-")).isEqualTo(SwiftCode.INVALID);
+    }
+}
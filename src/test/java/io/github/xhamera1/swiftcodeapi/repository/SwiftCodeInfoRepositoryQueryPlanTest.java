@@ -0,0 +1,304 @@
+package io.github.xhamera1.swiftcodeapi.repository;
+
+import io.github.xhamera1.swiftcodeapi.dataset.ActiveDatasetVersion;
+import io.github.xhamera1.swiftcodeapi.model.SwiftCodeInfo;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies that the repository queries are answered from the indexes created by the migrations:
+ * the SQL generated by Hibernate for each query is captured and run through H2's {@code EXPLAIN},
+ * whose plan names the index used or reports a {@code tableScan}.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "io.github.xhamera1.swiftcodeapi.repository.SwiftCodeInfoRepositoryQueryPlanTest$CapturingStatementInspector")
+@Import(ActiveDatasetVersion.class)
+class SwiftCodeInfoRepositoryQueryPlanTest {
+
+    /** The version created by the migrations, which the entity queries are restricted to. */
+    private static final long ACTIVE_VERSION = 1L;
+
+    /** A previous version kept for rollback, in which the tests change nothing. */
+    private static final long RETAINED_VERSION = 3L;
+
+    private static final int RETAINED_VERSION_SIZE = 1000;
+
+    private static final List<String> RETAINED_VERSION_COUNTRIES = List.of("AL", "AT", "BE", "BG", "CH", "CZ", "DE", "DK",
+            "ES", "FI", "FR", "GB", "HU", "IT", "MC", "MT", "NL", "PL", "PT", "SE");
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private SwiftCodeInfoRepository repository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        loadRetainedVersion();
+        persist(new SwiftCodeInfo("BANKPLPWXXX", "Bank Polski HQ", "Centrala PL", "Warszawa", "PL", "POLAND", true));
+        persist(new SwiftCodeInfo("BANKPLPWA01", "Bank Polski Oddział A01", "Oddział A01", "Kraków", "PL", "POLAND", false));
+        persist(new SwiftCodeInfo("AAISALTRXXX", "United Bank Albania", "Address AL", "Tirana", "AL", "ALBANIA", true));
+        entityManager.flush();
+        entityManager.clear();
+        CapturingStatementInspector.STATEMENTS.clear();
+    }
+
+    /**
+     * Commits a previous version of {@value #RETAINED_VERSION_SIZE} entries and analyzes the table, once per database.
+     * H2 estimates the cost of an index from the committed row count and the column selectivity; with only the
+     * uncommitted rows of a test and no statistics, every index range costs about the same and the plans say nothing
+     * about the indexes.
+     */
+    private void loadRetainedVersion() {
+        Long loaded = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM swift_codes WHERE dataset_version = ?", Long.class, RETAINED_VERSION);
+        if (loaded != null && loaded > 0) {
+            return;
+        }
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        transactionTemplate.executeWithoutResult(status -> {
+            List<Object[]> rows = new ArrayList<>();
+            for (int i = 0; i < RETAINED_VERSION_SIZE; i++) {
+                String country = RETAINED_VERSION_COUNTRIES.get(i % RETAINED_VERSION_COUNTRIES.size());
+                rows.add(new Object[] {RETAINED_VERSION, String.format("B%03d%sPWXXX", i, country), "Bank " + i, country});
+            }
+            jdbcTemplate.batchUpdate("INSERT INTO swift_codes (dataset_version, swift_code, bank_name, country_iso2, country_name, "
+                    + "is_headquarter) VALUES (?, ?, ?, ?, 'COUNTRY', TRUE)", rows);
+            jdbcTemplate.execute("ANALYZE TABLE swift_codes");
+        });
+    }
+
+    private void persist(SwiftCodeInfo entry) {
+        entry.setDatasetVersion(ACTIVE_VERSION);
+        entityManager.persist(entry);
+    }
+
+    private void recordChange(String swiftCode) {
+        jdbcTemplate.update("INSERT INTO swift_code_changes (change_type, swift_code, changed_at) VALUES ('DELETED', ?, CURRENT_TIMESTAMP)",
+                swiftCode);
+    }
+
+    /**
+     * Runs {@code EXPLAIN} for the last statement Hibernate prepared, with the active version bound by the filter
+     * followed by the given bind parameters.
+     */
+    private String planOfLastStatement(Object... parameters) {
+        Object[] arguments = new Object[parameters.length + 1];
+        arguments[0] = ACTIVE_VERSION;
+        System.arraycopy(parameters, 0, arguments, 1, parameters.length);
+        return planOfLastStatementBinding(arguments);
+    }
+
+    /**
+     * Runs {@code EXPLAIN} for the last statement Hibernate prepared with exactly the given bind parameters, for
+     * native statements and for bulk DML, where the filter condition and its parameter come last.
+     */
+    private String planOfLastStatementBinding(Object... arguments) {
+        List<String> statements = CapturingStatementInspector.STATEMENTS;
+        assertThat(statements).isNotEmpty();
+        String sql = statements.get(statements.size() - 1);
+        return jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class, arguments);
+    }
+
+    @Test
+    @DisplayName("The migrations should have been applied up to the change log retention index")
+    void migrations_shouldBeApplied() {
+        Integer latestVersion = jdbcTemplate.queryForObject(
+                "SELECT MAX(CAST(\"version\" AS INT)) FROM \"flyway_schema_history\" WHERE \"success\"", Integer.class);
+
+        assertThat(latestVersion).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("Entity queries should bind the active version instead of reading the pointer")
+    void entityQueries_shouldBindActiveVersion() {
+        assertThat(repository.findBySwiftCode("bankplpwxxx")).isPresent();
+        assertThat(repository.count()).isEqualTo(3);
+
+        assertThat(CapturingStatementInspector.STATEMENTS)
+                .hasSize(2)
+                .allSatisfy(sql -> assertThat(sql).contains("dataset_version = ?").doesNotContainIgnoringCase("active_dataset"));
+    }
+
+    @Test
+    @DisplayName("Lookup by code should use the primary key")
+    void findBySwiftCode_shouldUsePrimaryKey() {
+        assertThat(repository.findBySwiftCode("bankplpwxxx")).isPresent();
+
+        assertThat(planOfLastStatement("bankplpwxxx"))
+                .containsIgnoringCase("PRIMARY_KEY")
+                .doesNotContain("tableScan");
+    }
+
+    @Test
+    @DisplayName("Existence check should use the primary key")
+    void existsBySwiftCodeIgnoreCase_shouldUsePrimaryKey() {
+        assertThat(repository.existsBySwiftCodeIgnoreCase("AAISALTRXXX")).isTrue();
+
+        assertThat(planOfLastStatement("AAISALTRXXX"))
+                .containsIgnoringCase("PRIMARY_KEY")
+                .doesNotContain("tableScan");
+    }
+
+    @Test
+    @DisplayName("Country listing should use the (country_iso2, swift_code) index")
+    void findByCountryISO2IgnoreCase_shouldUseCountryIndex() {
+        assertThat(repository.findByCountryISO2IgnoreCase("pl")).hasSize(2);
+
+        assertThat(planOfLastStatement("pl"))
+                .containsIgnoringCase("IDX_COUNTRY_ISO2_SWIFT_CODE")
+                .doesNotContain("tableScan");
+    }
+
+    @Test
+    @DisplayName("Branch lookup should use the institution code index")
+    void findBranches_shouldUseInstitutionCodeIndex() {
+        assertThat(repository.findBranches("bankplpw", "BANKPLPWXXX"))
+                .extracting(SwiftCodeInfo::getSwiftCode)
+                .containsExactly("BANKPLPWA01");
+
+        assertThat(planOfLastStatement("bankplpw", "BANKPLPWXXX"))
+                .containsIgnoringCase("IDX_INSTITUTION_CODE")
+                .doesNotContain("tableScan");
+    }
+
+    @Test
+    @DisplayName("Bulk delete by code list should use the primary key")
+    void deleteBySwiftCodes_shouldUsePrimaryKey() {
+        assertThat(repository.deleteBySwiftCodes(List.of("BANKPLPWA01", "AAISALTRXXX"))).isEqualTo(2);
+
+        assertThat(planOfLastStatementBinding("BANKPLPWA01", "AAISALTRXXX", ACTIVE_VERSION))
+                .containsIgnoringCase("PRIMARY_KEY")
+                .doesNotContain("tableScan");
+    }
+
+    @Test
+    @DisplayName("Delete by institution should use the institution code index")
+    void deleteByInstitutionCode_shouldUseInstitutionCodeIndex() {
+        assertThat(repository.deleteByInstitutionCode("BANKPLPW")).isEqualTo(2);
+
+        assertThat(planOfLastStatementBinding("BANKPLPW", ACTIVE_VERSION))
+                .containsIgnoringCase("IDX_INSTITUTION_CODE")
+                .doesNotContain("tableScan");
+    }
+
+    @Test
+    @DisplayName("Delete by country should use the (country_iso2, swift_code) index")
+    void deleteByCountry_shouldUseCountryIndex() {
+        assertThat(repository.deleteByCountry("PL")).isEqualTo(2);
+
+        assertThat(planOfLastStatementBinding("PL", ACTIVE_VERSION))
+                .containsIgnoringCase("IDX_COUNTRY_ISO2_SWIFT_CODE")
+                .doesNotContain("tableScan");
+    }
+
+    @Test
+    @DisplayName("Listing all codes should read the version's range of the primary key")
+    void findAllSwiftCodes_shouldUsePrimaryKey() {
+        assertThat(repository.findAllSwiftCodes()).containsExactly("AAISALTRXXX", "BANKPLPWA01", "BANKPLPWXXX");
+
+        assertThat(planOfLastStatement())
+                .containsIgnoringCase("PRIMARY_KEY")
+                .doesNotContain("tableScan");
+    }
+
+    @Test
+    @DisplayName("Streaming all entries should read the version's range of the primary key")
+    void streamAllOrderBySwiftCode_shouldUsePrimaryKey() {
+        try (Stream<SwiftCodeInfo> entries = repository.streamAllOrderBySwiftCode()) {
+            assertThat(entries.map(SwiftCodeInfo::getSwiftCode)).containsExactly("AAISALTRXXX", "BANKPLPWA01", "BANKPLPWXXX");
+        }
+
+        assertThat(planOfLastStatement())
+                .containsIgnoringCase("PRIMARY_KEY")
+                .doesNotContain("tableScan");
+    }
+
+    @Test
+    @DisplayName("Counting a version should use the primary key")
+    void countByDatasetVersion_shouldUsePrimaryKey() {
+        assertThat(repository.countByDatasetVersion(ACTIVE_VERSION)).isEqualTo(3);
+
+        assertThat(planOfLastStatementBinding(ACTIVE_VERSION))
+                .containsIgnoringCase("PRIMARY_KEY")
+                .doesNotContain("tableScan");
+    }
+
+    @Test
+    @DisplayName("Deleting a version should use the primary key")
+    void deleteByDatasetVersion_shouldUsePrimaryKey() {
+        assertThat(repository.deleteByDatasetVersion(2)).isZero();
+
+        assertThat(planOfLastStatementBinding(2L))
+                .containsIgnoringCase("PRIMARY_KEY")
+                .doesNotContain("tableScan");
+    }
+
+    @Test
+    @DisplayName("The carry-over statements should use the primary keys of both tables")
+    void changedSince_shouldUsePrimaryKeys() {
+        recordChange("BANKPLPWA01");
+
+        assertThat(repository.deleteChangedSince(2, 0)).isZero();
+        assertThat(planOfLastStatementBinding(2L, 0L))
+                .containsPattern("PRIMARY_KEY_\\w+: DATASET_VERSION = \\?1\\s+AND SWIFT_CODE IN")
+                .containsPattern("PRIMARY_KEY_\\w+: SEQ > \\?2")
+                .doesNotContain("tableScan");
+
+        assertThat(repository.copyChangedSince(ACTIVE_VERSION, 2, 0)).isEqualTo(1);
+        assertThat(planOfLastStatementBinding(2L, ACTIVE_VERSION, 0L))
+                .containsPattern("PRIMARY_KEY_\\w+: DATASET_VERSION = \\?2\\s+AND SWIFT_CODE IN")
+                .containsPattern("PRIMARY_KEY_\\w+: SEQ > \\?3")
+                .doesNotContain("tableScan");
+    }
+
+    @Test
+    @DisplayName("The generated institution code should be stored and mapped read-only")
+    void institutionCode_shouldBeGeneratedByTheDatabase() {
+        String stored = jdbcTemplate.queryForObject(
+                "SELECT institution_code FROM swift_codes WHERE swift_code = 'BANKPLPWA01'", String.class);
+
+        assertThat(stored).isEqualTo("BANKPLPW");
+        assertThat(repository.findById(new SwiftCodeInfo.Key(ACTIVE_VERSION, "BANKPLPWA01"))).get()
+                .extracting(SwiftCodeInfo::getInstitutionCode)
+                .isEqualTo("BANKPLPW");
+    }
+
+    /**
+     * Records the SQL of every statement prepared by Hibernate.
+     * Instantiated by Hibernate from its class name, hence the static list.
+     */
+    public static class CapturingStatementInspector implements StatementInspector {
+
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package io.github.xhamera1.swiftcodeapi.repository;
 
+import io.github.xhamera1.swiftcodeapi.dataset.ActiveDatasetVersion;
 import io.github.xhamera1.swiftcodeapi.model.SwiftCodeInfo;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -8,6 +9,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
 
 import java.util.List;
 import java.util.Optional;
@@ -15,8 +17,12 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 
 @DataJpaTest
+@Import(ActiveDatasetVersion.class)
 class SwiftCodeInfoRepositoryTest {
 
+    /** The version created by the migrations, which the entity queries are restricted to. */
+    private static final long ACTIVE_VERSION = 1L;
+
     @Autowired
     private TestEntityManager entityManager;
 
@@ -39,23 +45,21 @@ class SwiftCodeInfoRepositoryTest {
         branchAl = new SwiftCodeInfo("AAISALTRB02", "United Bank Albania B02", null, "Tirana B2", "AL", "ALBANIA", false);
         hqDe = new SwiftCodeInfo("DEUTDEFFXXX", "Deutsche Bank HQ", "Centrala DE", "Frankfurt", "DE", "GERMANY", true);
 
-        entityManager.persist(hqPl);
-        entityManager.persist(branchPl8);
-        entityManager.persist(branchPl11);
-        entityManager.persist(hqAl);
-        entityManager.persist(branchAl);
-        entityManager.persist(hqDe);
+        for (SwiftCodeInfo entry : List.of(hqPl, branchPl8, branchPl11, hqAl, branchAl, hqDe)) {
+            entry.setDatasetVersion(ACTIVE_VERSION);
+            entityManager.persist(entry);
+        }
         entityManager.flush();
     }
 
     @Nested
-    @DisplayName("Tests for findBySwiftCodeIgnoreCase")
+    @DisplayName("Tests for findBySwiftCode")
     class FindBySwiftCodeIgnoreCaseTests {
 
         @Test
         @DisplayName("Should find SwiftCodeInfo when searching with exact matching case")
-        void findBySwiftCodeIgnoreCase_whenExactCaseMatch_shouldReturnEntity() {
-            Optional<SwiftCodeInfo> found = repository.findBySwiftCodeIgnoreCase("BANKPLPWXXX");
+        void findBySwiftCode_whenExactCaseMatch_shouldReturnEntity() {
+            Optional<SwiftCodeInfo> found = repository.findBySwiftCode("BANKPLPWXXX");
             assertThat(found).isPresent();
             assertThat(found.get().getSwiftCode()).isEqualTo("BANKPLPWXXX");
             assertThat(found.get().getBankName()).isEqualTo(hqPl.getBankName());
@@ -63,8 +67,8 @@ class SwiftCodeInfoRepositoryTest {
 
         @Test
         @DisplayName("Should find SwiftCodeInfo when searching with lower case")
-        void findBySwiftCodeIgnoreCase_whenLowerCase_shouldReturnEntity() {
-            Optional<SwiftCodeInfo> found = repository.findBySwiftCodeIgnoreCase("bankplpwa01");
+        void findBySwiftCode_whenLowerCase_shouldReturnEntity() {
+            Optional<SwiftCodeInfo> found = repository.findBySwiftCode("bankplpwa01");
             assertThat(found).isPresent();
             assertThat(found.get().getSwiftCode()).isEqualTo("BANKPLPWA01");
             assertThat(found.get().getBankName()).isEqualTo(branchPl11.getBankName());
@@ -72,8 +76,8 @@ class SwiftCodeInfoRepositoryTest {
 
         @Test
         @DisplayName("Should find SwiftCodeInfo when searching with mixed case")
-        void findBySwiftCodeIgnoreCase_whenMixedCase_shouldReturnEntity() {
-            Optional<SwiftCodeInfo> found = repository.findBySwiftCodeIgnoreCase("aAiSaLtRxXx");
+        void findBySwiftCode_whenMixedCase_shouldReturnEntity() {
+            Optional<SwiftCodeInfo> found = repository.findBySwiftCode("aAiSaLtRxXx");
             assertThat(found).isPresent();
             assertThat(found.get().getSwiftCode()).isEqualTo("AAISALTRXXX");
             assertThat(found.get().getBankName()).isEqualTo(hqAl.getBankName());
@@ -81,15 +85,15 @@ class SwiftCodeInfoRepositoryTest {
 
         @Test
         @DisplayName("Should return empty Optional when SWIFT code does not exist")
-        void findBySwiftCodeIgnoreCase_whenCodeDoesNotExist_shouldReturnEmpty() {
-            Optional<SwiftCodeInfo> found = repository.findBySwiftCodeIgnoreCase("NONEXISTENT");
+        void findBySwiftCode_whenCodeDoesNotExist_shouldReturnEmpty() {
+            Optional<SwiftCodeInfo> found = repository.findBySwiftCode("NONEXISTENT");
             assertThat(found).isNotPresent();
         }
 
         @Test
         @DisplayName("Should return empty Optional when searching for null")
-        void findBySwiftCodeIgnoreCase_whenSearchingForNull_shouldReturnEmptyOptional() {
-            Optional<SwiftCodeInfo> found = repository.findBySwiftCodeIgnoreCase(null);
+        void findBySwiftCode_whenSearchingForNull_shouldReturnEmptyOptional() {
+            Optional<SwiftCodeInfo> found = repository.findBySwiftCode(null);
             assertThat(found).isEmpty();
         }
     }
@@ -163,7 +167,7 @@ class SwiftCodeInfoRepositoryTest {
     }
 
     @Nested
-    @DisplayName("Tests for findBySwiftCodeStartingWithIgnoreCaseAndSwiftCodeNotIgnoreCase (Find Branches)")
+    @DisplayName("Tests for findBranches")
     class FindBranchesTests {
 
         @Test
@@ -172,7 +176,7 @@ class SwiftCodeInfoRepositoryTest {
             String prefix = "bankplpw";
             String excludeCode = "BANKPLPWXXX";
 
-            List<SwiftCodeInfo> branches = repository.findBySwiftCodeStartingWithIgnoreCaseAndSwiftCodeNotIgnoreCase(prefix, excludeCode);
+            List<SwiftCodeInfo> branches = repository.findBranches(prefix, excludeCode);
 
             assertThat(branches)
                     .hasSize(1)
@@ -186,7 +190,7 @@ class SwiftCodeInfoRepositoryTest {
             String prefix = "BANKPLPW";
             String excludeCodeLower = "bankplpwxxx";
 
-            List<SwiftCodeInfo> branches = repository.findBySwiftCodeStartingWithIgnoreCaseAndSwiftCodeNotIgnoreCase(prefix, excludeCodeLower);
+            List<SwiftCodeInfo> branches = repository.findBranches(prefix, excludeCodeLower);
 
             assertThat(branches)
                     .hasSize(1)
@@ -201,7 +205,7 @@ class SwiftCodeInfoRepositoryTest {
             String prefix = "DEUTDEFF";
             String excludeCode = "DEUTDEFFXXX";
 
-            List<SwiftCodeInfo> branches = repository.findBySwiftCodeStartingWithIgnoreCaseAndSwiftCodeNotIgnoreCase(prefix, excludeCode);
+            List<SwiftCodeInfo> branches = repository.findBranches(prefix, excludeCode);
 
             assertThat(branches).isEmpty();
         }
@@ -212,7 +216,7 @@ class SwiftCodeInfoRepositoryTest {
             String prefix = "NONEXIST";
             String excludeCode = "NONEXISTXXX";
 
-            List<SwiftCodeInfo> branches = repository.findBySwiftCodeStartingWithIgnoreCaseAndSwiftCodeNotIgnoreCase(prefix, excludeCode);
+            List<SwiftCodeInfo> branches = repository.findBranches(prefix, excludeCode);
 
             assertThat(branches).isEmpty();
         }
@@ -221,14 +225,28 @@ class SwiftCodeInfoRepositoryTest {
         @Test
         @DisplayName("Should return empty list when searching with null prefix or excludeCode")
         void findBranches_whenNullInput_shouldReturnEmptyList() {
-            List<SwiftCodeInfo> resultWithNullPrefix = repository.findBySwiftCodeStartingWithIgnoreCaseAndSwiftCodeNotIgnoreCase(null, "BANKPLPWXXX");
+            List<SwiftCodeInfo> resultWithNullPrefix = repository.findBranches(null, "BANKPLPWXXX");
             assertThat(resultWithNullPrefix).as("Result with null prefix").isEmpty();
 
-            List<SwiftCodeInfo> resultWithNullExclude = repository.findBySwiftCodeStartingWithIgnoreCaseAndSwiftCodeNotIgnoreCase("BANKPLPW", null);
+            List<SwiftCodeInfo> resultWithNullExclude = repository.findBranches("BANKPLPW", null);
             assertThat(resultWithNullExclude).as("Result with null exclude code").isEmpty();
 
-            List<SwiftCodeInfo> resultWithBothNull = repository.findBySwiftCodeStartingWithIgnoreCaseAndSwiftCodeNotIgnoreCase(null, null);
+            List<SwiftCodeInfo> resultWithBothNull = repository.findBranches(null, null);
             assertThat(resultWithBothNull).as("Result with both null").isEmpty();
         }
     }
+
+    @Nested
+    @DisplayName("Tests for findAllSwiftCodes")
+    class FindAllSwiftCodesTests {
+
+        @Test
+        @DisplayName("Should return the codes of all stored entries")
+        void findAllSwiftCodes_shouldReturnAllCodes() {
+            List<String> codes = repository.findAllSwiftCodes();
+
+            assertThat(codes).containsExactlyInAnyOrder(
+                    "BANKPLPWXXX", "NBPAPLPW", "BANKPLPWA01", "AAISALTRXXX", "AAISALTRB02", "DEUTDEFFXXX");
+        }
+    }
 }
\ No newline at end of file
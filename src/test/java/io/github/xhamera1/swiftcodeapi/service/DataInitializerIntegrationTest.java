@@ -1,5 +1,6 @@
 package io.github.xhamera1.swiftcodeapi.service;
 
+import io.github.xhamera1.swiftcodeapi.dataset.ActiveDatasetVersion;
 import io.github.xhamera1.swiftcodeapi.model.SwiftCodeInfo;
 import io.github.xhamera1.swiftcodeapi.repository.SwiftCodeInfoRepository;
 import org.junit.jupiter.api.DisplayName;
@@ -30,6 +31,9 @@ class DataInitializerIntegrationTest {
     @Autowired
     private SwiftCodeInfoRepository repository;
 
+    @Autowired
+    private ActiveDatasetVersion activeVersion;
+
     private static final Logger log = LoggerFactory.getLogger(DataInitializerIntegrationTest.class);
 
     @Test
@@ -111,6 +115,7 @@ class DataInitializerIntegrationTest {
         assertThat(countAfterInitializer).isEqualTo(8);
 
         SwiftCodeInfo existingData = new SwiftCodeInfo();
+        existingData.setDatasetVersion(activeVersion.get());
         existingData.setSwiftCode("TESTPLPWXXX");
         existingData.setBankName("Test Bank");
         existingData.setCountryISO2("PL");
@@ -122,7 +127,7 @@ class DataInitializerIntegrationTest {
         log.info("Number of records after manual insertion: {}", finalCount);
         assertThat(finalCount).isEqualTo(9);
 
-        Optional<SwiftCodeInfo> manualRecord = repository.findById("TESTPLPWXXX");
+        Optional<SwiftCodeInfo> manualRecord = repository.findById(new SwiftCodeInfo.Key(activeVersion.get(), "TESTPLPWXXX"));
         assertTrue(manualRecord.isPresent(), "Manual test record TESTPLPWXXX not found");
         assertEquals("Test Bank", manualRecord.get().getBankName());
     }
@@ -0,0 +1,124 @@
+package io.github.xhamera1.swiftcodeapi.service;
+
+import io.github.xhamera1.swiftcodeapi.dto.MessageResponse;
+import io.github.xhamera1.swiftcodeapi.dto.SwiftCodeRequest;
+import io.github.xhamera1.swiftcodeapi.exceptions.InconsistentSwiftDataException;
+import io.github.xhamera1.swiftcodeapi.exceptions.ResourceAlreadyExistsException;
+import io.github.xhamera1.swiftcodeapi.exceptions.ResourceNotFoundException;
+import io.github.xhamera1.swiftcodeapi.repository.SwiftCodeInfoRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Integration tests for {@link GroupCommitWriteQueue}: concurrent writes are committed together,
+ * while every caller still receives its own success or rule violation.
+ */
+@SpringBootTest(properties = {
+        "swift-api.group-commit.enabled=true",
+        "swift-api.group-commit.max-batch-size=32",
+        "swift-api.group-commit.max-wait=200ms"
+})
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class GroupCommitWriteQueueIntegrationTest {
+
+    private static final int WRITERS = 10;
+
+    @Autowired
+    private GroupCommitWriteQueue groupCommitWriteQueue;
+
+    @Autowired
+    private SwiftCodeInfoRepository repository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private static SwiftCodeRequest request(String swiftCode, String countryISO2, boolean isHeadquarter) {
+        SwiftCodeRequest request = new SwiftCodeRequest();
+        request.setSwiftCode(swiftCode);
+        request.setBankName("Group Commit Bank");
+        request.setAddress("Address");
+        request.setCountryISO2(countryISO2);
+        request.setCountryName("POLAND");
+        request.setIsHeadquarter(isHeadquarter);
+        return request;
+    }
+
+    @Test
+    @DisplayName("Concurrent adds should be committed in shared transactions, each caller getting its own result")
+    void concurrentAdds_shouldBeGroupCommittedWithIndividualOutcomes() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(WRITERS + 2);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<CompletableFuture<MessageResponse>> adds = new ArrayList<>();
+            for (int i = 0; i < WRITERS; i++) {
+                SwiftCodeRequest request = request(String.format("GRPCPLPW%03d", i), "PL", false);
+                adds.add(CompletableFuture.supplyAsync(() -> {
+                    awaitQuietly(start);
+                    return groupCommitWriteQueue.addSwiftCode(request);
+                }, executor));
+            }
+            CompletableFuture<MessageResponse> duplicate = CompletableFuture.supplyAsync(() -> {
+                awaitQuietly(start);
+                return groupCommitWriteQueue.addSwiftCode(request("AAISALTRXXX", "AL", true));
+            }, executor);
+            CompletableFuture<MessageResponse> inconsistent = CompletableFuture.supplyAsync(() -> {
+                awaitQuietly(start);
+                return groupCommitWriteQueue.addSwiftCode(request("GRPCPLPWXXX", "DE", true));
+            }, executor);
+            start.countDown();
+
+            for (int i = 0; i < WRITERS; i++) {
+                assertThat(adds.get(i).get(10, TimeUnit.SECONDS).getMessage())
+                        .isEqualTo(String.format("SWIFT code 'GRPCPLPW%03d' added successfully.", i));
+            }
+            Exception duplicateFailure = assertThrows(Exception.class, () -> duplicate.get(10, TimeUnit.SECONDS));
+            assertThat(duplicateFailure).hasCauseInstanceOf(ResourceAlreadyExistsException.class);
+            Exception inconsistentFailure = assertThrows(Exception.class, () -> inconsistent.get(10, TimeUnit.SECONDS));
+            assertThat(inconsistentFailure).hasCauseInstanceOf(InconsistentSwiftDataException.class);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(repository.count()).isEqualTo(8 + WRITERS);
+        DistributionSummary batchSizes = meterRegistry.get("swift.api.group.commit.batch.size").summary();
+        assertThat(batchSizes.totalAmount()).isEqualTo(WRITERS + 2);
+        assertThat(batchSizes.count()).isLessThan(WRITERS + 2);
+    }
+
+    @Test
+    @DisplayName("Writes on the same code should be applied in order, in separate batches")
+    void writesOnSameCode_shouldSeeEachOther() {
+        groupCommitWriteQueue.addSwiftCode(request("GRPCPLPWXXX", "PL", true));
+
+        assertThrows(ResourceAlreadyExistsException.class,
+                () -> groupCommitWriteQueue.addSwiftCode(request("grpcplpwxxx", "PL", true)));
+        assertThat(groupCommitWriteQueue.deleteSwiftCode("GRPCPLPWXXX").getMessage())
+                .isEqualTo("SWIFT code 'GRPCPLPWXXX' deleted successfully.");
+        assertThrows(ResourceNotFoundException.class, () -> groupCommitWriteQueue.deleteSwiftCode("GRPCPLPWXXX"));
+        assertThat(repository.existsBySwiftCodeIgnoreCase("GRPCPLPWXXX")).isFalse();
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
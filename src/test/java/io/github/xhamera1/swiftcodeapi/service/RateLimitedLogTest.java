@@ -0,0 +1,61 @@
+package io.github.xhamera1.swiftcodeapi.service;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimitedLogTest {
+
+    private final Logger logger = (Logger) LoggerFactory.getLogger(RateLimitedLogTest.class);
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+
+    @BeforeEach
+    void setUp() {
+        appender.start();
+        logger.addAppender(appender);
+    }
+
+    @AfterEach
+    void tearDown() {
+        logger.detachAppender(appender);
+    }
+
+    @Test
+    @DisplayName("Only the first message of an interval should be written, the others counted")
+    void warn_withinInterval_shouldWriteOnce() {
+        RateLimitedLog log = new RateLimitedLog(logger, Duration.ofHours(1));
+
+        log.warn("SWIFT code '{}' not found.", "AAAAAAAAXXX");
+        log.warn("SWIFT code '{}' not found.", "BBBBBBBBXXX");
+        log.warn("SWIFT code '{}' not found.", "CCCCCCCCXXX");
+
+        assertThat(appender.list).extracting(ILoggingEvent::getFormattedMessage)
+                .containsExactly("SWIFT code 'AAAAAAAAXXX' not found.");
+        assertThat(log.getSuppressedCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("The next written message should report how many messages were suppressed")
+    void warn_afterInterval_shouldReportSuppressedCount() throws InterruptedException {
+        RateLimitedLog log = new RateLimitedLog(logger, Duration.ofMillis(20));
+
+        log.warn("SWIFT code '{}' not found.", "AAAAAAAAXXX");
+        log.warn("SWIFT code '{}' not found.", "BBBBBBBBXXX");
+        Thread.sleep(40);
+        log.warn("SWIFT code '{}' not found.", "CCCCCCCCXXX");
+
+        assertThat(appender.list).extracting(ILoggingEvent::getFormattedMessage).containsExactly(
+                "SWIFT code 'AAAAAAAAXXX' not found.",
+                "SWIFT code 'CCCCCCCCXXX' not found. (1 similar message(s) suppressed)");
+        assertThat(log.getSuppressedCount()).isZero();
+    }
+}
@@ -0,0 +1,113 @@
+package io.github.xhamera1.swiftcodeapi.service;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import javax.sql.DataSource;
+import java.lang.management.ManagementFactory;
+
+/**
+ * Measures what a single service call costs: the JDBC statements it executes, the Hibernate work behind them
+ * and the bytes it allocates on the calling thread. Import {@link Config} into a {@code @SpringBootTest} and
+ * enable {@code hibernate.generate_statistics} to use it.
+ */
+class ServiceCallMeter {
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private final StatementCountingDataSource dataSource;
+    private final Statistics statistics;
+
+    ServiceCallMeter(StatementCountingDataSource dataSource, Statistics statistics) {
+        this.dataSource = dataSource;
+        this.statistics = statistics;
+    }
+
+    /**
+     * The cost of one call.
+     *
+     * @param statements      JDBC statements executed by the calling thread
+     * @param queries         JPQL, criteria and native queries run by Hibernate
+     * @param entityLoads     entities materialized from result sets
+     * @param entityFetches   entities fetched lazily, one statement each (the N+1 pattern)
+     * @param allocatedBytes  bytes allocated by the calling thread
+     */
+    record Measurement(int statements, long queries, long entityLoads, long entityFetches, long allocatedBytes) {
+    }
+
+    /**
+     * Runs the call once and measures it. Hibernate statistics are global, so no other thread should use
+     * the persistence context meanwhile; the statement count and allocations only cover the calling thread.
+     */
+    Measurement measure(Runnable call) {
+        statistics.clear();
+        dataSource.startCounting();
+        long allocatedBefore = THREADS.getCurrentThreadAllocatedBytes();
+        long allocatedBytes;
+        int statements;
+        try {
+            call.run();
+            allocatedBytes = THREADS.getCurrentThreadAllocatedBytes() - allocatedBefore;
+        } finally {
+            statements = dataSource.stopCounting();
+        }
+        return new Measurement(statements, statistics.getQueryExecutionCount(), statistics.getEntityLoadCount(),
+                statistics.getEntityFetchCount(), allocatedBytes);
+    }
+
+    /**
+     * Warms the call up, then measures it {@code runs} times. The statement and Hibernate counts are those of the
+     * last run; the allocation is the smallest seen, which filters out one-off costs such as lazy initialization.
+     *
+     * @param call the call, given the number of the run so writes can use a different entry each time
+     */
+    Measurement measureSteadyState(int warmupRuns, int runs, IntCall call) {
+        for (int run = 0; run < warmupRuns; run++) {
+            call.run(run);
+        }
+        long minAllocated = Long.MAX_VALUE;
+        Measurement measurement = null;
+        for (int run = warmupRuns; run < warmupRuns + runs; run++) {
+            int current = run;
+            measurement = measure(() -> call.run(current));
+            minAllocated = Math.min(minAllocated, measurement.allocatedBytes());
+        }
+        return new Measurement(measurement.statements(), measurement.queries(), measurement.entityLoads(),
+                measurement.entityFetches(), minAllocated);
+    }
+
+    @FunctionalInterface
+    interface IntCall {
+        void run(int run);
+    }
+
+    /**
+     * Wraps the application's data source in a {@link StatementCountingDataSource} and provides the meter.
+     */
+    @TestConfiguration
+    static class Config {
+
+        @Bean
+        static BeanPostProcessor statementCountingDataSourcePostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource && !(bean instanceof StatementCountingDataSource)
+                            ? new StatementCountingDataSource(dataSource)
+                            : bean;
+                }
+            };
+        }
+
+        @Bean
+        ServiceCallMeter serviceCallMeter(DataSource dataSource, EntityManagerFactory entityManagerFactory) {
+            return new ServiceCallMeter((StatementCountingDataSource) dataSource,
+                    entityManagerFactory.unwrap(SessionFactory.class).getStatistics());
+        }
+    }
+}
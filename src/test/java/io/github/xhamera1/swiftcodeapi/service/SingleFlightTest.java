@@ -0,0 +1,110 @@
+package io.github.xhamera1.swiftcodeapi.service;
+
+import io.github.xhamera1.swiftcodeapi.exceptions.ResourceNotFoundException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SingleFlightTest {
+
+    private static final int CALLERS = 8;
+
+    private final SingleFlight<String, String> singleFlight = new SingleFlight<>();
+    private final ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Starts {@link #CALLERS} concurrent calls for the same key. The leader blocks in the computation until
+     * all other callers have joined the flight, so the test does not depend on thread scheduling.
+     */
+    private List<Future<String>> runConcurrently(AtomicInteger computations, RuntimeException failure) throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(executor.submit(() -> singleFlight.execute("AAISALTRXXX", () -> {
+                computations.incrementAndGet();
+                awaitQuietly(release);
+                if (failure != null) {
+                    throw failure;
+                }
+                return "result";
+            })));
+        }
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (singleFlight.getCoalescedCount() < CALLERS - 1 && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        release.countDown();
+        return results;
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Test
+    @DisplayName("Concurrent calls for the same key should share one computation and its result")
+    void execute_concurrentSameKey_shouldRunOnce() throws Exception {
+        AtomicInteger computations = new AtomicInteger();
+
+        for (Future<String> result : runConcurrently(computations, null)) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("result");
+        }
+
+        assertThat(computations).hasValue(1);
+        assertThat(singleFlight.getExecutionCount()).isEqualTo(1);
+        assertThat(singleFlight.getCoalescedCount()).isEqualTo(CALLERS - 1);
+        assertThat(singleFlight.getInFlightCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Concurrent calls for the same key should all receive the exception of the shared computation")
+    void execute_concurrentSameKeyFailing_shouldPropagateSameException() throws Exception {
+        AtomicInteger computations = new AtomicInteger();
+        ResourceNotFoundException failure = new ResourceNotFoundException("SWIFT code 'AAISALTRXXX' not found.");
+
+        for (Future<String> result : runConcurrently(computations, failure)) {
+            Exception thrown = assertThrows(Exception.class, () -> result.get(5, TimeUnit.SECONDS));
+            assertSame(failure, thrown.getCause());
+        }
+        assertThat(computations).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Sequential calls should not be coalesced; results are not cached")
+    void execute_sequentialCalls_shouldRunEachTime() {
+        AtomicInteger computations = new AtomicInteger();
+
+        singleFlight.execute("PL", () -> "first" + computations.incrementAndGet());
+        String second = singleFlight.execute("PL", () -> "second" + computations.incrementAndGet());
+        assertThrows(IllegalStateException.class, () -> singleFlight.execute("PL", () -> {
+            throw new IllegalStateException("failed");
+        }));
+
+        assertThat(second).isEqualTo("second2");
+        assertThat(singleFlight.getExecutionCount()).isEqualTo(3);
+        assertThat(singleFlight.getCoalescedCount()).isZero();
+        assertThat(singleFlight.getInFlightCount()).isZero();
+    }
+}
@@ -0,0 +1,93 @@
+package io.github.xhamera1.swiftcodeapi.service;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Wraps the application's {@link DataSource} and counts the statements executed by the current thread while
+ * counting is switched on, whatever issued them: Hibernate, native repository queries or {@code JdbcTemplate}.
+ * A JDBC batch counts as one statement, since it is sent in one round trip.
+ * Statements of other threads (e.g. scheduled refreshes) are ignored.
+ */
+class StatementCountingDataSource extends DelegatingDataSource {
+
+    private final ThreadLocal<int[]> counter = new ThreadLocal<>();
+
+    StatementCountingDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    /**
+     * Starts counting the statements executed by the current thread from zero.
+     */
+    void startCounting() {
+        counter.set(new int[1]);
+    }
+
+    /**
+     * Stops counting for the current thread.
+     *
+     * @return the number of statements executed since {@link #startCounting()}
+     */
+    int stopCounting() {
+        int[] count = counter.get();
+        counter.remove();
+        return count == null ? 0 : count[0];
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(super.getConnection(username, password));
+    }
+
+    private Connection wrap(Connection connection) {
+        return proxy(Connection.class, connection, (method, result) -> switch (result) {
+            case CallableStatement statement -> proxy(CallableStatement.class, statement, this::countExecution);
+            case PreparedStatement statement -> proxy(PreparedStatement.class, statement, this::countExecution);
+            case Statement statement -> proxy(Statement.class, statement, this::countExecution);
+            case null, default -> result;
+        });
+    }
+
+    private Object countExecution(Method method, Object result) {
+        int[] count = counter.get();
+        if (count != null && method.getName().startsWith("execute")) {
+            count[0]++;
+        }
+        return result;
+    }
+
+    /**
+     * Creates a proxy delegating every call to {@code target} and passing the result through {@code onResult}.
+     */
+    private static <T> T proxy(Class<T> type, T target, ResultHandler onResult) {
+        InvocationHandler handler = (proxy, method, args) -> {
+            try {
+                return onResult.handle(method, method.invoke(target, args));
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        };
+        return type.cast(Proxy.newProxyInstance(StatementCountingDataSource.class.getClassLoader(), new Class<?>[]{type}, handler));
+    }
+
+    @FunctionalInterface
+    private interface ResultHandler {
+        Object handle(Method method, Object result);
+    }
+}
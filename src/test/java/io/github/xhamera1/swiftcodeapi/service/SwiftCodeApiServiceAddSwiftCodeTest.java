@@ -1,9 +1,17 @@
 package io.github.xhamera1.swiftcodeapi.service;
 
+import io.github.xhamera1.swiftcodeapi.changefeed.SwiftCodeChangeFeed;
+import io.github.xhamera1.swiftcodeapi.config.DeploymentProperties;
+import io.github.xhamera1.swiftcodeapi.dataset.DatasetVersions;
 import io.github.xhamera1.swiftcodeapi.dto.MessageResponse;
 import io.github.xhamera1.swiftcodeapi.dto.SwiftCodeRequest;
 import io.github.xhamera1.swiftcodeapi.exceptions.InconsistentSwiftDataException;
 import io.github.xhamera1.swiftcodeapi.exceptions.ResourceAlreadyExistsException;
+import io.github.xhamera1.swiftcodeapi.index.ColumnarSwiftCodeStore;
+import io.github.xhamera1.swiftcodeapi.index.CountrySummaryIndex;
+import io.github.xhamera1.swiftcodeapi.index.SwiftCodeIndexManager;
+import io.github.xhamera1.swiftcodeapi.index.SwiftCodeLookupIndex;
+import io.github.xhamera1.swiftcodeapi.index.SwiftCodePrefixIndex;
 import io.github.xhamera1.swiftcodeapi.model.SwiftCodeInfo;
 import io.github.xhamera1.swiftcodeapi.repository.SwiftCodeInfoRepository;
 import org.junit.jupiter.api.DisplayName;
@@ -15,9 +23,13 @@ import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.sql.SQLException;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -26,6 +38,30 @@ class SwiftCodeApiServiceAddSwiftCodeTest {
     @Mock
     private SwiftCodeInfoRepository repository;
 
+    @Mock
+    private SwiftCodeIndexManager indexManager;
+
+    @Mock
+    private SwiftCodePrefixIndex prefixIndex;
+
+    @Mock
+    private CountrySummaryIndex countrySummaryIndex;
+
+    @Mock
+    private SwiftCodeLookupIndex lookupIndex;
+
+    @Mock
+    private ColumnarSwiftCodeStore columnarStore;
+
+    @Mock
+    private SwiftCodeChangeFeed changeFeed;
+
+    @Mock
+    private DatasetVersions datasetVersions;
+
+    @Mock
+    private DeploymentProperties deploymentProperties;
+
     @InjectMocks
     private SwiftCodeApiService swiftCodeApiService;
 
@@ -38,20 +74,20 @@ class SwiftCodeApiServiceAddSwiftCodeTest {
     void addSwiftCode_shouldAddValidHqFromCsvSuccessfully() {
         SwiftCodeRequest request = createRequest("AAISALTRXXX", "UNITED BANK OF ALBANIA SH.A", "HQ Addr", "AL", "ALBANIA", true);
         String expectedSwiftCodeUpper = "AAISALTRXXX";
-        when(repository.existsBySwiftCodeIgnoreCase(expectedSwiftCodeUpper)).thenReturn(false);
-        when(repository.save(any(SwiftCodeInfo.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(repository.insert(any(SwiftCodeInfo.class))).thenReturn(1);
 
         MessageResponse response = swiftCodeApiService.addSwiftCode(request);
 
 
         assertEquals("SWIFT code 'AAISALTRXXX' added successfully.", response.getMessage());
-        verify(repository).existsBySwiftCodeIgnoreCase(expectedSwiftCodeUpper);
-        verify(repository).save(swiftCodeInfoCaptor.capture());
+        verify(repository).insert(swiftCodeInfoCaptor.capture());
         SwiftCodeInfo savedEntity = swiftCodeInfoCaptor.getValue();
         assertEquals(expectedSwiftCodeUpper, savedEntity.getSwiftCode());
         assertEquals("AL", savedEntity.getCountryISO2());
         assertEquals("ALBANIA", savedEntity.getCountryName());
         assertTrue(savedEntity.isHeadquarter());
+        verify(changeFeed).recordAdded(savedEntity);
+        verify(indexManager).entryAdded(savedEntity);
     }
 
     @Test
@@ -59,14 +95,12 @@ class SwiftCodeApiServiceAddSwiftCodeTest {
     void addSwiftCode_shouldAddValid8CharBranchFromCsvSuccessfully() {
         SwiftCodeRequest request = createRequest("DEUTPLPX", "DEUTSCHE BANK POLSKA S.A.", "Branch Addr", "PL", "POLAND", false);
         String expectedSwiftCodeUpper = "DEUTPLPX";
-        when(repository.existsBySwiftCodeIgnoreCase(expectedSwiftCodeUpper)).thenReturn(false);
-        when(repository.save(any(SwiftCodeInfo.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(repository.insert(any(SwiftCodeInfo.class))).thenReturn(1);
 
         MessageResponse response = swiftCodeApiService.addSwiftCode(request);
 
         assertEquals("SWIFT code 'DEUTPLPX' added successfully.", response.getMessage());
-        verify(repository).existsBySwiftCodeIgnoreCase(expectedSwiftCodeUpper);
-        verify(repository).save(swiftCodeInfoCaptor.capture());
+        verify(repository).insert(swiftCodeInfoCaptor.capture());
         SwiftCodeInfo savedEntity = swiftCodeInfoCaptor.getValue();
         assertEquals(expectedSwiftCodeUpper, savedEntity.getSwiftCode());
         assertEquals("PL", savedEntity.getCountryISO2());
@@ -79,14 +113,12 @@ class SwiftCodeApiServiceAddSwiftCodeTest {
     void addSwiftCode_shouldAddValid11CharBranchFromCsvSuccessfully() {
         SwiftCodeRequest request = createRequest("TESTPLPWABC", "TEST BANK NON-HQ", "Test Addr", "PL", "POLAND", false);
         String expectedSwiftCodeUpper = "TESTPLPWABC";
-        when(repository.existsBySwiftCodeIgnoreCase(expectedSwiftCodeUpper)).thenReturn(false);
-        when(repository.save(any(SwiftCodeInfo.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(repository.insert(any(SwiftCodeInfo.class))).thenReturn(1);
 
         MessageResponse response = swiftCodeApiService.addSwiftCode(request);
 
         assertEquals("SWIFT code 'TESTPLPWABC' added successfully.", response.getMessage());
-        verify(repository).existsBySwiftCodeIgnoreCase(expectedSwiftCodeUpper);
-        verify(repository).save(swiftCodeInfoCaptor.capture());
+        verify(repository).insert(swiftCodeInfoCaptor.capture());
         SwiftCodeInfo savedEntity = swiftCodeInfoCaptor.getValue();
         assertEquals(expectedSwiftCodeUpper, savedEntity.getSwiftCode());
         assertEquals("PL", savedEntity.getCountryISO2());
@@ -102,14 +134,12 @@ class SwiftCodeApiServiceAddSwiftCodeTest {
         String expectedCountryIsoUpper = "PL";
         String expectedCountryNameUpper = "POLAND";
 
-        when(repository.existsBySwiftCodeIgnoreCase(expectedSwiftCodeUpperTrimmed)).thenReturn(false);
-        when(repository.save(any(SwiftCodeInfo.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(repository.insert(any(SwiftCodeInfo.class))).thenReturn(1);
 
         MessageResponse response = swiftCodeApiService.addSwiftCode(request);
 
         assertEquals("SWIFT code '" + expectedSwiftCodeUpperTrimmed + "' added successfully.", response.getMessage());
-        verify(repository).existsBySwiftCodeIgnoreCase(expectedSwiftCodeUpperTrimmed);
-        verify(repository).save(swiftCodeInfoCaptor.capture());
+        verify(repository).insert(swiftCodeInfoCaptor.capture());
         SwiftCodeInfo savedEntity = swiftCodeInfoCaptor.getValue();
         assertEquals(expectedSwiftCodeUpperTrimmed, savedEntity.getSwiftCode());
         assertEquals(expectedCountryIsoUpper, savedEntity.getCountryISO2());
@@ -120,19 +150,37 @@ class SwiftCodeApiServiceAddSwiftCodeTest {
 
 
     @Test
-    @DisplayName("Should throw ResourceAlreadyExistsException when SWIFT code (AAISALTRXXX) already exists")
+    @DisplayName("Should throw ResourceAlreadyExistsException when the INSERT of SWIFT code (AAISALTRXXX) hits the primary key")
     void addSwiftCode_shouldThrowResourceAlreadyExistsException_whenCodeFromCsvExists() {
         SwiftCodeRequest request = createRequest("AAISALTRXXX", "UNITED BANK OF ALBANIA SH.A", "HQ Addr", "AL", "ALBANIA", true);
         String existingSwiftCodeUpper = "AAISALTRXXX";
-        when(repository.existsBySwiftCodeIgnoreCase(existingSwiftCodeUpper)).thenReturn(true);
+        when(repository.insert(any(SwiftCodeInfo.class))).thenThrow(new DataIntegrityViolationException("duplicate",
+                new SQLException("Unique index or primary key violation", "23505")));
 
         ResourceAlreadyExistsException exception = assertThrows(ResourceAlreadyExistsException.class, () -> {
             swiftCodeApiService.addSwiftCode(request);
         });
 
         assertEquals("SWIFT code '" + existingSwiftCodeUpper + "' already exists.", exception.getMessage());
-        verify(repository).existsBySwiftCodeIgnoreCase(existingSwiftCodeUpper);
-        verify(repository, never()).save(any(SwiftCodeInfo.class));
+        verify(repository).insert(any(SwiftCodeInfo.class));
+        verify(repository, never()).existsBySwiftCodeIgnoreCase(anyString());
+        verify(changeFeed, never()).recordAdded(any(SwiftCodeInfo.class));
+        verify(indexManager, never()).entryAdded(any(SwiftCodeInfo.class));
+    }
+
+    @Test
+    @DisplayName("Should rethrow integrity violations other than a duplicate key")
+    void addSwiftCode_shouldRethrowOtherIntegrityViolations() {
+        SwiftCodeRequest request = createRequest("AAISALTRXXX", "UNITED BANK OF ALBANIA SH.A", "HQ Addr", "AL", "ALBANIA", true);
+        DataIntegrityViolationException notNullViolation = new DataIntegrityViolationException("not null",
+                new SQLException("NULL not allowed for column", "23502"));
+        when(repository.insert(any(SwiftCodeInfo.class))).thenThrow(notNullViolation);
+
+        DataIntegrityViolationException exception = assertThrows(DataIntegrityViolationException.class,
+                () -> swiftCodeApiService.addSwiftCode(request));
+
+        assertSame(notNullViolation, exception);
+        verify(indexManager, never()).entryAdded(any(SwiftCodeInfo.class));
     }
 
     @Test
@@ -143,7 +191,6 @@ class SwiftCodeApiServiceAddSwiftCodeTest {
         String providedCountryIsoUpper = "BD";
         String embeddedCountryCode = "BG";
 
-        when(repository.existsBySwiftCodeIgnoreCase(swiftCodeUpper)).thenReturn(false);
 
         InconsistentSwiftDataException exception = assertThrows(InconsistentSwiftDataException.class, () -> {
             swiftCodeApiService.addSwiftCode(request);
@@ -154,8 +201,7 @@ class SwiftCodeApiServiceAddSwiftCodeTest {
                 embeddedCountryCode, swiftCodeUpper, providedCountryIsoUpper
         );
         assertEquals(expectedMessage, exception.getMessage());
-        verify(repository).existsBySwiftCodeIgnoreCase(swiftCodeUpper);
-        verify(repository, never()).save(any(SwiftCodeInfo.class));
+        verify(repository, never()).insert(any(SwiftCodeInfo.class));
     }
 
     @Test
@@ -163,15 +209,13 @@ class SwiftCodeApiServiceAddSwiftCodeTest {
     void addSwiftCode_shouldThrowInconsistentDataException_whenIsHqFalseAndCodeIsHqCsv() {
         SwiftCodeRequest request = createRequest("AAISALTRXXX", "Bank", "Addr", "AL", "ALBANIA", false);
         String swiftCodeUpper = "AAISALTRXXX";
-        when(repository.existsBySwiftCodeIgnoreCase(swiftCodeUpper)).thenReturn(false);
 
         InconsistentSwiftDataException exception = assertThrows(InconsistentSwiftDataException.class, () -> {
             swiftCodeApiService.addSwiftCode(request);
         });
 
         assertEquals("Provided 'isHeadquarter' flag (false) is inconsistent with the SWIFT code format (AAISALTRXXX).", exception.getMessage());
-        verify(repository).existsBySwiftCodeIgnoreCase(swiftCodeUpper);
-        verify(repository, never()).save(any(SwiftCodeInfo.class));
+        verify(repository, never()).insert(any(SwiftCodeInfo.class));
     }
 
     @Test
@@ -179,15 +223,13 @@ class SwiftCodeApiServiceAddSwiftCodeTest {
     void addSwiftCode_shouldThrowInconsistentDataException_whenIsHqTrueAndCodeIsBranch11Csv() {
         SwiftCodeRequest request = createRequest("TESTPLPWABC", "Bank", "Addr", "PL", "POLAND", true);
         String swiftCodeUpper = "TESTPLPWABC";
-        when(repository.existsBySwiftCodeIgnoreCase(swiftCodeUpper)).thenReturn(false);
 
         InconsistentSwiftDataException exception = assertThrows(InconsistentSwiftDataException.class, () -> {
             swiftCodeApiService.addSwiftCode(request);
         });
 
         assertEquals("Provided 'isHeadquarter' flag (true) is inconsistent with the SWIFT code format (TESTPLPWABC).", exception.getMessage());
-        verify(repository).existsBySwiftCodeIgnoreCase(swiftCodeUpper);
-        verify(repository, never()).save(any(SwiftCodeInfo.class));
+        verify(repository, never()).insert(any(SwiftCodeInfo.class));
     }
 
     @Test
@@ -195,15 +237,13 @@ class SwiftCodeApiServiceAddSwiftCodeTest {
     void addSwiftCode_shouldThrowInconsistentDataException_whenIsHqTrueAndCodeIsBranch8Csv() {
         SwiftCodeRequest request = createRequest("DEUTPLPX", "Bank", "Addr", "PL", "POLAND", true);
         String swiftCodeUpper = "DEUTPLPX";
-        when(repository.existsBySwiftCodeIgnoreCase(swiftCodeUpper)).thenReturn(false);
 
         InconsistentSwiftDataException exception = assertThrows(InconsistentSwiftDataException.class, () -> {
             swiftCodeApiService.addSwiftCode(request);
         });
 
         assertEquals("Provided 'isHeadquarter' flag (true) is inconsistent with the SWIFT code format (DEUTPLPX).", exception.getMessage());
-        verify(repository).existsBySwiftCodeIgnoreCase(swiftCodeUpper);
-        verify(repository, never()).save(any(SwiftCodeInfo.class));
+        verify(repository, never()).insert(any(SwiftCodeInfo.class));
     }
 
     private SwiftCodeRequest createRequest(String swiftCode, String bankName, String address, String countryISO2, String countryName, boolean isHeadquarter) {
@@ -224,12 +264,11 @@ class SwiftCodeApiServiceAddSwiftCodeTest {
         SwiftCodeRequest requestWithNullAddress = createRequest(swiftCode, "Null Addr Bank", null, "PL", "POLAND", true);
         String expectedSwiftCodeUpper = swiftCode.toUpperCase();
 
-        when(repository.existsBySwiftCodeIgnoreCase(expectedSwiftCodeUpper)).thenReturn(false);
-        when(repository.save(any(SwiftCodeInfo.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(repository.insert(any(SwiftCodeInfo.class))).thenReturn(1);
 
         swiftCodeApiService.addSwiftCode(requestWithNullAddress);
 
-        verify(repository).save(swiftCodeInfoCaptor.capture());
+        verify(repository).insert(swiftCodeInfoCaptor.capture());
         SwiftCodeInfo savedEntity = swiftCodeInfoCaptor.getValue();
         assertNull(savedEntity.getAddress(), "Address in saved entity should be null when request address is null");
         assertEquals(expectedSwiftCodeUpper, savedEntity.getSwiftCode());
@@ -244,12 +283,11 @@ class SwiftCodeApiServiceAddSwiftCodeTest {
         SwiftCodeRequest requestWithEmptyAddress = createRequest(swiftCode, "Empty Addr Bank", "   ", "PL", "POLAND", true);
         String expectedSwiftCodeUpper = swiftCode.toUpperCase();
 
-        when(repository.existsBySwiftCodeIgnoreCase(expectedSwiftCodeUpper)).thenReturn(false);
-        when(repository.save(any(SwiftCodeInfo.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(repository.insert(any(SwiftCodeInfo.class))).thenReturn(1);
 
         swiftCodeApiService.addSwiftCode(requestWithEmptyAddress);
 
-        verify(repository).save(swiftCodeInfoCaptor.capture());
+        verify(repository).insert(swiftCodeInfoCaptor.capture());
         SwiftCodeInfo savedEntity = swiftCodeInfoCaptor.getValue();
         assertEquals("   ", savedEntity.getAddress(), "Address in saved entity should be preserved whitespace when request address is whitespace");
         assertEquals(expectedSwiftCodeUpper, savedEntity.getSwiftCode());
@@ -0,0 +1,90 @@
+package io.github.xhamera1.swiftcodeapi.service;
+
+import io.github.xhamera1.swiftcodeapi.dto.SwiftCodeRequest;
+import io.github.xhamera1.swiftcodeapi.exceptions.ResourceAlreadyExistsException;
+import io.github.xhamera1.swiftcodeapi.index.SwiftCodeLookupIndex;
+import io.github.xhamera1.swiftcodeapi.model.SwiftCode;
+import io.github.xhamera1.swiftcodeapi.repository.SwiftCodeInfoRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration test verifying that concurrent POSTs of the same SWIFT code create exactly one entry:
+ * the primary key, not a preceding existence check, decides which request wins.
+ */
+@SpringBootTest
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class SwiftCodeApiServiceConcurrentAddIntegrationTest {
+
+    private static final int THREADS = 16;
+
+    @Autowired
+    private SwiftCodeApiService swiftCodeApiService;
+
+    @Autowired
+    private SwiftCodeInfoRepository repository;
+
+    @Autowired
+    private SwiftCodeLookupIndex lookupIndex;
+
+    @Test
+    @DisplayName("Concurrent adds of the same code should yield one success and conflicts for all other requests")
+    void concurrentAddsOfSameCode_shouldCreateExactlyOneEntry() throws Exception {
+        SwiftCodeRequest request = new SwiftCodeRequest();
+        request.setSwiftCode("RACEPLPWXXX");
+        request.setBankName("Race Bank");
+        request.setAddress("Address");
+        request.setCountryISO2("PL");
+        request.setCountryName("POLAND");
+        request.setIsHeadquarter(true);
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < THREADS; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return swiftCodeApiService.addSwiftCode(request);
+                }));
+            }
+            start.countDown();
+
+            int successes = 0;
+            int conflicts = 0;
+            for (Future<?> result : results) {
+                try {
+                    result.get(30, TimeUnit.SECONDS);
+                    successes++;
+                } catch (ExecutionException e) {
+                    assertThat(e.getCause()).isInstanceOf(ResourceAlreadyExistsException.class)
+                            .hasMessage("SWIFT code 'RACEPLPWXXX' already exists.");
+                    conflicts++;
+                }
+            }
+
+            assertThat(successes).isEqualTo(1);
+            assertThat(conflicts).isEqualTo(THREADS - 1);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(repository.findBySwiftCode("RACEPLPWXXX")).isPresent();
+        assertThat(repository.count()).isEqualTo(9);
+        assertThat(lookupIndex.contains(SwiftCode.pack("RACEPLPWXXX"))).isTrue();
+    }
+}
@@ -1,7 +1,15 @@
 package io.github.xhamera1.swiftcodeapi.service;
 
+import io.github.xhamera1.swiftcodeapi.changefeed.SwiftCodeChangeFeed;
+import io.github.xhamera1.swiftcodeapi.config.DeploymentProperties;
+import io.github.xhamera1.swiftcodeapi.dataset.DatasetVersions;
 import io.github.xhamera1.swiftcodeapi.dto.MessageResponse;
 import io.github.xhamera1.swiftcodeapi.exceptions.ResourceNotFoundException;
+import io.github.xhamera1.swiftcodeapi.index.ColumnarSwiftCodeStore;
+import io.github.xhamera1.swiftcodeapi.index.CountrySummaryIndex;
+import io.github.xhamera1.swiftcodeapi.index.SwiftCodeIndexManager;
+import io.github.xhamera1.swiftcodeapi.index.SwiftCodeLookupIndex;
+import io.github.xhamera1.swiftcodeapi.index.SwiftCodePrefixIndex;
 import io.github.xhamera1.swiftcodeapi.model.SwiftCodeInfo;
 import io.github.xhamera1.swiftcodeapi.repository.SwiftCodeInfoRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -25,6 +33,30 @@ class SwiftCodeApiServiceDeleteSwiftCodeTest {
     @Mock
     private SwiftCodeInfoRepository repository;
 
+    @Mock
+    private SwiftCodeIndexManager indexManager;
+
+    @Mock
+    private SwiftCodePrefixIndex prefixIndex;
+
+    @Mock
+    private CountrySummaryIndex countrySummaryIndex;
+
+    @Mock
+    private SwiftCodeLookupIndex lookupIndex;
+
+    @Mock
+    private ColumnarSwiftCodeStore columnarStore;
+
+    @Mock
+    private SwiftCodeChangeFeed changeFeed;
+
+    @Mock
+    private DatasetVersions datasetVersions;
+
+    @Mock
+    private DeploymentProperties deploymentProperties;
+
     @InjectMocks
     private SwiftCodeApiService swiftCodeApiService;
 
@@ -46,7 +78,7 @@ class SwiftCodeApiServiceDeleteSwiftCodeTest {
         String swiftCodeToDelete = existingHqAl.getSwiftCode();
         String expectedProcessedCode = swiftCodeToDelete.toUpperCase();
 
-        when(repository.findBySwiftCodeIgnoreCase(expectedProcessedCode)).thenReturn(Optional.of(existingHqAl));
+        when(repository.findBySwiftCode(expectedProcessedCode)).thenReturn(Optional.of(existingHqAl));
         doNothing().when(repository).delete(any(SwiftCodeInfo.class));
 
         MessageResponse response = swiftCodeApiService.deleteSwiftCode(swiftCodeToDelete);
@@ -54,10 +86,12 @@ class SwiftCodeApiServiceDeleteSwiftCodeTest {
         assertNotNull(response);
         assertEquals("SWIFT code '" + expectedProcessedCode + "' deleted successfully.", response.getMessage());
 
-        verify(repository).findBySwiftCodeIgnoreCase(expectedProcessedCode);
+        verify(repository).findBySwiftCode(expectedProcessedCode);
         verify(repository).delete(swiftCodeInfoCaptor.capture());
 
         assertSame(existingHqAl, swiftCodeInfoCaptor.getValue(), "Should delete the exact entity object found");
+        verify(changeFeed).recordDeleted("AAISALTRXXX");
+        verify(indexManager).entryDeleted(existingHqAl);
     }
 
     @Test
@@ -66,7 +100,7 @@ class SwiftCodeApiServiceDeleteSwiftCodeTest {
         String swiftCodeLower = "deutplpx";
         String expectedProcessedCode = swiftCodeLower.toUpperCase();
 
-        when(repository.findBySwiftCodeIgnoreCase(expectedProcessedCode)).thenReturn(Optional.of(existingBranchPl8));
+        when(repository.findBySwiftCode(expectedProcessedCode)).thenReturn(Optional.of(existingBranchPl8));
         doNothing().when(repository).delete(existingBranchPl8);
 
         MessageResponse response = swiftCodeApiService.deleteSwiftCode(swiftCodeLower);
@@ -74,7 +108,7 @@ class SwiftCodeApiServiceDeleteSwiftCodeTest {
         assertNotNull(response);
         assertEquals("SWIFT code '" + expectedProcessedCode + "' deleted successfully.", response.getMessage());
 
-        verify(repository).findBySwiftCodeIgnoreCase(expectedProcessedCode);
+        verify(repository).findBySwiftCode(expectedProcessedCode);
         verify(repository).delete(existingBranchPl8);
     }
 
@@ -84,7 +118,7 @@ class SwiftCodeApiServiceDeleteSwiftCodeTest {
         String swiftCodeWithSpaces = "  AAISALTRXXX  ";
         String expectedProcessedCode = swiftCodeWithSpaces.trim().toUpperCase();
 
-        when(repository.findBySwiftCodeIgnoreCase(expectedProcessedCode)).thenReturn(Optional.of(existingHqAl));
+        when(repository.findBySwiftCode(expectedProcessedCode)).thenReturn(Optional.of(existingHqAl));
         doNothing().when(repository).delete(existingHqAl);
 
         MessageResponse response = swiftCodeApiService.deleteSwiftCode(swiftCodeWithSpaces);
@@ -92,7 +126,7 @@ class SwiftCodeApiServiceDeleteSwiftCodeTest {
         assertNotNull(response);
         assertEquals("SWIFT code '" + expectedProcessedCode + "' deleted successfully.", response.getMessage());
 
-        verify(repository).findBySwiftCodeIgnoreCase(expectedProcessedCode);
+        verify(repository).findBySwiftCode(expectedProcessedCode);
         verify(repository).delete(existingHqAl);
     }
 
@@ -103,7 +137,7 @@ class SwiftCodeApiServiceDeleteSwiftCodeTest {
         String nonExistentSwiftCode = "NONEXISTPLX";
         String expectedProcessedCode = nonExistentSwiftCode.toUpperCase();
 
-        when(repository.findBySwiftCodeIgnoreCase(expectedProcessedCode)).thenReturn(Optional.empty());
+        when(repository.findBySwiftCode(expectedProcessedCode)).thenReturn(Optional.empty());
 
         ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class, () -> {
             swiftCodeApiService.deleteSwiftCode(nonExistentSwiftCode);
@@ -111,8 +145,9 @@ class SwiftCodeApiServiceDeleteSwiftCodeTest {
 
         assertEquals("SWIFT code '" + expectedProcessedCode + "' not found, cannot delete.", exception.getMessage());
 
-        verify(repository).findBySwiftCodeIgnoreCase(expectedProcessedCode);
+        verify(repository).findBySwiftCode(expectedProcessedCode);
         verify(repository, never()).delete(any(SwiftCodeInfo.class));
+        verify(changeFeed, never()).recordDeleted(anyString());
     }
 
     @Test
@@ -121,7 +156,7 @@ class SwiftCodeApiServiceDeleteSwiftCodeTest {
         String invalidFormatSwiftCode = "AFAAUYM1X";
         String expectedProcessedCode = invalidFormatSwiftCode.toUpperCase();
 
-        when(repository.findBySwiftCodeIgnoreCase(expectedProcessedCode)).thenReturn(Optional.empty());
+        when(repository.findBySwiftCode(expectedProcessedCode)).thenReturn(Optional.empty());
 
         ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class, () -> {
             swiftCodeApiService.deleteSwiftCode(invalidFormatSwiftCode);
@@ -129,8 +164,9 @@ class SwiftCodeApiServiceDeleteSwiftCodeTest {
 
         assertEquals("SWIFT code '" + expectedProcessedCode + "' not found, cannot delete.", exception.getMessage());
 
-        verify(repository).findBySwiftCodeIgnoreCase(expectedProcessedCode);
+        verify(repository).findBySwiftCode(expectedProcessedCode);
         verify(repository, never()).delete(any(SwiftCodeInfo.class));
+        verify(changeFeed, never()).recordDeleted(anyString());
     }
 
     @Test
@@ -140,7 +176,7 @@ class SwiftCodeApiServiceDeleteSwiftCodeTest {
         String expectedProcessedCode = invalidFormatSwiftCode.toUpperCase();
         SwiftCodeInfo foundInvalidEntity = new SwiftCodeInfo(expectedProcessedCode, "Invalid Bank", null, null, "PL", "POLAND", false);
 
-        when(repository.findBySwiftCodeIgnoreCase(expectedProcessedCode)).thenReturn(Optional.of(foundInvalidEntity));
+        when(repository.findBySwiftCode(expectedProcessedCode)).thenReturn(Optional.of(foundInvalidEntity));
         doNothing().when(repository).delete(foundInvalidEntity);
 
         MessageResponse response = swiftCodeApiService.deleteSwiftCode(invalidFormatSwiftCode);
@@ -148,7 +184,7 @@ class SwiftCodeApiServiceDeleteSwiftCodeTest {
         assertNotNull(response);
         assertEquals("SWIFT code '" + expectedProcessedCode + "' deleted successfully.", response.getMessage());
 
-        verify(repository).findBySwiftCodeIgnoreCase(expectedProcessedCode);
+        verify(repository).findBySwiftCode(expectedProcessedCode);
         verify(repository).delete(foundInvalidEntity);
     }
 }
\ No newline at end of file
@@ -1,7 +1,13 @@
 package io.github.xhamera1.swiftcodeapi.service;
 
+import io.github.xhamera1.swiftcodeapi.config.DeploymentProperties;
 import io.github.xhamera1.swiftcodeapi.dto.CountrySwiftCodesResponse;
 import io.github.xhamera1.swiftcodeapi.dto.SwiftCodeResponse;
+import io.github.xhamera1.swiftcodeapi.index.ColumnarSwiftCodeStore;
+import io.github.xhamera1.swiftcodeapi.index.CountrySummaryIndex;
+import io.github.xhamera1.swiftcodeapi.index.SwiftCodeIndexManager;
+import io.github.xhamera1.swiftcodeapi.index.SwiftCodeLookupIndex;
+import io.github.xhamera1.swiftcodeapi.index.SwiftCodePrefixIndex;
 import io.github.xhamera1.swiftcodeapi.model.SwiftCodeInfo;
 import io.github.xhamera1.swiftcodeapi.repository.SwiftCodeInfoRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -30,6 +36,24 @@ class SwiftCodeApiServiceGetCodesByCountryTest {
     @Mock
     private SwiftCodeInfoRepository repository;
 
+    @Mock
+    private SwiftCodeIndexManager indexManager;
+
+    @Mock
+    private SwiftCodePrefixIndex prefixIndex;
+
+    @Mock
+    private CountrySummaryIndex countrySummaryIndex;
+
+    @Mock
+    private SwiftCodeLookupIndex lookupIndex;
+
+    @Mock
+    private ColumnarSwiftCodeStore columnarStore;
+
+    @Mock
+    private DeploymentProperties deploymentProperties;
+
     @InjectMocks
     private SwiftCodeApiService swiftCodeApiService;
 
@@ -0,0 +1,96 @@
+package io.github.xhamera1.swiftcodeapi.service;
+
+import io.github.xhamera1.swiftcodeapi.config.DeploymentProperties;
+import io.github.xhamera1.swiftcodeapi.dto.SwiftCodePrefixResponse;
+import io.github.xhamera1.swiftcodeapi.exceptions.ServiceNotReadyException;
+import io.github.xhamera1.swiftcodeapi.index.ColumnarSwiftCodeStore;
+import io.github.xhamera1.swiftcodeapi.index.CountrySummaryIndex;
+import io.github.xhamera1.swiftcodeapi.index.SwiftCodeIndexManager;
+import io.github.xhamera1.swiftcodeapi.index.SwiftCodeLookupIndex;
+import io.github.xhamera1.swiftcodeapi.index.SwiftCodePrefixIndex;
+import io.github.xhamera1.swiftcodeapi.repository.SwiftCodeInfoRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SwiftCodeApiServiceGetCodesByPrefixTest {
+
+    @Mock
+    private SwiftCodeInfoRepository repository;
+
+    @Mock
+    private SwiftCodeIndexManager indexManager;
+
+    @Mock
+    private SwiftCodePrefixIndex prefixIndex;
+
+    @Mock
+    private CountrySummaryIndex countrySummaryIndex;
+
+    @Mock
+    private SwiftCodeLookupIndex lookupIndex;
+
+    @Mock
+    private ColumnarSwiftCodeStore columnarStore;
+
+    @Mock
+    private DeploymentProperties deploymentProperties;
+
+    @InjectMocks
+    private SwiftCodeApiService swiftCodeApiService;
+
+
+    @Test
+    @DisplayName("Should normalize the prefix and serve matches from the prefix index without touching the repository")
+    void getSwiftCodesByPrefix_shouldUseIndexOnly() {
+        when(indexManager.isReady()).thenReturn(true);
+        when(prefixIndex.findByPrefix("BANKPL", 10)).thenReturn(List.of("BANKPLPW", "BANKPLPWXXX"));
+
+        SwiftCodePrefixResponse response = swiftCodeApiService.getSwiftCodesByPrefix(" bankpl ", 10);
+
+        assertThat(response.getPrefix()).isEqualTo("BANKPL");
+        assertThat(response.getSwiftCodes()).containsExactly("BANKPLPW", "BANKPLPWXXX");
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    @DisplayName("Should clamp the limit to the allowed range")
+    void getSwiftCodesByPrefix_shouldClampLimit() {
+        when(indexManager.isReady()).thenReturn(true);
+        when(prefixIndex.findByPrefix("BANK", SwiftCodeApiService.MAX_PREFIX_LIMIT)).thenReturn(List.of());
+        when(prefixIndex.findByPrefix("BANK", 1)).thenReturn(List.of("BANKPLPW"));
+
+        swiftCodeApiService.getSwiftCodesByPrefix("BANK", 10_000);
+        SwiftCodePrefixResponse response = swiftCodeApiService.getSwiftCodesByPrefix("BANK", -3);
+
+        assertThat(response.getSwiftCodes()).containsExactly("BANKPLPW");
+        verify(prefixIndex).findByPrefix("BANK", SwiftCodeApiService.MAX_PREFIX_LIMIT);
+        verify(prefixIndex).findByPrefix("BANK", 1);
+    }
+
+    @Test
+    @DisplayName("Should answer 'not ready' instead of an empty result before the indexes are built")
+    void getSwiftCodesByPrefix_beforeIndexesAreBuilt_shouldThrowNotReady() {
+        assertThrows(ServiceNotReadyException.class, () -> swiftCodeApiService.getSwiftCodesByPrefix("BANKPL", 10));
+
+        verifyNoInteractions(prefixIndex, repository);
+    }
+
+    @Test
+    @DisplayName("Should throw IllegalArgumentException when the prefix is null")
+    void getSwiftCodesByPrefix_shouldThrowWhenPrefixIsNull() {
+        assertThrows(IllegalArgumentException.class, () -> swiftCodeApiService.getSwiftCodesByPrefix(null, 10));
+    }
+}
@@ -0,0 +1,79 @@
+package io.github.xhamera1.swiftcodeapi.service;
+
+import io.github.xhamera1.swiftcodeapi.config.DeploymentProperties;
+import io.github.xhamera1.swiftcodeapi.dto.CountrySummaryResponse;
+import io.github.xhamera1.swiftcodeapi.exceptions.ServiceNotReadyException;
+import io.github.xhamera1.swiftcodeapi.index.ColumnarSwiftCodeStore;
+import io.github.xhamera1.swiftcodeapi.index.CountrySummaryIndex;
+import io.github.xhamera1.swiftcodeapi.index.CountrySummaryIndex.CountrySummary;
+import io.github.xhamera1.swiftcodeapi.index.SwiftCodeIndexManager;
+import io.github.xhamera1.swiftcodeapi.index.SwiftCodeLookupIndex;
+import io.github.xhamera1.swiftcodeapi.index.SwiftCodePrefixIndex;
+import io.github.xhamera1.swiftcodeapi.repository.SwiftCodeInfoRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SwiftCodeApiServiceGetCountrySummariesTest {
+
+    @Mock
+    private SwiftCodeInfoRepository repository;
+
+    @Mock
+    private SwiftCodeIndexManager indexManager;
+
+    @Mock
+    private SwiftCodePrefixIndex prefixIndex;
+
+    @Mock
+    private CountrySummaryIndex countrySummaryIndex;
+
+    @Mock
+    private SwiftCodeLookupIndex lookupIndex;
+
+    @Mock
+    private ColumnarSwiftCodeStore columnarStore;
+
+    @Mock
+    private DeploymentProperties deploymentProperties;
+
+    @InjectMocks
+    private SwiftCodeApiService swiftCodeApiService;
+
+
+    @Test
+    @DisplayName("Should map the aggregates of the summary index without touching the repository")
+    void getCountrySummaries_shouldUseIndexOnly() {
+        when(indexManager.isReady()).thenReturn(true);
+        when(countrySummaryIndex.findAll()).thenReturn(List.of(new CountrySummary("PL", "POLAND", 5, 2)));
+
+        List<CountrySummaryResponse> summaries = swiftCodeApiService.getCountrySummaries();
+
+        assertThat(summaries).singleElement().satisfies(summary -> {
+            assertThat(summary.getCountryISO2()).isEqualTo("PL");
+            assertThat(summary.getTotalCodes()).isEqualTo(5);
+            assertThat(summary.getHeadquarterCount()).isEqualTo(2);
+            assertThat(summary.getBranchCount()).isEqualTo(3);
+        });
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    @DisplayName("Should answer 'not ready' instead of an empty list before the indexes are built")
+    void getCountrySummaries_beforeIndexesAreBuilt_shouldThrowNotReady() {
+        assertThrows(ServiceNotReadyException.class, () -> swiftCodeApiService.getCountrySummaries());
+
+        verifyNoInteractions(countrySummaryIndex, repository);
+    }
+}
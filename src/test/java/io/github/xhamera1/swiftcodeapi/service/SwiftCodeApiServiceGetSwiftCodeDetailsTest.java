@@ -1,7 +1,13 @@
 package io.github.xhamera1.swiftcodeapi.service;
 
+import io.github.xhamera1.swiftcodeapi.config.DeploymentProperties;
 import io.github.xhamera1.swiftcodeapi.dto.SwiftCodeResponse;
 import io.github.xhamera1.swiftcodeapi.exceptions.ResourceNotFoundException;
+import io.github.xhamera1.swiftcodeapi.index.ColumnarSwiftCodeStore;
+import io.github.xhamera1.swiftcodeapi.index.CountrySummaryIndex;
+import io.github.xhamera1.swiftcodeapi.index.SwiftCodeIndexManager;
+import io.github.xhamera1.swiftcodeapi.index.SwiftCodeLookupIndex;
+import io.github.xhamera1.swiftcodeapi.index.SwiftCodePrefixIndex;
 import io.github.xhamera1.swiftcodeapi.model.SwiftCodeInfo;
 import io.github.xhamera1.swiftcodeapi.repository.SwiftCodeInfoRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -29,6 +35,24 @@ class SwiftCodeApiServiceGetSwiftCodeDetailsTest {
     @Mock
     private SwiftCodeInfoRepository repository;
 
+    @Mock
+    private SwiftCodeIndexManager indexManager;
+
+    @Mock
+    private SwiftCodePrefixIndex prefixIndex;
+
+    @Mock
+    private CountrySummaryIndex countrySummaryIndex;
+
+    @Mock
+    private SwiftCodeLookupIndex lookupIndex;
+
+    @Mock
+    private ColumnarSwiftCodeStore columnarStore;
+
+    @Mock
+    private DeploymentProperties deploymentProperties;
+
     @InjectMocks
     private SwiftCodeApiService swiftCodeApiService;
 
@@ -71,8 +95,8 @@ class SwiftCodeApiServiceGetSwiftCodeDetailsTest {
         void getSwiftCodeDetails_shouldReturn11CharHqWithBranches_whenHqFoundAndBranchesExist() {
             String hqSwiftCode = hqAl.getSwiftCode();
             String hqPrefix = hqSwiftCode.substring(0, 8);
-            when(repository.findBySwiftCodeIgnoreCase(hqSwiftCode)).thenReturn(Optional.of(hqAl));
-            when(repository.findBySwiftCodeStartingWithIgnoreCaseAndSwiftCodeNotIgnoreCase(hqPrefix, hqSwiftCode))
+            when(repository.findBySwiftCode(hqSwiftCode)).thenReturn(Optional.of(hqAl));
+            when(repository.findBranches(hqPrefix, hqSwiftCode))
                     .thenReturn(Arrays.asList(branchAl1, branchAl2));
 
             SwiftCodeResponse result = swiftCodeApiService.getSwiftCodeDetails(hqSwiftCode);
@@ -101,8 +125,8 @@ class SwiftCodeApiServiceGetSwiftCodeDetailsTest {
             assertNull(branchRes2.getCountryName());
             assertFalse(branchRes2.isHeadquarter());
 
-            verify(repository).findBySwiftCodeIgnoreCase(hqSwiftCode);
-            verify(repository).findBySwiftCodeStartingWithIgnoreCaseAndSwiftCodeNotIgnoreCase(hqPrefix, hqSwiftCode);
+            verify(repository).findBySwiftCode(hqSwiftCode);
+            verify(repository).findBranches(hqPrefix, hqSwiftCode);
         }
 
         @Test
@@ -110,8 +134,8 @@ class SwiftCodeApiServiceGetSwiftCodeDetailsTest {
         void getSwiftCodeDetails_shouldReturn11CharHqWithNullBranches_whenHqFoundAndNoBranchesExist() {
             String hqSwiftCode = hqPl.getSwiftCode();
             String hqPrefix = hqSwiftCode.substring(0, 8);
-            when(repository.findBySwiftCodeIgnoreCase(hqSwiftCode)).thenReturn(Optional.of(hqPl));
-            when(repository.findBySwiftCodeStartingWithIgnoreCaseAndSwiftCodeNotIgnoreCase(hqPrefix, hqSwiftCode))
+            when(repository.findBySwiftCode(hqSwiftCode)).thenReturn(Optional.of(hqPl));
+            when(repository.findBranches(hqPrefix, hqSwiftCode))
                     .thenReturn(Collections.emptyList());
 
 
@@ -125,8 +149,8 @@ class SwiftCodeApiServiceGetSwiftCodeDetailsTest {
             assertEquals(hqPl.getCountryName(), result.getCountryName());
             assertNull(result.getBranches());
 
-            verify(repository).findBySwiftCodeIgnoreCase(hqSwiftCode);
-            verify(repository).findBySwiftCodeStartingWithIgnoreCaseAndSwiftCodeNotIgnoreCase(hqPrefix, hqSwiftCode);
+            verify(repository).findBySwiftCode(hqSwiftCode);
+            verify(repository).findBranches(hqPrefix, hqSwiftCode);
         }
 
         @Test
@@ -134,8 +158,8 @@ class SwiftCodeApiServiceGetSwiftCodeDetailsTest {
         void getSwiftCodeDetails_shouldReturn8CharHqWithBranches_when8CharIsHqAndBranchesExist() {
             String hqSwiftCode = hqPl8CharAsHq.getSwiftCode();
             String hqPrefix = hqSwiftCode;
-            when(repository.findBySwiftCodeIgnoreCase(hqSwiftCode)).thenReturn(Optional.of(hqPl8CharAsHq));
-            when(repository.findBySwiftCodeStartingWithIgnoreCaseAndSwiftCodeNotIgnoreCase(hqPrefix, hqSwiftCode))
+            when(repository.findBySwiftCode(hqSwiftCode)).thenReturn(Optional.of(hqPl8CharAsHq));
+            when(repository.findBranches(hqPrefix, hqSwiftCode))
                     .thenReturn(Arrays.asList(branchPlFor8CharHq1, branchPlFor8CharHq2));
 
             SwiftCodeResponse result = swiftCodeApiService.getSwiftCodeDetails(hqSwiftCode);
@@ -161,8 +185,8 @@ class SwiftCodeApiServiceGetSwiftCodeDetailsTest {
             assertNull(branchRes2.getCountryName());
             assertFalse(branchRes2.isHeadquarter());
 
-            verify(repository).findBySwiftCodeIgnoreCase(hqSwiftCode);
-            verify(repository).findBySwiftCodeStartingWithIgnoreCaseAndSwiftCodeNotIgnoreCase(hqPrefix, hqSwiftCode);
+            verify(repository).findBySwiftCode(hqSwiftCode);
+            verify(repository).findBranches(hqPrefix, hqSwiftCode);
         }
 
         @Test
@@ -171,8 +195,8 @@ class SwiftCodeApiServiceGetSwiftCodeDetailsTest {
             String hqSwiftCodeLower = "aaisaltrxxx";
             String hqSwiftCodeUpper = hqAl.getSwiftCode(); // AAISALTRXXX
             String hqPrefix = hqSwiftCodeUpper.substring(0, 8); // AAISALTR
-            when(repository.findBySwiftCodeIgnoreCase(hqSwiftCodeLower)).thenReturn(Optional.of(hqAl));
-            when(repository.findBySwiftCodeStartingWithIgnoreCaseAndSwiftCodeNotIgnoreCase(hqPrefix, hqSwiftCodeUpper))
+            when(repository.findBySwiftCode(hqSwiftCodeLower)).thenReturn(Optional.of(hqAl));
+            when(repository.findBranches(hqPrefix, hqSwiftCodeUpper))
                     .thenReturn(Collections.emptyList());
 
             SwiftCodeResponse result = swiftCodeApiService.getSwiftCodeDetails(hqSwiftCodeLower);
@@ -182,8 +206,8 @@ class SwiftCodeApiServiceGetSwiftCodeDetailsTest {
             assertTrue(result.isHeadquarter());
             assertNull(result.getBranches());
 
-            verify(repository).findBySwiftCodeIgnoreCase(hqSwiftCodeLower);
-            verify(repository).findBySwiftCodeStartingWithIgnoreCaseAndSwiftCodeNotIgnoreCase(hqPrefix, hqSwiftCodeUpper);
+            verify(repository).findBySwiftCode(hqSwiftCodeLower);
+            verify(repository).findBranches(hqPrefix, hqSwiftCodeUpper);
         }
     }
 
@@ -195,7 +219,7 @@ class SwiftCodeApiServiceGetSwiftCodeDetailsTest {
         @DisplayName("Should return 11-char Branch (non-XXX) details when found")
         void getSwiftCodeDetails_shouldReturn11CharNonXxxBranchDetails_whenFound() {
             String branchSwiftCode = branchPl11Char.getSwiftCode(); // TESTPLPWABC
-            when(repository.findBySwiftCodeIgnoreCase(branchSwiftCode)).thenReturn(Optional.of(branchPl11Char));
+            when(repository.findBySwiftCode(branchSwiftCode)).thenReturn(Optional.of(branchPl11Char));
 
             SwiftCodeResponse result = swiftCodeApiService.getSwiftCodeDetails(branchSwiftCode);
 
@@ -208,15 +232,15 @@ class SwiftCodeApiServiceGetSwiftCodeDetailsTest {
             assertFalse(result.isHeadquarter());
             assertNull(result.getBranches());
 
-            verify(repository).findBySwiftCodeIgnoreCase(branchSwiftCode);
-            verify(repository, never()).findBySwiftCodeStartingWithIgnoreCaseAndSwiftCodeNotIgnoreCase(anyString(), anyString());
+            verify(repository).findBySwiftCode(branchSwiftCode);
+            verify(repository, never()).findBranches(anyString(), anyString());
         }
 
         @Test
         @DisplayName("Should return 8-char Branch details when found (and treated as non-HQ)")
         void getSwiftCodeDetails_shouldReturn8CharBranchDetails_whenFoundAndIsBranch() {
             String branchSwiftCode = branchPl8Char.getSwiftCode();
-            when(repository.findBySwiftCodeIgnoreCase(branchSwiftCode)).thenReturn(Optional.of(branchPl8Char));
+            when(repository.findBySwiftCode(branchSwiftCode)).thenReturn(Optional.of(branchPl8Char));
 
             SwiftCodeResponse result = swiftCodeApiService.getSwiftCodeDetails(branchSwiftCode);
 
@@ -226,8 +250,8 @@ class SwiftCodeApiServiceGetSwiftCodeDetailsTest {
             assertEquals(branchPl8Char.getCountryName(), result.getCountryName());
             assertNull(result.getBranches());
 
-            verify(repository).findBySwiftCodeIgnoreCase(branchSwiftCode);
-            verify(repository, never()).findBySwiftCodeStartingWithIgnoreCaseAndSwiftCodeNotIgnoreCase(anyString(), anyString());
+            verify(repository).findBySwiftCode(branchSwiftCode);
+            verify(repository, never()).findBranches(anyString(), anyString());
         }
 
 
@@ -236,7 +260,7 @@ class SwiftCodeApiServiceGetSwiftCodeDetailsTest {
         void getSwiftCodeDetails_shouldReturnBranchDetails_whenInputIsMixedCase() {
             String branchSwiftCodeMixed = "dEuTpLpX";
             String branchSwiftCodeUpper = branchPl8Char.getSwiftCode();
-            when(repository.findBySwiftCodeIgnoreCase(branchSwiftCodeMixed)).thenReturn(Optional.of(branchPl8Char));
+            when(repository.findBySwiftCode(branchSwiftCodeMixed)).thenReturn(Optional.of(branchPl8Char));
 
             SwiftCodeResponse result = swiftCodeApiService.getSwiftCodeDetails(branchSwiftCodeMixed);
 
@@ -245,8 +269,8 @@ class SwiftCodeApiServiceGetSwiftCodeDetailsTest {
             assertFalse(result.isHeadquarter());
             assertNull(result.getBranches());
 
-            verify(repository).findBySwiftCodeIgnoreCase(branchSwiftCodeMixed);
-            verify(repository, never()).findBySwiftCodeStartingWithIgnoreCaseAndSwiftCodeNotIgnoreCase(anyString(), anyString());
+            verify(repository).findBySwiftCode(branchSwiftCodeMixed);
+            verify(repository, never()).findBranches(anyString(), anyString());
         }
     }
 
@@ -258,7 +282,7 @@ class SwiftCodeApiServiceGetSwiftCodeDetailsTest {
         @DisplayName("Should use 'address' field when it is not null or empty")
         void mapEntityToDto_shouldUseAddressField_whenValid() {
             String swiftCode = hqAl.getSwiftCode();
-            when(repository.findBySwiftCodeIgnoreCase(swiftCode)).thenReturn(Optional.of(hqAl));
+            when(repository.findBySwiftCode(swiftCode)).thenReturn(Optional.of(hqAl));
             SwiftCodeResponse response = swiftCodeApiService.getSwiftCodeDetails(swiftCode);
             assertEquals(hqAl.getAddress(), response.getAddress());
         }
@@ -267,7 +291,7 @@ class SwiftCodeApiServiceGetSwiftCodeDetailsTest {
         @DisplayName("Should use 'townName' field when 'address' is null")
         void mapEntityToDto_shouldUseTownNameField_whenAddressIsNull() {
             String swiftCode = branchAl2.getSwiftCode();
-            when(repository.findBySwiftCodeIgnoreCase(swiftCode)).thenReturn(Optional.of(branchAl2));
+            when(repository.findBySwiftCode(swiftCode)).thenReturn(Optional.of(branchAl2));
             SwiftCodeResponse response = swiftCodeApiService.getSwiftCodeDetails(swiftCode);
             assertEquals(branchAl2.getTownName(), response.getAddress());
         }
@@ -277,7 +301,7 @@ class SwiftCodeApiServiceGetSwiftCodeDetailsTest {
         void mapEntityToDto_shouldUseTownNameField_whenAddressIsEmpty() {
             SwiftCodeInfo entityWithEmptyAddress = new SwiftCodeInfo("TESTCODE003", "Bank", "  ", "Town For Empty", "XX", "TESTLAND", false);
             String swiftCode = entityWithEmptyAddress.getSwiftCode();
-            when(repository.findBySwiftCodeIgnoreCase(swiftCode)).thenReturn(Optional.of(entityWithEmptyAddress));
+            when(repository.findBySwiftCode(swiftCode)).thenReturn(Optional.of(entityWithEmptyAddress));
 
             SwiftCodeResponse response = swiftCodeApiService.getSwiftCodeDetails(swiftCode);
             assertEquals(entityWithEmptyAddress.getTownName(), response.getAddress());
@@ -287,7 +311,7 @@ class SwiftCodeApiServiceGetSwiftCodeDetailsTest {
         @DisplayName("Should return empty string when both 'address' and 'townName' are null")
         void mapEntityToDto_shouldReturnEmptyString_whenBothAddressAndTownNameAreNull() {
             String swiftCode = branchPlEmptyAddr.getSwiftCode();
-            when(repository.findBySwiftCodeIgnoreCase(swiftCode)).thenReturn(Optional.of(branchPlEmptyAddr));
+            when(repository.findBySwiftCode(swiftCode)).thenReturn(Optional.of(branchPlEmptyAddr));
             SwiftCodeResponse response = swiftCodeApiService.getSwiftCodeDetails(swiftCode);
             assertEquals("", response.getAddress());
         }
@@ -297,7 +321,7 @@ class SwiftCodeApiServiceGetSwiftCodeDetailsTest {
         void mapEntityToDto_shouldReturnEmptyString_whenBothAddressAndTownNameAreEmpty() {
             SwiftCodeInfo entityWithEmptyStrings = new SwiftCodeInfo("TESTCODE005", "Bank", " ", "", "XX", "TESTLAND", false);
             String swiftCode = entityWithEmptyStrings.getSwiftCode();
-            when(repository.findBySwiftCodeIgnoreCase(swiftCode)).thenReturn(Optional.of(entityWithEmptyStrings));
+            when(repository.findBySwiftCode(swiftCode)).thenReturn(Optional.of(entityWithEmptyStrings));
             SwiftCodeResponse response = swiftCodeApiService.getSwiftCodeDetails(swiftCode);
 
             assertEquals("", response.getAddress());
@@ -312,7 +336,7 @@ class SwiftCodeApiServiceGetSwiftCodeDetailsTest {
         @DisplayName("Should throw ResourceNotFoundException when SWIFT code does not exist")
         void getSwiftCodeDetails_shouldThrowResourceNotFoundException_whenCodeNotFound() {
             String nonExistentSwiftCode = "XXXXXXXXXXX";
-            when(repository.findBySwiftCodeIgnoreCase(nonExistentSwiftCode)).thenReturn(Optional.empty());
+            when(repository.findBySwiftCode(nonExistentSwiftCode)).thenReturn(Optional.empty());
 
 
             ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class, () -> {
@@ -321,8 +345,8 @@ class SwiftCodeApiServiceGetSwiftCodeDetailsTest {
 
             assertEquals("SWIFT code '" + nonExistentSwiftCode + "' not found.", exception.getMessage());
 
-            verify(repository).findBySwiftCodeIgnoreCase(nonExistentSwiftCode);
-            verify(repository, never()).findBySwiftCodeStartingWithIgnoreCaseAndSwiftCodeNotIgnoreCase(anyString(), anyString());
+            verify(repository).findBySwiftCode(nonExistentSwiftCode);
+            verify(repository, never()).findBranches(anyString(), anyString());
         }
     }
 }
\ No newline at end of file
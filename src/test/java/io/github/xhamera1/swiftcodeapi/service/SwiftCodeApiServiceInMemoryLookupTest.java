@@ -0,0 +1,191 @@
+package io.github.xhamera1.swiftcodeapi.service;
+
+import io.github.xhamera1.swiftcodeapi.changefeed.SwiftCodeChangeFeed;
+import io.github.xhamera1.swiftcodeapi.config.DeploymentProperties;
+import io.github.xhamera1.swiftcodeapi.dataset.DatasetVersions;
+import io.github.xhamera1.swiftcodeapi.dto.CountrySwiftCodesResponse;
+import io.github.xhamera1.swiftcodeapi.dto.SwiftCodeRequest;
+import io.github.xhamera1.swiftcodeapi.dto.SwiftCodeResponse;
+import io.github.xhamera1.swiftcodeapi.exceptions.ResourceAlreadyExistsException;
+import io.github.xhamera1.swiftcodeapi.exceptions.ResourceNotFoundException;
+import io.github.xhamera1.swiftcodeapi.index.ColumnarSwiftCodeStore;
+import io.github.xhamera1.swiftcodeapi.index.CountrySummaryIndex;
+import io.github.xhamera1.swiftcodeapi.index.SwiftCodeIndexManager;
+import io.github.xhamera1.swiftcodeapi.index.SwiftCodeLookupIndex;
+import io.github.xhamera1.swiftcodeapi.index.SwiftCodePrefixIndex;
+import io.github.xhamera1.swiftcodeapi.model.SwiftCodeInfo;
+import io.github.xhamera1.swiftcodeapi.repository.SwiftCodeInfoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for {@link SwiftCodeApiService} once the in-memory indexes are built:
+ * lookups, existence checks and country listings must be answered from the in-memory indexes without database queries,
+ * and deletes must not load the entry from the database first.
+ */
+@ExtendWith(MockitoExtension.class)
+class SwiftCodeApiServiceInMemoryLookupTest {
+
+    @Mock
+    private SwiftCodeInfoRepository repository;
+
+    @Mock
+    private SwiftCodeIndexManager indexManager;
+
+    @Mock
+    private SwiftCodeChangeFeed changeFeed;
+
+    @Mock
+    private DatasetVersions datasetVersions;
+
+    private SwiftCodeApiService swiftCodeApiService;
+
+    @BeforeEach
+    void setUp() {
+        List<SwiftCodeInfo> entries = List.of(
+                new SwiftCodeInfo("AAISALTRXXX", "UNITED BANK OF ALBANIA SH.A", "HQ Address", "TIRANA", "AL", "ALBANIA", true),
+                new SwiftCodeInfo("AAISALTRB02", "UBA Branch 2", null, "Tirana B2", "AL", "ALBANIA", false),
+                new SwiftCodeInfo("AAISALTRB01", "UBA Branch 1", "Branch Address 1", "Tirana B1", "AL", "ALBANIA", false),
+                new SwiftCodeInfo("DEUTPLPX", "DEUTSCHE BANK POLSKA S.A.", "FOCUS AL. ARMII LUDOWEJ 26", "WARSZAWA", "PL", "POLAND", false)
+        );
+        SwiftCodePrefixIndex prefixIndex = new SwiftCodePrefixIndex();
+        ColumnarSwiftCodeStore columnarStore = new ColumnarSwiftCodeStore();
+        SwiftCodeLookupIndex lookupIndex = new SwiftCodeLookupIndex(columnarStore);
+        prefixIndex.rebuild(entries);
+        lookupIndex.rebuild(entries);
+        columnarStore.rebuild(entries);
+        when(indexManager.isReady()).thenReturn(true);
+
+        swiftCodeApiService = new SwiftCodeApiService(repository, indexManager, prefixIndex, new CountrySummaryIndex(), lookupIndex, columnarStore, changeFeed, datasetVersions, new DeploymentProperties());
+    }
+
+    @Test
+    @DisplayName("Should return HQ details with branches in code order without querying the repository")
+    void getSwiftCodeDetails_forHq_shouldUseIndexes() {
+        SwiftCodeResponse response = swiftCodeApiService.getSwiftCodeDetails("aaisaltrxxx");
+
+        assertEquals("AAISALTRXXX", response.getSwiftCode());
+        assertEquals("ALBANIA", response.getCountryName());
+        assertThat(response.getBranches()).extracting(SwiftCodeResponse::getSwiftCode)
+                .containsExactly("AAISALTRB01", "AAISALTRB02");
+        assertEquals("Tirana B2", response.getBranches().get(1).getAddress());
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    @DisplayName("Should return branch details without querying the repository")
+    void getSwiftCodeDetails_forBranch_shouldUseIndexes() {
+        SwiftCodeResponse response = swiftCodeApiService.getSwiftCodeDetails("DEUTPLPX");
+
+        assertEquals("DEUTPLPX", response.getSwiftCode());
+        assertThat(response.getBranches()).isNull();
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    @DisplayName("Should throw ResourceNotFoundException for unknown or malformed codes without querying the repository")
+    void getSwiftCodeDetails_forUnknownCode_shouldThrowWithoutDbQuery() {
+        ResourceNotFoundException unknown = assertThrows(ResourceNotFoundException.class,
+                () -> swiftCodeApiService.getSwiftCodeDetails("NONEXISTXXX"));
+        assertThrows(ResourceNotFoundException.class, () -> swiftCodeApiService.getSwiftCodeDetails("BAD-CODE"));
+
+        assertEquals("SWIFT code 'NONEXISTXXX' not found.", unknown.getMessage());
+        assertThat(unknown.getStackTrace()).isEmpty();
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    @DisplayName("findSwiftCodeDetails() should report unknown codes with an empty result instead of an exception")
+    void findSwiftCodeDetails_forUnknownCode_shouldReturnEmpty() {
+        assertThat(swiftCodeApiService.findSwiftCodeDetails("NONEXISTXXX")).isEmpty();
+        assertThat(swiftCodeApiService.findSwiftCodeDetails("DEUTPLPX")).get()
+                .extracting(SwiftCodeResponse::getSwiftCode).isEqualTo("DEUTPLPX");
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    @DisplayName("Should detect duplicates from the index without querying the repository")
+    void addSwiftCode_shouldDetectDuplicateFromIndex() {
+        SwiftCodeRequest request = new SwiftCodeRequest();
+        request.setSwiftCode("deutplpx");
+        request.setBankName("Duplicate");
+        request.setAddress("Address");
+        request.setCountryISO2("PL");
+        request.setCountryName("POLAND");
+        request.setIsHeadquarter(false);
+
+        assertThrows(ResourceAlreadyExistsException.class, () -> swiftCodeApiService.addSwiftCode(request));
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    @DisplayName("Should delete an entry known from the index with a single DELETE and no lookup query")
+    void deleteSwiftCode_shouldDeleteByCodeWithoutLoadingEntry() {
+        when(repository.deleteBySwiftCodes(List.of("DEUTPLPX"))).thenReturn(1);
+
+        assertEquals("SWIFT code 'DEUTPLPX' deleted successfully.",
+                swiftCodeApiService.deleteSwiftCode("deutplpx").getMessage());
+
+        verify(repository).deleteBySwiftCodes(List.of("DEUTPLPX"));
+        verifyNoMoreInteractions(repository);
+        verify(changeFeed).recordDeleted("DEUTPLPX");
+    }
+
+    @Test
+    @DisplayName("Should report a code deleted concurrently as not found and record no tombstone")
+    void deleteSwiftCode_whenRowAlreadyDeleted_shouldThrowNotFound() {
+        when(repository.deleteBySwiftCodes(List.of("DEUTPLPX"))).thenReturn(0);
+
+        assertThrows(ResourceNotFoundException.class, () -> swiftCodeApiService.deleteSwiftCode("DEUTPLPX"));
+
+        verifyNoInteractions(changeFeed);
+    }
+
+    @Test
+    @DisplayName("Should reject deleting a code missing from the index without touching the repository")
+    void deleteSwiftCode_forUnknownCode_shouldThrowWithoutDbQuery() {
+        assertThrows(ResourceNotFoundException.class, () -> swiftCodeApiService.deleteSwiftCode("NONEXISTXXX"));
+
+        verifyNoInteractions(repository, changeFeed);
+    }
+
+    @Test
+    @DisplayName("Should list country codes from the columnar store without querying the repository")
+    void getSwiftCodesByCountry_shouldUseColumnarStore() {
+        CountrySwiftCodesResponse response = swiftCodeApiService.getSwiftCodesByCountry("al");
+
+        assertEquals("AL", response.getCountryISO2());
+        assertEquals("ALBANIA", response.getCountryName());
+        assertThat(response.getSwiftCodes()).extracting(SwiftCodeResponse::getSwiftCode)
+                .containsExactly("AAISALTRB01", "AAISALTRB02", "AAISALTRXXX");
+        assertEquals("Tirana B2", response.getSwiftCodes().get(1).getAddress());
+        assertThat(response.getSwiftCodes().get(2).isHeadquarter()).isTrue();
+        assertThat(response.getSwiftCodes().get(0).getCountryName()).isNull();
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    @DisplayName("Should return an empty listing for an unknown country without querying the repository")
+    void getSwiftCodesByCountry_forUnknownCountry_shouldReturnEmptyList() {
+        CountrySwiftCodesResponse response = swiftCodeApiService.getSwiftCodesByCountry("XX");
+
+        assertEquals("XX", response.getCountryISO2());
+        assertEquals("", response.getCountryName());
+        assertThat(response.getSwiftCodes()).isEmpty();
+        verifyNoInteractions(repository);
+    }
+}
@@ -0,0 +1,128 @@
+package io.github.xhamera1.swiftcodeapi.service;
+
+import io.github.xhamera1.swiftcodeapi.changefeed.SwiftCodeChangeFeed;
+import io.github.xhamera1.swiftcodeapi.config.DeploymentProperties;
+import io.github.xhamera1.swiftcodeapi.dataset.DatasetVersions;
+import io.github.xhamera1.swiftcodeapi.dto.SwiftCodeRequest;
+import io.github.xhamera1.swiftcodeapi.dto.SwiftCodeResponse;
+import io.github.xhamera1.swiftcodeapi.exceptions.ResourceNotFoundException;
+import io.github.xhamera1.swiftcodeapi.index.ColumnarSwiftCodeStore;
+import io.github.xhamera1.swiftcodeapi.index.CountrySummaryIndex;
+import io.github.xhamera1.swiftcodeapi.index.SwiftCodeIndexManager;
+import io.github.xhamera1.swiftcodeapi.index.SwiftCodeLookupIndex;
+import io.github.xhamera1.swiftcodeapi.index.SwiftCodePrefixIndex;
+import io.github.xhamera1.swiftcodeapi.model.SwiftCodeInfo;
+import io.github.xhamera1.swiftcodeapi.repository.SwiftCodeInfoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for {@link SwiftCodeApiService} with {@code swift-api.deployment.multi-instance}: the in-memory indexes of
+ * an instance miss the writes made through other instances, so single-code lookups, the duplicate check and deletes
+ * must go to the database even though the indexes are built.
+ */
+@ExtendWith(MockitoExtension.class)
+class SwiftCodeApiServiceMultiInstanceTest {
+
+    @Mock
+    private SwiftCodeInfoRepository repository;
+
+    @Mock
+    private SwiftCodeIndexManager indexManager;
+
+    @Mock
+    private SwiftCodeChangeFeed changeFeed;
+
+    @Mock
+    private DatasetVersions datasetVersions;
+
+    private SwiftCodeApiService swiftCodeApiService;
+
+    @BeforeEach
+    void setUp() {
+        // Built by this instance; the database has since been changed through another instance.
+        List<SwiftCodeInfo> entries = List.of(
+                new SwiftCodeInfo("DEUTPLPX", "DEUTSCHE BANK POLSKA S.A.", "FOCUS AL. ARMII LUDOWEJ 26", "WARSZAWA", "PL", "POLAND", false)
+        );
+        ColumnarSwiftCodeStore columnarStore = new ColumnarSwiftCodeStore();
+        SwiftCodeLookupIndex lookupIndex = new SwiftCodeLookupIndex(columnarStore);
+        lookupIndex.rebuild(entries);
+        columnarStore.rebuild(entries);
+
+        DeploymentProperties deploymentProperties = new DeploymentProperties();
+        deploymentProperties.setMultiInstance(true);
+        swiftCodeApiService = new SwiftCodeApiService(repository, indexManager, new SwiftCodePrefixIndex(), new CountrySummaryIndex(),
+                lookupIndex, columnarStore, changeFeed, datasetVersions, deploymentProperties);
+    }
+
+    @Test
+    @DisplayName("Should find a code added through another instance in the database")
+    void getSwiftCodeDetails_forCodeMissingFromLocalIndex_shouldQueryRepository() {
+        SwiftCodeInfo addedElsewhere = new SwiftCodeInfo("BREXPLPW", "MBANK S.A.", "SENATORSKA 18", "WARSZAWA", "PL", "POLAND", false);
+        when(repository.findBySwiftCode("BREXPLPW")).thenReturn(Optional.of(addedElsewhere));
+
+        SwiftCodeResponse response = swiftCodeApiService.getSwiftCodeDetails("BREXPLPW");
+
+        assertEquals("BREXPLPW", response.getSwiftCode());
+    }
+
+    @Test
+    @DisplayName("Should report a code deleted through another instance as not found")
+    void getSwiftCodeDetails_forCodeDeletedElsewhere_shouldThrowNotFound() {
+        when(repository.findBySwiftCode("DEUTPLPX")).thenReturn(Optional.empty());
+
+        assertThrows(ResourceNotFoundException.class, () -> swiftCodeApiService.getSwiftCodeDetails("DEUTPLPX"));
+    }
+
+    @Test
+    @DisplayName("Should leave the duplicate check to the INSERT instead of the local index")
+    void addSwiftCode_forCodeInLocalIndex_shouldInsert() {
+        SwiftCodeRequest request = new SwiftCodeRequest();
+        request.setSwiftCode("DEUTPLPX");
+        request.setBankName("DEUTSCHE BANK POLSKA S.A.");
+        request.setAddress("FOCUS AL. ARMII LUDOWEJ 26");
+        request.setCountryISO2("PL");
+        request.setCountryName("POLAND");
+        request.setIsHeadquarter(false);
+
+        swiftCodeApiService.addSwiftCode(request);
+
+        verify(repository).insert(any(SwiftCodeInfo.class));
+    }
+
+    @Test
+    @DisplayName("Should load the entry to delete from the database instead of the local index")
+    void deleteSwiftCode_forCodeMissingFromLocalIndex_shouldDeleteFromDatabase() {
+        SwiftCodeInfo addedElsewhere = new SwiftCodeInfo("BREXPLPW", "MBANK S.A.", "SENATORSKA 18", "WARSZAWA", "PL", "POLAND", false);
+        when(repository.findBySwiftCode("BREXPLPW")).thenReturn(Optional.of(addedElsewhere));
+
+        swiftCodeApiService.deleteSwiftCode("brexplpw");
+
+        verify(repository).delete(addedElsewhere);
+        verify(repository, never()).deleteBySwiftCodes(any());
+        verify(changeFeed).recordDeleted("BREXPLPW");
+    }
+
+    @Test
+    @DisplayName("Should serve country listings from the database")
+    void getSwiftCodesByCountry_shouldQueryRepository() {
+        when(repository.findByCountryISO2IgnoreCase("PL")).thenReturn(List.of());
+
+        assertThat(swiftCodeApiService.getSwiftCodesByCountry("pl").getSwiftCodes()).isEmpty();
+    }
+}
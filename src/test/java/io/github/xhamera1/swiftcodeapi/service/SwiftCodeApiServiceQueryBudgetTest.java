@@ -0,0 +1,173 @@
+package io.github.xhamera1.swiftcodeapi.service;
+
+import io.github.xhamera1.swiftcodeapi.changefeed.SwiftCodeChangeFeed;
+import io.github.xhamera1.swiftcodeapi.config.DeploymentProperties;
+import io.github.xhamera1.swiftcodeapi.dataset.DatasetVersions;
+import io.github.xhamera1.swiftcodeapi.dto.SwiftCodeRequest;
+import io.github.xhamera1.swiftcodeapi.index.ColumnarSwiftCodeStore;
+import io.github.xhamera1.swiftcodeapi.index.CountrySummaryIndex;
+import io.github.xhamera1.swiftcodeapi.index.SwiftCodeIndexManager;
+import io.github.xhamera1.swiftcodeapi.index.SwiftCodeLookupIndex;
+import io.github.xhamera1.swiftcodeapi.index.SwiftCodePrefixIndex;
+import io.github.xhamera1.swiftcodeapi.repository.SwiftCodeInfoRepository;
+import io.github.xhamera1.swiftcodeapi.service.ServiceCallMeter.Measurement;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Statement and allocation budgets of the service calls, guarding against regressions such as an extra SELECT
+ * in a write or a lookup turning into N+1 queries. Each call is measured with {@link ServiceCallMeter}; statement
+ * counts must match exactly, allocations (smallest of several runs after a warm-up) must stay below a ceiling
+ * with headroom for JVM and library differences.
+ * <p>
+ * Reads are measured twice: served from the in-memory indexes built at startup, and through a service whose
+ * indexes are not built, which is how requests are answered during warm-up.
+ * </p>
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import(ServiceCallMeter.Config.class)
+class SwiftCodeApiServiceQueryBudgetTest {
+
+    private static final int WARMUP_RUNS = 200;
+    private static final int WRITE_WARMUP_RUNS = 20;
+    private static final int MEASURED_RUNS = 10;
+
+    @Autowired
+    private ServiceCallMeter meter;
+
+    @Autowired
+    private SwiftCodeApiService swiftCodeApiService;
+
+    @Autowired
+    private SwiftCodeInfoRepository repository;
+
+    @Autowired
+    private SwiftCodeChangeFeed changeFeed;
+
+    @Autowired
+    private DatasetVersions datasetVersions;
+
+    private SwiftCodeApiService databaseBackedService;
+
+    @BeforeEach
+    void setUp() {
+        ColumnarSwiftCodeStore columnarStore = new ColumnarSwiftCodeStore();
+        databaseBackedService = new SwiftCodeApiService(repository, new SwiftCodeIndexManager(repository, List.of()),
+                new SwiftCodePrefixIndex(), new CountrySummaryIndex(), new SwiftCodeLookupIndex(columnarStore),
+                columnarStore, changeFeed, datasetVersions, new DeploymentProperties());
+    }
+
+    private Measurement measureRead(Runnable call) {
+        return meter.measureSteadyState(WARMUP_RUNS, MEASURED_RUNS, run -> call.run());
+    }
+
+    private static SwiftCodeRequest branchRequest(String institutionCode, int run) {
+        SwiftCodeRequest request = new SwiftCodeRequest();
+        request.setSwiftCode(institutionCode + String.format("B%02d", run));
+        request.setBankName("BUDGET TEST BANK");
+        request.setAddress("BUDGET TEST ADDRESS");
+        request.setCountryISO2("PL");
+        request.setCountryName("POLAND");
+        request.setIsHeadquarter(false);
+        return request;
+    }
+
+    private static void assertNoDatabaseWork(Measurement measurement) {
+        assertThat(measurement.statements()).as("statements").isZero();
+        assertThat(measurement.queries()).as("Hibernate queries").isZero();
+        assertThat(measurement.entityLoads()).as("entity loads").isZero();
+    }
+
+    @Test
+    @DisplayName("HQ details from the indexes should not touch the database")
+    void getSwiftCodeDetails_forHq_fromIndexes() {
+        Measurement measurement = measureRead(() -> swiftCodeApiService.getSwiftCodeDetails("AAISALTRXXX"));
+
+        assertNoDatabaseWork(measurement);
+        assertThat(measurement.allocatedBytes()).as("allocated bytes").isLessThan(16_384);
+    }
+
+    @Test
+    @DisplayName("Unknown codes and country listings from the indexes should not touch the database")
+    void unknownCodeAndCountryListing_fromIndexes() {
+        Measurement unknown = measureRead(() -> swiftCodeApiService.findSwiftCodeDetails("NONEXISTXXX"));
+        Measurement country = measureRead(() -> swiftCodeApiService.getSwiftCodesByCountry("PL"));
+
+        assertNoDatabaseWork(unknown);
+        assertThat(unknown.allocatedBytes()).as("unknown code allocated bytes").isLessThan(1_024);
+        assertNoDatabaseWork(country);
+        assertThat(country.allocatedBytes()).as("country allocated bytes").isLessThan(16_384);
+    }
+
+    @Test
+    @DisplayName("Prefix lookups and country summaries should not touch the database")
+    void prefixAndSummaries_fromIndexes() {
+        Measurement prefix = measureRead(() -> swiftCodeApiService.getSwiftCodesByPrefix("DEUT", 10));
+        Measurement summaries = measureRead(() -> swiftCodeApiService.getCountrySummaries());
+
+        assertNoDatabaseWork(prefix);
+        assertThat(prefix.allocatedBytes()).as("prefix allocated bytes").isLessThan(4_096);
+        assertNoDatabaseWork(summaries);
+        assertThat(summaries.allocatedBytes()).as("summaries allocated bytes").isLessThan(4_096);
+    }
+
+    @Test
+    @DisplayName("HQ details from the database should take 2 statements: the HQ and all its branches")
+    void getSwiftCodeDetails_forHq_fromDatabase() {
+        Measurement measurement = measureRead(() -> databaseBackedService.getSwiftCodeDetails("AAISALTRXXX"));
+
+        assertThat(measurement.statements()).as("statements").isEqualTo(2);
+        assertThat(measurement.queries()).as("Hibernate queries").isEqualTo(2);
+        assertThat(measurement.entityFetches()).as("lazy fetches").isZero();
+        assertThat(measurement.allocatedBytes()).as("allocated bytes").isLessThan(256 * 1_024);
+    }
+
+    @Test
+    @DisplayName("Branch details and country listings from the database should take 1 statement")
+    void branchDetailsAndCountryListing_fromDatabase() {
+        Measurement branch = measureRead(() -> databaseBackedService.getSwiftCodeDetails("TESTPLPWABC"));
+        Measurement country = measureRead(() -> databaseBackedService.getSwiftCodesByCountry("BG"));
+
+        assertThat(branch.statements()).as("branch statements").isEqualTo(1);
+        assertThat(branch.entityFetches()).as("branch lazy fetches").isZero();
+        assertThat(branch.allocatedBytes()).as("branch allocated bytes").isLessThan(128 * 1_024);
+        assertThat(country.statements()).as("country statements").isEqualTo(1);
+        assertThat(country.entityFetches()).as("country lazy fetches").isZero();
+        assertThat(country.entityLoads()).as("country entity loads").isEqualTo(1);
+        assertThat(country.allocatedBytes()).as("country allocated bytes").isLessThan(128 * 1_024);
+    }
+
+    @Test
+    @DisplayName("Adding a code should take 2 statements: the INSERT and its change log entry")
+    void addSwiftCode() {
+        Measurement measurement = meter.measureSteadyState(WRITE_WARMUP_RUNS, MEASURED_RUNS,
+                run -> swiftCodeApiService.addSwiftCode(branchRequest("BDGAPLPW", run)));
+
+        assertThat(measurement.statements()).as("statements").isEqualTo(2);
+        assertThat(measurement.entityLoads()).as("entity loads").isZero();
+        assertThat(measurement.allocatedBytes()).as("allocated bytes").isLessThan(384 * 1_024);
+    }
+
+    @Test
+    @DisplayName("Deleting a code should take 2 statements: the DELETE and its tombstone, without loading the entry")
+    void deleteSwiftCode() {
+        for (int run = 0; run < WRITE_WARMUP_RUNS + MEASURED_RUNS; run++) {
+            swiftCodeApiService.addSwiftCode(branchRequest("BDGDPLPW", run));
+        }
+
+        Measurement measurement = meter.measureSteadyState(WRITE_WARMUP_RUNS, MEASURED_RUNS,
+                run -> swiftCodeApiService.deleteSwiftCode("BDGDPLPW" + String.format("B%02d", run)));
+
+        assertThat(measurement.statements()).as("statements").isEqualTo(2);
+        assertThat(measurement.entityLoads()).as("entity loads").isZero();
+        assertThat(measurement.allocatedBytes()).as("allocated bytes").isLessThan(192 * 1_024);
+    }
+}
@@ -0,0 +1,135 @@
+package io.github.xhamera1.swiftcodeapi.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.xhamera1.swiftcodeapi.changefeed.SwiftCodeChangeFeed;
+import io.github.xhamera1.swiftcodeapi.dataset.DatasetVersions;
+import io.github.xhamera1.swiftcodeapi.limiter.AimdConcurrencyLimiter;
+import io.github.xhamera1.swiftcodeapi.model.SwiftCodeInfo;
+import io.github.xhamera1.swiftcodeapi.repository.SwiftCodeInfoRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.startsWith;
+import static org.mockito.Mockito.mock;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Integration tests for the streaming export ({@code GET /v1/swift-codes/export}) against the test dataset.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class SwiftCodeExporterIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private SwiftCodeExporter swiftCodeExporter;
+
+    @Autowired
+    private SwiftCodeInfoRepository repository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    @Qualifier("readConcurrencyLimiter")
+    private AimdConcurrencyLimiter readConcurrencyLimiter;
+
+    @Test
+    @DisplayName("The CSV export should be importable by DataInitializer and yield the stored entries")
+    void csvExport_shouldRoundTripThroughImporter() throws Exception {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        long exported = swiftCodeExporter.export(SwiftCodeExporter.Format.CSV, output);
+
+        List<SwiftCodeInfo> saved = new ArrayList<>();
+        long imported = new DataInitializer(mock(SwiftCodeInfoRepository.class), mock(DatasetVersions.class))
+                .importCsv(new StringReader(output.toString(StandardCharsets.UTF_8)), saved::addAll);
+
+        List<SwiftCodeInfo> stored = new ArrayList<>(repository.findAll());
+        stored.sort(Comparator.comparing(SwiftCodeInfo::getSwiftCode));
+
+        assertThat(exported).isEqualTo(stored.size());
+        assertThat(imported).isEqualTo(exported);
+        assertThat(saved)
+                .usingRecursiveFieldByFieldElementComparatorIgnoringFields("institutionCode", "datasetVersion")
+                .containsExactlyElementsOf(stored);
+    }
+
+    @Test
+    @DisplayName("GET /v1/swift-codes/export?format=ndjson should stream one JSON object per entry, in code order")
+    void ndjsonExport_shouldStreamOneObjectPerLine() throws Exception {
+        MvcResult started = mockMvc.perform(get("/v1/swift-codes/export").param("format", "ndjson"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String body = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, startsWith("application/x-ndjson")))
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"swift-codes.ndjson\""))
+                .andExpect(header().exists(SwiftCodeChangeFeed.CHANGE_SEQUENCE_HEADER))
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+        String[] lines = body.split("\n");
+        assertThat(lines).hasSize((int) repository.count());
+        JsonNode first = objectMapper.readTree(lines[0]);
+        assertThat(first.get("swiftCode").asText()).isEqualTo("AAISALTRXXX");
+        assertThat(first.get("countryISO2").asText()).isEqualTo("AL");
+        assertThat(first.get("isHeadquarter").asBoolean()).isTrue();
+        assertThat(readConcurrencyLimiter.getInFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("A client accepting gzip should get the CSV export compressed, also when the request is timed")
+    void csvExport_withGzip_shouldBeCompressed() throws Exception {
+        MvcResult started = mockMvc.perform(get("/v1/swift-codes/export")
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate")
+                        .header("X-Server-Timing", "1"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        byte[] compressed = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, startsWith("text/csv")))
+                .andExpect(header().doesNotExist("Server-Timing"))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        String csv;
+        try (GZIPInputStream input = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            csv = new String(input.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        assertThat(csv).startsWith("COUNTRY ISO2 CODE,SWIFT CODE,CODE TYPE,NAME,ADDRESS,TOWN NAME,COUNTRY NAME,TIME ZONE\r\n"
+                + "AL,AAISALTRXXX,BIC11,");
+        assertThat(csv.split("\r\n")).hasSize((int) repository.count() + 1);
+    }
+
+    @Test
+    @DisplayName("An unsupported export format should be rejected with 400")
+    void export_withUnknownFormat_shouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/v1/swift-codes/export").param("format", "xml"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Validation failed: Export format must be 'csv' or 'ndjson'"));
+    }
+}
@@ -0,0 +1,424 @@
+package io.github.xhamera1.swiftcodeapi.service;
+
+import io.github.xhamera1.swiftcodeapi.model.SwiftCodeInfo;
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVPrinter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.SplittableRandom;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Generates a synthetic SWIFT directory of any size in the layout of the import file
+ * ({@link DataInitializer#CSV_HEADER}), for benchmarks, load tests and import tests at production scale.
+ * <p>
+ * The output is deterministic: the same size and seed always give the same entries in the same order, however they
+ * are consumed. Entries are generated on the fly, so even 10M codes take constant memory. The shape follows the
+ * real directory:
+ * </p>
+ * <ul>
+ *     <li>Countries are skewed by a Zipf distribution over 40 countries: the largest has about a quarter of the
+ *     codes, the smallest a fraction of a percent.</li>
+ *     <li>Each institution has a headquarter ({@code XXX}) followed by its branches. Most have no branch; the number
+ *     of branches of the others is heavy-tailed (Pareto), up to {@value #MAX_BRANCHES}.</li>
+ *     <li>Addresses are mostly short, with a tail up to the {@value #MAX_ADDRESS_LENGTH}-character column limit
+ *     (some exactly at it) and a few empty ones. Names and addresses contain commas and apostrophes, so the CSV
+ *     needs quoting.</li>
+ * </ul>
+ * All codes are unique and pass the importer's validation. To write a file, e.g. for a load test:
+ * {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=io.github.xhamera1.swiftcodeapi.service.SyntheticSwiftDataset
+ * -Dexec.args="1000000 target/swift-1m.csv.gz"}.
+ */
+public final class SyntheticSwiftDataset {
+
+    /** Seed used when none is given. */
+    public static final long DEFAULT_SEED = 20250401L;
+    /** Length of the {@code address} column. */
+    public static final int MAX_ADDRESS_LENGTH = 512;
+    /** Upper bound for the number of branches of one institution. */
+    public static final int MAX_BRANCHES = 2_000;
+
+    private static final String ALPHANUMERIC = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZ";
+    private static final int BANK_CODES = 26 * 26 * 26 * 26;
+    private static final int LOCATION_CODES = 36 * 36;
+    private static final int BRANCH_CODES = 36 * 36 * 36;
+    private static final int HEADQUARTER_BRANCH_CODE = branchCodeIndex("XXX");
+    private static final int TOWNS_PER_COUNTRY = 64;
+
+    /** ISO code, name and time zone, largest first. */
+    private static final String[][] COUNTRIES = {
+            {"US", "UNITED STATES", "America/New_York"}, {"DE", "GERMANY", "Europe/Berlin"},
+            {"GB", "UNITED KINGDOM", "Europe/London"}, {"CN", "CHINA", "Asia/Shanghai"},
+            {"FR", "FRANCE", "Europe/Paris"}, {"IT", "ITALY", "Europe/Rome"},
+            {"JP", "JAPAN", "Asia/Tokyo"}, {"CH", "SWITZERLAND", "Europe/Zurich"},
+            {"ES", "SPAIN", "Europe/Madrid"}, {"RU", "RUSSIAN FEDERATION", "Europe/Moscow"},
+            {"BR", "BRAZIL", "America/Sao_Paulo"}, {"IN", "INDIA", "Asia/Kolkata"},
+            {"PL", "POLAND", "Europe/Warsaw"}, {"NL", "NETHERLANDS", "Europe/Amsterdam"},
+            {"AT", "AUSTRIA", "Europe/Vienna"}, {"TR", "TURKEY", "Europe/Istanbul"},
+            {"CA", "CANADA", "America/Toronto"}, {"AU", "AUSTRALIA", "Australia/Sydney"},
+            {"LU", "LUXEMBOURG", "Europe/Luxembourg"}, {"BE", "BELGIUM", "Europe/Brussels"},
+            {"SE", "SWEDEN", "Europe/Stockholm"}, {"HK", "HONG KONG", "Asia/Hong_Kong"},
+            {"SG", "SINGAPORE", "Asia/Singapore"}, {"AE", "UNITED ARAB EMIRATES", "Asia/Dubai"},
+            {"KR", "KOREA, REPUBLIC OF", "Asia/Seoul"}, {"MX", "MEXICO", "America/Mexico_City"},
+            {"ZA", "SOUTH AFRICA", "Africa/Johannesburg"}, {"CZ", "CZECHIA", "Europe/Prague"},
+            {"PT", "PORTUGAL", "Europe/Lisbon"}, {"GR", "GREECE", "Europe/Athens"},
+            {"CL", "CHILE", "America/Santiago"}, {"BG", "BULGARIA", "Europe/Sofia"},
+            {"LV", "LATVIA", "Europe/Riga"}, {"UY", "URUGUAY", "America/Montevideo"},
+            {"MT", "MALTA", "Europe/Malta"}, {"AL", "ALBANIA", "Europe/Tirane"},
+            {"MC", "MONACO", "Europe/Monaco"}, {"AW", "ARUBA", "America/Aruba"},
+            {"LI", "LIECHTENSTEIN", "Europe/Vaduz"}, {"IS", "ICELAND", "Atlantic/Reykjavik"},
+    };
+
+    private static final String[] SYLLABLES = {
+            "BA", "NO", "RI", "KA", "LE", "MO", "STA", "VEN", "DOR", "LIN", "GRA", "TES",
+            "MAR", "ZU", "PE", "RO", "VI", "SAN", "TOR", "EL", "HAV", "BURG", "MIL", "AN"};
+    private static final String[] BANK_KINDS = {
+            "BANK", "COMMERCIAL BANK", "SAVINGS BANK", "INVESTMENT BANK", "TRUST COMPANY", "SECURITIES",
+            "CAPITAL MARKETS", "COOPERATIVE BANK", "PRIVATE BANK", "BANKING CORPORATION"};
+    private static final String[] LEGAL_FORMS = {"S.A.", "AG", "LTD", "PLC", "N.V.", "SPA", "A.S.", "SH.A", "AB", "INC."};
+    private static final String[] STREET_TYPES = {"STREET", "AVENUE", "BOULEVARD", "ROAD", "SQUARE", "PLAZA", "LANE", "QUAY"};
+
+    private final int size;
+    private final long seed;
+
+    /**
+     * @param size the number of codes to generate
+     */
+    public SyntheticSwiftDataset(int size) {
+        this(size, DEFAULT_SEED);
+    }
+
+    /**
+     * @param size the number of codes to generate
+     * @param seed selects one of the datasets of that size
+     */
+    public SyntheticSwiftDataset(int size, long seed) {
+        if (size < 1) {
+            throw new IllegalArgumentException("size must be positive");
+        }
+        this.size = size;
+        this.seed = seed;
+    }
+
+    /**
+     * @return the number of codes
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return the entries, each headquarter followed by its branches, as the importer would store them
+     */
+    public Stream<SwiftCodeInfo> entries() {
+        Spliterator<SwiftCodeInfo> spliterator = Spliterators.spliterator(new Generator(), size,
+                Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL);
+        return StreamSupport.stream(spliterator, false);
+    }
+
+    /**
+     * @return the dataset as CSV in the layout of the import file, header first, generated while it is read
+     */
+    public Reader csvReader() {
+        return new CsvReader(new Generator());
+    }
+
+    /**
+     * Writes the dataset as CSV in the layout of the import file.
+     */
+    public void writeCsv(Writer writer) throws IOException {
+        csvReader().transferTo(writer);
+        writer.flush();
+    }
+
+    /**
+     * Writes a dataset to a file, gzip-compressed if its name ends with {@code .gz}, or to standard output.
+     * <p>
+     * Usage: {@code SyntheticSwiftDataset <size> [<file>] [<seed>]}
+     * </p>
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1 || args.length > 3) {
+            System.err.println("Usage: SyntheticSwiftDataset <size> [<file>] [<seed>]");
+            System.exit(2);
+        }
+        SyntheticSwiftDataset dataset = new SyntheticSwiftDataset(Integer.parseInt(args[0]),
+                args.length > 2 ? Long.parseLong(args[2]) : DEFAULT_SEED);
+        if (args.length < 2 || args[1].equals("-")) {
+            Writer writer = new OutputStreamWriter(System.out, StandardCharsets.UTF_8);
+            dataset.writeCsv(writer);
+            return;
+        }
+        Path file = Path.of(args[1]);
+        OutputStream out = Files.newOutputStream(file);
+        if (file.getFileName().toString().endsWith(".gz")) {
+            out = new GZIPOutputStream(out, 1 << 16);
+        }
+        try (Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8)) {
+            dataset.writeCsv(writer);
+        }
+        System.err.printf("Wrote %d SWIFT codes to %s%n", dataset.size(), file);
+    }
+
+    /**
+     * Generates the entries in order from a single random sequence, which makes the output deterministic.
+     * Codes are unique by construction: per country, institution number {@code n} is mapped bijectively to a bank
+     * code and a location code, and branch number {@code k} of an institution to a branch code.
+     */
+    private final class Generator implements Iterator<SwiftCodeInfo> {
+
+        private final SplittableRandom random = new SplittableRandom(seed);
+        private final double[] cumulativeCountryWeights = new double[COUNTRIES.length];
+        private final int[] institutionsPerCountry = new int[COUNTRIES.length];
+        private final String[][] towns = new String[COUNTRIES.length][TOWNS_PER_COUNTRY];
+        private int generated;
+
+        private int country;
+        private String institutionCode;
+        private String bankName;
+        private int branchCount;
+        private int branchesGenerated;
+        private int branchSalt;
+
+        Generator() {
+            double total = 0;
+            for (int rank = 0; rank < COUNTRIES.length; rank++) {
+                total += 1.0 / (rank + 1);
+                cumulativeCountryWeights[rank] = total;
+            }
+            for (int rank = 0; rank < COUNTRIES.length; rank++) {
+                cumulativeCountryWeights[rank] /= total;
+            }
+            SplittableRandom townRandom = new SplittableRandom(seed ^ 0x5DEECE66DL);
+            for (String[] countryTowns : towns) {
+                for (int town = 0; town < TOWNS_PER_COUNTRY; town++) {
+                    countryTowns[town] = townRandom.nextInt(6) == 0
+                            ? pick(townRandom, "NEW ", "SAINT ", "PORT ", "EAST ", "ST. ") + word(townRandom, 2, 3)
+                            : word(townRandom, 2, 4);
+                }
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return generated < size;
+        }
+
+        @Override
+        public SwiftCodeInfo next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            generated++;
+            if (branchesGenerated < branchCount) {
+                branchesGenerated++;
+                return entry(institutionCode + branchCode(branchesGenerated), false);
+            }
+            startInstitution();
+            return entry(institutionCode + "XXX", true);
+        }
+
+        private void startInstitution() {
+            double countryDraw = random.nextDouble();
+            country = 0;
+            while (country < COUNTRIES.length - 1 && cumulativeCountryWeights[country] < countryDraw) {
+                country++;
+            }
+            int number = institutionsPerCountry[country]++;
+            int bankIndex = number % BANK_CODES;
+            // 7919 is coprime with 26^4, so the scrambling is a bijection on the bank codes of a country.
+            int scrambledBank = (int) ((bankIndex * 7919L + country * 104_729L) % BANK_CODES);
+            int locationIndex = (number / BANK_CODES + scrambledBank * 31) % LOCATION_CODES;
+            institutionCode = letters(scrambledBank) + COUNTRIES[country][0]
+                    + ALPHANUMERIC.charAt(locationIndex / 36) + ALPHANUMERIC.charAt(locationIndex % 36);
+            bankName = bankName();
+            branchCount = branchCount();
+            branchesGenerated = 0;
+            branchSalt = random.nextInt(BRANCH_CODES);
+        }
+
+        /**
+         * Most institutions have no branches; the others follow a Pareto distribution (shape 1.16, scale 1.5).
+         */
+        private int branchCount() {
+            if (random.nextDouble() < 0.6) {
+                return 0;
+            }
+            double pareto = 1.5 / Math.pow(1 - random.nextDouble(), 1 / 1.16);
+            return (int) Math.min(MAX_BRANCHES, Math.max(1, pareto));
+        }
+
+        /**
+         * Maps branch number {@code k >= 1} to a branch code. 997 is coprime with 36^3, so the mapping is a
+         * bijection; the one number that would map to {@code XXX} takes the code of number 0, which is never used.
+         */
+        private String branchCode(int k) {
+            int index = (int) ((k * 997L + branchSalt) % BRANCH_CODES);
+            if (index == HEADQUARTER_BRANCH_CODE) {
+                index = branchSalt;
+            }
+            return "" + ALPHANUMERIC.charAt(index / 1296) + ALPHANUMERIC.charAt(index / 36 % 36) + ALPHANUMERIC.charAt(index % 36);
+        }
+
+        private SwiftCodeInfo entry(String swiftCode, boolean headquarter) {
+            String[] countryTowns = towns[country];
+            // Cubing a uniform draw skews towns towards the first ones, like capitals and financial centres.
+            String town = countryTowns[(int) (TOWNS_PER_COUNTRY * Math.pow(random.nextDouble(), 3))];
+            return new SwiftCodeInfo(swiftCode, bankName, address(town), town,
+                    COUNTRIES[country][0], COUNTRIES[country][1], headquarter);
+        }
+
+        private String bankName() {
+            StringBuilder name = new StringBuilder();
+            if (random.nextInt(5) == 0) {
+                name.append("BANK OF ").append(word(random, 2, 4));
+            } else {
+                name.append(word(random, 2, 4));
+                if (random.nextBoolean()) {
+                    name.append(' ').append(word(random, 1, 3));
+                }
+                name.append(' ').append(pick(random, BANK_KINDS));
+            }
+            if (random.nextInt(3) == 0) {
+                name.append(random.nextBoolean() ? ", " : " ").append(pick(random, LEGAL_FORMS));
+            }
+            return name.toString();
+        }
+
+        /**
+         * Builds an address of a drawn length: 1% empty, 89% as composed (about 30 to 70 characters),
+         * 9% padded to 100-400 characters and 1% to 400-512, a quarter of those exactly at the limit.
+         */
+        private String address(String town) {
+            double draw = random.nextDouble();
+            if (draw < 0.01) {
+                return null;
+            }
+            StringBuilder address = new StringBuilder()
+                    .append(1 + random.nextInt(250)).append(' ')
+                    .append(random.nextInt(8) == 0 ? word(random, 1, 2) + "'S " : "")
+                    .append(word(random, 2, 3)).append(' ').append(pick(random, STREET_TYPES)).append(", ")
+                    .append(town).append(", ").append(10_000 + random.nextInt(90_000));
+            int length;
+            if (draw < 0.90) {
+                return address.toString();
+            } else if (draw < 0.99) {
+                length = 100 + random.nextInt(301);
+            } else {
+                length = random.nextInt(4) == 0 ? MAX_ADDRESS_LENGTH : 400 + random.nextInt(MAX_ADDRESS_LENGTH - 399);
+            }
+            while (address.length() < length) {
+                address.append(", ").append(switch (random.nextInt(6)) {
+                    case 0 -> "FLOOR " + (1 + random.nextInt(40));
+                    case 1 -> "BUILDING " + word(random, 2, 3);
+                    case 2 -> word(random, 2, 3) + " BUSINESS CENTRE";
+                    case 3 -> "TOWER " + (1 + random.nextInt(9));
+                    case 4 -> "P.O. BOX " + (100 + random.nextInt(9_900));
+                    default -> word(random, 2, 3) + " DISTRICT";
+                });
+            }
+            address.setLength(length);
+            // The importer trims values, so the last character must not be blank.
+            char last = address.charAt(length - 1);
+            if (last == ' ' || last == ',') {
+                address.setCharAt(length - 1, 'A');
+            }
+            return address.toString();
+        }
+    }
+
+    /**
+     * Renders the generated entries as CSV while they are read, one record at a time.
+     */
+    private static final class CsvReader extends Reader {
+
+        private final Iterator<SwiftCodeInfo> entries;
+        private final StringBuilder buffer = new StringBuilder();
+        private final CSVPrinter printer;
+        private int position;
+
+        CsvReader(Iterator<SwiftCodeInfo> entries) {
+            this.entries = entries;
+            try {
+                this.printer = new CSVPrinter(buffer, CSVFormat.DEFAULT.builder().setHeader(DataInitializer.CSV_HEADER).build());
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        @Override
+        public int read(char[] target, int offset, int length) throws IOException {
+            if (length == 0) {
+                return 0;
+            }
+            if (position == buffer.length()) {
+                if (!entries.hasNext()) {
+                    return -1;
+                }
+                buffer.setLength(0);
+                position = 0;
+                SwiftCodeInfo entry = entries.next();
+                String swiftCode = entry.getSwiftCode();
+                printer.printRecord(entry.getCountryISO2(), swiftCode, "BIC11", entry.getBankName(), entry.getAddress(),
+                        entry.getTownName(), entry.getCountryName(), timeZone(entry.getCountryISO2()));
+            }
+            int count = Math.min(length, buffer.length() - position);
+            buffer.getChars(position, position + count, target, offset);
+            position += count;
+            return count;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    private static String timeZone(String countryIso2) {
+        for (String[] country : COUNTRIES) {
+            if (country[0].equals(countryIso2)) {
+                return country[2];
+            }
+        }
+        return null;
+    }
+
+    private static String letters(int index) {
+        char[] letters = new char[4];
+        for (int i = 3; i >= 0; i--) {
+            letters[i] = (char) ('A' + index % 26);
+            index /= 26;
+        }
+        return new String(letters);
+    }
+
+    private static int branchCodeIndex(String code) {
+        return ALPHANUMERIC.indexOf(code.charAt(0)) * 1296 + ALPHANUMERIC.indexOf(code.charAt(1)) * 36 + ALPHANUMERIC.indexOf(code.charAt(2));
+    }
+
+    private static String word(SplittableRandom random, int minSyllables, int maxSyllables) {
+        StringBuilder word = new StringBuilder();
+        int syllables = minSyllables + random.nextInt(maxSyllables - minSyllables + 1);
+        for (int i = 0; i < syllables; i++) {
+            word.append(pick(random, SYLLABLES));
+        }
+        return word.toString();
+    }
+
+    private static String pick(SplittableRandom random, String... values) {
+        return values[random.nextInt(values.length)];
+    }
+}
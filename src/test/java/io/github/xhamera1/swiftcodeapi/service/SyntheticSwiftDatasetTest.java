@@ -0,0 +1,108 @@
+package io.github.xhamera1.swiftcodeapi.service;
+
+import io.github.xhamera1.swiftcodeapi.dataset.DatasetVersions;
+import io.github.xhamera1.swiftcodeapi.model.SwiftCodeInfo;
+import io.github.xhamera1.swiftcodeapi.repository.SwiftCodeInfoRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Tests for {@link SyntheticSwiftDataset}: the output must be reproducible, importable without a rejected record,
+ * and shaped like the real directory.
+ */
+class SyntheticSwiftDatasetTest {
+
+    private static final int SIZE = 100_000;
+
+    private final DataInitializer dataInitializer =
+            new DataInitializer(mock(SwiftCodeInfoRepository.class), mock(DatasetVersions.class));
+
+    private List<SwiftCodeInfo> importDataset(SyntheticSwiftDataset dataset) throws IOException {
+        List<SwiftCodeInfo> imported = new ArrayList<>(dataset.size());
+        dataInitializer.importCsv(dataset.csvReader(), imported::addAll);
+        return imported;
+    }
+
+    @Test
+    @DisplayName("The same size and seed should always give the same CSV, another seed a different one")
+    void csv_shouldBeDeterministic() throws IOException {
+        assertThat(csv(new SyntheticSwiftDataset(5_000, 42))).isEqualTo(csv(new SyntheticSwiftDataset(5_000, 42)));
+        assertThat(csv(new SyntheticSwiftDataset(5_000, 42))).isNotEqualTo(csv(new SyntheticSwiftDataset(5_000, 43)));
+    }
+
+    @Test
+    @DisplayName("Every generated record should be imported, with unique codes matching the generated entries")
+    void csv_shouldBeImportedCompletely() throws IOException {
+        SyntheticSwiftDataset dataset = new SyntheticSwiftDataset(SIZE);
+
+        List<SwiftCodeInfo> imported = importDataset(dataset);
+
+        assertThat(imported).hasSize(SIZE);
+        assertThat(imported.stream().map(SwiftCodeInfo::getSwiftCode).distinct().count()).isEqualTo(SIZE);
+        assertThat(imported).isEqualTo(dataset.entries().toList());
+    }
+
+    @Test
+    @DisplayName("Branches should follow their headquarter, most institutions having none and a few very many")
+    void entries_shouldHaveSkewedBranchFanOut() {
+        List<SwiftCodeInfo> entries = new SyntheticSwiftDataset(SIZE).entries().toList();
+        String currentInstitution = null;
+        int misplacedBranches = 0;
+        for (SwiftCodeInfo entry : entries) {
+            String institution = entry.getSwiftCode().substring(0, 8);
+            if (entry.isHeadquarter()) {
+                currentInstitution = institution;
+            } else if (!institution.equals(currentInstitution)) {
+                misplacedBranches++;
+            }
+        }
+        Map<String, Long> codesPerInstitution = entries.stream()
+                .collect(Collectors.groupingBy(entry -> entry.getSwiftCode().substring(0, 8), Collectors.counting()));
+
+        assertThat(misplacedBranches).isZero();
+        long withoutBranches = codesPerInstitution.values().stream().filter(count -> count == 1).count();
+        long maxCodes = codesPerInstitution.values().stream().mapToLong(Long::longValue).max().orElseThrow();
+        assertThat(withoutBranches).isGreaterThan(codesPerInstitution.size() / 2);
+        assertThat(maxCodes).isGreaterThan(200);
+    }
+
+    @Test
+    @DisplayName("Countries should be skewed and addresses should reach, but not exceed, the column limit")
+    void entries_shouldHaveSkewedCountriesAndLongAddresses() {
+        List<SwiftCodeInfo> entries = new SyntheticSwiftDataset(SIZE).entries().toList();
+
+        Map<String, Long> perCountry = entries.stream()
+                .collect(Collectors.groupingBy(SwiftCodeInfo::getCountryISO2, Collectors.counting()));
+        long largest = perCountry.values().stream().max(Comparator.naturalOrder()).orElseThrow();
+        long smallest = perCountry.values().stream().min(Comparator.naturalOrder()).orElseThrow();
+        assertThat(perCountry).hasSize(40);
+        assertThat(largest).isGreaterThan(SIZE / 5);
+        assertThat(largest).isGreaterThan(20 * smallest);
+
+        Map<Integer, Long> addressLengths = entries.stream()
+                .map(entry -> entry.getAddress() == null ? 0 : entry.getAddress().length())
+                .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+        int maxLength = addressLengths.keySet().stream().max(Comparator.naturalOrder()).orElseThrow();
+        assertThat(maxLength).isEqualTo(SyntheticSwiftDataset.MAX_ADDRESS_LENGTH);
+        assertThat(addressLengths.get(SyntheticSwiftDataset.MAX_ADDRESS_LENGTH)).isGreaterThan(100);
+        assertThat(addressLengths.get(0)).isGreaterThan(500);
+    }
+
+    private static String csv(SyntheticSwiftDataset dataset) throws IOException {
+        StringWriter writer = new StringWriter();
+        dataset.writeCsv(writer);
+        return writer.toString();
+    }
+}
@@ -0,0 +1,250 @@
+package io.github.xhamera1.swiftcodeapi.sharding;
+
+import io.github.xhamera1.swiftcodeapi.changefeed.SwiftCodeChangeFeed;
+import io.github.xhamera1.swiftcodeapi.dataset.DatasetVersions;
+import io.github.xhamera1.swiftcodeapi.repository.SwiftCodeInfoRepository;
+import io.github.xhamera1.swiftcodeapi.service.SwiftCodeExporter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import javax.sql.DataSource;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Integration tests for the country-sharded persistence with three in-memory H2 databases: Poland in
+ * {@code east}, Bulgaria and Malta in {@code south}, every other country in the default shard {@code main}.
+ * The startup import of the test CSV (8 entries) is spread as 4 / 2 / 2.
+ */
+@SpringBootTest(properties = {
+        "swift-api.sharding.enabled=true",
+        "swift-api.sharding.default-shard=main",
+        "swift-api.sharding.shards.main.url=jdbc:h2:mem:main-${random.uuid};DB_CLOSE_DELAY=-1",
+        "swift-api.sharding.shards.east.url=jdbc:h2:mem:east-${random.uuid};DB_CLOSE_DELAY=-1",
+        "swift-api.sharding.shards.east.countries=PL",
+        "swift-api.sharding.shards.south.url=jdbc:h2:mem:south-${random.uuid};DB_CLOSE_DELAY=-1",
+        "swift-api.sharding.shards.south.countries=BG,MT"
+})
+@AutoConfigureMockMvc
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class ShardedPersistenceIntegrationTest {
+
+    private static final String NEW_POLISH_BRANCH = """
+            {"swiftCode": "DEUTPLPXABC", "bankName": "DEUTSCHE BANK POLSKA S.A.", "address": "NEW BRANCH",
+             "countryISO2": "PL", "countryName": "POLAND", "isHeadquarter": false}
+            """;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private SwiftCodeInfoRepository repository;
+
+    @Autowired
+    private SwiftCodeExporter swiftCodeExporter;
+
+    @Autowired
+    private ShardRoutingDataSource shardRoutingDataSource;
+
+    @Autowired
+    private DatasetVersions datasetVersions;
+
+    private JdbcTemplate shard(String name) {
+        return new JdbcTemplate((DataSource) shardRoutingDataSource.getResolvedDataSources().get(name));
+    }
+
+    private List<String> activeCodesOf(String name) {
+        return shard(name).queryForList("SELECT swift_code FROM swift_codes WHERE dataset_version = "
+                + "(SELECT version FROM active_dataset) ORDER BY swift_code", String.class);
+    }
+
+    @Test
+    @DisplayName("The startup import should place every entry in the shard of its country")
+    void startupImport_shouldSpreadEntriesByCountry() {
+        assertThat(activeCodesOf("east")).containsExactly("CASEPLPX", "DEUTPLPX", "EMPTPLPX", "TESTPLPWABC");
+        assertThat(activeCodesOf("south")).containsExactly("ABIEBGS1XXX", "AKBKMTMTXXX");
+        assertThat(activeCodesOf("main")).containsExactly("AAISALTRXXX", "AGRIMCM1XXX");
+
+        assertThat(repository.count()).isEqualTo(8);
+        assertThat(repository.findAll()).hasSize(8);
+        assertThat(repository.findAllSwiftCodes()).containsExactly("AAISALTRXXX", "ABIEBGS1XXX", "AGRIMCM1XXX",
+                "AKBKMTMTXXX", "CASEPLPX", "DEUTPLPX", "EMPTPLPX", "TESTPLPWABC");
+    }
+
+    @Test
+    @DisplayName("Keyed queries should be answered by the shard of the code or country")
+    void keyedQueries_shouldBeRoutedToTheirShard() {
+        assertThat(repository.findBySwiftCode("akbkmtmtxxx")).isPresent();
+        assertThat(repository.findByCountryISO2IgnoreCase("PL")).hasSize(4);
+        assertThat(repository.findByCountryISO2IgnoreCase("BG")).hasSize(1);
+        assertThat(repository.findBranches("TESTPLPW", "TESTPLPWXXX"))
+                .hasSize(1);
+        assertThat(repository.existsBySwiftCodeIgnoreCase("AAISALTRXXX")).isTrue();
+        assertThat(repository.existsBySwiftCodeIgnoreCase("NONEXISTXXX")).isFalse();
+    }
+
+    @Test
+    @DisplayName("An added entry and its change log record should be written to the shard of its country")
+    void addSwiftCode_shouldWriteToShardOfCountry() throws Exception {
+        mockMvc.perform(post("/v1/swift-codes").contentType(MediaType.APPLICATION_JSON).content(NEW_POLISH_BRANCH))
+                .andExpect(status().isCreated());
+
+        assertThat(activeCodesOf("east")).contains("DEUTPLPXABC");
+        assertThat(activeCodesOf("main")).doesNotContain("DEUTPLPXABC");
+        assertThat(shard("east").queryForObject(
+                "SELECT COUNT(*) FROM swift_code_changes WHERE swift_code = 'DEUTPLPXABC'", Long.class)).isEqualTo(1);
+        mockMvc.perform(get("/v1/swift-codes/DEUTPLPXABC"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.countryISO2").value("PL"));
+    }
+
+    @Test
+    @DisplayName("A bulk delete within one shard should succeed, one spanning shards should be rejected with 400")
+    void bulkDelete_shouldBeLimitedToOneShard() throws Exception {
+        mockMvc.perform(post("/v1/swift-codes/bulk-delete").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"swiftCodes\": [\"AAISALTRXXX\", \"DEUTPLPX\"]}"))
+                .andExpect(status().isBadRequest());
+        assertThat(repository.count()).isEqualTo(8);
+
+        mockMvc.perform(post("/v1/swift-codes/bulk-delete").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"swiftCodes\": [\"CASEPLPX\", \"DEUTPLPX\"]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.deletedCount").value(2));
+        assertThat(activeCodesOf("east")).containsExactly("EMPTPLPX", "TESTPLPWABC");
+
+        mockMvc.perform(get("/v1/swift-codes/country/BG")).andExpect(status().isOk());
+        mockMvc.perform(delete("/v1/swift-codes/country/BG"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.deletedCount").value(1));
+        assertThat(activeCodesOf("south")).containsExactly("AKBKMTMTXXX");
+    }
+
+    @Test
+    @DisplayName("The export should merge all shards in code order, without a change sequence header")
+    void export_shouldMergeShardsInCodeOrder() throws Exception {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        long exported = swiftCodeExporter.export(SwiftCodeExporter.Format.CSV, output);
+
+        List<String> codes = Arrays.stream(output.toString(StandardCharsets.UTF_8).split("\r\n"))
+                .skip(1)
+                .map(line -> line.split(",")[1])
+                .toList();
+        assertThat(exported).isEqualTo(8);
+        assertThat(codes).isSorted().hasSize(8).isEqualTo(repository.findAllSwiftCodes());
+
+        MvcResult started = mockMvc.perform(get("/v1/swift-codes/export").param("format", "ndjson"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(SwiftCodeChangeFeed.CHANGE_SEQUENCE_HEADER));
+    }
+
+    @Test
+    @DisplayName("Country summaries should cover the entries of all shards")
+    void countrySummaries_shouldCoverAllShards() throws Exception {
+        mockMvc.perform(get("/v1/swift-codes/countries"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].countryISO2", containsInAnyOrder("AL", "BG", "MC", "MT", "PL")))
+                .andExpect(jsonPath("$[?(@.countryISO2 == 'PL')].totalCodes").value(4));
+    }
+
+    @Test
+    @DisplayName("A dataset import should be written to and activated on every shard")
+    void datasetImport_shouldSwitchEveryShard() throws Exception {
+        String dataset = """
+                COUNTRY ISO2 CODE,SWIFT CODE,CODE TYPE,NAME,ADDRESS,TOWN NAME,COUNTRY NAME,TIME ZONE
+                AL,AAISALTRXXX,BIC11,UNITED BANK OF ALBANIA SH.A,ADDRESS,TIRANA,ALBANIA,Europe/Tirane
+                BG,ABIEBGS1XXX,BIC11,ABV INVESTMENTS LTD,ADDRESS,VARNA,BULGARIA,Europe/Sofia
+                MT,AKBKMTMTXXX,,AKBANK T.A.S. (MALTA BRANCH),ADDRESS,ST. JULIAN'S,MALTA,Europe/Malta
+                PL,DEUTPLPX,BIC8,DEUTSCHE BANK POLSKA,ADDRESS,WARSZAWA,POLAND,Europe/Warsaw
+                PL,NEWBPLPWXXX,BIC11,NEW BANK,NEW ADDRESS,WARSZAWA,POLAND,Europe/Warsaw
+                """;
+        mockMvc.perform(post("/v1/swift-codes/datasets").contentType("text/csv").content(dataset))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.version").value(3))
+                .andExpect(jsonPath("$.entryCount").value(5));
+
+        for (String name : List.of("main", "east", "south")) {
+            assertThat(shard(name).queryForObject("SELECT version FROM active_dataset", Long.class)).as(name).isEqualTo(3);
+        }
+        assertThat(activeCodesOf("east")).containsExactly("DEUTPLPX", "NEWBPLPWXXX");
+        assertThat(activeCodesOf("main")).containsExactly("AAISALTRXXX");
+        assertThat(shard("main").queryForObject("SELECT COUNT(*) FROM dataset_versions", Long.class)).isEqualTo(3);
+        assertThat(shard("east").queryForObject("SELECT COUNT(*) FROM dataset_versions", Long.class)).isEqualTo(1);
+        mockMvc.perform(get("/v1/swift-codes/NEWBPLPWXXX")).andExpect(status().isOk());
+        mockMvc.perform(get("/v1/swift-codes/AGRIMCM1XXX")).andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("A switch failing on another shard should move the prepared shards back and keep serving the old version")
+    void datasetSwitch_failingOnOtherShard_shouldLeaveEveryShardUnchanged() throws Exception {
+        shard("south").execute("ALTER TABLE active_dataset RENAME TO active_dataset_broken");
+
+        assertThatThrownBy(() -> datasetVersions.activate(1)).isInstanceOf(DataAccessException.class);
+
+        shard("south").execute("ALTER TABLE active_dataset_broken RENAME TO active_dataset");
+        for (String name : List.of("main", "east", "south")) {
+            assertThat(shard(name).queryForObject("SELECT version FROM active_dataset", Long.class)).as(name).isEqualTo(2);
+        }
+        mockMvc.perform(get("/v1/swift-codes/DEUTPLPX")).andExpect(status().isOk());
+        mockMvc.perform(post("/v1/swift-codes").contentType(MediaType.APPLICATION_JSON).content(NEW_POLISH_BRANCH))
+                .andExpect(status().isCreated());
+        assertThat(activeCodesOf("east")).contains("DEUTPLPXABC");
+    }
+
+    @Test
+    @DisplayName("A switch failing on the default shard should move the other shards back, so no shard changes version")
+    void datasetSwitch_failingOnDefaultShard_shouldLeaveEveryShardUnchanged() throws Exception {
+        shard("main").execute("ALTER TABLE swift_code_changes RENAME TO swift_code_changes_broken");
+
+        assertThatThrownBy(() -> datasetVersions.activate(1)).isInstanceOf(DataAccessException.class);
+
+        shard("main").execute("ALTER TABLE swift_code_changes_broken RENAME TO swift_code_changes");
+        for (String name : List.of("main", "east", "south")) {
+            assertThat(shard(name).queryForObject("SELECT version FROM active_dataset", Long.class)).as(name).isEqualTo(2);
+        }
+        mockMvc.perform(get("/v1/swift-codes/ABIEBGS1XXX")).andExpect(status().isOk());
+
+        datasetVersions.activate(1);
+
+        for (String name : List.of("main", "east", "south")) {
+            assertThat(shard(name).queryForObject("SELECT version FROM active_dataset", Long.class)).as(name).isEqualTo(1);
+        }
+        mockMvc.perform(get("/v1/swift-codes/ABIEBGS1XXX")).andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("The change feed should be rejected with 400, since every shard keeps its own change log")
+    void changeFeed_shouldBeUnavailable() throws Exception {
+        mockMvc.perform(get("/v1/swift-codes/changes"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(
+                        "The change feed is not available with sharded persistence: every shard keeps its own change log."));
+        mockMvc.perform(get("/v1/swift-codes/changes/stream").param("since", "0"))
+                .andExpect(status().isBadRequest());
+    }
+}
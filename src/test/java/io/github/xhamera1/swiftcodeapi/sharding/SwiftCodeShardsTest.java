@@ -0,0 +1,120 @@
+package io.github.xhamera1.swiftcodeapi.sharding;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SwiftCodeShardsTest {
+
+    private SwiftCodeShards shards;
+
+    private static ShardingProperties properties(String defaultShard) {
+        ShardingProperties properties = new ShardingProperties();
+        properties.setEnabled(true);
+        properties.setDefaultShard(defaultShard);
+        properties.getShards().put("main", shard());
+        properties.getShards().put("east", shard("PL", "cz"));
+        properties.getShards().put("south", shard("BG"));
+        return properties;
+    }
+
+    private static ShardingProperties.Shard shard(String... countries) {
+        ShardingProperties.Shard shard = new ShardingProperties.Shard();
+        shard.setCountries(Set.of(countries));
+        return shard;
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (shards != null) {
+            shards.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Codes and countries should be routed by country, unassigned ones to the default shard")
+    void shardOf_shouldRouteByCountry() {
+        shards = new SwiftCodeShards(properties(null));
+
+        assertThat(shards.getDefaultShard()).isEqualTo("main");
+        assertThat(shards.shardOfCountry("pl")).isEqualTo("east");
+        assertThat(shards.shardOfCountry("CZ")).isEqualTo("east");
+        assertThat(shards.shardOfCountry("DE")).isEqualTo("main");
+        assertThat(shards.shardOfSwiftCode("ABIEBGS1XXX")).isEqualTo("south");
+        assertThat(shards.shardOfSwiftCode("DEUTPL")).isEqualTo("east");
+        assertThat(shards.shardOfSwiftCode("DEUT")).isEqualTo("main");
+    }
+
+    @Test
+    @DisplayName("An unknown default shard or a country assigned twice should be rejected")
+    void constructor_withInvalidShardMap_shouldFail() {
+        assertThatThrownBy(() -> new SwiftCodeShards(properties("west")))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("'west'");
+
+        ShardingProperties duplicate = properties("main");
+        duplicate.getShards().get("south").setCountries(Set.of("BG", "PL"));
+        assertThatThrownBy(() -> new SwiftCodeShards(duplicate))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("PL");
+    }
+
+    @Test
+    @DisplayName("Without sharding, everything should run inline on the single shard")
+    void unsharded_shouldUseSingleShard() {
+        shards = new SwiftCodeShards(new ShardingProperties());
+
+        assertThat(shards.isSharded()).isFalse();
+        assertThat(shards.shardOfSwiftCode("DEUTPLPXXXX")).isEqualTo(SwiftCodeShards.UNSHARDED);
+        assertThat(shards.scatter(shard -> Thread.currentThread())).containsExactly(Thread.currentThread());
+    }
+
+    @Test
+    @DisplayName("A scatter should run on every shard with the shard bound")
+    void scatter_shouldBindEveryShard() {
+        shards = new SwiftCodeShards(properties("main"));
+
+        assertThat(shards.scatter(shard -> shard + "=" + ShardContext.current()))
+                .containsExactly("main=main", "east=east", "south=south");
+        assertThat(ShardContext.current()).isNull();
+    }
+
+    @Test
+    @DisplayName("An ordered scatter should merge the shard streams into one ordered stream")
+    void scatterOrdered_shouldMergeShardsInOrder() {
+        shards = new SwiftCodeShards(properties("main"));
+        List<String> names = shards.getShardNames();
+
+        // Every shard yields every third number, far more than fit in its buffer.
+        try (Stream<Integer> merged = shards.scatterOrdered(sink -> {
+            int first = names.indexOf(ShardContext.current());
+            IntStream.iterate(first, i -> i < 5000, i -> i + 3).forEach(sink::accept);
+        }, Comparator.naturalOrder())) {
+            assertThat(merged.toList()).isEqualTo(IntStream.range(0, 5000).boxed().toList());
+        }
+    }
+
+    @Test
+    @DisplayName("A failing shard should fail the ordered stream")
+    void scatterOrdered_withFailingShard_shouldFailStream() {
+        shards = new SwiftCodeShards(properties("main"));
+
+        try (Stream<Integer> merged = shards.scatterOrdered(sink -> {
+            if ("south".equals(ShardContext.current())) {
+                throw new IllegalStateException("south is down");
+            }
+            sink.accept(1);
+        }, Comparator.naturalOrder())) {
+            assertThatThrownBy(merged::toList).hasMessageContaining("south is down");
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package io.github.xhamera1.swiftcodeapi.snapshot;
+
+import io.github.xhamera1.swiftcodeapi.model.SwiftCodeInfo;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SnapshotStoreTest {
+
+    private static final List<SwiftCodeInfo> ENTRIES = List.of(
+            new SwiftCodeInfo("AAISALTRXXX", "UNITED BANK OF ALBANIA SH.A", "HQ Address", "TIRANA", "AL", "ALBANIA", true),
+            new SwiftCodeInfo("DEUTPLPX", "DEUTSCHE BANK POLSKA S.A.", "FOCUS AL. ARMII LUDOWEJ 26", "WARSZAWA", "PL", "POLAND", false)
+    );
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("loadIfCurrent() should return the entries when the snapshot holds exactly the current codes")
+    void loadIfCurrent_withCurrentSnapshot_shouldReturnEntries() {
+        SnapshotStore store = new SnapshotStore(true, directory.resolve("swift-codes.snapshot"));
+        store.save(ENTRIES);
+
+        assertThat(store.loadIfCurrent(List.of("DEUTPLPX", "AAISALTRXXX"))).contains(ENTRIES);
+    }
+
+    @Test
+    @DisplayName("loadIfCurrent() should return empty for stale, missing or unreadable snapshots")
+    void loadIfCurrent_withStaleOrMissingSnapshot_shouldReturnEmpty() throws Exception {
+        Path path = directory.resolve("swift-codes.snapshot");
+        SnapshotStore store = new SnapshotStore(true, path);
+
+        assertThat(store.loadIfCurrent(List.of("AAISALTRXXX", "DEUTPLPX"))).isEmpty();
+
+        store.save(ENTRIES);
+        assertThat(store.loadIfCurrent(List.of("AAISALTRXXX"))).isEmpty();
+        assertThat(store.loadIfCurrent(List.of("AAISALTRXXX", "BREXPLPWXXX"))).isEmpty();
+
+        Files.write(path, new byte[]{1, 2, 3});
+        assertThat(store.loadIfCurrent(List.of("AAISALTRXXX", "DEUTPLPX"))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("A disabled store should neither write nor read snapshots")
+    void disabledStore_shouldDoNothing() {
+        Path path = directory.resolve("swift-codes.snapshot");
+        SnapshotStore store = new SnapshotStore(false, path);
+
+        store.save(ENTRIES);
+
+        assertThat(path).doesNotExist();
+        assertThat(store.loadIfCurrent(List.of("AAISALTRXXX", "DEUTPLPX"))).isEmpty();
+    }
+}
@@ -0,0 +1,84 @@
+package io.github.xhamera1.swiftcodeapi.snapshot;
+
+import io.github.xhamera1.swiftcodeapi.model.SwiftCodeInfo;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SwiftCodeSnapshotTest {
+
+    private static final List<SwiftCodeInfo> ENTRIES = List.of(
+            new SwiftCodeInfo("AAISALTRXXX", "UNITED BANK OF ALBANIA SH.A", "HYRJA 3 RR. DRITAN HOXHA", "TIRANA", "AL", "ALBANIA", true),
+            new SwiftCodeInfo("AAISALTRB01", "UNITED BANK OF ALBANIA SH.A", null, "TIRANA", "AL", "ALBANIA", false),
+            new SwiftCodeInfo("DEUTPLPX", "DEUTSCHE BANK POLSKA S.A.", "FOCUS AL. ARMII LUDOWEJ 26", null, "PL", "POLAND", false),
+            new SwiftCodeInfo("BREXPLPWXXX", "MBANK S.A. (FORMERLY BRE BANK S.A.)", "UL. PROSTA 18  ŁÓDŹ", "ŁÓDŹ", "PL", "POLAND", true)
+    );
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("write() and read() should round-trip all columns including nulls and non-ASCII text")
+    void writeAndRead_shouldRoundTrip() throws IOException {
+        Path path = directory.resolve("swift-codes.snapshot");
+
+        SwiftCodeSnapshot.write(path, ENTRIES);
+        SwiftCodeSnapshot snapshot = SwiftCodeSnapshot.read(path);
+
+        assertThat(snapshot.getEntries()).containsExactlyElementsOf(ENTRIES);
+        assertThat(snapshot.getFingerprint()).isEqualTo(SwiftCodeSnapshot.fingerprint(
+                List.of("AAISALTRXXX", "AAISALTRB01", "DEUTPLPX", "BREXPLPWXXX")));
+        assertThat(directory).isDirectoryNotContaining("glob:**.tmp");
+    }
+
+    @Test
+    @DisplayName("write() should replace an existing snapshot")
+    void write_shouldReplaceExistingSnapshot() throws IOException {
+        Path path = directory.resolve("swift-codes.snapshot");
+
+        SwiftCodeSnapshot.write(path, ENTRIES);
+        SwiftCodeSnapshot.write(path, ENTRIES.subList(0, 1));
+
+        assertThat(SwiftCodeSnapshot.read(path).getEntries()).containsExactly(ENTRIES.get(0));
+    }
+
+    @Test
+    @DisplayName("read() should reject corrupted payloads, other format versions and foreign files")
+    void read_shouldRejectInvalidFiles() throws IOException {
+        Path path = directory.resolve("swift-codes.snapshot");
+        SwiftCodeSnapshot.write(path, ENTRIES);
+        byte[] original = Files.readAllBytes(path);
+
+        byte[] corrupted = original.clone();
+        corrupted[corrupted.length - 10] ^= 0x01;
+        Files.write(path, corrupted);
+        assertThatThrownBy(() -> SwiftCodeSnapshot.read(path)).hasMessageContaining("checksum");
+
+        byte[] otherVersion = original.clone();
+        ByteBuffer.wrap(otherVersion).putInt(4, SwiftCodeSnapshot.FORMAT_VERSION + 1);
+        Files.write(path, otherVersion);
+        assertThatThrownBy(() -> SwiftCodeSnapshot.read(path)).hasMessageContaining("format version");
+
+        Files.writeString(path, "COUNTRY ISO2 CODE,SWIFT CODE,CODE TYPE,NAME,ADDRESS,TOWN NAME,COUNTRY NAME,TIME ZONE");
+        assertThatThrownBy(() -> SwiftCodeSnapshot.read(path)).hasMessageContaining("Not a SWIFT code snapshot");
+    }
+
+    @Test
+    @DisplayName("fingerprint() should not depend on order and should change with the set of codes")
+    void fingerprint_shouldIdentifyTheSetOfCodes() {
+        long fingerprint = SwiftCodeSnapshot.fingerprint(List.of("AAISALTRXXX", "DEUTPLPX"));
+
+        assertThat(SwiftCodeSnapshot.fingerprint(List.of("DEUTPLPX", "AAISALTRXXX"))).isEqualTo(fingerprint);
+        assertThat(SwiftCodeSnapshot.fingerprint(List.of("AAISALTRXXX", "DEUTPLPW"))).isNotEqualTo(fingerprint);
+        assertThat(SwiftCodeSnapshot.fingerprint(List.of("AAISALTRXXX"))).isNotEqualTo(fingerprint);
+    }
+}
@@ -0,0 +1,123 @@
+package io.github.xhamera1.swiftcodeapi.startup;
+
+import io.github.xhamera1.swiftcodeapi.dataset.DatasetVersions;
+import io.github.xhamera1.swiftcodeapi.index.SwiftCodeIndexManager;
+import io.github.xhamera1.swiftcodeapi.repository.SwiftCodeInfoRepository;
+import io.github.xhamera1.swiftcodeapi.service.DataInitializer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Integration tests for asynchronous initialization: the application starts while the data import is still running,
+ * the API answers 503 and the readiness probe reports OUT_OF_SERVICE until the warm-up has finished.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@DirtiesContext
+@TestPropertySource(properties = {
+        "swift-api.startup.async-initialization=true",
+        "swift-api.startup.retry-after=3s",
+        "management.endpoint.health.probes.enabled=true",
+        "management.endpoint.health.group.readiness.include=readinessState,swiftData"
+})
+class DataWarmupIntegrationTest {
+
+    private static final CountDownLatch releaseImport = new CountDownLatch(1);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private DataWarmup dataWarmup;
+
+    @Autowired
+    private SwiftCodeIndexManager indexManager;
+
+    /**
+     * Holds the import back until the test releases it.
+     */
+    static class BlockingDataInitializer extends DataInitializer {
+
+        BlockingDataInitializer(SwiftCodeInfoRepository repository, DatasetVersions datasetVersions) {
+            super(repository, datasetVersions);
+        }
+
+        @Override
+        public void importIfEmpty() {
+            try {
+                releaseImport.await(30, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            super.importIfEmpty();
+        }
+    }
+
+    @TestConfiguration
+    static class BlockingImportConfig {
+        @Bean
+        @Primary
+        DataInitializer blockingDataInitializer(SwiftCodeInfoRepository repository, DatasetVersions datasetVersions) {
+            return new BlockingDataInitializer(repository, datasetVersions);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        releaseImport.countDown();
+    }
+
+    @Test
+    @DisplayName("API should answer 503 with Retry-After and readiness should be OUT_OF_SERVICE until the data is loaded")
+    void requestsDuringImport_shouldBeRejectedUntilReady() throws Exception {
+        assertThat(dataWarmup.isReady()).isFalse();
+
+        mockMvc.perform(get("/v1/swift-codes/countries"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "3"))
+                .andExpect(jsonPath("$.message").value("The service is starting and its data is not loaded yet. Please retry later."));
+        mockMvc.perform(post("/v1/swift-codes").contentType(MediaType.APPLICATION_JSON).content("{}"))
+                .andExpect(status().isServiceUnavailable());
+        mockMvc.perform(get("/actuator/health/readiness"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(jsonPath("$.status").value("OUT_OF_SERVICE"));
+
+        releaseImport.countDown();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (!dataWarmup.isReady() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+
+        assertThat(dataWarmup.isReady()).isTrue();
+        assertThat(indexManager.isReady()).isTrue();
+        mockMvc.perform(get("/v1/swift-codes/countries"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(5)));
+        mockMvc.perform(get("/actuator/health/readiness"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("UP"));
+    }
+}
@@ -0,0 +1,92 @@
+package io.github.xhamera1.swiftcodeapi.startup;
+
+import io.github.xhamera1.swiftcodeapi.index.SwiftCodeIndexManager;
+import io.github.xhamera1.swiftcodeapi.model.SwiftCodeInfo;
+import io.github.xhamera1.swiftcodeapi.repository.SwiftCodeInfoRepository;
+import io.github.xhamera1.swiftcodeapi.service.DataInitializer;
+import io.github.xhamera1.swiftcodeapi.snapshot.SnapshotStore;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for the synchronous warm-up sequence of {@link DataWarmup}, in particular the choice between
+ * the snapshot and the database as the source of the in-memory indexes.
+ */
+@ExtendWith(MockitoExtension.class)
+class DataWarmupTest {
+
+    private static final List<SwiftCodeInfo> ENTRIES = List.of(
+            new SwiftCodeInfo("AAISALTRXXX", "UNITED BANK OF ALBANIA SH.A", "HQ Address", "TIRANA", "AL", "ALBANIA", true));
+
+    @Mock
+    private DataInitializer dataInitializer;
+
+    @Mock
+    private SwiftCodeIndexManager indexManager;
+
+    @Mock
+    private SwiftCodeInfoRepository repository;
+
+    @Mock
+    private SnapshotStore snapshotStore;
+
+    private DataWarmup newWarmup() {
+        return new DataWarmup(dataInitializer, indexManager, repository, snapshotStore, false);
+    }
+
+    @Test
+    @DisplayName("Should build the indexes from a current snapshot without loading all rows")
+    void warmUp_withCurrentSnapshot_shouldNotLoadAllRows() {
+        when(snapshotStore.isEnabled()).thenReturn(true);
+        when(repository.findAllSwiftCodes()).thenReturn(List.of("AAISALTRXXX"));
+        when(snapshotStore.loadIfCurrent(List.of("AAISALTRXXX"))).thenReturn(Optional.of(ENTRIES));
+        DataWarmup warmup = newWarmup();
+
+        warmup.onApplicationReady();
+
+        InOrder order = inOrder(dataInitializer, indexManager);
+        order.verify(dataInitializer).importIfEmpty();
+        order.verify(indexManager).rebuildAll(ENTRIES);
+        verify(repository, never()).findAll();
+        verify(snapshotStore, never()).save(ENTRIES);
+        assertThat(warmup.isReady()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should fall back to the database and refresh the snapshot when it is missing or stale")
+    void warmUp_withoutCurrentSnapshot_shouldLoadFromDatabaseAndSaveSnapshot() {
+        when(snapshotStore.isEnabled()).thenReturn(true);
+        when(repository.findAllSwiftCodes()).thenReturn(List.of("AAISALTRXXX"));
+        when(snapshotStore.loadIfCurrent(List.of("AAISALTRXXX"))).thenReturn(Optional.empty());
+        when(repository.findAll()).thenReturn(ENTRIES);
+
+        newWarmup().onApplicationReady();
+
+        verify(indexManager).rebuildAll(ENTRIES);
+        verify(snapshotStore).save(ENTRIES);
+    }
+
+    @Test
+    @DisplayName("Should load from the database only when snapshots are disabled")
+    void warmUp_withSnapshotsDisabled_shouldLoadFromDatabase() {
+        when(repository.findAll()).thenReturn(ENTRIES);
+
+        newWarmup().onApplicationReady();
+
+        verify(indexManager).rebuildAll(ENTRIES);
+        verify(repository, never()).findAllSwiftCodes();
+    }
+}
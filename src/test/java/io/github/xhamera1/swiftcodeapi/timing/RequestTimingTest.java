@@ -0,0 +1,72 @@
+package io.github.xhamera1.swiftcodeapi.timing;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RequestTimingTest {
+
+    @AfterEach
+    void tearDown() {
+        RequestTiming timing = RequestTiming.current();
+        if (timing != null) {
+            timing.finish();
+        }
+    }
+
+    @Test
+    @DisplayName("Outside a timed request, start() should return the same no-op split")
+    void start_withoutTimedRequest_shouldReturnNoOp() {
+        RequestTiming.Split first = RequestTiming.start(TimingStage.DB);
+        RequestTiming.Split second = RequestTiming.start(TimingStage.MAPPING);
+        first.close();
+        second.close();
+        RequestTiming.endDispatch();
+        RequestTiming.startSerialization();
+
+        assertThat(RequestTiming.current()).isNull();
+        assertThat(first).isSameAs(second);
+    }
+
+    @Test
+    @DisplayName("Nested splits of the same stage should be counted once, by the outermost split")
+    void nestedSplits_shouldBeCountedOnce() {
+        RequestTiming timing = RequestTiming.begin();
+        RequestTiming.endDispatch();
+
+        try (RequestTiming.Split outer = RequestTiming.start(TimingStage.DB)) {
+            try (RequestTiming.Split inner = RequestTiming.start(TimingStage.DB)) {
+                assertThat(inner).isSameAs(outer);
+            }
+        }
+        try (RequestTiming.Split ignored = RequestTiming.start(TimingStage.DB)) {
+            assertThat(timing.getCount(TimingStage.DB)).isEqualTo(1);
+        }
+        timing.finish();
+
+        assertThat(timing.getCount(TimingStage.DB)).isEqualTo(2);
+        assertThat(timing.getCount(TimingStage.DISPATCH)).isEqualTo(1);
+        assertThat(timing.getCount(TimingStage.MAPPING)).isZero();
+        assertThat(timing.getTotalNanos()).isGreaterThanOrEqualTo(timing.getNanos(TimingStage.DB));
+        assertThat(RequestTiming.current()).isNull();
+    }
+
+    @Test
+    @DisplayName("finish() should close running stages and the header should list only the stages that ran, then the total")
+    void toHeaderValue_shouldListStagesThatRanAndTotal() {
+        RequestTiming timing = RequestTiming.begin();
+        RequestTiming.endDispatch();
+        RequestTiming.start(TimingStage.LOOKUP).close();
+        RequestTiming.start(TimingStage.DB).close();
+        RequestTiming.start(TimingStage.DB).close();
+        RequestTiming.startSerialization();
+        timing.finish();
+
+        assertThat(timing.getCount(TimingStage.SERIALIZATION)).isEqualTo(1);
+        assertThat(timing.toHeaderValue()).matches(
+                "dispatch;dur=\\d+\\.\\d{2}, lookup;dur=\\d+\\.\\d{2}, db;dur=\\d+\\.\\d{2};desc=\"2 calls\", "
+                        + "serialize;dur=\\d+\\.\\d{2}, total;dur=\\d+\\.\\d{2}");
+    }
+}
@@ -0,0 +1,78 @@
+package io.github.xhamera1.swiftcodeapi.timing;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Integration tests verifying that {@link ServerTimingFilter} reports the stages of opted-in requests
+ * in a {@code Server-Timing} header and histogram, and leaves all other requests untouched.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class ServerTimingFilterIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("An opted-in lookup should report dispatch, lookup, mapping and serialization stages with an intact body")
+    void optedInLookup_shouldReportStages() throws Exception {
+        mockMvc.perform(get("/v1/swift-codes/AAISALTRXXX").header("X-Server-Timing", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.swiftCode").value("AAISALTRXXX"))
+                .andExpect(header().string(ServerTimingFilter.SERVER_TIMING_HEADER, allOf(
+                        containsString("dispatch;dur="), containsString("lookup;dur="), containsString("mapping;dur="),
+                        containsString("serialize;dur="), containsString("total;dur="), not(containsString("db;dur=")))));
+
+        assertThat(meterRegistry.get(ServerTimingFilter.METRIC_NAME).tag("stage", "lookup").timer().count())
+                .isGreaterThanOrEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("An opted-in write should report the time spent in the repository")
+    void optedInWrite_shouldReportDbStage() throws Exception {
+        String body = """
+                {"swiftCode": "TIMEPLPWXXX", "bankName": "Timing Bank", "address": "Timing Street 1",
+                 "countryISO2": "PL", "countryName": "POLAND", "isHeadquarter": true}
+                """;
+        try {
+            mockMvc.perform(post("/v1/swift-codes").header("X-Server-Timing", "1")
+                            .contentType(MediaType.APPLICATION_JSON).content(body))
+                    .andExpect(status().isCreated())
+                    .andExpect(header().string(ServerTimingFilter.SERVER_TIMING_HEADER, containsString("db;dur=")));
+        } finally {
+            mockMvc.perform(delete("/v1/swift-codes/TIMEPLPWXXX"));
+        }
+
+        assertThat(meterRegistry.get(ServerTimingFilter.METRIC_NAME).tag("stage", "db").timer().count())
+                .isGreaterThanOrEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Requests without the opt-in header should not be timed")
+    void requestWithoutOptIn_shouldNotBeTimed() throws Exception {
+        mockMvc.perform(get("/v1/swift-codes/AAISALTRXXX"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(ServerTimingFilter.SERVER_TIMING_HEADER));
+    }
+}